@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.dsmr.internal.device.cosem;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -66,4 +68,22 @@ class CosemDecimal extends CosemValueDescriptor<DecimalType> {
             throw new ParseException("Failed to parse value '" + cosemValue + "' as integer", 0);
         }
     }
+
+    @Override
+    protected DecimalType getStateValue(byte[] data, int offset, int length) throws ParseException {
+        int end = offset + length;
+
+        if (expectUnit) {
+            for (int i = offset + 1; i < end; i++) {
+                if (data[i] == '*') {
+                    end = i;
+                    break;
+                }
+            }
+        }
+        final BigDecimal value = parseDecimal(data, offset, end);
+
+        return value == null ? getStateValue(new String(data, offset, length, StandardCharsets.ISO_8859_1))
+                : new DecimalType(value);
+    }
 }
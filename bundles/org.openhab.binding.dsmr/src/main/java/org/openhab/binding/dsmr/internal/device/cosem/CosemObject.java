@@ -16,8 +16,6 @@ import java.text.ParseException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.types.State;
@@ -32,11 +30,6 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public class CosemObject {
 
-    /**
-     * Regular expression for finding CosemValues
-     */
-    private static final Pattern COSEM_VALUES_PATTERN = Pattern.compile("(\\(([^\\(\\)]*)\\))");
-
     private final Logger logger = LoggerFactory.getLogger(CosemObject.class);
 
     /**
@@ -115,16 +108,29 @@ public class CosemObject {
     public void parseCosemValues(String cosemValueString) throws ParseException {
         logger.trace("Parsing CosemValue string {}", cosemValueString);
 
-        Matcher cosemValueMatcher = COSEM_VALUES_PATTERN.matcher(cosemValueString);
-        int nrOfCosemValues = countCosemValues(cosemValueMatcher);
+        parseCosemValues(CosemValues.of(cosemValueString));
+    }
+
+    /**
+     * Parses the COSEM values to COSEM objects values.
+     * <p>
+     * When the parser has problems it throws a {@link ParseException}. The
+     * already parsed values will still be available. It is up to the caller how
+     * to handle a partially parsed message.
+     *
+     * @param values the COSEM values
+     * @throws ParseException if parsing fails
+     */
+    public void parseCosemValues(CosemValues values) throws ParseException {
+        final int nrOfCosemValues = values.size();
 
         if (type.supportsNrOfValues(nrOfCosemValues)) {
             logger.trace("Received items: {} is supported", nrOfCosemValues);
 
-            int cosemValueItr = 0;
-            while (cosemValueMatcher.find()) {
+            for (int cosemValueItr = 0; cosemValueItr < nrOfCosemValues; cosemValueItr++) {
                 final Entry<String, CosemValueDescriptor<?>> valueDescriptorEntry = type.getDescriptor(cosemValueItr);
-                final State cosemValue = valueDescriptorEntry.getValue().getStateValue(cosemValueMatcher.group(2));
+                final State cosemValue = valueDescriptorEntry.getValue().getStateValue(values.getData(),
+                        values.getOffset(cosemValueItr), values.getLength(cosemValueItr));
 
                 if (!cosemValues.containsKey(valueDescriptorEntry.getKey())) {
                     cosemValues.put(valueDescriptorEntry.getKey(), cosemValue);
@@ -132,21 +138,9 @@ public class CosemObject {
                     logger.warn("Value for descriptor {} already exists, dropping value {}", valueDescriptorEntry,
                             cosemValue);
                 }
-                cosemValueItr++;
             }
         } else {
             throw new ParseException(type + " does not support " + nrOfCosemValues + " items", 0);
         }
     }
-
-    private int countCosemValues(Matcher cosemValueMatcher) {
-        int nrOfCosemValues = 0;
-
-        while (cosemValueMatcher.find()) {
-            nrOfCosemValues++;
-        }
-        // We need the matcher again, reset to initial state
-        cosemValueMatcher.reset();
-        return nrOfCosemValues;
-    }
 }
@@ -79,31 +79,40 @@ public class CosemObjectFactory {
      * @return CosemObject or null if parsing failed
      */
     public @Nullable CosemObject getCosemObject(String obisIdString, String cosemStringValues) {
-        OBISIdentifier obisId;
-        OBISIdentifier reducedObisId;
-        OBISIdentifier reducedObisIdGroupE;
+        final OBISIdentifier obisId;
 
         try {
             obisId = new OBISIdentifier(obisIdString);
-            reducedObisId = obisId.getReducedOBISIdentifier();
-            reducedObisIdGroupE = obisId.getReducedOBISIdentifierGroupE();
         } catch (final ParseException pe) {
             logger.debug("Received invalid OBIS identifier: {}", obisIdString);
             return null;
         }
+        return getCosemObject(obisId, CosemValues.of(cosemStringValues));
+    }
+
+    /**
+     * Return Cosem Object for the specified OBIS identifier and values or null if the values couldn't be
+     * parsed correctly or no corresponding Cosem Object was found
+     *
+     * @param obisId the OBIS message identifier
+     * @param cosemValues the Cosem values
+     * @return CosemObject or null if parsing failed
+     */
+    public @Nullable CosemObject getCosemObject(OBISIdentifier obisId, CosemValues cosemValues) {
+        final OBISIdentifier reducedObisId = obisId.getReducedOBISIdentifier();
 
-        logger.trace("Received obisIdString {}, obisId: {}, values: {}", obisIdString, obisId, cosemStringValues);
+        logger.trace("Received obisId: {}, values: {}", obisId, cosemValues);
 
         CosemObjectType objectType = obisLookupTableFixed.get(reducedObisId);
         if (objectType != null) {
             logger.trace("Found obisId {} in the fixed lookup table", reducedObisId);
-            return getCosemObjectInternal(objectType, obisId, cosemStringValues);
+            return getCosemObjectInternal(objectType, obisId, cosemValues);
         }
 
         List<CosemObjectType> objectTypeList = obisLookupTableMultipleFixed.get(reducedObisId);
         if (objectTypeList != null) {
             for (CosemObjectType cosemObjectType : objectTypeList) {
-                CosemObject cosemObject = getCosemObjectInternal(cosemObjectType, obisId, cosemStringValues);
+                CosemObject cosemObject = getCosemObjectInternal(cosemObjectType, obisId, cosemValues);
                 if (cosemObject != null) {
                     logger.trace("Found obisId {} in the fixed lookup table", reducedObisId);
                     return cosemObject;
@@ -111,9 +120,9 @@ public class CosemObjectFactory {
             }
         }
 
-        objectType = obisLookupTableFixed.get(reducedObisIdGroupE);
+        objectType = obisLookupTableFixed.get(obisId.getReducedOBISIdentifierGroupE());
         if (objectType != null) {
-            return getCosemObjectInternal(objectType, obisId, cosemStringValues);
+            return getCosemObjectInternal(objectType, obisId, cosemValues);
         }
 
         logger.debug("Received unknown Cosem Object(OBIS id: {})", obisId);
@@ -126,22 +135,21 @@ public class CosemObjectFactory {
      *
      * @param cosemObjectType the type of the CosemObject
      * @param obisIdentifier the actual OBISIdentifier how this cosemObjectType is identified
-     * @param cosemStringValues the values of the CosemObject
+     * @param cosemValues the values of the CosemObject
      *
      * @return a CosemObject or null if parsing failed
      */
     private @Nullable CosemObject getCosemObjectInternal(CosemObjectType cosemObjectType, OBISIdentifier obisIdentifier,
-            String cosemStringValues) {
+            CosemValues cosemValues) {
         CosemObject obj = new CosemObject(cosemObjectType, obisIdentifier);
 
         try {
             logger.trace("Parse values for Cosem Object type: {}", cosemObjectType);
-            obj.parseCosemValues(cosemStringValues);
+            obj.parseCosemValues(cosemValues);
 
             return obj;
         } catch (ParseException pe) {
-            logger.trace("Failed to construct Cosem Object for type {}, values: {}", cosemObjectType, cosemStringValues,
-                    pe);
+            logger.trace("Failed to construct Cosem Object for type {}, values: {}", cosemObjectType, cosemValues, pe);
         }
         return null;
     }
@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.dsmr.internal.device.cosem;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -71,6 +73,11 @@ class CosemQuantity<Q extends @Nullable Quantity<Q>> extends CosemValueDescripto
      */
     private final Unit<Q> unit;
 
+    /**
+     * Symbol of the unit as it is expected in the telegram
+     */
+    private final String unitSymbol;
+
     /**
      * Creates a new {@link CosemDouble}.
      *
@@ -89,6 +96,7 @@ class CosemQuantity<Q extends @Nullable Quantity<Q>> extends CosemValueDescripto
     public CosemQuantity(Unit<Q> unit, String channelId) {
         super(channelId);
         this.unit = unit;
+        this.unitSymbol = unit.toString().replace("m³", "m3");
     }
 
     /**
@@ -113,6 +121,42 @@ class CosemQuantity<Q extends @Nullable Quantity<Q>> extends CosemValueDescripto
         }
     }
 
+    /**
+     * Parses the value directly from the bytes if it is a number followed by the unit of this CosemQuantity.
+     * All other values are parsed as String by {@link #getStateValue(String)}.
+     */
+    @Override
+    protected QuantityType<Q> getStateValue(byte[] data, int offset, int length) throws ParseException {
+        final int end = offset + length;
+        int pos = offset;
+
+        while (pos < end && ((data[pos] >= '0' && data[pos] <= '9') || data[pos] == '.')) {
+            pos++;
+        }
+        final BigDecimal value = parseDecimal(data, offset, pos);
+
+        if (value != null) {
+            final int unitStart = pos < end && (data[pos] == '*' || data[pos] == '_') ? pos + 1 : pos;
+
+            if (isUnit(data, unitStart, end)) {
+                return new QuantityType<>(value, unit);
+            }
+        }
+        return getStateValue(new String(data, offset, length, StandardCharsets.ISO_8859_1));
+    }
+
+    private boolean isUnit(byte[] data, int start, int end) {
+        if (end - start != unitSymbol.length() || start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (Character.toLowerCase((char) data[i]) != Character.toLowerCase(unitSymbol.charAt(i - start))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Check if COSEM value has a unit, check and parse the value. We assume here numbers (float or integers)
      * The specification states that the delimiter between the value and the unit is a '*'-character.
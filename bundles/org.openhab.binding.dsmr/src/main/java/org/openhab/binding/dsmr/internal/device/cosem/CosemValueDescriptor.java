@@ -12,9 +12,12 @@
  */
 package org.openhab.binding.dsmr.internal.device.cosem;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.types.State;
 
 /**
@@ -25,6 +28,11 @@ import org.openhab.core.types.State;
 @NonNullByDefault
 abstract class CosemValueDescriptor<S extends State> {
 
+    /**
+     * Maximum number of digits that fit in a long.
+     */
+    private static final int MAX_DIGITS = 18;
+
     /**
      * String describing the channel on which this value descriptor is available.
      */
@@ -55,6 +63,57 @@ abstract class CosemValueDescriptor<S extends State> {
      */
     protected abstract S getStateValue(String cosemValue) throws ParseException;
 
+    /**
+     * Parses the value given as bytes to the {@link State} value. Descriptors of frequently received values override
+     * this method to parse the bytes directly.
+     *
+     * @param data the bytes containing the value
+     * @param offset the start of the value
+     * @param length the length of the value
+     * @return S the {@link State} object instance of the Cosem value
+     * @throws ParseException if parsing failed
+     */
+    protected S getStateValue(byte[] data, int offset, int length) throws ParseException {
+        return getStateValue(new String(data, offset, length, StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Parses a plain decimal number, i.e. digits with an optional sign and an optional decimal point.
+     *
+     * @param data the bytes containing the number
+     * @param start the start of the number
+     * @param end the end of the number (exclusive)
+     * @return the number, or <code>null</code> if the bytes are not a plain decimal number or the number is too long
+     */
+    protected static @Nullable BigDecimal parseDecimal(byte[] data, int start, int end) {
+        final boolean negative = start < end && data[start] == '-';
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+
+        for (int i = negative ? start + 1 : start; i < end; i++) {
+            final byte b = data[i];
+
+            if (b >= '0' && b <= '9') {
+                if (++digits > MAX_DIGITS) {
+                    return null;
+                }
+                unscaled = unscaled * 10 + b - '0';
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (b == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return null;
+            }
+        }
+        if (digits == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
     /**
      * Returns the channel id for this {@link CosemValueDescriptor}
      *
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dsmr.internal.device.cosem;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The raw values of a Cosem Object, given as ranges in a byte array.
+ *
+ * The P1 telegram parser reuses a single instance for all Cosem Objects, so the values are decoded directly from the
+ * received bytes without creating intermediate Strings.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class CosemValues {
+
+    private byte[] data = new byte[0];
+    private int[] offsets = new int[4];
+    private int[] lengths = new int[4];
+    private int size;
+
+    /**
+     * Creates the values of a Cosem value String, e.g. <code>(123.4*kWh)</code>.
+     *
+     * @param cosemValueString the Cosem value String
+     * @return the values found in the String
+     */
+    public static CosemValues of(String cosemValueString) {
+        final byte[] bytes = cosemValueString.getBytes(StandardCharsets.ISO_8859_1);
+        final CosemValues values = new CosemValues();
+        int start = -1;
+
+        values.reset(bytes);
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == '(') {
+                start = i + 1;
+            } else if (bytes[i] == ')' && start >= 0) {
+                values.add(start, i - start);
+                start = -1;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Removes all values and sets the byte array the values are read from.
+     *
+     * @param data the byte array containing the values
+     */
+    public void reset(byte[] data) {
+        this.data = data;
+        size = 0;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param offset the start of the value in the byte array
+     * @param length the length of the value
+     */
+    public void add(int offset, int length) {
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+            lengths = Arrays.copyOf(lengths, size * 2);
+        }
+        offsets[size] = offset;
+        lengths[size] = length;
+        size++;
+    }
+
+    /**
+     * @return the number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    byte[] getData() {
+        return data;
+    }
+
+    int getOffset(int index) {
+        return offsets[index];
+    }
+
+    int getLength(int index) {
+        return lengths[index];
+    }
+
+    /**
+     * @param index the index of the value
+     * @return the value as String
+     */
+    public String get(int index) {
+        return new String(data, offsets[index], lengths[index], StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @return the values in the format they are received, e.g. <code>(123.4*kWh)(1)</code>
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < size; i++) {
+            sb.append('(').append(get(i)).append(')');
+        }
+        return sb.toString();
+    }
+}
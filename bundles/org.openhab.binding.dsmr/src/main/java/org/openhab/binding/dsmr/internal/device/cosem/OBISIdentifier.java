@@ -12,6 +12,7 @@
  */
 package org.openhab.binding.dsmr.internal.device.cosem;
 
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.util.Objects;
 import java.util.regex.Matcher;
@@ -115,6 +116,105 @@ public class OBISIdentifier {
         }
     }
 
+    private OBISIdentifier(final int groupA, final @Nullable Integer channel, final int groupC, final int groupD,
+            final @Nullable Integer groupE, final @Nullable Integer groupF) {
+        this.groupA = groupA;
+        this.channel = channel;
+        this.groupC = groupC;
+        this.groupD = groupD;
+        this.groupE = groupE;
+        this.groupF = groupF;
+    }
+
+    /**
+     * Parses an OBIS Identifier from bytes. The same formats as {@link #OBISIdentifier(String)} are accepted, but
+     * without using regular expressions.
+     *
+     * @param data the bytes containing the OBIS Identifier
+     * @param offset the start of the OBIS Identifier
+     * @param length the length of the OBIS Identifier
+     * @return the OBIS Identifier
+     * @throws ParseException if the bytes are not a valid OBIS Identifier
+     */
+    public static OBISIdentifier parse(final byte[] data, final int offset, final int length) throws ParseException {
+        final int end = offset + length;
+        int start = offset;
+        int pos = digitsEnd(data, start, end);
+        int groupA = INVALID_INT_READ;
+        Integer channel = null;
+
+        if (pos < end && data[pos] == '-' && pos > start) {
+            groupA = toInt(data, start, pos);
+            start = pos + 1;
+            pos = digitsEnd(data, start, end);
+        }
+        if (pos < end && data[pos] == ':' && pos > start) {
+            channel = toInteger(data, start, pos);
+            start = pos + 1;
+            pos = digitsEnd(data, start, end);
+        }
+        if (pos == start || pos >= end || data[pos] != '.') {
+            throw invalid(data, offset, length);
+        }
+        final int groupC = toInt(data, start, pos);
+        start = pos + 1;
+        pos = digitsEnd(data, start, end);
+        if (pos == start) {
+            throw invalid(data, offset, length);
+        }
+        final int groupD = toInt(data, start, pos);
+        Integer groupE = null;
+        Integer groupF = null;
+
+        if (pos < end && data[pos] == '.' && digitsEnd(data, pos + 1, end) > pos + 1) {
+            start = pos + 1;
+            pos = digitsEnd(data, start, end);
+            groupE = toInteger(data, start, pos);
+        }
+        // any character is accepted as separator of group F
+        if (pos + 1 < end && digitsEnd(data, pos + 1, end) > pos + 1) {
+            start = pos + 1;
+            pos = digitsEnd(data, start, end);
+            groupF = toInteger(data, start, pos);
+        }
+        if (pos != end) {
+            throw invalid(data, offset, length);
+        }
+        return new OBISIdentifier(groupA, channel, groupC, groupD, groupE, groupF);
+    }
+
+    private static int digitsEnd(final byte[] data, final int start, final int end) {
+        int pos = start;
+
+        while (pos < end && data[pos] >= '0' && data[pos] <= '9') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int toInt(final byte[] data, final int start, final int end) {
+        final Integer value = toInteger(data, start, end);
+
+        return value == null ? INVALID_INT_READ : value;
+    }
+
+    private static @Nullable Integer toInteger(final byte[] data, final int start, final int end) {
+        long value = 0;
+
+        for (int i = start; i < end; i++) {
+            value = value * 10 + data[i] - '0';
+            if (value > Integer.MAX_VALUE) {
+                return null;
+            }
+        }
+        return (int) value;
+    }
+
+    private static ParseException invalid(final byte[] data, final int offset, final int length) {
+        return new ParseException(
+                "Invalid OBIS identifier:" + new String(data, offset, length, StandardCharsets.ISO_8859_1), 0);
+    }
+
     private static int safeInt(final @Nullable String value) {
         try {
             return value == null ? INVALID_INT_READ : Integer.parseInt(value);
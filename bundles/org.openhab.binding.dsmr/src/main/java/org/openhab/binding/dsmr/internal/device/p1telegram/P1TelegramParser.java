@@ -13,18 +13,21 @@
 package org.openhab.binding.dsmr.internal.device.p1telegram;
 
 import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.dsmr.internal.device.connector.DSMRErrorStatus;
 import org.openhab.binding.dsmr.internal.device.cosem.CosemObject;
 import org.openhab.binding.dsmr.internal.device.cosem.CosemObjectFactory;
+import org.openhab.binding.dsmr.internal.device.cosem.CosemValues;
+import org.openhab.binding.dsmr.internal.device.cosem.OBISIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +37,9 @@ import org.slf4j.LoggerFactory;
  *
  * Data can be parsed in chunks. If a full P1 telegram is received, listeners are notified
  *
+ * The OBIS identifiers and values of the telegram are stored as bytes in a buffer that is reused for every telegram.
+ * They are only decoded once the telegram is complete and the CRC is valid.
+ *
  * @author M. Volaart - Initial contribution
  * @author Hilbrand Bouwkamp - Removed asynchronous call and some clean up
  */
@@ -61,23 +67,58 @@ public class P1TelegramParser implements TelegramParser {
     }
 
     /**
-     * Pattern for the CRC-code
+     * Number of characters of the CRC-code
+     */
+    private static final int CRC_LENGTH = 4;
+
+    /**
+     * Initial size of the telegram data buffer, large enough for most telegrams
      */
-    private static final String CRC_PATTERN = "[0-9A-Z]{4}";
+    private static final int INITIAL_DATA_SIZE = 2048;
+
+    /**
+     * Initial number of Cosem Objects and values in a telegram, large enough for most telegrams
+     */
+    private static final int INITIAL_OBJECT_COUNT = 64;
 
     private final Logger logger = LoggerFactory.getLogger(P1TelegramParser.class);
 
     /* internal state variables */
 
     /**
-     * current obisId buffer.
+     * Bytes of the OBIS identifiers and values of the current telegram.
+     */
+    private byte[] data = new byte[INITIAL_DATA_SIZE];
+    private int dataLength;
+
+    /**
+     * Position in the data of the OBIS identifier of each Cosem Object and the index of its first value.
+     */
+    private int[] objectObisOffsets = new int[INITIAL_OBJECT_COUNT];
+    private int[] objectObisLengths = new int[INITIAL_OBJECT_COUNT];
+    private int[] objectFirstValues = new int[INITIAL_OBJECT_COUNT];
+    private int objectCount;
+
+    /**
+     * Position in the data of each Cosem value.
+     */
+    private int[] valueOffsets = new int[INITIAL_OBJECT_COUNT];
+    private int[] valueLengths = new int[INITIAL_OBJECT_COUNT];
+    private int valueCount;
+
+    /**
+     * Start of the OBIS identifier, end of the OBIS identifier (or -1 if no value was seen yet), start of the current
+     * value (or -1 if not in a value) and index of the first value of the Cosem Object that is currently received.
      */
-    private final StringBuilder obisId = new StringBuilder();
+    private int obisStart;
+    private int obisEnd = -1;
+    private int valueStart = -1;
+    private int firstValue;
 
     /**
-     * Current cosem object values buffer.
+     * Values of the Cosem Object that is currently decoded
      */
-    private final StringBuilder obisValue = new StringBuilder();
+    private final CosemValues cosemValues = new CosemValues();
 
     /**
      * In lenient mode store raw data and log when a complete message is received.
@@ -85,9 +126,11 @@ public class P1TelegramParser implements TelegramParser {
     private final StringBuilder rawData = new StringBuilder();
 
     /**
-     * Current crc value read.
+     * Current crc value read, the number of characters read and whether all characters were valid.
      */
-    private final StringBuilder crcValue = new StringBuilder();
+    private int crcValue;
+    private int crcLength;
+    private boolean crcValid = true;
 
     /**
      * CRC calculation helper
@@ -114,11 +157,6 @@ public class P1TelegramParser implements TelegramParser {
      */
     private final CosemObjectFactory factory;
 
-    /**
-     * Received Cosem Objects in the P1Telegram that is currently received
-     */
-    private final List<Entry<String, String>> cosemObjects = new ArrayList<>();
-
     /**
      * List of Cosem Object values that are not known to this binding.
      */
@@ -253,10 +291,13 @@ public class P1TelegramParser implements TelegramParser {
                      * P1 telegram is correctly finished
                      */
                     if (c == '\r' || c == '/') {
-                        logger.trace("telegramState {}, crcValue to check 0x{}", telegramState, crcValue);
+                        if (logger.isTraceEnabled()) {
+                            logger.trace("telegramState {}, crcValue to check 0x{}", telegramState,
+                                    crcValueString());
+                        }
                         // Only perform CRC check if telegram is still ok
 
-                        if (telegramState.isEmpty() && crcValue.length() > 0) {
+                        if (telegramState.isEmpty() && crcLength > 0) {
                             telegramState = checkCRC();
                         }
                         processTelegram();
@@ -280,18 +321,17 @@ public class P1TelegramParser implements TelegramParser {
     private Optional<DSMRErrorStatus> checkCRC() {
         final Optional<DSMRErrorStatus> telegramState;
 
-        if (Pattern.matches(CRC_PATTERN, crcValue)) {
-            final int crcP1Telegram = Integer.parseInt(crcValue.toString(), 16);
+        if (crcValid && crcLength == CRC_LENGTH) {
             final int calculatedCRC = crc.getCurrentCRCCode();
 
-            if (logger.isDebugEnabled()) {
-                logger.trace("received CRC value: {}, calculated CRC value: 0x{}", crcValue,
+            if (logger.isTraceEnabled()) {
+                logger.trace("received CRC value: {}, calculated CRC value: 0x{}", crcValueString(),
                         String.format("%04X", calculatedCRC));
             }
-            if (crcP1Telegram != calculatedCRC) {
+            if (crcValue != calculatedCRC) {
                 if (test) {
                     throw new IllegalArgumentException(
-                            String.format("Invalid CRC. Read: %s, expected: %04X", crcValue, calculatedCRC));
+                            String.format("Invalid CRC. Read: %s, expected: %04X", crcValueString(), calculatedCRC));
                 }
                 logger.trace("CRC value does not match, p1 Telegram failed");
 
@@ -310,10 +350,16 @@ public class P1TelegramParser implements TelegramParser {
                 () -> telegramListener.telegramReceived(constructTelegram()));
     }
 
+    private String crcValueString() {
+        return crcValid && crcLength == CRC_LENGTH ? String.format("%04X", crcValue) : "invalid";
+    }
+
     private P1Telegram constructTelegram() {
-        final List<CosemObject> cosemObjectsCopy = new ArrayList<>();
+        final List<CosemObject> cosemObjectsCopy = new ArrayList<>(objectCount);
 
-        cosemObjects.stream().forEach(e -> addCosemObject(cosemObjectsCopy, e));
+        for (int i = 0; i < objectCount; i++) {
+            addCosemObject(cosemObjectsCopy, i);
+        }
         if (lenientMode) {
             return new P1Telegram(cosemObjectsCopy, rawData.toString(),
                     unknownCosemObjects.isEmpty() ? Collections.emptyList() : new ArrayList<>(unknownCosemObjects));
@@ -322,14 +368,28 @@ public class P1TelegramParser implements TelegramParser {
         }
     }
 
-    private void addCosemObject(final List<CosemObject> objects, final Entry<String, String> cosemEntry) {
-        final String obisIdString = cosemEntry.getKey();
-        final String obisValueString = cosemEntry.getValue();
-        final CosemObject cosemObject = factory.getCosemObject(obisIdString, obisValueString);
+    private void addCosemObject(final List<CosemObject> objects, final int index) {
+        final int lastValue = index + 1 < objectCount ? objectFirstValues[index + 1] : valueCount;
+
+        cosemValues.reset(data);
+        for (int i = objectFirstValues[index]; i < lastValue; i++) {
+            cosemValues.add(valueOffsets[i], valueLengths[i]);
+        }
+        CosemObject cosemObject;
+        try {
+            final OBISIdentifier obisId = OBISIdentifier.parse(data, objectObisOffsets[index],
+                    objectObisLengths[index]);
+
+            cosemObject = factory.getCosemObject(obisId, cosemValues);
+        } catch (final ParseException e) {
+            logger.debug("Received invalid OBIS identifier: {}", e.getMessage());
+            cosemObject = null;
+        }
 
         if (cosemObject == null) {
             if (lenientMode) {
-                unknownCosemObjects.add(new SimpleEntry<>(obisIdString, obisValueString));
+                unknownCosemObjects.add(new SimpleEntry<>(new String(data, objectObisOffsets[index],
+                        objectObisLengths[index], StandardCharsets.ISO_8859_1), cosemValues.toString()));
             }
         } else {
             logger.trace("Adding {} to list of Cosem Objects", cosemObject);
@@ -371,22 +431,28 @@ public class P1TelegramParser implements TelegramParser {
                 crc.processByte((byte) c);
                 break;
             case DATA_OBIS_ID:
-                obisId.append(c);
+                append((byte) c);
                 crc.processByte((byte) c);
                 break;
             case DATA_OBIS_VALUE:
-                obisValue.append(c);
+                if (c == '(') {
+                    valueStart = dataLength;
+                } else {
+                    append((byte) c);
+                }
                 crc.processByte((byte) c);
                 break;
             case DATA_OBIS_VALUE_END:
-                obisValue.append(c);
+                if (c == ')' && valueStart >= 0) {
+                    storeCurrentValue();
+                }
                 crc.processByte((byte) c);
                 break;
             case CRC_VALUE:
                 if (c == '!') {
                     crc.processByte((byte) c);
                 } else {
-                    crcValue.append(c);
+                    handleCRCCharacter(c);
                 }
                 // CRC data is not part of received data
                 break;
@@ -395,16 +461,46 @@ public class P1TelegramParser implements TelegramParser {
         }
     }
 
+    /**
+     * Stores a character of the CRC value
+     *
+     * @param c the character to process
+     */
+    private void handleCRCCharacter(final char c) {
+        final int digit = c >= '0' && c <= '9' ? c - '0' : c >= 'A' && c <= 'F' ? c - 'A' + 10 : -1;
+
+        if (digit < 0) {
+            crcValid = false;
+        }
+        crcValue = (crcValue << 4) | (digit & 0xF);
+        crcLength++;
+    }
+
+    /**
+     * Appends a byte to the telegram data
+     *
+     * @param b the byte to append
+     */
+    private void append(final byte b) {
+        if (dataLength == data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        data[dataLength++] = b;
+    }
+
     /**
      * Clears all internal state
      */
     private void clearInternalData() {
-        obisId.setLength(0);
-        obisValue.setLength(0);
+        dataLength = 0;
+        objectCount = 0;
+        valueCount = 0;
+        startCosemObject();
         rawData.setLength(0);
-        crcValue.setLength(0);
+        crcValue = 0;
+        crcLength = 0;
+        crcValid = true;
         crc.initialize();
-        cosemObjects.clear();
         unknownCosemObjects.clear();
     }
 
@@ -414,20 +510,56 @@ public class P1TelegramParser implements TelegramParser {
      * - current OBIS value
      */
     private void clearObisData() {
-        obisId.setLength(0);
-        obisValue.setLength(0);
+        dataLength = obisStart;
+        valueCount = firstValue;
+        obisEnd = -1;
+        valueStart = -1;
+    }
+
+    /**
+     * Store the current value in the list of values of the current CosemObject
+     */
+    private void storeCurrentValue() {
+        if (valueCount == valueOffsets.length) {
+            valueOffsets = Arrays.copyOf(valueOffsets, valueCount * 2);
+            valueLengths = Arrays.copyOf(valueLengths, valueCount * 2);
+        }
+        valueOffsets[valueCount] = valueStart;
+        valueLengths[valueCount] = dataLength - valueStart;
+        valueCount++;
+        valueStart = -1;
     }
 
     /**
      * Store the current CosemObject in the list of received cosem Objects
      */
     private void storeCurrentCosemObject() {
-        final String obisIdString = obisId.toString();
+        final int obisLength = (obisEnd < 0 ? dataLength : obisEnd) - obisStart;
 
-        if (!obisIdString.isEmpty()) {
-            cosemObjects.add(new SimpleEntry<>(obisIdString, obisValue.toString()));
+        if (obisLength > 0) {
+            if (objectCount == objectObisOffsets.length) {
+                objectObisOffsets = Arrays.copyOf(objectObisOffsets, objectCount * 2);
+                objectObisLengths = Arrays.copyOf(objectObisLengths, objectCount * 2);
+                objectFirstValues = Arrays.copyOf(objectFirstValues, objectCount * 2);
+            }
+            objectObisOffsets[objectCount] = obisStart;
+            objectObisLengths[objectCount] = obisLength;
+            objectFirstValues[objectCount] = firstValue;
+            objectCount++;
+        } else {
+            clearObisData();
         }
-        clearObisData();
+        startCosemObject();
+    }
+
+    /**
+     * Marks the start of a new CosemObject at the current position in the data
+     */
+    private void startCosemObject() {
+        obisStart = dataLength;
+        obisEnd = -1;
+        valueStart = -1;
+        firstValue = valueCount;
     }
 
     /**
@@ -447,10 +579,17 @@ public class P1TelegramParser implements TelegramParser {
                     break;
                 case DATA_OBIS_ID:
                     // If the current state is CRLF we are processing the header and don't have a cosem object yet
-                    if (state != State.CRLF) {
+                    if (state == State.CRLF) {
+                        startCosemObject();
+                    } else {
                         storeCurrentCosemObject();
                     }
                     break;
+                case DATA_OBIS_VALUE:
+                    if (state == State.DATA_OBIS_ID) {
+                        obisEnd = dataLength;
+                    }
+                    break;
                 case CRC_VALUE:
                     storeCurrentCosemObject();
                     break;
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dsmr.internal.device.cosem;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openhab.core.types.State;
+
+/**
+ * Test class for decoding {@link CosemValues} and {@link OBISIdentifier} from bytes.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class CosemValuesTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "1-3:0.2.8", "0-0:96.1.1", "1-0:1.8.1", "0-1:24.2.1", "7-0:23.1.0*255", "1.8.0",
+            "0:96.1.1", "1-0:99.97.0" })
+    public void testParseOBISIdentifier(final String obisId) throws ParseException {
+        final byte[] bytes = obisId.getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(new OBISIdentifier(obisId), OBISIdentifier.parse(bytes, 0, bytes.length));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "1-0:", "1-0:1", "1-0:1.", "a.b", "1-0:1.8.1 " })
+    public void testParseInvalidOBISIdentifier(final String obisId) {
+        final byte[] bytes = obisId.getBytes(StandardCharsets.US_ASCII);
+
+        assertThrows(ParseException.class, () -> new OBISIdentifier(obisId));
+        assertThrows(ParseException.class, () -> OBISIdentifier.parse(bytes, 0, bytes.length));
+    }
+
+    @Test
+    public void testValuesOf() {
+        final CosemValues values = CosemValues.of("(180104231507W)(00212.529*m3)\r\n");
+
+        assertEquals(2, values.size());
+        assertEquals("180104231507W", values.get(0));
+        assertEquals("00212.529*m3", values.get(1));
+        assertEquals("(180104231507W)(00212.529*m3)", values.toString());
+    }
+
+    @Test
+    public void testQuantityFromBytes() throws ParseException {
+        assertSameState(CosemQuantity.KILO_WATT_HOUR, "000156.167*kWh");
+        assertSameState(CosemQuantity.KILO_WATT_HOUR, "000156.167_kWh");
+        assertSameState(CosemQuantity.KILO_WATT_HOUR, "000156.167kWh");
+        assertSameState(CosemQuantity.KILO_WATT, "00.519*kW");
+        assertSameState(CosemQuantity.CUBIC_METRE, "00212.529*m3");
+        assertSameState(CosemQuantity.VOLT, "230.0*V");
+        assertSameState(CosemQuantity.AMPERE, "001*A");
+        assertThrows(ParseException.class, () -> getStateValue(CosemQuantity.VOLT, "230.0*kWh"));
+    }
+
+    @Test
+    public void testDecimalFromBytes() throws ParseException {
+        assertSameState(CosemDecimal.INSTANCE, "00004");
+        assertSameState(CosemDecimal.INSTANCE, "-12.5");
+        assertSameState(CosemDecimal.INSTANCE_WITH_UNITS, "00.519*kW");
+        assertThrows(ParseException.class, () -> getStateValue(CosemDecimal.INSTANCE, "12a"));
+    }
+
+    private void assertSameState(final CosemValueDescriptor<?> descriptor, final String value) throws ParseException {
+        assertEquals(descriptor.getStateValue(value), getStateValue(descriptor, value));
+    }
+
+    private State getStateValue(final CosemValueDescriptor<?> descriptor, final String value) throws ParseException {
+        final byte[] bytes = ("x" + value + "x").getBytes(StandardCharsets.US_ASCII);
+
+        return descriptor.getStateValue(bytes, 1, bytes.length - 2);
+    }
+}
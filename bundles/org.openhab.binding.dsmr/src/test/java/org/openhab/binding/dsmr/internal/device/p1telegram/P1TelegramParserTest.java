@@ -13,6 +13,7 @@
 package org.openhab.binding.dsmr.internal.device.p1telegram;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.util.Arrays;
 import java.util.List;
@@ -21,6 +22,8 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.openhab.binding.dsmr.internal.TelegramReaderUtil;
+import org.openhab.binding.dsmr.internal.TelegramReaderUtil.P1TelegramListenerImpl;
+import org.openhab.binding.dsmr.internal.device.cosem.CosemObject;
 
 /**
  * Test class for {@link P1TelegramParser}.
@@ -61,4 +64,27 @@ public class P1TelegramParserTest {
                 telegram.getCosemObjects().stream().mapToInt(co -> co.getCosemValues().size()).sum(),
                 "Expected number of objects");
     }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testParsingInChunks(final String telegramName, final int numberOfCosemObjects,
+            final int unknownObjects) {
+        final byte[] data = TelegramReaderUtil.readRawTelegram(telegramName);
+        final P1TelegramListenerImpl listener = new P1TelegramListenerImpl();
+        final P1TelegramParser parser = new P1TelegramParser(listener, true);
+        final byte[] chunk = new byte[7];
+
+        parser.setLenientMode(true);
+        for (int offset = 0; offset < data.length; offset += chunk.length) {
+            final int length = Math.min(chunk.length, data.length - offset);
+
+            System.arraycopy(data, offset, chunk, 0, length);
+            parser.parse(chunk, length);
+        }
+        final P1Telegram telegram = listener.telegram;
+        assertNotNull(telegram);
+        assertEquals(TelegramReaderUtil.readTelegram(telegramName).getCosemObjects().stream()
+                .map(CosemObject::getCosemValues).toList(),
+                telegram.getCosemObjects().stream().map(CosemObject::getCosemValues).toList());
+    }
 }
@@ -79,6 +79,7 @@ import org.openhab.binding.hue.internal.api.dto.clip2.ResourceReference;
 import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
 import org.openhab.binding.hue.internal.api.serialization.InstantDeserializer;
+import org.openhab.binding.hue.internal.api.serialization.InstantSerializer;
 import org.openhab.binding.hue.internal.exceptions.ApiException;
 import org.openhab.binding.hue.internal.exceptions.HttpUnauthorizedException;
 import org.openhab.binding.hue.internal.handler.Clip2BridgeHandler;
@@ -520,6 +521,17 @@ public class Clip2Bridge implements Closeable {
 
     private static final ResourceReference BRIDGE = new ResourceReference().setType(ResourceType.BRIDGE);
 
+    /**
+     * Static method to create the Gson instance that (de-)serializes the CLIP 2 resources, including their
+     * {@link Instant} fields.
+     *
+     * @return the Gson instance.
+     */
+    public static Gson createGson() {
+        return new GsonBuilder().registerTypeAdapter(Instant.class, new InstantDeserializer())
+                .registerTypeAdapter(Instant.class, new InstantSerializer()).create();
+    }
+
     /**
      * Static method to attempt to connect to a Hue Bridge, get its software version, and check if it is high enough to
      * support the CLIP 2 API.
@@ -559,8 +571,7 @@ public class Clip2Bridge implements Closeable {
     private final String registrationUrl;
     private final String applicationKey;
     private final Clip2BridgeHandler bridgeHandler;
-    private final Gson jsonParser = new GsonBuilder().registerTypeAdapter(Instant.class, new InstantDeserializer())
-            .create();
+    private final Gson jsonParser = createGson();
     private final Semaphore streamMutex = new Semaphore(MAX_CONCURRENT_STREAMS, true); // i.e. fair
     private final ReadWriteLock sessionUseCreateLock = new ReentrantReadWriteLock(true); // i.e. fair
     private final Map<Integer, Future<?>> fatalErrorTasks = new ConcurrentHashMap<>();
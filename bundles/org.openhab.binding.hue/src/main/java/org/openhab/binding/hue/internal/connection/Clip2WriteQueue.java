@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
+import org.openhab.binding.hue.internal.exceptions.ApiException;
+import org.openhab.binding.hue.internal.exceptions.AssetNotLoadedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Queue for the PUT requests that are sent to a CLIP 2 bridge.
+ * <p>
+ * The bridge processes no more than about 10 light commands, and 1 grouped light command, per second. Commands that
+ * exceed these rates are delayed by the bridge, so rules or sliders that send many commands make the lights respond
+ * late. Therefore this class a) merges a new command into the pending command for the same resource, if any, whereby
+ * the fields of the newer command win, b) replaces pending light commands by one command for a grouped light, if all
+ * lights of its room or zone receive the same command at the same time, and c) paces the requests to the above rates.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2WriteQueue {
+
+    /**
+     * Sends a resource to the bridge.
+     */
+    @FunctionalInterface
+    public interface Sender {
+        Resources send(Resource resource) throws ApiException, AssetNotLoadedException, InterruptedException;
+    }
+
+    private static class Entry {
+        private final String id;
+        private final ResourceType type;
+        private final JsonObject body;
+        private final List<CompletableFuture<Resources>> futures = new ArrayList<>();
+
+        Entry(String id, ResourceType type, JsonObject body) {
+            this.id = id;
+            this.type = type;
+            this.body = body;
+        }
+    }
+
+    private record SentCommand(JsonObject command, Instant time) {
+    }
+
+    private static final Duration LIGHT_INTERVAL = Duration.ofMillis(100);
+    private static final Duration GROUPED_LIGHT_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * Light commands sent within this period still count as part of a command to all lights of a room or zone.
+     */
+    private static final Duration GROUP_WINDOW = Duration.ofSeconds(1);
+
+    /**
+     * Fields that may be set on a grouped light.
+     */
+    private static final Set<String> GROUPED_LIGHT_FIELDS = Set.of("on", "dimming", "color", "color_temperature",
+            "dynamics", "alert");
+
+    /**
+     * Fields that override each other, i.e. a light is either set to a color or to a color temperature.
+     */
+    private static final Map<String, String> EXCLUSIVE_FIELDS = Map.of("color", "color_temperature",
+            "color_temperature", "color");
+
+    private static final String ID = "id";
+    private static final String TYPE = "type";
+
+    private final Logger logger = LoggerFactory.getLogger(Clip2WriteQueue.class);
+    private final Gson gson;
+    private final ScheduledExecutorService scheduler;
+    private final Sender sender;
+
+    private final Map<String, Entry> pending = new LinkedHashMap<>();
+    private final Map<String, SentCommand> sentLightCommands = new HashMap<>();
+    private Map<String, Set<String>> groupedLightMembers = Map.of();
+    private Instant nextLightTime = Instant.MIN;
+    private Instant nextGroupedLightTime = Instant.MIN;
+    private @Nullable ScheduledFuture<?> sendTask;
+    private boolean sending;
+
+    /**
+     * @param scheduler the scheduler that runs the send task.
+     * @param sender sends a resource to the bridge.
+     * @param gson the Gson instance of the bridge, which converts the resources to JSON for merging them.
+     */
+    public Clip2WriteQueue(ScheduledExecutorService scheduler, Sender sender, Gson gson) {
+        this.scheduler = scheduler;
+        this.sender = sender;
+        this.gson = gson;
+    }
+
+    /**
+     * Set the light members of each grouped light, i.e. the lights that are controlled by the grouped light of a room
+     * or a zone.
+     *
+     * @param groupedLightMembers a map between the grouped light resource ID and the IDs of its member lights.
+     */
+    public synchronized void setGroupedLightMembers(Map<String, Set<String>> groupedLightMembers) {
+        this.groupedLightMembers = groupedLightMembers;
+    }
+
+    /**
+     * Queue a resource to be sent to the bridge. If a resource with the same ID is already pending, the new resource
+     * is merged into it.
+     *
+     * @param resource the resource to send.
+     * @return a future that completes with the response of the bridge.
+     */
+    public CompletableFuture<Resources> submit(Resource resource) {
+        CompletableFuture<Resources> future = new CompletableFuture<>();
+        String id = resource.getId();
+        JsonElement body = gson.toJsonTree(resource);
+        if (id.isEmpty() || !body.isJsonObject()) {
+            future.completeExceptionally(new ApiException("Resource has no ID"));
+            return future;
+        }
+        synchronized (this) {
+            Entry entry = pending.get(id);
+            if (Objects.isNull(entry)) {
+                entry = new Entry(id, resource.getType(), body.getAsJsonObject());
+                pending.put(id, entry);
+            } else {
+                logger.trace("submit() merged command for resource {}", id);
+                merge(entry.body, body.getAsJsonObject());
+            }
+            entry.futures.add(future);
+            if (!sending) {
+                // a delayed send task may be waiting for another resource's rate limit
+                cancelSendTask();
+                sendTask = scheduler.schedule(this::sendPending, 0, TimeUnit.MILLISECONDS);
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Remove all pending resources, and complete their futures with the given exception.
+     *
+     * @param reason the exception.
+     */
+    public void clear(Exception reason) {
+        List<Entry> entries;
+        synchronized (this) {
+            cancelSendTask();
+            entries = new ArrayList<>(pending.values());
+            pending.clear();
+            sentLightCommands.clear();
+        }
+        entries.forEach(entry -> entry.futures.forEach(future -> future.completeExceptionally(reason)));
+    }
+
+    private void cancelSendTask() {
+        ScheduledFuture<?> task = sendTask;
+        if (Objects.nonNull(task)) {
+            task.cancel(false);
+            sendTask = null;
+        }
+    }
+
+    /**
+     * Send the pending resources, one after the other, as long as their rate limits allow it. Then schedule the next
+     * run for when the remaining resources may be sent.
+     */
+    private void sendPending() {
+        synchronized (this) {
+            if (sending) {
+                return;
+            }
+            sending = true;
+        }
+        try {
+            Entry entry;
+            while (Objects.nonNull(entry = takeNextEntry())) {
+                send(entry);
+            }
+        } finally {
+            synchronized (this) {
+                sending = false;
+                if (!pending.isEmpty()) {
+                    Instant now = Instant.now();
+                    Instant nextTime = pending.values().stream().map(entry -> getNextTime(entry.type))
+                            .min(Comparator.naturalOrder()).orElse(now);
+                    cancelSendTask();
+                    sendTask = scheduler.schedule(this::sendPending,
+                            Math.max(0, Duration.between(now, nextTime).toMillis()), TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Take the first pending resource whose rate limit allows it to be sent now.
+     *
+     * @return the entry of the resource, or null if no resource may be sent now.
+     */
+    private synchronized @Nullable Entry takeNextEntry() {
+        Instant now = Instant.now();
+        sentLightCommands.values().removeIf(sent -> sent.time().plus(GROUP_WINDOW).isBefore(now));
+        replaceByGroupedLights();
+        for (Entry entry : pending.values()) {
+            if (!getNextTime(entry.type).isAfter(now)) {
+                pending.remove(entry.id);
+                if (ResourceType.LIGHT == entry.type) {
+                    nextLightTime = now.plus(LIGHT_INTERVAL);
+                    sentLightCommands.put(entry.id, new SentCommand(getCommand(entry.body), now));
+                } else if (ResourceType.GROUPED_LIGHT == entry.type) {
+                    nextGroupedLightTime = now.plus(GROUPED_LIGHT_INTERVAL);
+                }
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private void send(Entry entry) {
+        try {
+            Resources resources = sender.send(Objects.requireNonNull(gson.fromJson(entry.body, Resource.class)));
+            entry.futures.forEach(future -> future.complete(resources));
+        } catch (ApiException | AssetNotLoadedException | RuntimeException e) {
+            entry.futures.forEach(future -> future.completeExceptionally(e));
+        } catch (InterruptedException e) {
+            entry.futures.forEach(future -> future.completeExceptionally(e));
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Instant getNextTime(ResourceType type) {
+        switch (type) {
+            case LIGHT:
+                return nextLightTime;
+            case GROUPED_LIGHT:
+                return nextGroupedLightTime;
+            default:
+                return Instant.MIN;
+        }
+    }
+
+    /**
+     * Replace pending light commands by a command for a grouped light, if all member lights of the grouped light have
+     * a pending (or just sent) identical command. Larger groups are preferred, e.g. a zone containing two rooms.
+     */
+    private void replaceByGroupedLights() {
+        if (groupedLightMembers.isEmpty() || pending.size() < 2) {
+            return;
+        }
+        List<Map.Entry<String, Set<String>>> groups = groupedLightMembers.entrySet().stream()
+                .sorted(Comparator.comparingInt(group -> -group.getValue().size())).toList();
+        for (Map.Entry<String, Set<String>> group : groups) {
+            String groupedLightId = group.getKey();
+            Set<String> members = group.getValue();
+            if (members.size() < 2 || pending.containsKey(groupedLightId)) {
+                continue;
+            }
+            JsonObject command = getGroupCommand(members);
+            if (Objects.nonNull(command)) {
+                logger.debug("replaceByGroupedLights() {} light commands replaced by grouped light {}",
+                        members.size(), groupedLightId);
+                JsonObject body = command.deepCopy();
+                body.addProperty(ID, groupedLightId);
+                body.addProperty(TYPE, ResourceType.GROUPED_LIGHT.name().toLowerCase());
+                Entry groupEntry = new Entry(groupedLightId, ResourceType.GROUPED_LIGHT, body);
+                for (String member : members) {
+                    Entry memberEntry = pending.remove(member);
+                    if (Objects.nonNull(memberEntry)) {
+                        groupEntry.futures.addAll(memberEntry.futures);
+                    }
+                    sentLightCommands.remove(member);
+                }
+                // the grouped light command goes first, since its lights already waited longest
+                Map<String, Entry> others = new LinkedHashMap<>(pending);
+                pending.clear();
+                pending.put(groupedLightId, groupEntry);
+                pending.putAll(others);
+            }
+        }
+    }
+
+    /**
+     * Return the common command of all given lights, if all of them have an identical command that is either pending
+     * or was just sent, whereby at least two commands are pending, and the command can be sent to a grouped light.
+     *
+     * @param members the IDs of the lights.
+     * @return the command without ID and type, or null if there is no common command.
+     */
+    private @Nullable JsonObject getGroupCommand(Set<String> members) {
+        JsonObject command = null;
+        int pendingCount = 0;
+        for (String member : members) {
+            Entry entry = pending.get(member);
+            JsonObject memberCommand;
+            if (Objects.nonNull(entry) && ResourceType.LIGHT == entry.type) {
+                memberCommand = getCommand(entry.body);
+                pendingCount++;
+            } else {
+                SentCommand sent = sentLightCommands.get(member);
+                if (Objects.isNull(sent)) {
+                    return null;
+                }
+                memberCommand = sent.command();
+            }
+            if (Objects.isNull(command)) {
+                if (!GROUPED_LIGHT_FIELDS.containsAll(memberCommand.keySet())) {
+                    return null;
+                }
+                command = memberCommand;
+            } else if (!command.equals(memberCommand)) {
+                return null;
+            }
+        }
+        return pendingCount >= 2 ? command : null;
+    }
+
+    /**
+     * Return a copy of the body without the ID and type fields, i.e. only the fields that set the state.
+     */
+    private static JsonObject getCommand(JsonObject body) {
+        JsonObject command = body.deepCopy();
+        command.remove(ID);
+        command.remove(TYPE);
+        return command;
+    }
+
+    /**
+     * Merge the fields of a newer body into an older one. Nested objects are merged recursively, and other fields of
+     * the newer body replace those of the older body.
+     *
+     * @param target the older body, which is modified.
+     * @param source the newer body.
+     */
+    static void merge(JsonObject target, JsonObject source) {
+        for (Map.Entry<String, JsonElement> field : source.entrySet()) {
+            String name = field.getKey();
+            JsonElement value = field.getValue();
+            JsonElement targetValue = target.get(name);
+            String exclusiveName = EXCLUSIVE_FIELDS.get(name);
+            if (Objects.nonNull(exclusiveName)) {
+                target.remove(exclusiveName);
+            }
+            if (Objects.nonNull(targetValue) && targetValue.isJsonObject() && value.isJsonObject()) {
+                merge(targetValue.getAsJsonObject(), value.getAsJsonObject());
+            } else {
+                target.add(name, value.deepCopy());
+            }
+        }
+    }
+}
@@ -33,6 +33,7 @@ import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
 import org.openhab.binding.hue.internal.exceptions.ApiException;
 import org.openhab.binding.hue.internal.exceptions.AssetNotLoadedException;
 import org.openhab.binding.hue.internal.handler.Clip2BridgeHandler;
+import org.openhab.binding.hue.internal.handler.Clip2EventStatistics;
 import org.openhab.binding.hue.internal.handler.HueBridgeHandler;
 import org.openhab.binding.hue.internal.handler.HueGroupHandler;
 import org.openhab.core.io.console.Console;
@@ -64,16 +65,18 @@ public class HueCommandExtension extends AbstractConsoleCommandExtension impleme
     private static final String FMT_COMMENT = "    // %s things";
     private static final String FMT_APPKEY = "  - Application key: %s";
     private static final String FMT_SCENE = "  %s '%s'";
+    private static final String FMT_STATISTICS = "  - %s: %s";
 
     private static final String USER_NAME = "username";
     private static final String SCENES = "scenes";
     private static final String APPLICATION_KEY = "applicationkey";
     private static final String THINGS = "things";
+    private static final String STATISTICS = "statistics";
 
     private static final StringsCompleter SUBCMD_COMPLETER = new StringsCompleter(List.of(USER_NAME, SCENES), false);
 
     private static final StringsCompleter SUBCMD_COMPLETER_2 = new StringsCompleter(
-            List.of(APPLICATION_KEY, THINGS, SCENES), false);
+            List.of(APPLICATION_KEY, THINGS, SCENES, STATISTICS), false);
 
     private static final StringsCompleter SCENES_COMPLETER = new StringsCompleter(List.of(SCENES), false);
 
@@ -218,6 +221,24 @@ public class HueCommandExtension extends AbstractConsoleCommandExtension impleme
                                 console.println(exception);
                             }
                             return;
+
+                        case STATISTICS:
+                            Clip2EventStatistics statistics = clip2BridgeHandler.getEventStatistics();
+                            console.println(String.format(FMT_STATISTICS, "Events per second (last minute)",
+                                    String.format("%.2f", statistics.getEventsPerSecond())));
+                            console.println(String.format(FMT_STATISTICS, "Events", statistics.getEvents()));
+                            console.println(String.format(FMT_STATISTICS, "Resources", statistics.getResources()));
+                            console.println(String.format(FMT_STATISTICS, "Resources delivered to things",
+                                    statistics.getDeliveries()));
+                            console.println(String.format(FMT_STATISTICS, "Resources delivered to all things",
+                                    statistics.getBroadcastResources()));
+                            console.println(String.format(FMT_STATISTICS, "Average dispatch latency (ms)",
+                                    String.format("%.3f", statistics.getAverageLatency().toNanos() / 1e6)));
+                            console.println(String.format(FMT_STATISTICS, "Maximum dispatch latency (ms)",
+                                    String.format("%.3f", statistics.getMaxLatency().toNanos() / 1e6)));
+                            console.println(String.format(FMT_STATISTICS, "Resources in routing index",
+                                    clip2BridgeHandler.getRoutedResourceCount()));
+                            return;
                     }
                 }
             }
@@ -231,6 +252,7 @@ public class HueCommandExtension extends AbstractConsoleCommandExtension impleme
                 buildCommandUsage("<bridgeUID> " + APPLICATION_KEY, "show the API v2 application key"),
                 buildCommandUsage("<bridgeUID> " + SCENES, "list all the scenes with their id"),
                 buildCommandUsage("<bridgeUID> " + THINGS, "list all the API v2 device/room/zone things with their id"),
+                buildCommandUsage("<bridgeUID> " + STATISTICS, "show the API v2 event dispatching statistics"),
                 buildCommandUsage("<groupThingUID> " + SCENES, "list all the scenes from this group with their id") });
     }
 
@@ -15,18 +15,23 @@ package org.openhab.binding.hue.internal.handler;
 import static org.openhab.binding.hue.internal.HueBindingConstants.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -43,6 +48,7 @@ import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
 import org.openhab.binding.hue.internal.api.dto.clip2.helper.Setters;
 import org.openhab.binding.hue.internal.config.Clip2BridgeConfig;
 import org.openhab.binding.hue.internal.connection.Clip2Bridge;
+import org.openhab.binding.hue.internal.connection.Clip2WriteQueue;
 import org.openhab.binding.hue.internal.connection.HueTlsTrustManagerProvider;
 import org.openhab.binding.hue.internal.discovery.Clip2ThingDiscoveryService;
 import org.openhab.binding.hue.internal.exceptions.ApiException;
@@ -103,6 +109,11 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     private static final ResourceReference SCRIPT = new ResourceReference().setType(ResourceType.BEHAVIOR_SCRIPT);
     private static final ResourceReference BEHAVIOR = new ResourceReference().setType(ResourceType.BEHAVIOR_INSTANCE);
 
+    /**
+     * Placeholder in the routing index for resources that are shared by more than one thing.
+     */
+    static final String SHARED_RESOURCE = "";
+
     private static final String AUTOMATION_CHANNEL_LABEL_KEY = "dynamic-channel.automation-enable.label";
     private static final String AUTOMATION_CHANNEL_DESCRIPTION_KEY = "dynamic-channel.automation-enable.description";
 
@@ -122,6 +133,25 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     private final Map<String, Resource> automationsCache = new ConcurrentHashMap<>();
     private final Set<String> automationScriptIds = ConcurrentHashMap.newKeySet();
     private final ChannelGroupUID automationChannelGroupUID;
+    private final Clip2EventStatistics eventStatistics = new Clip2EventStatistics();
+    private final Clip2WriteQueue writeQueue;
+
+    /**
+     * Routing index for incoming SSE events, built from the mass download. It is a map between the resource ID of a
+     * resource and the resource ID of the device, room or zone which it belongs to. e.g. a LIGHT service resource maps
+     * to its owner DEVICE, or a SCENE resource maps to its ROOM or ZONE group.
+     */
+    private volatile Map<String, String> resourceOwnerIds = Map.of();
+
+    /**
+     * A map between the resource ID of each child thing and its handler(s), together with the generation of child
+     * handlers it was built for. It is rebuilt on demand after a child handler has been initialized or disposed.
+     */
+    private volatile @Nullable ChildHandlerIndex childHandlerIndex;
+    private final AtomicLong childHandlerGeneration = new AtomicLong();
+
+    private record ChildHandlerIndex(long generation, Map<String, List<Clip2ThingHandler>> handlersByResourceId) {
+    }
 
     private @Nullable Clip2Bridge clip2Bridge;
     private @Nullable ServiceRegistration<?> trustManagerRegistration;
@@ -146,6 +176,113 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         this.localeProvider = localeProvider;
         this.translationProvider = translationProvider;
         this.automationChannelGroupUID = new ChannelGroupUID(thing.getUID(), CHANNEL_GROUP_AUTOMATION);
+        this.writeQueue = new Clip2WriteQueue(scheduler, this::putResource, Clip2Bridge.createGson());
+    }
+
+    /**
+     * Add the IDs of the lights of a room or zone, and of its child devices, rooms or zones.
+     *
+     * @return false if a child is not known.
+     */
+    private boolean addLightIds(Set<String> lightIds, Resource group, Map<String, Resource> devices,
+            Map<String, Resource> groups, int depth) {
+        for (ResourceReference child : group.getChildren()) {
+            String childId = child.getId();
+            if (Objects.isNull(childId)) {
+                return false;
+            }
+            switch (child.getType()) {
+                case LIGHT:
+                    lightIds.add(childId);
+                    break;
+                case DEVICE:
+                    Resource device = devices.get(childId);
+                    if (Objects.isNull(device)) {
+                        return false;
+                    }
+                    for (ResourceReference service : device.getServiceReferences()) {
+                        String serviceId = service.getId();
+                        if (service.getType() == ResourceType.LIGHT && Objects.nonNull(serviceId)) {
+                            lightIds.add(serviceId);
+                        }
+                    }
+                    break;
+                case ROOM:
+                case ZONE:
+                    Resource childGroup = groups.get(childId);
+                    if (Objects.isNull(childGroup) || depth > 1
+                            || !addLightIds(lightIds, childGroup, devices, groups, depth + 1)) {
+                        return false;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Add the resources of a mass download to the SSE event routing index. A device, room or zone owns itself and its
+     * services, whereas a scene belongs to its group.
+     *
+     * @param resourceOwnerIds the routing index to be added to.
+     * @param resourceType the type of the mass downloaded resources.
+     * @param resourceList the mass downloaded resources.
+     */
+    static void addResourceOwnerIds(Map<String, String> resourceOwnerIds, ResourceType resourceType,
+            List<Resource> resourceList) {
+        for (Resource resource : resourceList) {
+            if (resourceType == ResourceType.SCENE) {
+                ResourceReference group = resource.getGroup();
+                String groupId = Objects.nonNull(group) ? group.getId() : null;
+                if (Objects.nonNull(groupId)) {
+                    addResourceOwnerId(resourceOwnerIds, resource.getId(), groupId);
+                }
+            } else {
+                String ownerId = resource.getId();
+                addResourceOwnerId(resourceOwnerIds, ownerId, ownerId);
+                for (ResourceReference service : resource.getServiceReferences()) {
+                    String serviceId = service.getId();
+                    if (Objects.nonNull(serviceId)) {
+                        addResourceOwnerId(resourceOwnerIds, serviceId, ownerId);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void addResourceOwnerId(Map<String, String> resourceOwnerIds, String resourceId, String ownerId) {
+        resourceOwnerIds.merge(resourceId, ownerId, (oldId, newId) -> oldId.equals(newId) ? oldId : SHARED_RESOURCE);
+    }
+
+    /**
+     * Split the resources of an SSE event into one list per interested handler, keeping their original order. A
+     * resource which is not (uniquely) known from the mass download is passed to every handler to let it check it.
+     *
+     * @param resources the resources of the event.
+     * @param resourceOwnerIds the routing index built by {@link #addResourceOwnerIds}.
+     * @param handlersByResourceId the handlers mapped by the resource ID of their thing.
+     * @return the resources per handler.
+     */
+    static <T> Map<T, List<Resource>> routeResources(List<Resource> resources, Map<String, String> resourceOwnerIds,
+            Map<String, List<T>> handlersByResourceId) {
+        Map<T, List<Resource>> handlerResources = new LinkedHashMap<>();
+        for (Resource resource : resources) {
+            String ownerId = resourceOwnerIds.get(resource.getId());
+            Collection<List<T>> handlerLists = isBroadcast(ownerId) ? handlersByResourceId.values()
+                    : List.of(handlersByResourceId.getOrDefault(ownerId, List.of()));
+            for (List<T> handlers : handlerLists) {
+                for (T handler : handlers) {
+                    handlerResources.computeIfAbsent(handler, h -> new ArrayList<>()).add(resource);
+                }
+            }
+        }
+        return handlerResources;
+    }
+
+    private static boolean isBroadcast(@Nullable String ownerId) {
+        return Objects.isNull(ownerId) || SHARED_RESOURCE.equals(ownerId);
     }
 
     /**
@@ -258,6 +395,16 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        childHandlerGeneration.incrementAndGet();
+    }
+
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        childHandlerGeneration.incrementAndGet();
+    }
+
     /**
      * If a child thing has been added, and the bridge is online, update the child's data.
      */
@@ -294,6 +441,7 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
                 resourcesEventTasks.values().forEach(task -> cancelTask(task, true));
                 resourcesEventTasks.clear();
             }
+            writeQueue.clear(new AssetNotLoadedException("Bridge handler disposed"));
             ServiceRegistration<?> registration = trustManagerRegistration;
             if (Objects.nonNull(registration)) {
                 registration.unregister();
@@ -321,6 +469,30 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         return config.applicationKey;
     }
 
+    /**
+     * Return the child thing handlers mapped by the resource ID of their thing.
+     *
+     * @return the map of child thing handlers.
+     */
+    private Map<String, List<Clip2ThingHandler>> getChildHandlersByResourceId() {
+        // read the generation first, so a change while the map is built makes the next call rebuild it again
+        long generation = childHandlerGeneration.get();
+        ChildHandlerIndex index = childHandlerIndex;
+        if (Objects.isNull(index) || index.generation() != generation) {
+            Map<String, List<Clip2ThingHandler>> childHandlers = new HashMap<>();
+            for (Thing thing : getThing().getThings()) {
+                if (thing.getHandler() instanceof Clip2ThingHandler clip2ThingHandler) {
+                    String resourceId = Objects.requireNonNullElse(clip2ThingHandler.getResourceReference().getId(),
+                            "");
+                    childHandlers.computeIfAbsent(resourceId, id -> new ArrayList<>()).add(clip2ThingHandler);
+                }
+            }
+            index = new ChildHandlerIndex(generation, childHandlers);
+            childHandlerIndex = index;
+        }
+        return index.handlersByResourceId();
+    }
+
     /**
      * Get the Clip2Bridge connection and throw an exception if it is null.
      *
@@ -335,6 +507,41 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         throw new AssetNotLoadedException("Clip2Bridge is null");
     }
 
+    /**
+     * Return the SSE event statistics for the console app.
+     *
+     * @return the event statistics.
+     */
+    public Clip2EventStatistics getEventStatistics() {
+        return eventStatistics;
+    }
+
+    /**
+     * Get the lights which are controlled by the grouped light of each room and zone.
+     *
+     * @param devices the mass downloaded devices mapped by their ID.
+     * @param groups the mass downloaded rooms and zones mapped by their ID.
+     * @return a map between the grouped light resource ID and the IDs of its member lights.
+     */
+    private Map<String, Set<String>> getGroupedLightMembers(Map<String, Resource> devices,
+            Map<String, Resource> groups) {
+        Map<String, Set<String>> groupedLightMembers = new HashMap<>();
+        for (Resource group : groups.values()) {
+            Set<String> lightIds = new HashSet<>();
+            if (!addLightIds(lightIds, group, devices, groups, 0)) {
+                // never use the grouped light if its lights are not exactly known
+                continue;
+            }
+            for (ResourceReference service : group.getServiceReferences()) {
+                String serviceId = service.getId();
+                if (service.getType() == ResourceType.GROUPED_LIGHT && Objects.nonNull(serviceId)) {
+                    groupedLightMembers.put(serviceId, lightIds);
+                }
+            }
+        }
+        return groupedLightMembers;
+    }
+
     /**
      * Return the IP address for the console app.
      *
@@ -421,6 +628,15 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         return getClip2Bridge().getResources(reference);
     }
 
+    /**
+     * Return the number of resources in the SSE event routing index for the console app.
+     *
+     * @return the number of indexed resources.
+     */
+    public int getRoutedResourceCount() {
+        return resourceOwnerIds.size();
+    }
+
     /**
      * Getter for the scheduler.
      *
@@ -543,24 +759,25 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Called when an SSE event message comes in with a valid list of resources. For each resource received, inform all
-     * child thing handlers with the respective resource.
+     * Called when an SSE event message comes in with a valid list of resources. For each resource received, inform the
+     * child thing handlers which the resource belongs to.
      *
      * @param resources a list of incoming resource objects.
      */
     public void onResourcesEvent(List<Resource> resources) {
         if (assetsLoaded) {
+            long receivedNanos = System.nanoTime();
             synchronized (resourcesEventTasks) {
                 int index = resourcesEventTasks.size();
                 resourcesEventTasks.put(index, scheduler.submit(() -> {
-                    onResourcesEventTask(resources);
+                    onResourcesEventTask(resources, receivedNanos);
                     resourcesEventTasks.remove(index);
                 }));
             }
         }
     }
 
-    private void onResourcesEventTask(List<Resource> resources) {
+    private void onResourcesEventTask(List<Resource> resources, long receivedNanos) {
         int numberOfResources = resources.size();
         logger.debug("onResourcesEventTask() resource count {}", numberOfResources);
         Setters.mergeLightResources(resources);
@@ -570,11 +787,21 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         if (onResources(resources)) {
             updateAutomationChannelsNow();
         }
-        getThing().getThings().forEach(thing -> {
-            if (thing.getHandler() instanceof Clip2ThingHandler clip2ThingHandler) {
-                clip2ThingHandler.onResources(resources);
-            }
-        });
+
+        // split the resources into one list per interested child handler, keeping their original order
+        Map<String, String> resourceOwnerIds = this.resourceOwnerIds;
+        Map<String, List<Clip2ThingHandler>> childHandlers = getChildHandlersByResourceId();
+        Map<Clip2ThingHandler, List<Resource>> handlerResources = routeResources(resources, resourceOwnerIds,
+                childHandlers);
+        handlerResources.forEach((handler, list) -> handler.onResources(list));
+        int deliveries = handlerResources.values().stream().mapToInt(List::size).sum();
+        int broadcasts = (int) resources.stream()
+                .filter(resource -> isBroadcast(resourceOwnerIds.get(resource.getId()))).count();
+
+        long latencyNanos = System.nanoTime() - receivedNanos;
+        eventStatistics.record(resources.size(), deliveries, broadcasts, latencyNanos);
+        logger.trace("onResourcesEventTask() dispatched to {} handlers in {} us", handlerResources.size(),
+                latencyNanos / 1000);
     }
 
     /**
@@ -592,6 +819,19 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         return getClip2Bridge().putResource(resource);
     }
 
+    /**
+     * Queue a Resource object to be sent to the server via an HTTP PUT. A pending resource with the same ID is merged
+     * with the new one, light resources may be sent together via a grouped light, and the PUTs are paced to the rate
+     * limits of the bridge.
+     *
+     * @param resource the resource to put.
+     * @return a future that completes with the resource returned by the server, which may contain errors.
+     */
+    public CompletableFuture<Resources> queueResource(Resource resource) {
+        logger.debug("queueResource() {}", resource);
+        return writeQueue.submit(resource);
+    }
+
     /**
      * Register the application key with the hub. If the current application key is empty it will create a new one.
      *
@@ -767,6 +1007,9 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         logger.debug("updateThingsNow()");
         try {
             Clip2Bridge bridge = getClip2Bridge();
+            Map<String, String> newResourceOwnerIds = new HashMap<>();
+            Map<String, Resource> devices = new HashMap<>();
+            Map<String, Resource> groups = new HashMap<>();
             for (ResourceReference reference : MASS_DOWNLOAD_RESOURCE_REFERENCES) {
                 ResourceType resourceType = reference.getType();
                 List<Resource> resourceList = bridge.getResources(reference).getResources();
@@ -784,6 +1027,12 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
                     default:
                         break;
                 }
+                addResourceOwnerIds(newResourceOwnerIds, resourceType, resourceList);
+                if (resourceType == ResourceType.DEVICE) {
+                    resourceList.forEach(resource -> devices.put(resource.getId(), resource));
+                } else if (resourceType != ResourceType.SCENE) {
+                    resourceList.forEach(resource -> groups.put(resource.getId(), resource));
+                }
                 getThing().getThings().forEach(thing -> {
                     ThingHandler handler = thing.getHandler();
                     if (handler instanceof Clip2ThingHandler) {
@@ -791,6 +1040,9 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
                     }
                 });
             }
+            resourceOwnerIds = newResourceOwnerIds;
+            writeQueue.setGroupedLightMembers(getGroupedLightMembers(devices, groups));
+            logger.debug("updateThingsNow() routing index contains {} resources", newResourceOwnerIds.size());
         } catch (ApiException | AssetNotLoadedException e) {
             if (logger.isDebugEnabled()) {
                 logger.debug("updateThingsNow() unexpected exception", e);
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.handler;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Statistics about the SSE events received by a CLIP 2 bridge, and about their dispatching to the child thing
+ * handlers. The event rate is measured over a sliding window of the last minute.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2EventStatistics {
+
+    private static final int WINDOW_SECONDS = 60;
+
+    private final long[] windowEvents = new long[WINDOW_SECONDS];
+    private final long[] windowSeconds = new long[WINDOW_SECONDS];
+
+    private long events;
+    private long resources;
+    private long deliveries;
+    private long broadcastResources;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+
+    public Clip2EventStatistics() {
+        Arrays.fill(windowSeconds, Long.MIN_VALUE);
+    }
+
+    /**
+     * Record the dispatching of an SSE event.
+     *
+     * @param resourceCount the number of resources in the event.
+     * @param deliveryCount the number of resources handed to thing handlers, counted once per receiving handler.
+     * @param broadcastCount the number of resources that could not be routed, and were handed to all thing handlers.
+     * @param latencyNanos the time between the reception of the event and the end of its dispatching.
+     */
+    public synchronized void record(int resourceCount, int deliveryCount, int broadcastCount, long latencyNanos) {
+        long second = currentSecond();
+        int bucket = Math.floorMod(second, WINDOW_SECONDS);
+        if (windowSeconds[bucket] != second) {
+            windowSeconds[bucket] = second;
+            windowEvents[bucket] = 0;
+        }
+        windowEvents[bucket]++;
+        events++;
+        resources += resourceCount;
+        deliveries += deliveryCount;
+        broadcastResources += broadcastCount;
+        totalLatencyNanos += latencyNanos;
+        maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+    }
+
+    /**
+     * @return the average number of events per second during the last minute.
+     */
+    public synchronized double getEventsPerSecond() {
+        long oldestSecond = currentSecond() - WINDOW_SECONDS;
+        long count = 0;
+        for (int i = 0; i < WINDOW_SECONDS; i++) {
+            if (windowSeconds[i] > oldestSecond) {
+                count += windowEvents[i];
+            }
+        }
+        return (double) count / WINDOW_SECONDS;
+    }
+
+    public synchronized long getEvents() {
+        return events;
+    }
+
+    public synchronized long getResources() {
+        return resources;
+    }
+
+    public synchronized long getDeliveries() {
+        return deliveries;
+    }
+
+    public synchronized long getBroadcastResources() {
+        return broadcastResources;
+    }
+
+    public synchronized Duration getAverageLatency() {
+        return Duration.ofNanos(events == 0 ? 0 : totalLatencyNanos / events);
+    }
+
+    public synchronized Duration getMaxLatency() {
+        return Duration.ofNanos(maxLatencyNanos);
+    }
+
+    private static long currentSecond() {
+        return System.nanoTime() / 1_000_000_000L;
+    }
+}
@@ -48,7 +48,6 @@ import org.openhab.binding.hue.internal.api.dto.clip2.MirekSchema;
 import org.openhab.binding.hue.internal.api.dto.clip2.ProductData;
 import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
 import org.openhab.binding.hue.internal.api.dto.clip2.ResourceReference;
-import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
 import org.openhab.binding.hue.internal.api.dto.clip2.TimedEffects;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.ActionType;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.Archetype;
@@ -528,20 +527,29 @@ public class Clip2ThingHandler extends BaseThingHandler {
         putResource.setId(putResourceId);
         logger.debug("{} -> handleCommand() put resource {}", resourceId, putResource);
 
+        Command queuedCommand = command;
         try {
-            Resources resources = getBridgeHandler().putResource(putResource);
-            if (resources.hasErrors()) {
-                logger.info("Command '{}' for thing '{}', channel '{}' succeeded with errors: {}", command,
-                        thing.getUID(), channelUID, String.join("; ", resources.getErrors()));
-            }
-        } catch (ApiException | AssetNotLoadedException e) {
+            // the command is queued, so that commands for the same resource can be merged
+            getBridgeHandler().queueResource(putResource).whenComplete((resources, e) -> {
+                if (e instanceof ApiException || e instanceof AssetNotLoadedException) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("{} -> handleCommand() error {}", resourceId, e.getMessage(), e);
+                    } else {
+                        logger.warn("Command '{}' for thing '{}', channel '{}' failed with error '{}'.", queuedCommand,
+                                thing.getUID(), channelUID, e.getMessage());
+                    }
+                } else if (Objects.nonNull(resources) && resources.hasErrors()) {
+                    logger.info("Command '{}' for thing '{}', channel '{}' succeeded with errors: {}", queuedCommand,
+                            thing.getUID(), channelUID, String.join("; ", resources.getErrors()));
+                }
+            });
+        } catch (AssetNotLoadedException e) {
             if (logger.isDebugEnabled()) {
                 logger.debug("{} -> handleCommand() error {}", resourceId, e.getMessage(), e);
             } else {
                 logger.warn("Command '{}' for thing '{}', channel '{}' failed with error '{}'.", command,
                         thing.getUID(), channelUID, e.getMessage());
             }
-        } catch (InterruptedException e) {
         }
     }
 
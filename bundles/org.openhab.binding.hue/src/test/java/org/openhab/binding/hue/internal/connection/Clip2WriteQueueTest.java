@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.api.dto.clip2.Button;
+import org.openhab.binding.hue.internal.api.dto.clip2.ButtonReport;
+import org.openhab.binding.hue.internal.api.dto.clip2.ColorTemperature;
+import org.openhab.binding.hue.internal.api.dto.clip2.ColorXy;
+import org.openhab.binding.hue.internal.api.dto.clip2.Dimming;
+import org.openhab.binding.hue.internal.api.dto.clip2.OnState;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
+import org.openhab.core.library.types.OnOffType;
+
+import com.google.gson.Gson;
+
+/**
+ * Tests for {@link Clip2WriteQueue}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2WriteQueueTest {
+
+    private static final Gson GSON = Clip2Bridge.createGson();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final BlockingQueue<Resource> sent = new LinkedBlockingQueue<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final Clip2WriteQueue queue = new Clip2WriteQueue(scheduler, resource -> {
+        sent.add(resource);
+        release.await(5, TimeUnit.SECONDS);
+        return new Resources();
+    }, GSON);
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void pendingCommandsForSameResourceAreMerged() throws Exception {
+        // the first command blocks the sender, so that the next ones are pending
+        queue.submit(light("1").setOnState(new OnState().setOn(false)));
+        assertThat(takeSent().getId(), is("1"));
+
+        CompletableFuture<Resources> on = queue.submit(light("2").setOnState(new OnState().setOn(true)));
+        CompletableFuture<Resources> dimming = queue.submit(light("2").setDimming(new Dimming().setBrightness(50)));
+        CompletableFuture<Resources> dimming2 = queue.submit(light("2").setDimming(new Dimming().setBrightness(70)));
+        release.countDown();
+
+        Resource resource = takeSent();
+        assertThat(resource.getId(), is("2"));
+        assertThat(Objects.requireNonNull(resource.getOnState()).isOn(), is(true));
+        assertThat(Objects.requireNonNull(resource.getDimming()).getBrightness(), is(70.0));
+        CompletableFuture.allOf(on, dimming, dimming2).get(5, TimeUnit.SECONDS);
+        assertThat(sent.poll(300, TimeUnit.MILLISECONDS), is(nullValue()));
+    }
+
+    @Test
+    void newerColorReplacesPendingColorTemperature() throws Exception {
+        queue.submit(light("1").setOnState(new OnState().setOn(false)));
+        takeSent();
+
+        queue.submit(light("2").setColorTemperature(new ColorTemperature().setMirek(300)));
+        queue.submit(light("2").setColorXy(new ColorXy().setXY(new double[] { 0.3, 0.4 })));
+        release.countDown();
+
+        Resource resource = takeSent();
+        assertThat(resource.getColorTemperature(), is(nullValue()));
+        assertThat(resource.getColorXy(), is(notNullValue()));
+    }
+
+    @Test
+    void lightCommandsAreReplacedByGroupedLight() throws Exception {
+        queue.setGroupedLightMembers(Map.of("group", Set.of("1", "2", "3"), "other", Set.of("3", "4")));
+        List<CompletableFuture<Resources>> futures = List.of(
+                queue.submit(light("1").setOnState(new OnState().setOn(true))),
+                queue.submit(light("2").setOnState(new OnState().setOn(true))),
+                queue.submit(light("3").setOnState(new OnState().setOn(true))));
+        release.countDown();
+
+        // the first light may already have been sent before the others were queued
+        Resource resource = takeSent();
+        if (resource.getType() == ResourceType.LIGHT) {
+            assertThat(resource.getId(), is("1"));
+            resource = takeSent();
+        }
+        assertThat(resource.getType(), is(ResourceType.GROUPED_LIGHT));
+        assertThat(resource.getId(), is("group"));
+        assertThat(Objects.requireNonNull(resource.getOnState()).isOn(), is(true));
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        assertThat(sent.poll(300, TimeUnit.MILLISECONDS), is(nullValue()));
+    }
+
+    @Test
+    void differentLightCommandsAreNotGrouped() throws Exception {
+        queue.setGroupedLightMembers(Map.of("group", Set.of("1", "2", "3")));
+        queue.submit(light("1").setOnState(new OnState().setOn(true)));
+        queue.submit(light("2").setOnState(new OnState().setOn(true)));
+        queue.submit(light("3").setOnState(new OnState().setOn(false)));
+        release.countDown();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(takeSent().getType(), is(ResourceType.LIGHT));
+        }
+    }
+
+    @Test
+    void resourcesWithReportsAreMerged() throws Exception {
+        queue.submit(light("1").setOnState(new OnState().setOn(false)));
+        takeSent();
+
+        Resource buttonResource = Objects.requireNonNull(GSON.fromJson("{\"id\":\"2\",\"type\":\"button\",\"button\":"
+                + "{\"button_report\":{\"updated\":\"2025-01-02T03:04:05.678Z\",\"event\":\"short_release\"}}}",
+                Resource.class));
+        CompletableFuture<Resources> report = queue.submit(buttonResource);
+        CompletableFuture<Resources> enabled = queue
+                .submit(new Resource(ResourceType.BUTTON).setId("2").setEnabled(OnOffType.ON));
+        release.countDown();
+
+        Resource resource = takeSent();
+        assertThat(resource.getId(), is("2"));
+        assertThat(resource.getEnabled(), is(true));
+        Button button = Objects.requireNonNull(resource.getButton());
+        ButtonReport buttonReport = Objects.requireNonNull(button.getButtonReport());
+        assertThat(buttonReport.getLastChanged(), is(Instant.parse("2025-01-02T03:04:05.678Z")));
+        CompletableFuture.allOf(report, enabled).get(5, TimeUnit.SECONDS);
+    }
+
+    private Resource takeSent() throws InterruptedException {
+        return Objects.requireNonNull(sent.poll(5, TimeUnit.SECONDS));
+    }
+
+    private static Resource light(String id) {
+        return new Resource(ResourceType.LIGHT).setId(id);
+    }
+}
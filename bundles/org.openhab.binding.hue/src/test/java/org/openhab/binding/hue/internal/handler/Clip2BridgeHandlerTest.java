@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
+
+import com.google.gson.Gson;
+
+/**
+ * Tests the SSE event routing of the {@link Clip2BridgeHandler}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2BridgeHandlerTest {
+
+    private static final Gson GSON = new Gson();
+
+    @Test
+    void servicesAreOwnedByTheirDevice() {
+        Map<String, String> ownerIds = new HashMap<>();
+        Clip2BridgeHandler.addResourceOwnerIds(ownerIds, ResourceType.DEVICE,
+                List.of(resource("{\"id\":\"device1\",\"type\":\"device\",\"services\":["
+                        + "{\"rid\":\"light1\",\"rtype\":\"light\"},"
+                        + "{\"rid\":\"zigbee1\",\"rtype\":\"zigbee_connectivity\"}]}")));
+
+        assertEquals(Map.of("device1", "device1", "light1", "device1", "zigbee1", "device1"), ownerIds);
+    }
+
+    @Test
+    void scenesAreOwnedByTheirGroup() {
+        Map<String, String> ownerIds = new HashMap<>();
+        Clip2BridgeHandler.addResourceOwnerIds(ownerIds, ResourceType.SCENE, List.of(
+                resource("{\"id\":\"scene1\",\"type\":\"scene\",\"group\":{\"rid\":\"room1\",\"rtype\":\"room\"}}")));
+
+        assertEquals(Map.of("scene1", "room1"), ownerIds);
+    }
+
+    @Test
+    void resourcesOfMoreThanOneOwnerAreShared() {
+        Map<String, String> ownerIds = new HashMap<>();
+        Clip2BridgeHandler.addResourceOwnerIds(ownerIds, ResourceType.ROOM,
+                List.of(resource("{\"id\":\"room1\",\"type\":\"room\",\"services\":[{\"rid\":\"group1\"}]}")));
+        Clip2BridgeHandler.addResourceOwnerIds(ownerIds, ResourceType.ZONE,
+                List.of(resource("{\"id\":\"zone1\",\"type\":\"zone\",\"services\":[{\"rid\":\"group1\"}]}")));
+
+        assertEquals("room1", ownerIds.get("room1"));
+        assertEquals("zone1", ownerIds.get("zone1"));
+        assertEquals(Clip2BridgeHandler.SHARED_RESOURCE, ownerIds.get("group1"));
+    }
+
+    @Test
+    void resourcesAreRoutedToTheHandlersOfTheirOwner() {
+        Map<String, String> ownerIds = new HashMap<>();
+        Clip2BridgeHandler.addResourceOwnerIds(ownerIds, ResourceType.DEVICE, List.of(
+                resource("{\"id\":\"device1\",\"type\":\"device\",\"services\":[{\"rid\":\"light1\"}]}"),
+                resource("{\"id\":\"device2\",\"type\":\"device\",\"services\":[{\"rid\":\"light2\"}]}")));
+        Resource light1 = resource("{\"id\":\"light1\",\"type\":\"light\"}");
+        Resource light2 = resource("{\"id\":\"light2\",\"type\":\"light\"}");
+
+        Map<String, List<Resource>> routed = Clip2BridgeHandler.routeResources(List.of(light1, light2), ownerIds,
+                Map.of("device1", List.of("handler1"), "device2", List.of("handler2")));
+
+        assertEquals(Map.of("handler1", List.of(light1), "handler2", List.of(light2)), routed);
+    }
+
+    @Test
+    void unknownAndSharedResourcesAreBroadcast() {
+        Map<String, String> ownerIds = new HashMap<>();
+        ownerIds.put("group1", Clip2BridgeHandler.SHARED_RESOURCE);
+        Resource unknown = resource("{\"id\":\"unknown1\",\"type\":\"light\"}");
+        Resource shared = resource("{\"id\":\"group1\",\"type\":\"grouped_light\"}");
+
+        Map<String, List<Resource>> routed = Clip2BridgeHandler.routeResources(List.of(unknown, shared), ownerIds,
+                Map.of("room1", List.of("handler1"), "zone1", List.of("handler2")));
+
+        assertEquals(Map.of("handler1", List.of(unknown, shared), "handler2", List.of(unknown, shared)), routed);
+    }
+
+    private Resource resource(String json) {
+        Resource resource = GSON.fromJson(json, Resource.class);
+        assertNotNull(resource);
+        return resource;
+    }
+}
@@ -50,6 +50,7 @@ public class CameraConfig {
     private String motionOptions = "";
     private boolean ptzContinuous;
     private int gifPreroll;
+    private int mp4Preroll;
 
     public int getOnvifMediaProfile() {
         return onvifMediaProfile;
@@ -175,6 +176,10 @@ public class CameraConfig {
         return gifPreroll;
     }
 
+    public int getMp4Preroll() {
+        return mp4Preroll;
+    }
+
     public int getPort() {
         return port;
     }
@@ -48,6 +48,10 @@ public class IpCameraBindingConstants {
 
     public static final BigDecimal BIG_DECIMAL_SCALE_MOTION = new BigDecimal(5000);
     public static final long HLS_STARTUP_DELAY_MS = 4500;
+    // Maximum size of the buffers holding snapshots and HLS segments for recordings with a preroll
+    public static final long PREROLL_BUFFER_BYTES = 64 * 1024 * 1024;
+    // Longer MP4 recordings are not taken from the preroll buffer, but recorded by FFmpeg
+    public static final int MAX_BUFFERED_RECORD_SECONDS = 60;
     @SuppressWarnings("null")
     public static final int SERVLET_PORT = Integer.getInteger("org.osgi.service.http.port", 8080);
 
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+/**
+ * The {@link PrerollBuffer} keeps the most recent snapshots or video segments of a camera in memory outside of the
+ * java heap, so recordings can contain what happened before they were requested. The oldest entries are dropped when
+ * the buffer grows above its size limit.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class PrerollBuffer {
+    private record Entry(String name, Instant start, Instant end, ByteBuf data) {
+    }
+
+    /**
+     * Opens the stream an entry gets written to.
+     */
+    @FunctionalInterface
+    public interface OutputSupplier {
+        OutputStream open(int index) throws IOException;
+    }
+
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private final long maxBytes;
+    private long bytes;
+
+    /**
+     * @param maxBytes the maximum number of bytes stored
+     */
+    public PrerollBuffer(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Stores a copy of the data.
+     *
+     * @param name the name of the entry
+     * @param start the time the entry starts
+     * @param end the time the entry ends
+     * @param data the data
+     */
+    public void add(String name, Instant start, Instant end, byte[] data) {
+        add(name, start, end, ByteBufAllocator.DEFAULT.directBuffer(data.length).writeBytes(data));
+    }
+
+    /**
+     * Stores the content of a file.
+     *
+     * @param name the name of the entry
+     * @param start the time the entry starts
+     * @param end the time the entry ends
+     * @param file the file
+     * @throws IOException if the file can not be read
+     */
+    public void add(String name, Instant start, Instant end, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int size = (int) channel.size();
+            ByteBuf data = ByteBufAllocator.DEFAULT.directBuffer(size);
+            try {
+                while (data.writerIndex() < size) {
+                    if (data.writeBytes(channel, data.writerIndex(), size - data.writerIndex()) < 0) {
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                data.release();
+                throw e;
+            }
+            add(name, start, end, data);
+        }
+    }
+
+    private synchronized void add(String name, Instant start, Instant end, ByteBuf data) {
+        entries.addLast(new Entry(name, start, end, data));
+        bytes += data.readableBytes();
+        while (bytes > maxBytes && entries.size() > 1) {
+            removeFirst();
+        }
+    }
+
+    /**
+     * @param name the name of an entry
+     * @return true if an entry with this name is stored
+     */
+    public synchronized boolean contains(String name) {
+        return entries.stream().anyMatch(entry -> entry.name().equals(name));
+    }
+
+    /**
+     * @return the time the newest entry ends, or {@link Instant#MIN} if the buffer is empty
+     */
+    public synchronized Instant getEnd() {
+        Entry last = entries.peekLast();
+        return last == null ? Instant.MIN : last.end();
+    }
+
+    /**
+     * Removes the oldest entries until no more than the given number of entries are left.
+     *
+     * @param maxEntries the number of entries to keep
+     */
+    public synchronized void trimToSize(int maxEntries) {
+        while (entries.size() > maxEntries) {
+            removeFirst();
+        }
+    }
+
+    /**
+     * Removes all entries that end before the given time.
+     *
+     * @param time the time
+     */
+    public synchronized void removeBefore(Instant time) {
+        Entry first;
+        while ((first = entries.peekFirst()) != null && first.end().isBefore(time)) {
+            removeFirst();
+        }
+    }
+
+    /**
+     * Writes all entries that overlap with the given time range, one after the other, to a stream.
+     *
+     * @param output the stream
+     * @param from the start of the time range
+     * @param to the end of the time range
+     * @return the number of entries written
+     * @throws IOException if writing fails
+     */
+    public int writeTo(OutputStream output, Instant from, Instant to) throws IOException {
+        List<ByteBuf> selected = retain(from, to);
+        try {
+            for (ByteBuf data : selected) {
+                data.getBytes(data.readerIndex(), output, data.readableBytes());
+            }
+        } finally {
+            selected.forEach(ByteBuf::release);
+        }
+        return selected.size();
+    }
+
+    /**
+     * Writes each entry to its own stream, which is closed afterwards.
+     *
+     * @param outputs opens the stream for each entry
+     * @return the number of entries written
+     * @throws IOException if writing fails
+     */
+    public int writeEach(OutputSupplier outputs) throws IOException {
+        List<ByteBuf> selected = retain(Instant.MIN, Instant.MAX);
+        try {
+            for (int i = 0; i < selected.size(); i++) {
+                ByteBuf data = selected.get(i);
+                try (OutputStream output = outputs.open(i)) {
+                    data.getBytes(data.readerIndex(), output, data.readableBytes());
+                }
+            }
+        } finally {
+            selected.forEach(ByteBuf::release);
+        }
+        return selected.size();
+    }
+
+    public synchronized void clear() {
+        while (!entries.isEmpty()) {
+            removeFirst();
+        }
+    }
+
+    private synchronized List<ByteBuf> retain(Instant from, Instant to) {
+        // The data is retained, so it can be written without blocking new entries
+        List<ByteBuf> selected = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (!entry.end().isBefore(from) && !entry.start().isAfter(to)) {
+                selected.add(entry.data().retainedDuplicate());
+            }
+        }
+        return selected;
+    }
+
+    private void removeFirst() {
+        Entry first = entries.pollFirst();
+        if (first != null) {
+            bytes -= first.data().readableBytes();
+            first.data().release();
+        }
+    }
+}
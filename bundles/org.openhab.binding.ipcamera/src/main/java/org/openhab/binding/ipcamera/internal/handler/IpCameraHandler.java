@@ -15,24 +15,26 @@ package org.openhab.binding.ipcamera.internal.handler;
 import static org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.*;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.ProcessBuilder.Redirect;
 import java.math.BigDecimal;
 import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -59,6 +61,7 @@ import org.openhab.binding.ipcamera.internal.IpCameraActions;
 import org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.FFmpegFormat;
 import org.openhab.binding.ipcamera.internal.IpCameraDynamicStateDescriptionProvider;
 import org.openhab.binding.ipcamera.internal.MyNettyAuthHandler;
+import org.openhab.binding.ipcamera.internal.PrerollBuffer;
 import org.openhab.binding.ipcamera.internal.ReolinkHandler;
 import org.openhab.binding.ipcamera.internal.onvif.OnvifConnection;
 import org.openhab.binding.ipcamera.internal.servlet.CameraServlet;
@@ -151,6 +154,7 @@ public class IpCameraHandler extends BaseThingHandler {
     private @Nullable ScheduledFuture<?> pollCameraJob = null;
     private @Nullable ScheduledFuture<?> snapshotJob = null;
     private @Nullable ScheduledFuture<?> authenticationJob = null;
+    private @Nullable ScheduledFuture<?> segmentJob = null;
     private @Nullable Bootstrap mainBootstrap;
     private EventLoopGroup mainEventLoopGroup = new NioEventLoopGroup(1);
     private FullHttpRequest putRequestWithBody = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.PUT, "");
@@ -163,7 +167,9 @@ public class IpCameraHandler extends BaseThingHandler {
     private String mp4Filename = "ipcamera";
     private int mp4RecordTime;
     private int gifRecordTime = 5;
-    private LinkedList<byte[]> fifoSnapshotBuffer = new LinkedList<>();
+    private final PrerollBuffer snapshotBuffer = new PrerollBuffer(PREROLL_BUFFER_BYTES);
+    private final PrerollBuffer segmentBuffer = new PrerollBuffer(PREROLL_BUFFER_BYTES);
+    private final List<BufferedRecording> bufferedRecordings = new CopyOnWriteArrayList<>();
     private int snapCount;
     private boolean updateImageChannel = false;
     private byte lowPriorityCounter = 0;
@@ -197,6 +203,12 @@ public class IpCameraHandler extends BaseThingHandler {
     public boolean snapshotPolling = false;
     public OnvifConnection onvifCamera = new OnvifConnection(this, "", "", "");
 
+    /**
+     * A MP4 recording that is saved from the HLS segments in the preroll buffer once its end has been buffered.
+     */
+    private record BufferedRecording(String filename, Instant start, Instant end) {
+    }
+
     // These methods handle the response from all camera brands, nothing specific to 1 brand.
     private class CommonCameraHandler extends ChannelDuplexHandler {
         private int bytesToReceive = 0;
@@ -267,11 +279,9 @@ public class IpCameraHandler extends BaseThingHandler {
                 if (msg instanceof HttpContent content) {
                     if (mjpegUri.endsWith(requestUrl) && !(content instanceof LastHttpContent)) {
                         // multiple MJPEG stream packets come back as this.
-                        byte[] chunkedFrame = new byte[content.content().readableBytes()];
-                        content.content().getBytes(content.content().readerIndex(), chunkedFrame);
                         CameraServlet localServlet = servlet;
                         if (localServlet != null) {
-                            localServlet.openStreams.queueFrame(chunkedFrame);
+                            localServlet.openStreams.queueFrame(content.content());
                         }
                     } else {
                         // Found some cameras use Content-Type: image/jpg instead of image/jpeg
@@ -679,10 +689,9 @@ public class IpCameraHandler extends BaseThingHandler {
         try {
             currentSnapshot = incommingSnapshot;
             if (cameraConfig.getGifPreroll() > 0) {
-                fifoSnapshotBuffer.add(incommingSnapshot);
-                if (fifoSnapshotBuffer.size() > (cameraConfig.getGifPreroll() + gifRecordTime)) {
-                    fifoSnapshotBuffer.removeFirst();
-                }
+                Instant now = Instant.now();
+                snapshotBuffer.add("snapshot", now, now, incommingSnapshot);
+                snapshotBuffer.trimToSize(cameraConfig.getGifPreroll() + gifRecordTime);
             }
         } finally {
             lockCurrentSnapshot.unlock();
@@ -774,26 +783,125 @@ public class IpCameraHandler extends BaseThingHandler {
     }
 
     private void storeSnapshots() {
-        int count = 0;
-        // Need to lock as fifoSnapshotBuffer is not thread safe and new snapshots can be incoming.
-        lockCurrentSnapshot.lock();
         try {
-            for (byte[] foo : fifoSnapshotBuffer) {
-                File file = new File(cameraConfig.getFfmpegOutput() + "snapshot" + count + ".jpg");
-                count++;
+            snapshotBuffer.writeEach(
+                    index -> new FileOutputStream(cameraConfig.getFfmpegOutput() + "snapshot" + index + ".jpg"));
+        } catch (IOException e) {
+            logger.warn("IOException {}", e.getMessage());
+        }
+    }
+
+    private void startPreroll() {
+        setupFfmpegFormat(FFmpegFormat.HLS);
+        Ffmpeg localHLS = ffmpegHLS;
+        if (localHLS == null) {
+            return;
+        }
+        localHLS.setKeepAlive(-1); // The segments are needed all the time.
+        segmentJob = threadPool.scheduleWithFixedDelay(this::bufferHlsSegments, 1000, 1000, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Copies new segments listed in the HLS playlist into the preroll buffer, before FFmpeg deletes them, and saves
+     * the recordings whose end has been buffered.
+     */
+    void bufferHlsSegments() {
+        Path folder = Path.of(cameraConfig.getFfmpegOutput());
+        List<String> playlist;
+        try {
+            playlist = Files.readAllLines(folder.resolve("ipcamera.m3u8"));
+        } catch (IOException e) {
+            return; // FFmpeg has not created the playlist yet
+        }
+        double duration = 0;
+        for (String line : playlist) {
+            if (line.startsWith("#EXTINF:")) {
+                try {
+                    int endIndex = line.indexOf(",");
+                    duration = Double.parseDouble(line.substring(8, endIndex == -1 ? line.length() : endIndex));
+                } catch (NumberFormatException e) {
+                    duration = 0;
+                }
+            } else if (!line.isBlank() && !line.startsWith("#")) {
+                Path segment = folder.resolve(line.strip());
                 try {
-                    OutputStream fos = new FileOutputStream(file);
-                    fos.write(foo);
-                    fos.close();
-                } catch (FileNotFoundException e) {
-                    logger.warn("FileNotFoundException {}", e.getMessage());
+                    Instant end = Files.getLastModifiedTime(segment).toInstant();
+                    // FFmpeg starts numbering the segments from 0 again when it is restarted.
+                    String name = line.strip() + "@" + end.toEpochMilli();
+                    if (!segmentBuffer.contains(name)) {
+                        segmentBuffer.add(name, end.minusMillis((long) (duration * 1000)), end, segment);
+                    }
                 } catch (IOException e) {
-                    logger.warn("IOException {}", e.getMessage());
+                    logger.debug("Could not buffer the HLS segment {}: {}", line, e.getMessage());
                 }
             }
+        }
+        Instant now = Instant.now();
+        Instant keepFrom = now.minusSeconds(cameraConfig.getMp4Preroll());
+        Instant bufferedUntil = segmentBuffer.getEnd();
+        for (BufferedRecording recording : bufferedRecordings) {
+            // Give up waiting for the last segment after 10 seconds, in case FFmpeg stopped producing them.
+            if (!bufferedUntil.isBefore(recording.end()) || now.isAfter(recording.end().plusSeconds(10))) {
+                bufferedRecordings.remove(recording);
+                saveBufferedRecording(recording);
+            } else if (recording.start().isBefore(keepFrom)) {
+                keepFrom = recording.start();
+            }
+        }
+        segmentBuffer.removeBefore(keepFrom);
+    }
+
+    private void saveBufferedRecording(BufferedRecording recording) {
+        File segments = new File(cameraConfig.getFfmpegOutput() + recording.filename() + ".preroll.ts");
+        try (OutputStream output = new FileOutputStream(segments)) {
+            if (segmentBuffer.writeTo(output, recording.start(), recording.end()) == 0) {
+                logger.warn("The recording {} is empty, as no HLS segments were buffered.", recording.filename());
+            }
+        } catch (IOException e) {
+            logger.warn("Could not save the recording {}: {}", segments, e.getMessage());
+        }
+        threadPool.execute(() -> remuxRecording(segments, recording.filename()));
+    }
+
+    /**
+     * Copies the joined HLS segments into a MP4 file, without encoding them again.
+     */
+    private void remuxRecording(File segments, String filename) {
+        File file = new File(cameraConfig.getFfmpegOutput() + filename + ".mp4");
+        try {
+            Process process = new ProcessBuilder(cameraConfig.getFfmpegLocation(), "-y", "-hide_banner", "-loglevel",
+                    "warning", "-i", segments.getPath(), "-c", "copy", file.getPath()).redirectErrorStream(true)
+                    .redirectOutput(Redirect.DISCARD).start();
+            if (!process.waitFor(60, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                logger.warn("FFmpeg did not finish creating the recording {} in time.", file);
+            } else if (process.exitValue() != 0) {
+                logger.warn("FFmpeg could not create the recording {}, exit code {}.", file, process.exitValue());
+            }
+        } catch (IOException e) {
+            logger.warn("Could not start FFmpeg to create the recording {}: {}", file, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } finally {
-            lockCurrentSnapshot.unlock();
+            if (!segments.delete()) {
+                logger.debug("Could not delete the temporary file {}", segments);
+            }
+        }
+        setChannelState(CHANNEL_RECORDING_MP4, DecimalType.ZERO);
+        setChannelState(CHANNEL_MP4_HISTORY_LENGTH, new DecimalType(++mp4HistoryLength));
+    }
+
+    private void updateMp4History() {
+        if (mp4History.isEmpty()) {
+            mp4History = mp4Filename;
+        } else if (!"ipcamera".equals(mp4Filename)) {
+            mp4History = mp4Filename + "," + mp4History;
+            if (mp4HistoryLength > 49) {
+                int endIndex = mp4History.lastIndexOf(",");
+                mp4History = mp4History.substring(0, endIndex);
+            }
         }
+        setChannelState(CHANNEL_MP4_HISTORY, new StringType(mp4History));
     }
 
     public void setupFfmpegFormat(FFmpegFormat format) {
@@ -884,16 +992,7 @@ public class IpCameraHandler extends BaseThingHandler {
                         cameraConfig.getMp4OutOptions(), cameraConfig.getFfmpegOutput() + mp4Filename + ".mp4",
                         cameraConfig.getUser(), cameraConfig.getPassword());
                 ffmpegRecord.startConverting();
-                if (mp4History.isEmpty()) {
-                    mp4History = mp4Filename;
-                } else if (!"ipcamera".equals(mp4Filename)) {
-                    mp4History = mp4Filename + "," + mp4History;
-                    if (mp4HistoryLength > 49) {
-                        int endIndex = mp4History.lastIndexOf(",");
-                        mp4History = mp4History.substring(0, endIndex);
-                    }
-                }
-                setChannelState(CHANNEL_MP4_HISTORY, new StringType(mp4History));
+                updateMp4History();
                 break;
             case RTSP_ALARMS:
                 Ffmpeg localAlarms = ffmpegRtspHelper;
@@ -1044,7 +1143,15 @@ public class IpCameraHandler extends BaseThingHandler {
     public void recordMp4(String filename, int seconds) {
         mp4Filename = filename;
         mp4RecordTime = seconds;
-        setupFfmpegFormat(FFmpegFormat.RECORD);
+        if (segmentJob != null && seconds <= MAX_BUFFERED_RECORD_SECONDS) {
+            // No need to wait for FFmpeg to connect, the preroll and the rest are taken from the buffered segments.
+            Instant now = Instant.now();
+            bufferedRecordings.add(new BufferedRecording(filename, now.minusSeconds(cameraConfig.getMp4Preroll()),
+                    now.plusSeconds(seconds)));
+            updateMp4History();
+        } else {
+            setupFfmpegFormat(FFmpegFormat.RECORD);
+        }
         setChannelState(CHANNEL_RECORDING_MP4, DecimalType.valueOf(new String("" + seconds)));
     }
 
@@ -1190,7 +1297,7 @@ public class IpCameraHandler extends BaseThingHandler {
                         }
                     } else {
                         localHLS = ffmpegHLS;
-                        if (localHLS != null) {
+                        if (localHLS != null && segmentJob == null) {
                             // Still runs but will be able to auto stop when the HLS stream is no longer used.
                             localHLS.setKeepAlive(1);
                         }
@@ -1387,6 +1494,9 @@ public class IpCameraHandler extends BaseThingHandler {
         }
 
         pollCameraJob = threadPool.scheduleWithFixedDelay(this::pollCameraRunnable, 1000, 8000, TimeUnit.MILLISECONDS);
+        if (cameraConfig.getMp4Preroll() > 0) {
+            startPreroll();
+        }
 
         // auto restart mjpeg stream now camera is back online.
         CameraServlet localServlet = servlet;
@@ -1847,6 +1957,13 @@ public class IpCameraHandler extends BaseThingHandler {
             localFuture.cancel(true);
             cameraConnectionJob = null;
         }
+        localFuture = segmentJob;
+        if (localFuture != null) {
+            localFuture.cancel(true);
+            segmentJob = null;
+        }
+        bufferedRecordings.clear();
+        segmentBuffer.clear();
         Ffmpeg localFfmpeg = ffmpegHLS;
         if (localFfmpeg != null) {
             localFfmpeg.stopConverting();
@@ -1892,6 +2009,7 @@ public class IpCameraHandler extends BaseThingHandler {
             servlet = null;
         }
         threadPool.shutdown();
+        snapshotBuffer.clear();
         // inform all group handlers that this camera has gone offline
         groupTracker.listOfOnlineCameraHandlers.remove(this);
         groupTracker.listOfOnlineCameraUID.remove(getThing().getUID().getId());
@@ -20,6 +20,10 @@ import java.time.Instant;
 import java.util.Dictionary;
 import java.util.Hashtable;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.servlet.AsyncContext;
 import javax.servlet.ServletInputStream;
@@ -33,6 +37,7 @@ import org.openhab.binding.ipcamera.internal.Ffmpeg;
 import org.openhab.binding.ipcamera.internal.InstarHandler;
 import org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.FFmpegFormat;
 import org.openhab.binding.ipcamera.internal.handler.IpCameraHandler;
+import org.openhab.core.common.ThreadPoolManager;
 import org.osgi.service.http.HttpService;
 
 /**
@@ -51,6 +56,12 @@ public class CameraServlet extends IpCameraServlet {
     public OpenStreams openStreams = new OpenStreams();
     private OpenStreams openSnapshotStreams = new OpenStreams();
     private OpenStreams openAutoFpsStreams = new OpenStreams();
+    // snapshot based streams are fed by a job for all clients, instead of a sleeping thread per client
+    private final ScheduledExecutorService scheduler = ThreadPoolManager
+            .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
+    private @Nullable ScheduledFuture<?> snapshotStreamJob;
+    private @Nullable ScheduledFuture<?> autoFpsStreamJob;
+    private final AtomicInteger autoFpsCounter = new AtomicInteger();
 
     public CameraServlet(IpCameraHandler handler, HttpService httpService) {
         super(handler, httpService, INIT_PARAMETERS);
@@ -161,27 +172,12 @@ public class CameraServlet extends IpCameraServlet {
                 }
                 return;
             case "/snapshots.mjpeg":
-                handler.streamingSnapshotMjpeg = true;
-                handler.startSnapshotPolling();
                 StreamOutput output = new StreamOutput(resp);
-                openSnapshotStreams.addStream(output);
-                do {
-                    try {
-                        output.sendSnapshotBasedFrame(handler.getSnapshot());
-                        Thread.sleep(handler.cameraConfig.getPollTime());
-                    } catch (InterruptedException | IOException e) {
-                        // Never stop streaming until IOException. Occurs when browser stops the stream.
-                        openSnapshotStreams.removeStream(output);
-                        logger.debug("Now there are {} snapshots.mjpeg streams open.",
-                                openSnapshotStreams.getNumberOfStreams());
-                        if (openSnapshotStreams.isEmpty()) {
-                            handler.streamingSnapshotMjpeg = false;
-                            handler.stopSnapshotPolling();
-                            logger.debug("All snapshots.mjpeg streams have stopped.");
-                        }
-                        return;
-                    }
-                } while (true);
+                output.queueSnapshot(handler.getSnapshot());
+                openSnapshotStream(output);
+                final StreamOutput snapshotOutput = output;
+                output.startAsync(req.startAsync(req, resp), () -> snapshotStreamClosed(snapshotOutput));
+                return;
             case "/ipcamera.mjpeg":
                 if (openStreams.isEmpty()) {
                     logger.debug("First stream requested, opening up stream from camera");
@@ -202,57 +198,16 @@ public class CameraServlet extends IpCameraServlet {
                     output = new StreamOutput(resp, handler.mjpegContentType);
                 }
                 openStreams.addStream(output);
-                do {
-                    try {
-                        output.sendFrame();
-                    } catch (InterruptedException | IOException e) {
-                        // Never stop streaming until IOException. Occurs when browser stops the stream.
-                        openStreams.removeStream(output);
-                        logger.debug("Now there are {} ipcamera.mjpeg streams open.", openStreams.getNumberOfStreams());
-                        if (openStreams.isEmpty()) {
-                            if (output.isSnapshotBased) {
-                                Ffmpeg localMjpeg = handler.ffmpegMjpeg;
-                                if (localMjpeg != null) {
-                                    localMjpeg.stopConverting();
-                                    // Set reference to ffmpegMjpeg to null to prevent automatic reconnection
-                                    // in handler's pollCameraRunnable() check for frozen camera
-                                    handler.ffmpegMjpeg = null;
-                                }
-                            } else {
-                                handler.closeChannel(handler.getTinyUrl(handler.mjpegUri));
-                            }
-                            logger.debug("All ipcamera.mjpeg streams have stopped.");
-                        }
-                        return;
-                    }
-                } while (!openStreams.isEmpty());
+                final StreamOutput mjpegOutput = output;
+                output.startAsync(req.startAsync(req, resp), () -> mjpegStreamClosed(mjpegOutput));
+                return;
             case "/autofps.mjpeg":
-                handler.streamingAutoFps = true;
                 output = new StreamOutput(resp);
-                openAutoFpsStreams.addStream(output);
-                int counter = 0;
-                do {
-                    try {
-                        if (handler.motionDetected) {
-                            output.sendSnapshotBasedFrame(handler.getSnapshot());
-                        } // every 8 seconds if no motion or the first three snapshots to fill any FIFO
-                        else if (counter % 8 == 0 || counter < 3) {
-                            output.sendSnapshotBasedFrame(handler.getSnapshot());
-                        }
-                        counter++;
-                        Thread.sleep(1000);
-                    } catch (InterruptedException | IOException e) {
-                        // Never stop streaming until IOException. Occurs when browser stops the stream.
-                        openAutoFpsStreams.removeStream(output);
-                        logger.debug("Now there are {} autofps.mjpeg streams open.",
-                                openAutoFpsStreams.getNumberOfStreams());
-                        if (openAutoFpsStreams.isEmpty()) {
-                            handler.streamingAutoFps = false;
-                            logger.debug("All autofps.mjpeg streams have stopped.");
-                        }
-                        return;
-                    }
-                } while (true);
+                output.queueSnapshot(handler.getSnapshot());
+                openAutoFpsStream(output);
+                final StreamOutput autoFpsOutput = output;
+                output.startAsync(req.startAsync(req, resp), () -> autoFpsStreamClosed(autoFpsOutput));
+                return;
             case "/instar":
                 InstarHandler instar = new InstarHandler(handler);
                 instar.alarmTriggered(pathInfo + "?" + req.getQueryString());
@@ -272,6 +227,86 @@ public class CameraServlet extends IpCameraServlet {
         }
     }
 
+    private synchronized void openSnapshotStream(StreamOutput output) {
+        handler.streamingSnapshotMjpeg = true;
+        handler.startSnapshotPolling();
+        openSnapshotStreams.addStream(output);
+        ScheduledFuture<?> job = snapshotStreamJob;
+        if (job == null || job.isDone()) {
+            int pollTime = handler.cameraConfig.getPollTime();
+            snapshotStreamJob = scheduler.scheduleWithFixedDelay(
+                    () -> openSnapshotStreams.queueFrame(handler.getSnapshot()), pollTime, pollTime,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void snapshotStreamClosed(StreamOutput output) {
+        openSnapshotStreams.removeStream(output);
+        logger.debug("Now there are {} snapshots.mjpeg streams open.", openSnapshotStreams.getNumberOfStreams());
+        if (openSnapshotStreams.isEmpty()) {
+            snapshotStreamJob = cancel(snapshotStreamJob);
+            handler.streamingSnapshotMjpeg = false;
+            handler.stopSnapshotPolling();
+            logger.debug("All snapshots.mjpeg streams have stopped.");
+        }
+    }
+
+    private synchronized void openAutoFpsStream(StreamOutput output) {
+        handler.streamingAutoFps = true;
+        openAutoFpsStreams.addStream(output);
+        // the first snapshot has been queued already, the next two fill any FIFO of the new client
+        autoFpsCounter.set(1);
+        ScheduledFuture<?> job = autoFpsStreamJob;
+        if (job == null || job.isDone()) {
+            autoFpsStreamJob = scheduler.scheduleWithFixedDelay(this::sendAutoFpsFrame, 1000, 1000,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void sendAutoFpsFrame() {
+        int counter = autoFpsCounter.getAndIncrement();
+        // every 8 seconds if no motion or the first three snapshots to fill any FIFO
+        if (handler.motionDetected || counter % 8 == 0 || counter < 3) {
+            openAutoFpsStreams.queueFrame(handler.getSnapshot());
+        }
+    }
+
+    private synchronized void autoFpsStreamClosed(StreamOutput output) {
+        openAutoFpsStreams.removeStream(output);
+        logger.debug("Now there are {} autofps.mjpeg streams open.", openAutoFpsStreams.getNumberOfStreams());
+        if (openAutoFpsStreams.isEmpty()) {
+            autoFpsStreamJob = cancel(autoFpsStreamJob);
+            handler.streamingAutoFps = false;
+            logger.debug("All autofps.mjpeg streams have stopped.");
+        }
+    }
+
+    private static @Nullable ScheduledFuture<?> cancel(@Nullable ScheduledFuture<?> job) {
+        if (job != null) {
+            job.cancel(false);
+        }
+        return null;
+    }
+
+    private void mjpegStreamClosed(StreamOutput output) {
+        openStreams.removeStream(output);
+        logger.debug("Now there are {} ipcamera.mjpeg streams open.", openStreams.getNumberOfStreams());
+        if (openStreams.isEmpty()) {
+            if (output.isSnapshotBased) {
+                Ffmpeg localMjpeg = handler.ffmpegMjpeg;
+                if (localMjpeg != null) {
+                    localMjpeg.stopConverting();
+                    // Set reference to ffmpegMjpeg to null to prevent automatic reconnection
+                    // in handler's pollCameraRunnable() check for frozen camera
+                    handler.ffmpegMjpeg = null;
+                }
+            } else {
+                handler.closeChannel(handler.getTinyUrl(handler.mjpegUri));
+            }
+            logger.debug("All ipcamera.mjpeg streams have stopped.");
+        }
+    }
+
     @Override
     protected void sendFile(HttpServletResponse response, String filename, String contentType) throws IOException {
         // Ensure no files can be sourced from parent or child folders
@@ -284,6 +319,10 @@ public class CameraServlet extends IpCameraServlet {
         openStreams.closeAllStreams();
         openSnapshotStreams.closeAllStreams();
         openAutoFpsStreams.closeAllStreams();
+        synchronized (this) {
+            snapshotStreamJob = cancel(snapshotStreamJob);
+            autoFpsStreamJob = cancel(autoFpsStreamJob);
+        }
         super.dispose();
     }
 }
@@ -12,22 +12,32 @@
  */
 package org.openhab.binding.ipcamera.internal.servlet;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 
 /**
- * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all FIFO buffers to allow
- * 1 to many streams without needing to open more than 1 source stream.
+ * The {@link OpenStreams} Keeps track of all open mjpeg streams so the frames can be given to all streams to allow
+ * 1 to many streams without needing to open more than 1 source stream. A frame is stored once and shared by all
+ * streams.
  *
  * @author Matthew Skinner - Initial contribution
  */
 @NonNullByDefault
 public class OpenStreams {
-    private List<StreamOutput> openStreams = Collections.synchronizedList(new ArrayList<>());
+    private static final int PART_START_UNKNOWN = -2;
+
+    private final List<StreamOutput> openStreams = new CopyOnWriteArrayList<>();
     public String boundary = "thisMjpegStream";
+    private ByteBuf delimiter = Unpooled.wrappedBuffer(("--" + boundary).getBytes(StandardCharsets.US_ASCII));
 
     public synchronized void addStream(StreamOutput stream) {
         openStreams.add(stream);
@@ -47,14 +57,59 @@ public class OpenStreams {
 
     public synchronized void updateContentType(String contentType, String boundary) {
         this.boundary = boundary;
+        delimiter = Unpooled.wrappedBuffer(("--" + boundary).getBytes(StandardCharsets.US_ASCII));
         for (StreamOutput stream : openStreams) {
             stream.updateContentType(contentType);
         }
     }
 
-    public synchronized void queueFrame(byte[] frame) {
-        for (StreamOutput stream : openStreams) {
-            stream.queueFrame(frame);
+    public void queueFrame(byte[] frame) {
+        ByteBuf buffer = Unpooled.wrappedBuffer(frame);
+        try {
+            queueFrame(buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Queues a frame for all streams. The frame is copied at most once, the streams retain it until it is sent.
+     *
+     * @param frame the frame, which is not released by this method
+     */
+    public void queueFrame(ByteBuf frame) {
+        if (openStreams.isEmpty() || !frame.isReadable()) {
+            return;
+        }
+        // Streams write from the backing array, so direct buffers need to be copied
+        ByteBuf shared = frame.hasArray() ? frame.retain()
+                : ByteBufAllocator.DEFAULT.heapBuffer(frame.readableBytes()).writeBytes(frame, frame.readerIndex(),
+                        frame.readableBytes());
+        ByteBuf snapshotPart = null;
+        int partStart = PART_START_UNKNOWN;
+        try {
+            for (StreamOutput stream : openStreams) {
+                if (stream.isSnapshotBased) {
+                    if (snapshotPart == null) {
+                        snapshotPart = StreamOutput.createSnapshotPart(shared);
+                    }
+                    stream.queueSnapshotPart(snapshotPart);
+                } else {
+                    if (partStart == PART_START_UNKNOWN && stream.isWaitingForPart()) {
+                        partStart = ByteBufUtil.indexOf(delimiter, shared);
+                    }
+                    stream.queueFrame(shared, partStart);
+                }
+            }
+        } finally {
+            shared.release();
+            release(snapshotPart);
+        }
+    }
+
+    private void release(@Nullable ByteBuf buffer) {
+        if (buffer != null) {
+            buffer.release();
         }
     }
 
@@ -13,34 +13,63 @@
 package org.openhab.binding.ipcamera.internal.servlet;
 
 import java.io.IOException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+
 /**
  * The {@link StreamOutput} Streams mjpeg out to a client
  *
+ * Streams fed by {@link OpenStreams} are written with non-blocking IO, so no thread is needed per client. The frames
+ * are shared by all clients and are released once their write has completed, even if the stream was closed while
+ * writing. A client that can not keep up only gets the latest frames, the frames still in its queue are dropped.
+ *
  * @author Matthew Skinner - Initial contribution
  */
 @NonNullByDefault
-public class StreamOutput {
+public class StreamOutput implements WriteListener {
+    private static final String SNAPSHOT_BOUNDARY = "thisMjpegStream";
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+    // Maximum number of chunks of a native mjpeg stream queued for a client
+    private static final int MAX_QUEUED_FRAMES = 50;
+
     public final Logger logger = LoggerFactory.getLogger(getClass());
     private final HttpServletResponse response;
     private final String boundary;
     private String contentType;
     private final ServletOutputStream output;
-    private BlockingQueue<byte[]> fifo = new ArrayBlockingQueue<>(50);
+    private final Deque<ByteBuf> frames = new ArrayDeque<>();
+    // the buffer of the last write, which may still be in use by the container until the write has completed
+    private @Nullable ByteBuf pendingWrite;
+    private @Nullable AsyncContext asyncContext;
     private boolean connected = false;
+    private boolean closed = false;
+    // true until the container reports that the output is ready for the next write
+    private boolean waitingForWrite = true;
+    private boolean unflushed = false;
+    // chunks of a native mjpeg stream are skipped until the next part starts
+    private boolean waitingForPart = true;
+    private int skippedFrames = 0;
     public boolean isSnapshotBased = false;
 
     public StreamOutput(HttpServletResponse response) throws IOException {
-        boundary = "thisMjpegStream";
+        boundary = SNAPSHOT_BOUNDARY;
         contentType = "multipart/x-mixed-replace; boundary=" + boundary;
         this.response = response;
         output = response.getOutputStream();
@@ -58,6 +87,19 @@ public class StreamOutput {
         }
     }
 
+    /**
+     * Creates a multipart part for a jpg, so it can be shared by all snapshot based streams.
+     *
+     * @param jpg the jpg
+     * @return a new buffer, which needs to be released by the caller
+     */
+    static ByteBuf createSnapshotPart(ByteBuf jpg) {
+        byte[] header = ("--" + SNAPSHOT_BOUNDARY + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: "
+                + jpg.readableBytes() + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        ByteBuf part = ByteBufAllocator.DEFAULT.heapBuffer(header.length + jpg.readableBytes() + CRLF.length);
+        return part.writeBytes(header).writeBytes(jpg, jpg.readerIndex(), jpg.readableBytes()).writeBytes(CRLF);
+    }
+
     public void sendSnapshotBasedFrame(byte[] currentSnapshot) throws IOException {
         String header = "--" + boundary + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: "
                 + currentSnapshot.length + "\r\n\r\n";
@@ -74,17 +116,133 @@ public class StreamOutput {
         output.write("\r\n".getBytes());
     }
 
-    public void queueFrame(byte[] frame) {
+    /**
+     * Switches the stream to non-blocking IO. Queued frames are written whenever the client is ready to receive them.
+     *
+     * @param asyncContext the async context of the request
+     * @param onClose called once the stream is closed
+     */
+    public void startAsync(AsyncContext asyncContext, Runnable onClose) {
+        asyncContext.setTimeout(0);
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(@Nullable AsyncEvent event) {
+                // the response is complete, so no write is in progress anymore
+                synchronized (StreamOutput.this) {
+                    releasePendingWrite();
+                }
+                onClose.run();
+            }
+
+            @Override
+            public void onTimeout(@Nullable AsyncEvent event) {
+                close();
+            }
+
+            @Override
+            public void onError(@Nullable AsyncEvent event) {
+                close();
+            }
+
+            @Override
+            public void onStartAsync(@Nullable AsyncEvent event) {
+            }
+        });
+        synchronized (this) {
+            this.asyncContext = asyncContext;
+        }
+        output.setWriteListener(this);
+    }
+
+    /**
+     * @return true if chunks of a native mjpeg stream are only accepted from the start of the next part
+     */
+    synchronized boolean isWaitingForPart() {
+        return waitingForPart;
+    }
+
+    /**
+     * Queues a chunk of a native mjpeg stream.
+     *
+     * @param frame the chunk, which is retained as long as it is queued
+     * @param partStart the index in the chunk where a new part starts, or -1
+     */
+    void queueFrame(ByteBuf frame, int partStart) {
+        boolean success = true;
+        synchronized (this) {
+            if (closed || !connected) {
+                return;
+            }
+            if (waitingForPart) {
+                // give up waiting in case the start of a part is never found
+                if (partStart < 0 && ++skippedFrames < MAX_QUEUED_FRAMES) {
+                    return;
+                }
+                waitingForPart = false;
+                frames.add(partStart < 0 ? frame.retain()
+                        : frame.retainedSlice(partStart, frame.writerIndex() - partStart));
+            } else if (frames.size() >= MAX_QUEUED_FRAMES) {
+                logger.debug("Client can not keep up with the mjpeg stream, skipping to the next frame");
+                releaseFrames();
+                waitingForPart = true;
+                skippedFrames = 0;
+                return;
+            } else {
+                frames.add(frame.retain());
+            }
+            if (!waitingForWrite) {
+                success = writeFrames();
+            }
+        }
+        if (!success) {
+            close();
+        }
+    }
+
+    /**
+     * Queues a jpg for this stream only, e.g. so a client that just connected does not need to wait for the next
+     * snapshot of all streams.
+     *
+     * @param jpg the jpg
+     */
+    void queueSnapshot(byte[] jpg) {
+        ByteBuf part = createSnapshotPart(Unpooled.wrappedBuffer(jpg));
         try {
-            fifo.add(frame);
-        } catch (IllegalStateException e) {
-            logger.debug("FIFO buffer has run out of space: {}", e.getMessage());
-            fifo.remove();
-            fifo.add(frame);
+            queueSnapshotPart(part);
+        } finally {
+            part.release();
         }
     }
 
-    public void updateContentType(String contentType) {
+    /**
+     * Queues a part created by {@link #createSnapshotPart(ByteBuf)}, replacing all parts that are not sent yet.
+     *
+     * @param part the part, which is retained as long as it is queued
+     */
+    void queueSnapshotPart(ByteBuf part) {
+        boolean success = true;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            releaseFrames();
+            if (!connected) {
+                sendInitialHeaders();
+                // iOS needs to have two jpgs sent for the picture to appear instantly.
+                frames.add(part.retain());
+                connected = true;
+            }
+            frames.add(part.retain());
+            if (!waitingForWrite) {
+                success = writeFrames();
+            }
+        }
+        if (!success) {
+            close();
+        }
+    }
+
+    public synchronized void updateContentType(String contentType) {
         this.contentType = contentType;
         if (!connected) {
             sendInitialHeaders();
@@ -92,11 +250,77 @@ public class StreamOutput {
         }
     }
 
-    public void sendFrame() throws IOException, InterruptedException {
-        if (isSnapshotBased) {
-            sendSnapshotBasedFrame(fifo.take());
-        } else if (connected) {
-            output.write(fifo.take());
+    @Override
+    public void onWritePossible() {
+        boolean success = true;
+        synchronized (this) {
+            if (closed) {
+                // the write still in progress when the stream was closed has completed
+                releasePendingWrite();
+            } else {
+                success = writeFrames();
+            }
+        }
+        if (!success) {
+            close();
+        }
+    }
+
+    @Override
+    public void onError(@Nullable Throwable t) {
+        logger.debug("Stopped sending mjpeg stream: {}", t == null ? "" : t.getMessage());
+        synchronized (this) {
+            // the failed write no longer uses its buffer
+            releasePendingWrite();
+        }
+        close();
+    }
+
+    /**
+     * Writes queued frames as long as the output accepts them without blocking. Must be called holding the lock.
+     *
+     * @return false if writing failed
+     */
+    private boolean writeFrames() {
+        try {
+            while (output.isReady()) {
+                // the previous write has completed, so its buffer is no longer used
+                releasePendingWrite();
+                ByteBuf frame = frames.poll();
+                if (frame == null) {
+                    if (unflushed) {
+                        unflushed = false;
+                        output.flush();
+                        continue;
+                    }
+                    waitingForWrite = false;
+                    return true;
+                }
+                pendingWrite = frame;
+                unflushed = true;
+                output.write(frame.array(), frame.arrayOffset() + frame.readerIndex(), frame.readableBytes());
+            }
+            // the container calls onWritePossible() once the output is ready again
+            waitingForWrite = true;
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Stopped sending mjpeg stream: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void releasePendingWrite() {
+        ByteBuf localPendingWrite = pendingWrite;
+        if (localPendingWrite != null) {
+            localPendingWrite.release();
+            pendingWrite = null;
+        }
+    }
+
+    private void releaseFrames() {
+        ByteBuf frame;
+        while ((frame = frames.poll()) != null) {
+            frame.release();
         }
     }
 
@@ -107,9 +331,27 @@ public class StreamOutput {
     }
 
     public void close() {
-        try {
-            output.close();
-        } catch (IOException e) {
+        AsyncContext localAsyncContext;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            // the pending write is released once it has completed, the container may still be writing its buffer
+            releaseFrames();
+            localAsyncContext = asyncContext;
+        }
+        if (localAsyncContext != null) {
+            try {
+                localAsyncContext.complete();
+            } catch (IllegalStateException e) {
+                // already completed
+            }
+        } else {
+            try {
+                output.close();
+            } catch (IOException e) {
+            }
         }
     }
 }
@@ -15,10 +15,7 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
-import java.util.Set;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -47,6 +44,7 @@ import tuwien.auto.calimero.IndividualAddress;
 import tuwien.auto.calimero.KNXAddress;
 import tuwien.auto.calimero.KNXException;
 import tuwien.auto.calimero.KNXIllegalArgumentException;
+import tuwien.auto.calimero.KNXTimeoutException;
 import tuwien.auto.calimero.cemi.CEMILData;
 import tuwien.auto.calimero.cemi.CemiTData;
 import tuwien.auto.calimero.datapoint.CommandDP;
@@ -90,7 +88,6 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     private final ThingUID thingUID;
     private final int responseTimeout;
-    private final int readingPause;
     private final int autoReconnectPeriod;
     private final int readRetriesLimit;
     private final StatusUpdateCallback statusUpdateCallback;
@@ -107,8 +104,11 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    private final GroupAddressDispatcher dispatcher;
+    private final ReadScheduler readScheduler;
+    private final Object busJobLock = new Object();
+    // incremented whenever reading is started or stopped, so a read job of a previous connection stops rescheduling
+    private int readGeneration;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -148,12 +148,13 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         this.autoReconnectPeriod = autoReconnectPeriod;
         this.thingUID = thingUID;
         this.responseTimeout = responseTimeout;
-        this.readingPause = readingPause;
+        this.readScheduler = new ReadScheduler(readingPause);
         this.readRetriesLimit = readRetriesLimit;
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
         this.commandExtensionData = commandExtensionData;
         this.openhabSecurity = openhabSecurity;
+        this.dispatcher = new GroupAddressDispatcher(knxScheduler);
     }
 
     public void initialize() {
@@ -256,9 +257,12 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             // register this class, callbacks will be triggered
             link.addLinkListener(this);
 
-            // create a job carrying out read requests
-            busJob = knxScheduler.scheduleWithFixedDelay(this::readNextQueuedDatapoint, 0, readingPause,
-                    TimeUnit.MILLISECONDS);
+            // start the job carrying out read requests
+            int generation;
+            synchronized (busJobLock) {
+                generation = ++readGeneration;
+            }
+            scheduleNextRead(generation, 0);
 
             statusUpdateCallback.updateStatus(ThingStatus.ONLINE);
             connectJob = null;
@@ -312,8 +316,11 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (tmpLink != null) {
             tmpLink.removeLinkListener(this);
         }
-        readDatapoints.clear();
-        busJob = nullify(busJob, j -> j.cancel(true));
+        synchronized (busJobLock) {
+            readGeneration++;
+            busJob = nullify(busJob, j -> j.cancel(true));
+        }
+        readScheduler.clear();
         deviceInfoClient = null;
         managementProcedures = nullify(managementProcedures, ManagementProcedures::detach);
         managementClient = nullify(managementClient, ManagementClient::detach);
@@ -341,13 +348,9 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
-        }
+        readScheduler.recordTelegram();
+        boolean isHandled = dispatcher.dispatch(destination,
+                listener -> action.apply(listener, source, destination, asdu));
         // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
         // The idea is to store GA, message type, and size as key. The value counts the number of packets.
         if (!isHandled) {
@@ -364,9 +367,25 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         }
     }
 
-    // datapoint is null at end of the list, warning is misleading
-    @SuppressWarnings("null")
-    private void readNextQueuedDatapoint() {
+    private void scheduleNextRead(int generation, long delay) {
+        synchronized (busJobLock) {
+            if (generation == readGeneration) {
+                busJob = knxScheduler.schedule(() -> readNextQueuedDatapoint(generation), delay,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void readNextQueuedDatapoint(int generation) {
+        try {
+            readQueuedDatapoint();
+        } finally {
+            // the pause adapts to the bus load and response times, see ReadScheduler
+            scheduleNextRead(generation, readScheduler.nextPause(System.currentTimeMillis()));
+        }
+    }
+
+    private void readQueuedDatapoint() {
         if (!connectIfNotAutomatic()) {
             return;
         }
@@ -374,7 +393,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (processCommunicator == null) {
             return;
         }
-        ReadDatapoint datapoint = readDatapoints.poll();
+        ReadDatapoint datapoint = readScheduler.poll();
         if (datapoint != null) {
             // TODO #8872: allow write access, currently only listening mode
             if (openhabSecurity.groupKeys().containsKey(datapoint.getDatapoint().getMainAddress())) {
@@ -386,12 +405,17 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             datapoint.incrementRetries();
             try {
                 logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
+                long start = System.nanoTime();
                 processCommunicator.read(datapoint.getDatapoint());
+                readScheduler.recordResponse(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
             } catch (KNXException e) {
                 // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
                 // KnxIllegalArgumentException
+                if (e instanceof KNXTimeoutException) {
+                    readScheduler.recordTimeout();
+                }
                 if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
+                    readScheduler.add(datapoint);
                     logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
                             datapoint.getDatapoint().getMainAddress(), e.getMessage());
                 } else {
@@ -509,23 +533,18 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+        readScheduler.add(new ReadDatapoint(datapoint, readRetriesLimit, priority));
     }
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        dispatcher.register(listener);
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        dispatcher.unregister(listener);
     }
 
     @Override
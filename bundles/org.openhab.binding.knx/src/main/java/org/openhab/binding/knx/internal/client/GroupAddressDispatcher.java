@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * Dispatches incoming telegrams to the {@link GroupAddressListener}s interested in their destination.
+ * <p>
+ * Listeners are indexed by their group addresses when they are registered, so finding the listeners of a telegram
+ * does not depend on the number of registered listeners. Each listener has its own queue of notifications, which is
+ * processed by a single task on the executor. Telegrams arriving while the task is pending or running are delivered
+ * by the same task, in the order they were received.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class GroupAddressDispatcher {
+
+    // maximum number of notifications delivered by one task, so a busy listener does not block a scheduler thread
+    private static final int MAX_BATCH_SIZE = 64;
+
+    private final Logger logger = LoggerFactory.getLogger(GroupAddressDispatcher.class);
+
+    private final Executor executor;
+    private final Map<GroupAddress, Set<Mailbox>> index = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public GroupAddressDispatcher(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Register a listener for the group addresses it currently listens to. Registering a listener again updates its
+     * group addresses.
+     *
+     * @param listener the listener
+     */
+    public synchronized void register(GroupAddressListener listener) {
+        Mailbox previous = mailboxes.get(listener);
+        Mailbox mailbox = previous != null ? previous : new Mailbox(listener);
+        Set<GroupAddress> groupAddresses = Set.copyOf(listener.getGroupAddresses());
+        if (previous != null) {
+            removeFromIndex(previous);
+        }
+        mailbox.groupAddresses = groupAddresses;
+        for (GroupAddress groupAddress : groupAddresses) {
+            index.computeIfAbsent(groupAddress, k -> new CopyOnWriteArraySet<>()).add(mailbox);
+        }
+        mailboxes.put(listener, mailbox);
+    }
+
+    /**
+     * Remove a listener. Notifications which are already queued are still delivered.
+     *
+     * @param listener the listener
+     */
+    public synchronized void unregister(GroupAddressListener listener) {
+        Mailbox mailbox = mailboxes.remove(listener);
+        if (mailbox != null) {
+            removeFromIndex(mailbox);
+        }
+    }
+
+    /**
+     * Queue a notification for all listeners of the given group address.
+     *
+     * @param destination the destination of the telegram
+     * @param notification the notification to deliver to each listener
+     * @return <code>true</code> if at least one listener listens to the group address
+     */
+    public boolean dispatch(GroupAddress destination, Consumer<GroupAddressListener> notification) {
+        Set<Mailbox> candidates = index.get(destination);
+        if (candidates == null) {
+            return false;
+        }
+        boolean isHandled = false;
+        for (Mailbox mailbox : candidates) {
+            // the index is a snapshot taken at registration, the listener has the final say
+            if (mailbox.listener.listensTo(destination)) {
+                isHandled = true;
+                mailbox.post(notification);
+            }
+        }
+        return isHandled;
+    }
+
+    private void removeFromIndex(Mailbox mailbox) {
+        for (GroupAddress groupAddress : mailbox.groupAddresses) {
+            index.computeIfPresent(groupAddress, (k, v) -> {
+                v.remove(mailbox);
+                return v.isEmpty() ? null : v;
+            });
+        }
+    }
+
+    private class Mailbox implements Runnable {
+        private final GroupAddressListener listener;
+        private final Queue<Consumer<GroupAddressListener>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private Set<GroupAddress> groupAddresses = Set.of();
+
+        Mailbox(GroupAddressListener listener) {
+            this.listener = listener;
+        }
+
+        void post(Consumer<GroupAddressListener> notification) {
+            pending.add(notification);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            Consumer<GroupAddressListener> notification;
+            for (int i = 0; i < MAX_BATCH_SIZE && (notification = pending.poll()) != null; i++) {
+                try {
+                    notification.accept(listener);
+                } catch (RuntimeException e) {
+                    logger.warn("Error processing KNX telegram: {}", e.getMessage(), e);
+                }
+            }
+            scheduled.set(false);
+            // notifications added after the last poll, or left over from a full batch
+            if (!pending.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -61,7 +61,8 @@ public interface KNXClient {
     void restartNetworkDevice(@Nullable IndividualAddress address);
 
     /**
-     * Register the given listener to be informed on KNX bus traffic.
+     * Register the given listener to be informed on KNX bus traffic. The listener is registered for the group
+     * addresses it listens to at this time, register it again after they have changed.
      *
      * @param listener the listener
      */
@@ -79,7 +80,18 @@ public interface KNXClient {
      *
      * @param datapoint the datapoint
      */
-    void readDatapoint(Datapoint datapoint);
+    default void readDatapoint(Datapoint datapoint) {
+        readDatapoint(datapoint, ReadPriority.NORMAL);
+    }
+
+    /**
+     * Schedule the given data point for asynchronous reading. A data point is only queued once, data points with a
+     * higher priority are read first.
+     *
+     * @param datapoint the datapoint
+     * @param priority the priority of the read request
+     */
+    void readDatapoint(Datapoint datapoint, ReadPriority priority);
 
     /**
      * Write a command to the KNX bus.
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Priority of a queued read request, requests with a higher priority are sent to the KNX bus first.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public enum ReadPriority {
+    /** Reads of channels which have just been linked to an item */
+    HIGH,
+    /** Initial reads when a thing is initialized */
+    NORMAL,
+    /** Periodic reads refreshing a value */
+    LOW
+}
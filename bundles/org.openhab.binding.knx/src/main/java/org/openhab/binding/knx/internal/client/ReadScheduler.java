@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * Queue of the datapoints to be read from the KNX bus, which also determines the pause between two read requests.
+ * <p>
+ * Each group address is queued at most once. Requests are sent by priority, and in the order they were queued within
+ * the same priority. Queuing a group address again with a higher priority moves it to the higher priority.
+ * <p>
+ * The pause starts at the configured reading pause. It is doubled when the bus is busy, i.e. the observed telegram
+ * rate is above 60 % of the capacity of a TP1 line, or when responses take much longer than the fastest response
+ * seen so far. Otherwise, it is gradually reduced to the configured pause again.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ReadScheduler {
+
+    // a TP1 line transfers about 50 telegrams per second
+    private static final double BUS_CAPACITY = 50;
+    private static final double HIGH_BUS_LOAD = 0.6;
+    private static final long LOAD_WINDOW_MS = 1000;
+
+    // responses are slow if they take this much longer than the fastest response
+    private static final double SLOW_RESPONSE_FACTOR = 3;
+    private static final long SLOW_RESPONSE_MARGIN_MS = 20;
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private static final long MIN_BACKOFF_PAUSE_MS = 50;
+    private static final long MAX_PAUSE_MS = 2000;
+
+    private final Map<ReadPriority, LinkedHashMap<GroupAddress, ReadDatapoint>> queues = new EnumMap<>(
+            ReadPriority.class);
+    private final long minPause;
+
+    private final AtomicInteger telegramCount = new AtomicInteger();
+    private long windowStart;
+    private double busLoad;
+    private double averageLatency = -1;
+    private double fastestLatency = Double.MAX_VALUE;
+    private boolean timedOut;
+    private long pause;
+
+    /**
+     * @param minPause the configured pause in milliseconds between two read requests
+     */
+    public ReadScheduler(long minPause) {
+        this.minPause = Math.max(minPause, 1);
+        this.pause = this.minPause;
+        for (ReadPriority priority : ReadPriority.values()) {
+            queues.put(priority, new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Queue a datapoint to be read.
+     *
+     * @param datapoint the datapoint
+     * @return <code>false</code> if the datapoint is already queued with the same or a higher priority
+     */
+    public synchronized boolean add(ReadDatapoint datapoint) {
+        GroupAddress address = datapoint.getDatapoint().getMainAddress();
+        for (ReadPriority priority : ReadPriority.values()) {
+            LinkedHashMap<GroupAddress, ReadDatapoint> queue = getQueue(priority);
+            ReadDatapoint queued = queue.get(address);
+            if (queued == null) {
+                continue;
+            }
+            if (priority.compareTo(datapoint.getPriority()) <= 0) {
+                return false;
+            }
+            // keep the retries of the queued request
+            queue.remove(address);
+            queued.setPriority(datapoint.getPriority());
+            getQueue(datapoint.getPriority()).put(address, queued);
+            return true;
+        }
+        getQueue(datapoint.getPriority()).put(address, datapoint);
+        return true;
+    }
+
+    /**
+     * Get and remove the next datapoint to be read.
+     *
+     * @return the datapoint, or <code>null</code> if the queue is empty
+     */
+    public synchronized @Nullable ReadDatapoint poll() {
+        for (ReadPriority priority : ReadPriority.values()) {
+            Iterator<ReadDatapoint> iterator = getQueue(priority).values().iterator();
+            if (iterator.hasNext()) {
+                ReadDatapoint datapoint = iterator.next();
+                iterator.remove();
+                return datapoint;
+            }
+        }
+        return null;
+    }
+
+    public synchronized int size() {
+        return queues.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Remove all queued datapoints and forget the observed bus timing, e.g. after the connection was lost.
+     */
+    public synchronized void clear() {
+        queues.values().forEach(Map::clear);
+        telegramCount.set(0);
+        windowStart = 0;
+        busLoad = 0;
+        averageLatency = -1;
+        fastestLatency = Double.MAX_VALUE;
+        timedOut = false;
+        pause = minPause;
+    }
+
+    /**
+     * Count a telegram received from the bus, used to estimate the bus load.
+     */
+    public void recordTelegram() {
+        telegramCount.incrementAndGet();
+    }
+
+    /**
+     * Record the time it took until a read request was answered.
+     *
+     * @param latency the time in milliseconds
+     */
+    public synchronized void recordResponse(long latency) {
+        fastestLatency = Math.min(fastestLatency, latency);
+        averageLatency = averageLatency < 0 ? latency
+                : averageLatency + LATENCY_SMOOTHING * (latency - averageLatency);
+    }
+
+    /**
+     * Record a read request which was not answered.
+     */
+    public synchronized void recordTimeout() {
+        timedOut = true;
+    }
+
+    /**
+     * Determine the pause before the next read request.
+     *
+     * @param now the current time in milliseconds
+     * @return the pause in milliseconds
+     */
+    public synchronized long nextPause(long now) {
+        long elapsed = now - windowStart;
+        if (elapsed >= LOAD_WINDOW_MS) {
+            busLoad = windowStart == 0 ? 0 : telegramCount.get() * 1000.0 / elapsed / BUS_CAPACITY;
+            telegramCount.set(0);
+            windowStart = now;
+        }
+
+        if (timedOut || busLoad > HIGH_BUS_LOAD || isSlow()) {
+            pause = Math.min(Math.max(MAX_PAUSE_MS, minPause), Math.max(pause * 2, MIN_BACKOFF_PAUSE_MS));
+        } else {
+            pause = Math.max(minPause, pause - Math.max(pause / 4, 1));
+        }
+        timedOut = false;
+        return pause;
+    }
+
+    private boolean isSlow() {
+        return averageLatency >= 0 && averageLatency > Math.max(fastestLatency * SLOW_RESPONSE_FACTOR,
+                fastestLatency + SLOW_RESPONSE_MARGIN_MS);
+    }
+
+    private LinkedHashMap<GroupAddress, ReadDatapoint> getQueue(ReadPriority priority) {
+        return queues.computeIfAbsent(priority, p -> new LinkedHashMap<>());
+    }
+}
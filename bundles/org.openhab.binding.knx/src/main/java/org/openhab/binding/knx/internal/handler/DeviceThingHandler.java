@@ -39,6 +39,7 @@ import org.openhab.binding.knx.internal.client.DeviceInspector;
 import org.openhab.binding.knx.internal.client.InboundSpec;
 import org.openhab.binding.knx.internal.client.KNXClient;
 import org.openhab.binding.knx.internal.client.OutboundSpec;
+import org.openhab.binding.knx.internal.client.ReadPriority;
 import org.openhab.binding.knx.internal.config.DeviceConfig;
 import org.openhab.binding.knx.internal.dpt.DPTUnits;
 import org.openhab.binding.knx.internal.dpt.DPTUtil;
@@ -199,7 +200,8 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
             return;
         }
         if (!knxChannel.isControl()) {
-            scheduleRead(knxChannel);
+            // the item is waiting for its state, read it before other datapoints
+            scheduleRead(knxChannel, ReadPriority.HIGH);
         }
     }
 
@@ -207,39 +209,40 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         cancelReadFutures();
         for (KNXChannel knxChannel : knxChannels.values()) {
             if (isLinked(knxChannel.getChannelUID()) && !knxChannel.isControl()) {
-                scheduleRead(knxChannel);
+                scheduleRead(knxChannel, ReadPriority.NORMAL);
             }
         }
     }
 
-    private void scheduleRead(KNXChannel knxChannel) {
+    private void scheduleRead(KNXChannel knxChannel, ReadPriority priority) {
         List<InboundSpec> readSpecs = knxChannel.getReadSpec();
         for (InboundSpec readSpec : readSpecs) {
-            readSpec.getGroupAddresses().forEach(ga -> scheduleReadJob(ga, readSpec.getDPT()));
+            readSpec.getGroupAddresses().forEach(ga -> scheduleReadJob(ga, readSpec.getDPT(), priority));
         }
     }
 
-    private void scheduleReadJob(GroupAddress groupAddress, String dpt) {
+    private void scheduleReadJob(GroupAddress groupAddress, String dpt, ReadPriority priority) {
+        getScheduler().submit(() -> readDatapoint(groupAddress, dpt, priority));
         if (readInterval > 0) {
             ScheduledFuture<?> future = readFutures.get(groupAddress);
             if (future == null || future.isDone() || future.isCancelled()) {
-                future = getScheduler().scheduleWithFixedDelay(() -> readDatapoint(groupAddress, dpt), 0, readInterval,
+                // periodic refreshes are read after initial reads
+                future = getScheduler().scheduleWithFixedDelay(
+                        () -> readDatapoint(groupAddress, dpt, ReadPriority.LOW), readInterval, readInterval,
                         TimeUnit.SECONDS);
                 readFutures.put(groupAddress, future);
             }
-        } else {
-            getScheduler().submit(() -> readDatapoint(groupAddress, dpt));
         }
     }
 
-    private void readDatapoint(GroupAddress groupAddress, String dpt) {
+    private void readDatapoint(GroupAddress groupAddress, String dpt, ReadPriority priority) {
         if (getClient().isConnected()) {
             if (DPTUtil.getAllowedTypes(dpt).isEmpty()) {
                 logger.warn("DPT '{}' is not supported by the KNX binding", dpt);
                 return;
             }
             Datapoint datapoint = new CommandDP(groupAddress, getThing().getUID().toString(), 0, dpt);
-            getClient().readDatapoint(datapoint);
+            getClient().readDatapoint(datapoint, priority);
         }
     }
 
@@ -248,6 +251,11 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         return groupAddresses.contains(destination);
     }
 
+    @Override
+    public Set<GroupAddress> getGroupAddresses() {
+        return groupAddresses;
+    }
+
     /** Handling commands triggered from openHAB */
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.knx.internal.handler;
 
+import java.util.Set;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.knx.internal.client.BusMessageListener;
 
@@ -33,4 +35,12 @@ public interface GroupAddressListener extends BusMessageListener {
      * @param destination
      */
     boolean listensTo(GroupAddress destination);
+
+    /**
+     * Get the Group Addresses the GroupAddressListener currently listens to. The client indexes the listener by these
+     * addresses when it is registered.
+     *
+     * @return the group addresses
+     */
+    Set<GroupAddress> getGroupAddresses();
 }
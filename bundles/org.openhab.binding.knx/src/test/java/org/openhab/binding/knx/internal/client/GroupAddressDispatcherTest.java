@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class GroupAddressDispatcherTest {
+
+    private static final GroupAddress GA_1 = new GroupAddress(1, 2, 3);
+    private static final GroupAddress GA_2 = new GroupAddress(1, 2, 4);
+    private static final GroupAddress GA_UNKNOWN = new GroupAddress(5, 6, 7);
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final GroupAddressDispatcher dispatcher = new GroupAddressDispatcher(tasks::add);
+
+    private GroupAddressListener createListener(GroupAddress... groupAddresses) {
+        Set<GroupAddress> addresses = Set.of(groupAddresses);
+        GroupAddressListener listener = mock(GroupAddressListener.class);
+        when(listener.getGroupAddresses()).thenReturn(addresses);
+        when(listener.listensTo(any())).thenAnswer(i -> addresses.contains(i.getArgument(0)));
+        return listener;
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    @Test
+    void testDispatchToInterestedListenersOnly() {
+        GroupAddressListener listener1 = createListener(GA_1);
+        GroupAddressListener listener2 = createListener(GA_1, GA_2);
+        dispatcher.register(listener1);
+        dispatcher.register(listener2);
+        List<GroupAddressListener> notified = new ArrayList<>();
+
+        assertTrue(dispatcher.dispatch(GA_2, notified::add));
+        assertFalse(dispatcher.dispatch(GA_UNKNOWN, notified::add));
+        runTasks();
+
+        assertEquals(List.of(listener2), notified);
+        verify(listener1, never()).listensTo(GA_2);
+    }
+
+    @Test
+    void testTelegramsAreBatchedPerListener() {
+        GroupAddressListener listener = createListener(GA_1, GA_2);
+        dispatcher.register(listener);
+        List<GroupAddress> received = new ArrayList<>();
+
+        dispatcher.dispatch(GA_1, l -> received.add(GA_1));
+        dispatcher.dispatch(GA_2, l -> received.add(GA_2));
+        dispatcher.dispatch(GA_1, l -> received.add(GA_1));
+
+        assertEquals(1, tasks.size());
+        runTasks();
+        assertEquals(List.of(GA_1, GA_2, GA_1), received);
+    }
+
+    @Test
+    void testUnregisterAndRegisterAgain() {
+        GroupAddressListener listener = createListener(GA_1);
+        dispatcher.register(listener);
+        dispatcher.unregister(listener);
+        assertFalse(dispatcher.dispatch(GA_1, l -> fail()));
+
+        GroupAddressListener changed = createListener(GA_2);
+        dispatcher.register(changed);
+        when(changed.getGroupAddresses()).thenReturn(Set.of(GA_1));
+        when(changed.listensTo(any())).thenAnswer(i -> GA_1.equals(i.getArgument(0)));
+        dispatcher.register(changed);
+        assertFalse(dispatcher.dispatch(GA_2, l -> fail()));
+        assertTrue(dispatcher.dispatch(GA_1, l -> {
+        }));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.CommandDP;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class ReadSchedulerTest {
+
+    private static final long READING_PAUSE = 10;
+
+    private final ReadScheduler scheduler = new ReadScheduler(READING_PAUSE);
+
+    private ReadDatapoint datapoint(int subGroup, ReadPriority priority) {
+        return new ReadDatapoint(new CommandDP(new GroupAddress(1, 1, subGroup), "test", 0, "1.001"), 3, priority);
+    }
+
+    private int pollSubGroup() {
+        ReadDatapoint datapoint = Objects.requireNonNull(scheduler.poll());
+        return datapoint.getDatapoint().getMainAddress().getSubGroup8();
+    }
+
+    @Test
+    void testDuplicatesAreQueuedOnce() {
+        assertTrue(scheduler.add(datapoint(1, ReadPriority.NORMAL)));
+        assertFalse(scheduler.add(datapoint(1, ReadPriority.NORMAL)));
+        assertFalse(scheduler.add(datapoint(1, ReadPriority.LOW)));
+        assertEquals(1, scheduler.size());
+    }
+
+    @Test
+    void testHigherPriorityIsReadFirst() {
+        scheduler.add(datapoint(1, ReadPriority.LOW));
+        scheduler.add(datapoint(2, ReadPriority.NORMAL));
+        scheduler.add(datapoint(3, ReadPriority.NORMAL));
+        scheduler.add(datapoint(4, ReadPriority.HIGH));
+        // queued again with a higher priority
+        assertTrue(scheduler.add(datapoint(1, ReadPriority.HIGH)));
+
+        assertEquals(4, pollSubGroup());
+        assertEquals(1, pollSubGroup());
+        assertEquals(2, pollSubGroup());
+        assertEquals(3, pollSubGroup());
+        assertNull(scheduler.poll());
+    }
+
+    @Test
+    void testPauseAdaptsToResponseTime() {
+        long now = 1000;
+        scheduler.recordResponse(5);
+        assertEquals(READING_PAUSE, scheduler.nextPause(now));
+
+        for (int i = 0; i < 10; i++) {
+            scheduler.recordResponse(500);
+        }
+        long pause = scheduler.nextPause(now);
+        assertTrue(pause > READING_PAUSE);
+        assertTrue(scheduler.nextPause(now) > pause);
+
+        for (int i = 0; i < 30; i++) {
+            scheduler.recordResponse(5);
+        }
+        for (int i = 0; i < 30; i++) {
+            pause = scheduler.nextPause(now);
+        }
+        assertEquals(READING_PAUSE, pause);
+    }
+
+    @Test
+    void testPauseAdaptsToBusLoad() {
+        assertEquals(READING_PAUSE, scheduler.nextPause(1000));
+        for (int i = 0; i < 100; i++) {
+            scheduler.recordTelegram();
+        }
+        assertTrue(scheduler.nextPause(2000) > READING_PAUSE);
+    }
+
+    @Test
+    void testClearResetsQueueAndPause() {
+        scheduler.add(datapoint(1, ReadPriority.NORMAL));
+        scheduler.recordTimeout();
+        assertTrue(scheduler.nextPause(1000) > READING_PAUSE);
+
+        scheduler.clear();
+        assertEquals(0, scheduler.size());
+        assertEquals(READING_PAUSE, scheduler.nextPause(1000));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.matter.internal.client;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.matter.internal.client.dto.cluster.gen.BaseCluster;
+import org.openhab.binding.matter.internal.client.dto.cluster.gen.ClusterRegistry;
+
+/**
+ * Lookup tables from cluster ids and names to the generated cluster classes, and from attribute names to the fields
+ * holding them.
+ * <p>
+ * The attribute table of a cluster class is built once on first use, so decoding messages does not need to look up
+ * classes or fields.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+final class ClusterBindingTable {
+
+    /**
+     * The field holding an attribute of a cluster.
+     *
+     * @param field the field
+     * @param type the generic type of the field, used to decode the attribute value
+     */
+    record AttributeBinding(Field field, Type type) {
+        void set(Object cluster, @Nullable Object value) throws IllegalAccessException {
+            field.set(cluster, value);
+        }
+    }
+
+    private static final class ClusterBindings {
+        private final Map<String, AttributeBinding> attributes = new HashMap<>();
+        private final Map<String, Optional<Class<?>>> eventClasses = new ConcurrentHashMap<>();
+
+        ClusterBindings(Class<?> clusterClass) {
+            // fields of a subclass hide those of its super classes
+            for (Class<?> clazz = clusterClass; clazz != null; clazz = clazz.getSuperclass()) {
+                for (Field field : clazz.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !attributes.containsKey(field.getName())) {
+                        field.setAccessible(true);
+                        attributes.put(field.getName(), new AttributeBinding(field, field.getGenericType()));
+                    }
+                }
+            }
+        }
+    }
+
+    private static final ClassValue<ClusterBindings> BINDINGS = new ClassValue<>() {
+        @Override
+        protected ClusterBindings computeValue(Class<?> type) {
+            return new ClusterBindings(type);
+        }
+    };
+
+    private ClusterBindingTable() {
+        // prevent instantiation
+    }
+
+    static @Nullable Class<? extends BaseCluster> getClusterClass(@Nullable Integer clusterId) {
+        return ClusterRegistry.CLUSTER_IDS.get(clusterId);
+    }
+
+    static @Nullable Class<? extends BaseCluster> getClusterClass(String clusterName) {
+        return ClusterRegistry.CLUSTER_NAMES.get(clusterName);
+    }
+
+    /**
+     * Get the field holding an attribute.
+     *
+     * @param clusterClass the cluster class
+     * @param attributeName the name of the attribute
+     * @return the binding, or <code>null</code> if the cluster has no such attribute
+     */
+    static @Nullable AttributeBinding getAttribute(Class<?> clusterClass, String attributeName) {
+        return BINDINGS.get(clusterClass).attributes.get(attributeName);
+    }
+
+    /**
+     * Get the class of the data of an event, which is a nested class of the cluster class.
+     *
+     * @param clusterClass the cluster class
+     * @param eventName the name of the event
+     * @return the class, or <code>null</code> if the cluster has no class for the event
+     */
+    static @Nullable Class<?> getEventClass(Class<?> clusterClass, String eventName) {
+        return BINDINGS.get(clusterClass).eventClasses.computeIfAbsent(eventName, name -> {
+            String className = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            try {
+                return Optional.of(Class.forName(clusterClass.getName() + "$" + className));
+            } catch (ClassNotFoundException e) {
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+}
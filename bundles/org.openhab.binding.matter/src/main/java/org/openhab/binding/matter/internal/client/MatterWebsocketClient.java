@@ -13,8 +13,6 @@
 package org.openhab.binding.matter.internal.client;
 
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.math.BigInteger;
 import java.net.URI;
@@ -41,11 +39,12 @@ import org.eclipse.jetty.websocket.api.WebSocketListener;
 import org.eclipse.jetty.websocket.api.WebSocketPolicy;
 import org.eclipse.jetty.websocket.client.ClientUpgradeRequest;
 import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.openhab.binding.matter.internal.client.ClusterBindingTable.AttributeBinding;
+import org.openhab.binding.matter.internal.client.WebSocketMessageDecoder.DecodedMessage;
 import org.openhab.binding.matter.internal.client.dto.Endpoint;
 import org.openhab.binding.matter.internal.client.dto.Node;
 import org.openhab.binding.matter.internal.client.dto.cluster.gen.BaseCluster;
 import org.openhab.binding.matter.internal.client.dto.cluster.gen.BaseCluster.OctetString;
-import org.openhab.binding.matter.internal.client.dto.cluster.gen.ClusterRegistry;
 import org.openhab.binding.matter.internal.client.dto.ws.AttributeChangedMessage;
 import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventAttributeChanged;
 import org.openhab.binding.matter.internal.client.dto.ws.BridgeEventMessage;
@@ -70,13 +69,13 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 import com.google.gson.JsonSyntaxException;
-import com.google.gson.reflect.TypeToken;
 
 /**
  * A client for the Matter WebSocket API for communicating with a Matter controller
@@ -102,6 +101,8 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
             .registerTypeAdapter(OctetString.class, new OctetStringDeserializer())
             .registerTypeAdapter(OctetString.class, new OctetStringSerializer()).create();
 
+    private final WebSocketMessageDecoder messageDecoder = new WebSocketMessageDecoder(gson);
+
     protected final WebSocketClient client = new WebSocketClient();
     protected final ConcurrentHashMap<String, CompletableFuture<JsonElement>> pendingRequests = new ConcurrentHashMap<>();
     protected final CopyOnWriteArrayList<MatterClientListener> clientListeners = new CopyOnWriteArrayList<>();
@@ -244,7 +245,23 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
     public void onWebSocketText(@Nullable String msg) {
         logger.debug("onWebSocketText {}", msg);
         scheduler.submit(() -> {
-            Message message = gson.fromJson(msg, Message.class);
+            if (msg == null) {
+                logger.debug("invalid Message");
+                return;
+            }
+            DecodedMessage decoded;
+            try {
+                decoded = messageDecoder.decode(msg);
+            } catch (IOException | IllegalStateException | JsonParseException e) {
+                logger.debug("invalid Message: {}", e.getMessage());
+                return;
+            }
+            AttributeChangedMessage attributeChanged = decoded.attributeChanged();
+            if (attributeChanged != null) {
+                notifyAttributeChanged(attributeChanged);
+                return;
+            }
+            Message message = decoded.message();
             if (message == null) {
                 logger.debug("invalid Message");
                 return;
@@ -283,13 +300,7 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
                             logger.debug("invalid AttributeChangedMessage");
                             return;
                         }
-                        for (MatterClientListener listener : clientListeners) {
-                            try {
-                                listener.onEvent(changedMessage);
-                            } catch (Exception e) {
-                                logger.debug("Error notifying listener", e);
-                            }
-                        }
+                        notifyAttributeChanged(changedMessage);
                         break;
                     case "eventTriggered":
                         logger.debug("eventTriggered message {}", event.data);
@@ -379,6 +390,16 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
         });
     }
 
+    private void notifyAttributeChanged(AttributeChangedMessage changedMessage) {
+        for (MatterClientListener listener : clientListeners) {
+            try {
+                listener.onEvent(changedMessage);
+            } catch (Exception e) {
+                logger.debug("Error notifying listener", e);
+            }
+        }
+    }
+
     @Override
     public void onWebSocketClose(int statusCode, @Nullable String reason) {
         logger.debug("onWebSocketClose {} {}", statusCode, reason);
@@ -481,17 +502,16 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
                 String clusterName = clusterEntry.getKey();
                 JsonElement clusterElement = clusterEntry.getValue();
                 logger.trace("Cluster {}", clusterEntry);
-                try {
-                    Class<?> clazz = Class.forName(BaseCluster.class.getPackageName() + "." + clusterName + "Cluster");
-                    if (BaseCluster.class.isAssignableFrom(clazz)) {
-                        BaseCluster cluster = context.deserialize(clusterElement, clazz);
-                        deserializeFields(cluster, clusterElement, clazz, context);
-                        endpoint.clusters.put(clusterName, cluster);
-                        logger.trace("deserializeEndpoint adding cluster {} to endpoint {}", clusterName,
-                                endpoint.number);
-                    }
-                } catch (ClassNotFoundException e) {
+                Class<? extends BaseCluster> clazz = ClusterBindingTable.getClusterClass(clusterName);
+                if (clazz == null) {
                     logger.debug("Cluster not found: {}", clusterName);
+                    continue;
+                }
+                try {
+                    BaseCluster cluster = context.deserialize(clusterElement, clazz);
+                    deserializeFields(cluster, clusterElement, clazz, context);
+                    endpoint.clusters.put(clusterName, cluster);
+                    logger.trace("deserializeEndpoint adding cluster {} to endpoint {}", clusterName, endpoint.number);
                 } catch (JsonSyntaxException | IllegalArgumentException | SecurityException
                         | IllegalAccessException e) {
                     logger.debug("Exception for cluster {}", clusterName, e);
@@ -517,39 +537,15 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
             JsonObject jsonObject = jsonElement.getAsJsonObject();
             for (Map.Entry<String, JsonElement> entry : jsonObject.entrySet()) {
                 String fieldName = entry.getKey();
-                JsonElement element = entry.getValue();
-
-                try {
-                    Field field = getField(clazz, fieldName);
-                    field.setAccessible(true);
-
-                    if (List.class.isAssignableFrom(field.getType())) {
-                        // Handle lists generically
-                        Type fieldType = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
-                        List<?> list = context.deserialize(element,
-                                TypeToken.getParameterized(List.class, fieldType).getType());
-                        field.set(instance, list);
-                    } else {
-                        // Handle normal fields
-                        Object fieldValue = context.deserialize(element, field.getType());
-                        field.set(instance, fieldValue);
-                    }
-                } catch (NoSuchFieldException e) {
+                AttributeBinding binding = ClusterBindingTable.getAttribute(clazz, fieldName);
+                if (binding == null) {
                     logger.trace("Skipping field {}", fieldName);
+                    continue;
                 }
-            }
-        }
-
-        private Field getField(Class<?> clazz, String fieldName) throws NoSuchFieldException {
-            try {
-                return clazz.getDeclaredField(fieldName);
-            } catch (NoSuchFieldException e) {
-                Class<?> superClass = clazz.getSuperclass();
-                if (superClass == null) {
-                    throw e;
-                } else {
-                    return getField(superClass, fieldName);
-                }
+                // lists are decoded with their element type, e.g. List<Integer> instead of a raw List
+                Type fieldType = List.class.isAssignableFrom(binding.field().getType()) ? binding.type()
+                        : binding.field().getType();
+                binding.set(instance, context.deserialize(entry.getValue(), fieldType));
             }
         }
     }
@@ -565,55 +561,11 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
             Long version = jsonObject.get("version").getAsLong();
 
             JsonElement valueElement = jsonObject.get("value");
-            Object value = null;
-
-            // Use ClusterRegistry to find the cluster class
-            Class<? extends BaseCluster> clusterClass = ClusterRegistry.CLUSTER_IDS.get(path.clusterId);
-            if (clusterClass != null) {
-                try {
-                    // Use reflection to find the field type
-                    Field field = getField(clusterClass, path.attributeName);
-                    if (field != null) {
-                        value = context.deserialize(valueElement, field.getType());
-                    }
-                } catch (NoSuchFieldException e) {
-                    logger.debug("Field not found for attribute: {}", path.attributeName, e);
-                }
-            }
-
-            if (value == null) {
-                // Fallback to primitive types if no specific class is found
-                if (valueElement.isJsonPrimitive()) {
-                    JsonPrimitive primitive = valueElement.getAsJsonPrimitive();
-                    if (primitive.isNumber()) {
-                        value = primitive.getAsNumber();
-                    } else if (primitive.isString()) {
-                        value = primitive.getAsString();
-                    } else if (primitive.isBoolean()) {
-                        value = primitive.getAsBoolean();
-                    }
-                } else if (valueElement.isJsonArray()) {
-                    value = context.deserialize(valueElement.getAsJsonArray(), List.class);
-                } else {
-                    value = valueElement.toString();
-                }
-            }
+            Object value = WebSocketMessageDecoder.decodeValue(gson, path,
+                    valueElement != null ? valueElement : JsonNull.INSTANCE);
 
             return new AttributeChangedMessage(path, version, value);
         }
-
-        private Field getField(Class<?> clazz, String fieldName) throws NoSuchFieldException {
-            try {
-                return clazz.getDeclaredField(fieldName);
-            } catch (NoSuchFieldException e) {
-                Class<?> superClass = clazz.getSuperclass();
-                if (superClass == null) {
-                    throw e;
-                } else {
-                    return getField(superClass, fieldName);
-                }
-            }
-        }
     }
 
     /**
@@ -655,20 +607,17 @@ public class MatterWebsocketClient implements WebSocketListener, MatterWebsocket
             JsonArray eventsArray = jsonObject.getAsJsonArray("events");
 
             TriggerEvent[] events = new TriggerEvent[eventsArray.size()];
-            Class<? extends BaseCluster> clusterClass = ClusterRegistry.CLUSTER_IDS.get(path.clusterId);
-
-            String eventName = path.eventName;
-            String className = Character.toUpperCase(eventName.charAt(0)) + eventName.substring(1);
+            Class<? extends BaseCluster> clusterClass = ClusterBindingTable.getClusterClass(path.clusterId);
+            Class<?> eventClass = clusterClass != null ? ClusterBindingTable.getEventClass(clusterClass, path.eventName)
+                    : null;
+            if (clusterClass != null && eventClass == null) {
+                logger.debug("Event class not found for event: {}", path.eventName);
+            }
             for (int i = 0; i < eventsArray.size(); i++) {
                 JsonObject eventObject = eventsArray.get(i).getAsJsonObject();
                 TriggerEvent event = context.deserialize(eventObject, TriggerEvent.class);
-                if (clusterClass != null) {
-                    try {
-                        Class<?> eventClass = Class.forName(clusterClass.getName() + "$" + className);
-                        event.data = context.deserialize(eventObject.get("data"), eventClass);
-                    } catch (ClassNotFoundException e) {
-                        logger.debug("Event class not found for event: {}", path.eventName, e);
-                    }
+                if (eventClass != null) {
+                    event.data = context.deserialize(eventObject.get("data"), eventClass);
                 }
                 events[i] = event;
             }
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.matter.internal.client;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.matter.internal.client.ClusterBindingTable.AttributeBinding;
+import org.openhab.binding.matter.internal.client.dto.ws.AttributeChangedMessage;
+import org.openhab.binding.matter.internal.client.dto.ws.Message;
+import org.openhab.binding.matter.internal.client.dto.ws.Path;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Decodes the messages sent by the Matter controller in a single pass over the websocket message.
+ * <p>
+ * The controller sends an attribute report as
+ * <code>{"type":"event","message":{"type":"attributeChanged","data":{"path":{...},"version":1,"value":...}}}</code>.
+ * Attribute reports are by far the most frequent messages, so they are decoded without building a JSON tree: the
+ * value is decoded directly into the type of the attribute field, which is looked up in the
+ * {@link ClusterBindingTable} by the path preceding it. Values arriving before their path are buffered. The body of
+ * all other messages, and of attribute reports with their data before their type, is read into a JSON tree.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class WebSocketMessageDecoder {
+
+    /**
+     * A decoded websocket message, which is either an attribute report or a generic message.
+     *
+     * @param message the generic message, or <code>null</code> for an attribute report
+     * @param attributeChanged the attribute report, or <code>null</code> for any other message
+     */
+    record DecodedMessage(@Nullable Message message, @Nullable AttributeChangedMessage attributeChanged) {
+    }
+
+    private final Gson gson;
+    private final TypeAdapter<Path> pathAdapter;
+    private final TypeAdapter<JsonObject> objectAdapter;
+
+    WebSocketMessageDecoder(Gson gson) {
+        this.gson = gson;
+        this.pathAdapter = gson.getAdapter(Path.class);
+        this.objectAdapter = gson.getAdapter(JsonObject.class);
+    }
+
+    /**
+     * Decode a websocket message.
+     *
+     * @param json the websocket message
+     * @return the attribute report, or the generic message for everything else
+     * @throws IOException if the message is not valid JSON
+     * @throws IllegalStateException if the message does not have the expected structure
+     * @throws JsonParseException if the message cannot be decoded
+     */
+    DecodedMessage decode(String json) throws IOException {
+        JsonReader reader = new JsonReader(new StringReader(json));
+        Message message = new Message();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type" -> message.type = readString(reader);
+                case "message" -> {
+                    if ("event".equals(message.type) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                        JsonObject event = new JsonObject();
+                        AttributeChangedMessage attributeChanged = readEvent(reader, event);
+                        if (attributeChanged != null) {
+                            return new DecodedMessage(null, attributeChanged);
+                        }
+                        message.message = event;
+                    } else {
+                        message.message = objectAdapter.read(reader);
+                    }
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new DecodedMessage(message, null);
+    }
+
+    /**
+     * Read the body of an event, decoding the data of an attribute report straight away.
+     *
+     * @param reader the reader positioned at the event
+     * @param event receives the fields of any other event
+     * @return the attribute report, or <code>null</code> if the event is something else
+     */
+    private @Nullable AttributeChangedMessage readEvent(JsonReader reader, JsonObject event) throws IOException {
+        String type = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("data".equals(name) && "attributeChanged".equals(type)) {
+                return readAttributeChanged(reader);
+            }
+            JsonElement element = JsonParser.parseReader(reader);
+            if ("type".equals(name) && element.isJsonPrimitive()) {
+                type = element.getAsString();
+            }
+            event.add(name, element);
+        }
+        reader.endObject();
+        return null;
+    }
+
+    private AttributeChangedMessage readAttributeChanged(JsonReader reader) throws IOException {
+        Path path = null;
+        Long version = null;
+        Object value = null;
+        JsonElement bufferedValue = JsonNull.INSTANCE;
+        boolean decoded = false;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "path" -> path = pathAdapter.read(reader);
+                case "version" -> version = reader.nextLong();
+                case "value" -> {
+                    AttributeBinding binding = path != null ? getBinding(path) : null;
+                    if (binding != null && reader.peek() != JsonToken.NULL) {
+                        value = gson.getAdapter(binding.field().getType()).read(reader);
+                        decoded = value != null;
+                    } else {
+                        bufferedValue = JsonParser.parseReader(reader);
+                    }
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (path == null || version == null) {
+            throw new JsonParseException("Attribute report without path or version");
+        }
+        if (!decoded) {
+            value = decodeValue(gson, path, bufferedValue);
+        }
+        return new AttributeChangedMessage(path, version, value);
+    }
+
+    private static @Nullable AttributeBinding getBinding(Path path) {
+        Class<?> clusterClass = ClusterBindingTable.getClusterClass(path.clusterId);
+        if (clusterClass == null || path.attributeName == null) {
+            return null;
+        }
+        return ClusterBindingTable.getAttribute(clusterClass, path.attributeName);
+    }
+
+    /**
+     * Decode an attribute value into the type of the attribute. Values of unknown attributes are decoded as plain
+     * numbers, strings, booleans or lists.
+     *
+     * @param gson the Gson instance
+     * @param path the path of the attribute
+     * @param valueElement the value
+     * @return the decoded value
+     */
+    static @Nullable Object decodeValue(Gson gson, Path path, JsonElement valueElement) {
+        AttributeBinding binding = getBinding(path);
+        if (binding != null) {
+            Object value = gson.fromJson(valueElement, binding.field().getType());
+            if (value != null) {
+                return value;
+            }
+        }
+        if (valueElement.isJsonPrimitive()) {
+            JsonPrimitive primitive = valueElement.getAsJsonPrimitive();
+            if (primitive.isNumber()) {
+                return primitive.getAsNumber();
+            } else if (primitive.isString()) {
+                return primitive.getAsString();
+            } else if (primitive.isBoolean()) {
+                return primitive.getAsBoolean();
+            }
+            return null;
+        } else if (valueElement.isJsonArray()) {
+            return gson.fromJson(valueElement.getAsJsonArray(), List.class);
+        } else {
+            return valueElement.toString();
+        }
+    }
+
+    private static @Nullable String readString(JsonReader reader) throws IOException {
+        JsonElement element = JsonParser.parseReader(reader);
+        return element.isJsonPrimitive() ? element.getAsString() : null;
+    }
+}
@@ -27,6 +27,7 @@ import java.util.Map;
 public class ClusterRegistry {
 
     public static final Map<Integer, Class<? extends BaseCluster>> CLUSTER_IDS = new HashMap<>();
+    public static final Map<String, Class<? extends BaseCluster>> CLUSTER_NAMES = new HashMap<>();
     static {
         CLUSTER_IDS.put(31, AccessControlCluster.class);
         CLUSTER_IDS.put(1294, AccountLoginCluster.class);
@@ -146,5 +147,127 @@ public class ClusterRegistry {
         CLUSTER_IDS.put(54, WiFiNetworkDiagnosticsCluster.class);
         CLUSTER_IDS.put(1105, WiFiNetworkManagementCluster.class);
         CLUSTER_IDS.put(258, WindowCoveringCluster.class);
+        CLUSTER_NAMES.put("AccessControl", AccessControlCluster.class);
+        CLUSTER_NAMES.put("AccountLogin", AccountLoginCluster.class);
+        CLUSTER_NAMES.put("Actions", ActionsCluster.class);
+        CLUSTER_NAMES.put("ActivatedCarbonFilterMonitoring", ActivatedCarbonFilterMonitoringCluster.class);
+        CLUSTER_NAMES.put("AdministratorCommissioning", AdministratorCommissioningCluster.class);
+        CLUSTER_NAMES.put("AirQuality", AirQualityCluster.class);
+        CLUSTER_NAMES.put("ApplicationBasic", ApplicationBasicCluster.class);
+        CLUSTER_NAMES.put("ApplicationLauncher", ApplicationLauncherCluster.class);
+        CLUSTER_NAMES.put("AudioOutput", AudioOutputCluster.class);
+        CLUSTER_NAMES.put("BallastConfiguration", BallastConfigurationCluster.class);
+        CLUSTER_NAMES.put("BasicInformation", BasicInformationCluster.class);
+        CLUSTER_NAMES.put("Binding", BindingCluster.class);
+        CLUSTER_NAMES.put("BooleanState", BooleanStateCluster.class);
+        CLUSTER_NAMES.put("BooleanStateConfiguration", BooleanStateConfigurationCluster.class);
+        CLUSTER_NAMES.put("BridgedDeviceBasicInformation", BridgedDeviceBasicInformationCluster.class);
+        CLUSTER_NAMES.put("CarbonDioxideConcentrationMeasurement", CarbonDioxideConcentrationMeasurementCluster.class);
+        CLUSTER_NAMES.put("CarbonMonoxideConcentrationMeasurement",
+                CarbonMonoxideConcentrationMeasurementCluster.class);
+        CLUSTER_NAMES.put("Channel", ChannelCluster.class);
+        CLUSTER_NAMES.put("ColorControl", ColorControlCluster.class);
+        CLUSTER_NAMES.put("CommissionerControl", CommissionerControlCluster.class);
+        CLUSTER_NAMES.put("ContentAppObserver", ContentAppObserverCluster.class);
+        CLUSTER_NAMES.put("ContentControl", ContentControlCluster.class);
+        CLUSTER_NAMES.put("ContentLauncher", ContentLauncherCluster.class);
+        CLUSTER_NAMES.put("Descriptor", DescriptorCluster.class);
+        CLUSTER_NAMES.put("DeviceEnergyManagement", DeviceEnergyManagementCluster.class);
+        CLUSTER_NAMES.put("DeviceEnergyManagementMode", DeviceEnergyManagementModeCluster.class);
+        CLUSTER_NAMES.put("DiagnosticLogs", DiagnosticLogsCluster.class);
+        CLUSTER_NAMES.put("DishwasherAlarm", DishwasherAlarmCluster.class);
+        CLUSTER_NAMES.put("DishwasherMode", DishwasherModeCluster.class);
+        CLUSTER_NAMES.put("DoorLock", DoorLockCluster.class);
+        CLUSTER_NAMES.put("EcosystemInformation", EcosystemInformationCluster.class);
+        CLUSTER_NAMES.put("ElectricalEnergyMeasurement", ElectricalEnergyMeasurementCluster.class);
+        CLUSTER_NAMES.put("ElectricalPowerMeasurement", ElectricalPowerMeasurementCluster.class);
+        CLUSTER_NAMES.put("EnergyEvse", EnergyEvseCluster.class);
+        CLUSTER_NAMES.put("EnergyEvseMode", EnergyEvseModeCluster.class);
+        CLUSTER_NAMES.put("EnergyPreference", EnergyPreferenceCluster.class);
+        CLUSTER_NAMES.put("EthernetNetworkDiagnostics", EthernetNetworkDiagnosticsCluster.class);
+        CLUSTER_NAMES.put("FanControl", FanControlCluster.class);
+        CLUSTER_NAMES.put("FixedLabel", FixedLabelCluster.class);
+        CLUSTER_NAMES.put("FlowMeasurement", FlowMeasurementCluster.class);
+        CLUSTER_NAMES.put("FormaldehydeConcentrationMeasurement", FormaldehydeConcentrationMeasurementCluster.class);
+        CLUSTER_NAMES.put("GeneralCommissioning", GeneralCommissioningCluster.class);
+        CLUSTER_NAMES.put("GeneralDiagnostics", GeneralDiagnosticsCluster.class);
+        CLUSTER_NAMES.put("GroupKeyManagement", GroupKeyManagementCluster.class);
+        CLUSTER_NAMES.put("Groups", GroupsCluster.class);
+        CLUSTER_NAMES.put("HepaFilterMonitoring", HepaFilterMonitoringCluster.class);
+        CLUSTER_NAMES.put("IcdManagement", IcdManagementCluster.class);
+        CLUSTER_NAMES.put("Identify", IdentifyCluster.class);
+        CLUSTER_NAMES.put("IlluminanceMeasurement", IlluminanceMeasurementCluster.class);
+        CLUSTER_NAMES.put("JointFabricDatastore", JointFabricDatastoreCluster.class);
+        CLUSTER_NAMES.put("JointFabricPki", JointFabricPkiCluster.class);
+        CLUSTER_NAMES.put("KeypadInput", KeypadInputCluster.class);
+        CLUSTER_NAMES.put("LaundryDryerControls", LaundryDryerControlsCluster.class);
+        CLUSTER_NAMES.put("LaundryWasherControls", LaundryWasherControlsCluster.class);
+        CLUSTER_NAMES.put("LaundryWasherMode", LaundryWasherModeCluster.class);
+        CLUSTER_NAMES.put("LevelControl", LevelControlCluster.class);
+        CLUSTER_NAMES.put("LocalizationConfiguration", LocalizationConfigurationCluster.class);
+        CLUSTER_NAMES.put("LowPower", LowPowerCluster.class);
+        CLUSTER_NAMES.put("MediaInput", MediaInputCluster.class);
+        CLUSTER_NAMES.put("MediaPlayback", MediaPlaybackCluster.class);
+        CLUSTER_NAMES.put("MicrowaveOvenControl", MicrowaveOvenControlCluster.class);
+        CLUSTER_NAMES.put("MicrowaveOvenMode", MicrowaveOvenModeCluster.class);
+        CLUSTER_NAMES.put("ModeSelect", ModeSelectCluster.class);
+        CLUSTER_NAMES.put("NetworkCommissioning", NetworkCommissioningCluster.class);
+        CLUSTER_NAMES.put("NitrogenDioxideConcentrationMeasurement",
+                NitrogenDioxideConcentrationMeasurementCluster.class);
+        CLUSTER_NAMES.put("OccupancySensing", OccupancySensingCluster.class);
+        CLUSTER_NAMES.put("OnOff", OnOffCluster.class);
+        CLUSTER_NAMES.put("OperationalCredentials", OperationalCredentialsCluster.class);
+        CLUSTER_NAMES.put("OperationalState", OperationalStateCluster.class);
+        CLUSTER_NAMES.put("OtaSoftwareUpdateProvider", OtaSoftwareUpdateProviderCluster.class);
+        CLUSTER_NAMES.put("OtaSoftwareUpdateRequestor", OtaSoftwareUpdateRequestorCluster.class);
+        CLUSTER_NAMES.put("OvenCavityOperationalState", OvenCavityOperationalStateCluster.class);
+        CLUSTER_NAMES.put("OvenMode", OvenModeCluster.class);
+        CLUSTER_NAMES.put("OzoneConcentrationMeasurement", OzoneConcentrationMeasurementCluster.class);
+        CLUSTER_NAMES.put("Pm10ConcentrationMeasurement", Pm10ConcentrationMeasurementCluster.class);
+        CLUSTER_NAMES.put("Pm1ConcentrationMeasurement", Pm1ConcentrationMeasurementCluster.class);
+        CLUSTER_NAMES.put("Pm25ConcentrationMeasurement", Pm25ConcentrationMeasurementCluster.class);
+        CLUSTER_NAMES.put("PowerSource", PowerSourceCluster.class);
+        CLUSTER_NAMES.put("PowerSourceConfiguration", PowerSourceConfigurationCluster.class);
+        CLUSTER_NAMES.put("PowerTopology", PowerTopologyCluster.class);
+        CLUSTER_NAMES.put("PressureMeasurement", PressureMeasurementCluster.class);
+        CLUSTER_NAMES.put("ProxyConfiguration", ProxyConfigurationCluster.class);
+        CLUSTER_NAMES.put("ProxyDiscovery", ProxyDiscoveryCluster.class);
+        CLUSTER_NAMES.put("PumpConfigurationAndControl", PumpConfigurationAndControlCluster.class);
+        CLUSTER_NAMES.put("RadonConcentrationMeasurement", RadonConcentrationMeasurementCluster.class);
+        CLUSTER_NAMES.put("RefrigeratorAlarm", RefrigeratorAlarmCluster.class);
+        CLUSTER_NAMES.put("RefrigeratorAndTemperatureControlledCabinetMode",
+                RefrigeratorAndTemperatureControlledCabinetModeCluster.class);
+        CLUSTER_NAMES.put("RelativeHumidityMeasurement", RelativeHumidityMeasurementCluster.class);
+        CLUSTER_NAMES.put("RvcCleanMode", RvcCleanModeCluster.class);
+        CLUSTER_NAMES.put("RvcOperationalState", RvcOperationalStateCluster.class);
+        CLUSTER_NAMES.put("RvcRunMode", RvcRunModeCluster.class);
+        CLUSTER_NAMES.put("ScenesManagement", ScenesManagementCluster.class);
+        CLUSTER_NAMES.put("ServiceArea", ServiceAreaCluster.class);
+        CLUSTER_NAMES.put("SmokeCoAlarm", SmokeCoAlarmCluster.class);
+        CLUSTER_NAMES.put("SoftwareDiagnostics", SoftwareDiagnosticsCluster.class);
+        CLUSTER_NAMES.put("Switch", SwitchCluster.class);
+        CLUSTER_NAMES.put("TargetNavigator", TargetNavigatorCluster.class);
+        CLUSTER_NAMES.put("TemperatureControl", TemperatureControlCluster.class);
+        CLUSTER_NAMES.put("TemperatureMeasurement", TemperatureMeasurementCluster.class);
+        CLUSTER_NAMES.put("Thermostat", ThermostatCluster.class);
+        CLUSTER_NAMES.put("ThermostatUserInterfaceConfiguration", ThermostatUserInterfaceConfigurationCluster.class);
+        CLUSTER_NAMES.put("ThreadBorderRouterManagement", ThreadBorderRouterManagementCluster.class);
+        CLUSTER_NAMES.put("ThreadNetworkDiagnostics", ThreadNetworkDiagnosticsCluster.class);
+        CLUSTER_NAMES.put("ThreadNetworkDirectory", ThreadNetworkDirectoryCluster.class);
+        CLUSTER_NAMES.put("TimeFormatLocalization", TimeFormatLocalizationCluster.class);
+        CLUSTER_NAMES.put("TimeSynchronization", TimeSynchronizationCluster.class);
+        CLUSTER_NAMES.put("TotalVolatileOrganicCompoundsConcentrationMeasurement",
+                TotalVolatileOrganicCompoundsConcentrationMeasurementCluster.class);
+        CLUSTER_NAMES.put("UnitLocalization", UnitLocalizationCluster.class);
+        CLUSTER_NAMES.put("UserLabel", UserLabelCluster.class);
+        CLUSTER_NAMES.put("ValidProxies", ValidProxiesCluster.class);
+        CLUSTER_NAMES.put("ValveConfigurationAndControl", ValveConfigurationAndControlCluster.class);
+        CLUSTER_NAMES.put("WakeOnLan", WakeOnLanCluster.class);
+        CLUSTER_NAMES.put("WaterHeaterManagement", WaterHeaterManagementCluster.class);
+        CLUSTER_NAMES.put("WaterHeaterMode", WaterHeaterModeCluster.class);
+        CLUSTER_NAMES.put("WaterTankLevelMonitoring", WaterTankLevelMonitoringCluster.class);
+        CLUSTER_NAMES.put("WiFiNetworkDiagnostics", WiFiNetworkDiagnosticsCluster.class);
+        CLUSTER_NAMES.put("WiFiNetworkManagement", WiFiNetworkManagementCluster.class);
+        CLUSTER_NAMES.put("WindowCovering", WindowCoveringCluster.class);
     }
 }
@@ -14,7 +14,9 @@ package org.openhab.binding.matter.internal.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.io.IOException;
 import java.math.BigInteger;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -313,4 +315,113 @@ class MatterWebsocketClientTest {
         assertNotNull(occupancyBitmap);
         assertEquals(true, occupancyBitmap.occupied);
     }
+
+    @Test
+    void testDecodeAttributeChangedEvent() throws IOException {
+        String json = """
+                {
+                    "type": "event",
+                    "message": {
+                        "type": "attributeChanged",
+                        "data": {
+                            "path": {
+                                "nodeId": "4643639431978709653",
+                                "endpointId": 6,
+                                "clusterId": 1030,
+                                "attributeId": 0,
+                                "attributeName": "occupancy"
+                            },
+                            "version": 2038225370,
+                            "value": {
+                                "occupied": true
+                            }
+                        }
+                    }
+                }
+                """;
+        AttributeChangedMessage message = new WebSocketMessageDecoder(client.getGson()).decode(json).attributeChanged();
+        assertNotNull(message);
+        assertEquals(new BigInteger("4643639431978709653"), message.path.nodeId);
+        assertEquals(2038225370L, message.version);
+        OccupancySensingCluster.OccupancyBitmap occupancyBitmap = (OccupancySensingCluster.OccupancyBitmap) message.value;
+        assertNotNull(occupancyBitmap);
+        assertEquals(true, occupancyBitmap.occupied);
+    }
+
+    @Test
+    void testDecodeAttributeChangedEventWithValueBeforePath() throws IOException {
+        String json = """
+                {
+                    "type": "event",
+                    "message": {
+                        "type": "attributeChanged",
+                        "data": {
+                            "value": true,
+                            "version": 1,
+                            "path": {
+                                "clusterId": 6,
+                                "attributeName": "onOff"
+                            }
+                        }
+                    }
+                }
+                """;
+        AttributeChangedMessage message = new WebSocketMessageDecoder(client.getGson()).decode(json).attributeChanged();
+        assertNotNull(message);
+        assertEquals(OnOffCluster.ATTRIBUTE_ON_OFF, message.path.attributeName);
+        assertEquals(Boolean.TRUE, message.value);
+    }
+
+    @Test
+    void testDecodeOtherMessageKeepsItsBody() throws IOException {
+        String json = """
+                {
+                    "type": "event",
+                    "message": {
+                        "type": "nodeStateInformation",
+                        "data": {
+                            "nodeId": "1",
+                            "state": "CONNECTED"
+                        }
+                    }
+                }
+                """;
+        WebSocketMessageDecoder.DecodedMessage decoded = new WebSocketMessageDecoder(client.getGson()).decode(json);
+        assertNull(decoded.attributeChanged());
+        Message message = decoded.message();
+        assertNotNull(message);
+        assertEquals("event", message.type);
+        assertEquals("nodeStateInformation", message.message.get("type").getAsString());
+        assertEquals("CONNECTED", message.message.getAsJsonObject("data").get("state").getAsString());
+    }
+
+    @Test
+    void testDecodeAttributeChangedEventWithDataBeforeType() throws IOException {
+        String json = """
+                {
+                    "message": {
+                        "data": {
+                            "path": {
+                                "clusterId": 6,
+                                "attributeName": "onOff"
+                            },
+                            "version": 1,
+                            "value": true
+                        },
+                        "type": "attributeChanged"
+                    },
+                    "type": "event"
+                }
+                """;
+        WebSocketMessageDecoder.DecodedMessage decoded = new WebSocketMessageDecoder(client.getGson()).decode(json);
+        assertNull(decoded.attributeChanged());
+        Message message = decoded.message();
+        assertNotNull(message);
+        assertEquals("event", message.type);
+        assertEquals("attributeChanged", message.message.get("type").getAsString());
+        AttributeChangedMessage changedMessage = client.getGson().fromJson(message.message.get("data"),
+                AttributeChangedMessage.class);
+        assertNotNull(changedMessage);
+        assertEquals(Boolean.TRUE, changedMessage.value);
+    }
 }
@@ -22,6 +22,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.internal.AtomicStampedValue;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
+import org.openhab.binding.modbus.internal.ModbusPollStatistics;
 import org.openhab.binding.modbus.internal.config.ModbusPollerConfiguration;
 import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
@@ -69,6 +70,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
 
         private volatile @Nullable AtomicStampedValue<PollResult> lastResult;
+        private volatile long lastRegularResultNanos;
 
         public synchronized void handleResult(PollResult result) {
             // Ignore all incoming data and errors if configuration is not correct
@@ -87,6 +89,10 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             logger.debug("Thing {} received response {}", thing.getUID(), result);
             notifyChildren(result);
             if (result.failure != null) {
+                ModbusPollStatistics localStatistics = pollStatistics;
+                if (localStatistics != null) {
+                    localStatistics.countError(thing.getUID());
+                }
                 Exception error = result.failure.getCause();
                 assert error != null;
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
@@ -98,6 +104,17 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
 
         @Override
         public synchronized void handle(AsyncModbusReadResult result) {
+            recordRegularResult();
+            handleReadResult(result);
+        }
+
+        @Override
+        public synchronized void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            recordRegularResult();
+            handleReadFailure(failure);
+        }
+
+        public synchronized void handleReadResult(AsyncModbusReadResult result) {
             // Casting to allow registers.orElse(null) below..
             Optional<@Nullable ModbusRegisterArray> registers = (Optional<@Nullable ModbusRegisterArray>) result
                     .getRegisters();
@@ -105,11 +122,24 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             handleResult(new PollResult(result));
         }
 
-        @Override
-        public synchronized void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+        public synchronized void handleReadFailure(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
             handleResult(new PollResult(failure));
         }
 
+        /**
+         * Record the time since the previous result of the regular poll. The transaction itself is run by the
+         * transport, so this is not its round trip time but shows whether the endpoint keeps up with the poll period.
+         */
+        private void recordRegularResult() {
+            long now = System.nanoTime();
+            long last = lastRegularResultNanos;
+            lastRegularResultNanos = now;
+            ModbusPollStatistics localStatistics = pollStatistics;
+            if (last != 0 && localStatistics != null) {
+                localStatistics.recordResultInterval(thing.getUID(), now - last);
+            }
+        }
+
         private void resetCommunicationError() {
             ThingStatusInfo statusInfo = thing.getStatusInfo();
             if (ThingStatus.OFFLINE.equals(statusInfo.getStatus())
@@ -153,6 +183,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
          */
         public void resetCache() {
             lastResult = null;
+            lastRegularResultNanos = 0;
         }
     }
 
@@ -199,8 +230,15 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
 
     private @Nullable ModbusReadFunctionCode functionCode;
 
+    private final @Nullable ModbusPollStatistics pollStatistics;
+
     public ModbusPollerThingHandler(Bridge bridge) {
+        this(bridge, null);
+    }
+
+    public ModbusPollerThingHandler(Bridge bridge, @Nullable ModbusPollStatistics pollStatistics) {
         super(bridge);
+        this.pollStatistics = pollStatistics;
     }
 
     @Override
@@ -295,6 +333,10 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         this.callbackDelegator.resetCache();
         comms = null;
         lastPolledDataCache.set(null);
+        ModbusPollStatistics localStatistics = pollStatistics;
+        if (localStatistics != null) {
+            localStatistics.remove(thing.getUID());
+        }
     }
 
     /**
@@ -455,7 +497,19 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                     getThing().getUID());
             ModbusCommunicationInterface localComms = comms;
             if (localComms != null) {
-                localComms.submitOneTimePoll(localRequest, callbackDelegator, callbackDelegator);
+                ModbusPollStatistics localStatistics = pollStatistics;
+                if (localStatistics == null) {
+                    localComms.submitOneTimePoll(localRequest, callbackDelegator, callbackDelegator);
+                } else {
+                    long start = System.nanoTime();
+                    localComms.submitOneTimePoll(localRequest, result -> {
+                        localStatistics.recordRefresh(thing.getUID(), System.nanoTime() - start);
+                        callbackDelegator.handleReadResult(result);
+                    }, failure -> {
+                        localStatistics.recordRefresh(thing.getUID(), System.nanoTime() - start);
+                        callbackDelegator.handleReadFailure(failure);
+                    });
+                }
             }
         }
     }
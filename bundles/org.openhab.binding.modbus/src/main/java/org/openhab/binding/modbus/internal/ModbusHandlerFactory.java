@@ -48,6 +48,7 @@ public class ModbusHandlerFactory extends BaseThingHandlerFactory {
     private final Logger logger = LoggerFactory.getLogger(ModbusHandlerFactory.class);
 
     private @NonNullByDefault({}) ModbusManager manager;
+    private @NonNullByDefault({}) ModbusPollStatistics pollStatistics;
 
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = new HashSet<>();
     static {
@@ -73,7 +74,7 @@ public class ModbusHandlerFactory extends BaseThingHandlerFactory {
             return new ModbusSerialThingHandler((Bridge) thing, manager);
         } else if (thingTypeUID.equals(THING_TYPE_MODBUS_POLLER)) {
             logger.debug("createHandler Modbus poller");
-            return new ModbusPollerThingHandler((Bridge) thing);
+            return new ModbusPollerThingHandler((Bridge) thing, pollStatistics);
         } else if (thingTypeUID.equals(THING_TYPE_MODBUS_DATA)) {
             logger.debug("createHandler data");
             return new ModbusDataThingHandler(thing);
@@ -93,4 +94,13 @@ public class ModbusHandlerFactory extends BaseThingHandlerFactory {
     public void unsetModbusManager(ModbusManager manager) {
         this.manager = null;
     }
+
+    @Reference
+    public void setModbusPollStatistics(ModbusPollStatistics pollStatistics) {
+        this.pollStatistics = pollStatistics;
+    }
+
+    public void unsetModbusPollStatistics(ModbusPollStatistics pollStatistics) {
+        this.pollStatistics = null;
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.modbus.ModbusBindingConstants;
+import org.openhab.binding.modbus.internal.ModbusPollStatistics.PollerStatistics;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.io.metrics.AddonMetrics;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link ModbusMetrics} provides the {@link ModbusPollStatistics} of the poller things to the metrics service.
+ * It is only activated when the metrics service is installed.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@Component(service = AddonMetrics.class)
+@NonNullByDefault
+public class ModbusMetrics extends AddonMetrics implements ModbusPollStatistics.Listener {
+
+    private final ModbusPollStatistics statistics;
+
+    @Activate
+    public ModbusMetrics(@Reference ModbusPollStatistics statistics) {
+        super("modbus", ModbusBindingConstants.BINDING_ID);
+        this.statistics = statistics;
+        statistics.setListener(this);
+    }
+
+    @Deactivate
+    public void deactivate() {
+        statistics.setListener(null);
+    }
+
+    @Override
+    protected void bindMeters() {
+        statistics.getPollers().forEach(this::pollerAdded);
+    }
+
+    @Override
+    public synchronized void pollerAdded(ThingUID thingUID, PollerStatistics poller) {
+        String thing = thingUID.getAsString();
+        timer("refresh", "Round trip time of the one-time polls triggered by REFRESH commands", poller,
+                PollerStatistics::getRefreshCount, PollerStatistics::getRefreshNanos, TAG_THING, thing);
+        timer("poll.interval", "Time between two results of the regular poll, including the poll period", poller,
+                PollerStatistics::getResultIntervalCount, PollerStatistics::getResultIntervalNanos, TAG_THING, thing);
+        counter("poll.errors", "Number of failed polls", poller, PollerStatistics::getErrorCount, TAG_THING, thing);
+    }
+
+    @Override
+    public synchronized void pollerRemoved(ThingUID thingUID) {
+        remove(TAG_THING, thingUID.getAsString());
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.ThingUID;
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * The {@link ModbusPollStatistics} keeps the polling statistics of the poller things. They are provided to the
+ * metrics service by the {@link ModbusMetrics}, if it is installed.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@Component(service = ModbusPollStatistics.class)
+@NonNullByDefault
+public class ModbusPollStatistics {
+
+    /**
+     * Notified when the statistics of a poller thing are created or removed.
+     */
+    public interface Listener {
+        void pollerAdded(ThingUID thingUID, PollerStatistics statistics);
+
+        void pollerRemoved(ThingUID thingUID);
+    }
+
+    /**
+     * The statistics of a single poller thing.
+     */
+    public static class PollerStatistics {
+        private final LongAdder refreshCount = new LongAdder();
+        private final LongAdder refreshNanos = new LongAdder();
+        private final LongAdder resultIntervalCount = new LongAdder();
+        private final LongAdder resultIntervalNanos = new LongAdder();
+        private final LongAdder errorCount = new LongAdder();
+
+        public long getRefreshCount() {
+            return refreshCount.sum();
+        }
+
+        public long getRefreshNanos() {
+            return refreshNanos.sum();
+        }
+
+        public long getResultIntervalCount() {
+            return resultIntervalCount.sum();
+        }
+
+        public long getResultIntervalNanos() {
+            return resultIntervalNanos.sum();
+        }
+
+        public long getErrorCount() {
+            return errorCount.sum();
+        }
+    }
+
+    private final Map<ThingUID, PollerStatistics> pollers = new ConcurrentHashMap<>();
+    private volatile @Nullable Listener listener;
+
+    /**
+     * Record the round trip time of a one-time poll triggered by a REFRESH command, from its submission to its
+     * result. The regular polls are submitted to the transport, which does not expose their round trip time.
+     *
+     * @param thingUID the poller thing
+     * @param nanos the round trip time in nanoseconds
+     */
+    public void recordRefresh(ThingUID thingUID, long nanos) {
+        PollerStatistics statistics = get(thingUID);
+        statistics.refreshCount.increment();
+        statistics.refreshNanos.add(nanos);
+    }
+
+    /**
+     * Record the time between two results of the regular poll. It includes the poll period, so it shows whether
+     * the endpoint keeps up with the configured polling rate.
+     *
+     * @param thingUID the poller thing
+     * @param nanos the time since the previous result in nanoseconds
+     */
+    public void recordResultInterval(ThingUID thingUID, long nanos) {
+        PollerStatistics statistics = get(thingUID);
+        statistics.resultIntervalCount.increment();
+        statistics.resultIntervalNanos.add(nanos);
+    }
+
+    /**
+     * Count a failed poll.
+     *
+     * @param thingUID the poller thing
+     */
+    public void countError(ThingUID thingUID) {
+        get(thingUID).errorCount.increment();
+    }
+
+    /**
+     * Remove the statistics of a poller thing, e.g. when it is disposed.
+     *
+     * @param thingUID the poller thing
+     */
+    public void remove(ThingUID thingUID) {
+        Listener listener = this.listener;
+        if (pollers.remove(thingUID) != null && listener != null) {
+            listener.pollerRemoved(thingUID);
+        }
+    }
+
+    public Map<ThingUID, PollerStatistics> getPollers() {
+        return Map.copyOf(pollers);
+    }
+
+    public void setListener(@Nullable Listener listener) {
+        this.listener = listener;
+    }
+
+    private PollerStatistics get(ThingUID thingUID) {
+        PollerStatistics statistics = pollers.get(thingUID);
+        if (statistics == null) {
+            PollerStatistics newStatistics = new PollerStatistics();
+            statistics = pollers.putIfAbsent(thingUID, newStatistics);
+            if (statistics == null) {
+                statistics = newStatistics;
+                Listener listener = this.listener;
+                if (listener != null) {
+                    listener.pollerAdded(thingUID, statistics);
+                }
+            }
+        }
+        return statistics;
+    }
+}
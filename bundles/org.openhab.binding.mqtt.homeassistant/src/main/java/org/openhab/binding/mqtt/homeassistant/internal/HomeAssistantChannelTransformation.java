@@ -46,6 +46,8 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     private final boolean command;
     private final String defaultValue;
     private final boolean parseValueAsInteger;
+    private final @Nullable String templateSource;
+    private final @Nullable HomeAssistantNativeTemplate nativeTemplate;
 
     public HomeAssistantChannelTransformation(HomeAssistantPythonBridge python, AbstractComponent<?> component,
             Value template, boolean command) {
@@ -71,6 +73,10 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
         this.template = command ? python.newCommandTemplate(template) : python.newValueTemplate(template);
         this.defaultValue = defaultValue;
         this.parseValueAsInteger = parseValueAsInteger;
+        String templateSource = python.getTemplateSource(template);
+        this.templateSource = templateSource;
+        this.nativeTemplate = templateSource != null ? HomeAssistantNativeTemplate.parse(templateSource, command)
+                : null;
     }
 
     @Override
@@ -97,7 +103,19 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     }
 
     public @Nullable String transform(Object value) {
+        HomeAssistantNativeTemplate nativeTemplate = this.nativeTemplate;
+        if (nativeTemplate != null) {
+            String result = nativeTemplate.render(value);
+            if (result != null) {
+                return result;
+            }
+        }
+        String templateSource = this.templateSource;
         try {
+            if (templateSource != null) {
+                return command ? python.renderCommandTemplate(templateSource, value)
+                        : python.renderValueTemplate(templateSource, value, defaultValue);
+            }
             return command ? python.renderCommandTemplate(template, value)
                     : python.renderValueTemplate(template, value, defaultValue);
         } catch (PolyglotException e) {
@@ -0,0 +1,681 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.homeassistant.internal;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Renders the most common Home Assistant templates in Java, without calling into Python.
+ *
+ * Only templates consisting of a single expression are supported, e.g. <code>{{ value_json.temperature }}</code>,
+ * <code>{{ value_json['state'] | float | round(1) }}</code> or <code>{{ iif(value_json.contact == false, 'ON', 'OFF')
+ * }}</code>. The expression may use <code>value</code>, <code>value_json</code>, literals, attribute and item lookups,
+ * <code>==</code> and <code>!=</code>, the <code>iif</code> function and the <code>float</code>, <code>int</code>,
+ * <code>round</code> and <code>iif</code> filters.
+ *
+ * Values are rendered exactly as Jinja renders the Python objects. Whenever the result could differ from the Python
+ * implementation, e.g. for undefined attributes, invalid JSON or failing filters, rendering is given up and the
+ * template has to be rendered by Python.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class HomeAssistantNativeTemplate {
+    // homeassistant.helpers.template.MAX_TEMPLATE_OUTPUT
+    private static final int MAX_TEMPLATE_OUTPUT = 256 * 1024;
+    // attributes of Python dicts, Jinja returns them instead of the items with the same key
+    private static final Set<String> DICT_ATTRIBUTES = Set.of("clear", "copy", "fromkeys", "get", "items", "keys",
+            "pop", "popitem", "setdefault", "update", "values");
+    private static final Pattern PYTHON_FLOAT = Pattern.compile("[+-]?(\\d+\\.?\\d*|\\.\\d+)([eE][+-]?\\d+)?");
+    private static final Pattern PYTHON_INT = Pattern.compile("[+-]?\\d+");
+    private static final int MAX_ROUND_PRECISION = 15;
+    private static final TypeAdapter<JsonElement> JSON_ADAPTER = new Gson().getAdapter(JsonElement.class);
+
+    private final Expression expression;
+    private final boolean command;
+
+    private HomeAssistantNativeTemplate(Expression expression, boolean command) {
+        this.expression = expression;
+        this.command = command;
+    }
+
+    /**
+     * Parse a template.
+     *
+     * @param template the template source
+     * @param command <code>true</code> for a command template, which has no <code>value_json</code> variable
+     * @return the template, or <code>null</code> if it has to be rendered by Python
+     */
+    public static @Nullable HomeAssistantNativeTemplate parse(String template, boolean command) {
+        String trimmed = template.strip();
+        if (!trimmed.startsWith("{{") || !trimmed.endsWith("}}") || trimmed.startsWith("{{-")
+                || trimmed.endsWith("-}}")) {
+            return null;
+        }
+        try {
+            Parser parser = new Parser(trimmed.substring(2, trimmed.length() - 2), command);
+            return new HomeAssistantNativeTemplate(parser.parseTemplate(), command);
+        } catch (Fallback e) {
+            return null;
+        }
+    }
+
+    /**
+     * Render the template.
+     *
+     * @param value the value of a command template or the payload of a value template
+     * @return the rendered template, or <code>null</code> if it has to be rendered by Python
+     */
+    public @Nullable String render(Object value) {
+        try {
+            Scope scope;
+            if (command) {
+                scope = new Scope(toPython(value), null);
+            } else if (value instanceof String payload) {
+                scope = new Scope(payload, payload);
+            } else {
+                // json.loads() fails with a TypeError for anything else than a string
+                return null;
+            }
+            String result = toPythonString(expression.evaluate(scope));
+            if (command && (result.length() > MAX_TEMPLATE_OUTPUT || result.startsWith("b'")
+                    || result.startsWith("b\""))) {
+                return null;
+            }
+            return stripPython(result);
+        } catch (Fallback e) {
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Expression {
+        @Nullable
+        Object evaluate(Scope scope) throws Fallback;
+    }
+
+    @FunctionalInterface
+    private interface Filter {
+        @Nullable
+        Object apply(@Nullable Object value, List<@Nullable Object> arguments) throws Fallback;
+    }
+
+    /**
+     * Signals that the template can't be parsed or rendered natively.
+     */
+    private static class Fallback extends Exception {
+        private static final long serialVersionUID = 1L;
+        private static final Fallback INSTANCE = new Fallback();
+
+        private Fallback() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static class Scope {
+        private final @Nullable Object value;
+        private final @Nullable String payload;
+        private @Nullable JsonElement valueJson;
+
+        Scope(@Nullable Object value, @Nullable String payload) {
+            this.value = value;
+            this.payload = payload;
+        }
+
+        @Nullable
+        Object value() {
+            return value;
+        }
+
+        @Nullable
+        Object valueJson() throws Fallback {
+            JsonElement valueJson = this.valueJson;
+            if (valueJson == null) {
+                String payload = this.payload;
+                if (payload == null) {
+                    throw Fallback.INSTANCE;
+                }
+                valueJson = parseJson(payload);
+                this.valueJson = valueJson;
+            }
+            return fromJson(valueJson);
+        }
+    }
+
+    private static class Parser {
+        private final String source;
+        private final boolean command;
+        private int position;
+
+        Parser(String source, boolean command) {
+            this.source = source;
+            this.command = command;
+        }
+
+        Expression parseTemplate() throws Fallback {
+            Expression expression = parseComparison();
+            skipWhitespace();
+            if (position != source.length()) {
+                throw Fallback.INSTANCE;
+            }
+            return expression;
+        }
+
+        private Expression parseComparison() throws Fallback {
+            Expression left = parseFiltered();
+            skipWhitespace();
+            if (source.startsWith("==", position) || source.startsWith("!=", position)) {
+                boolean equal = source.charAt(position) == '=';
+                position += 2;
+                Expression right = parseFiltered();
+                return scope -> pythonEquals(left.evaluate(scope), right.evaluate(scope)) == equal;
+            }
+            return left;
+        }
+
+        private Expression parseFiltered() throws Fallback {
+            Expression expression = parsePrimary();
+            skipWhitespace();
+            while (consume('|')) {
+                skipWhitespace();
+                String name = parseName();
+                Filter filter = switch (name) {
+                    // a default argument is only used if the conversion fails, which is left to Python anyway
+                    case "float" -> (value, arguments) -> toFloat(value, arguments);
+                    case "int" -> (value, arguments) -> toInt(value, arguments);
+                    case "round" -> HomeAssistantNativeTemplate::round;
+                    case "iif" -> HomeAssistantNativeTemplate::iif;
+                    default -> throw Fallback.INSTANCE;
+                };
+                List<Expression> arguments = parseArguments(false);
+                Expression input = expression;
+                expression = scope -> filter.apply(input.evaluate(scope), evaluate(arguments, scope));
+                skipWhitespace();
+            }
+            return expression;
+        }
+
+        private Expression parsePrimary() throws Fallback {
+            skipWhitespace();
+            if (position >= source.length()) {
+                throw Fallback.INSTANCE;
+            }
+            char c = source.charAt(position);
+            if (c == '(') {
+                position++;
+                Expression expression = parseComparison();
+                expect(')');
+                return expression;
+            } else if (c == '\'' || c == '"') {
+                String literal = parseString();
+                return scope -> literal;
+            } else if (Character.isDigit(c)) {
+                Object literal = parseNumber();
+                return scope -> literal;
+            }
+            String name = parseName();
+            switch (name) {
+                case "true":
+                case "True":
+                    return scope -> Boolean.TRUE;
+                case "false":
+                case "False":
+                    return scope -> Boolean.FALSE;
+                case "none":
+                case "None":
+                    return scope -> null;
+                case "iif":
+                    List<Expression> arguments = parseArguments(true);
+                    if (arguments.isEmpty()) {
+                        throw Fallback.INSTANCE;
+                    }
+                    return scope -> {
+                        List<@Nullable Object> values = evaluate(arguments, scope);
+                        return iif(values.get(0), values.subList(1, values.size()));
+                    };
+                case "value":
+                    return parseLookups(Scope::value);
+                case "value_json":
+                    if (command) {
+                        throw Fallback.INSTANCE;
+                    }
+                    return parseLookups(Scope::valueJson);
+                default:
+                    throw Fallback.INSTANCE;
+            }
+        }
+
+        private Expression parseLookups(Expression expression) throws Fallback {
+            while (true) {
+                skipWhitespace();
+                Expression target = expression;
+                if (consume('.')) {
+                    skipWhitespace();
+                    String name = parseName();
+                    if (DICT_ATTRIBUTES.contains(name) || name.startsWith("_")) {
+                        throw Fallback.INSTANCE;
+                    }
+                    expression = scope -> getItem(target.evaluate(scope), name);
+                } else if (consume('[')) {
+                    skipWhitespace();
+                    if (position >= source.length()) {
+                        throw Fallback.INSTANCE;
+                    }
+                    char c = source.charAt(position);
+                    Object key;
+                    if (c == '\'' || c == '"') {
+                        key = parseString();
+                    } else if (Character.isDigit(c)) {
+                        key = parseNumber();
+                    } else {
+                        throw Fallback.INSTANCE;
+                    }
+                    expect(']');
+                    expression = scope -> getItem(target.evaluate(scope), key);
+                } else {
+                    return expression;
+                }
+            }
+        }
+
+        private List<Expression> parseArguments(boolean required) throws Fallback {
+            List<Expression> arguments = new ArrayList<>();
+            skipWhitespace();
+            if (!consume('(')) {
+                if (required) {
+                    throw Fallback.INSTANCE;
+                }
+                return arguments;
+            }
+            skipWhitespace();
+            if (consume(')')) {
+                return arguments;
+            }
+            do {
+                arguments.add(parseComparison());
+                skipWhitespace();
+            } while (consume(','));
+            expect(')');
+            return arguments;
+        }
+
+        private String parseName() throws Fallback {
+            int start = position;
+            while (position < source.length() && (Character.isLetterOrDigit(source.charAt(position))
+                    || source.charAt(position) == '_')) {
+                position++;
+            }
+            if (start == position || Character.isDigit(source.charAt(start))) {
+                throw Fallback.INSTANCE;
+            }
+            return source.substring(start, position);
+        }
+
+        private String parseString() throws Fallback {
+            char quote = source.charAt(position);
+            int end = source.indexOf(quote, position + 1);
+            if (end < 0) {
+                throw Fallback.INSTANCE;
+            }
+            String literal = source.substring(position + 1, end);
+            if (literal.indexOf('\\') >= 0) {
+                // escape sequences are left to Python
+                throw Fallback.INSTANCE;
+            }
+            position = end + 1;
+            return literal;
+        }
+
+        private Object parseNumber() throws Fallback {
+            int start = position;
+            while (position < source.length() && Character.isDigit(source.charAt(position))) {
+                position++;
+            }
+            if (position < source.length() && source.charAt(position) == '.') {
+                position++;
+                int fractionStart = position;
+                while (position < source.length() && Character.isDigit(source.charAt(position))) {
+                    position++;
+                }
+                if (fractionStart == position) {
+                    throw Fallback.INSTANCE;
+                }
+                return Double.parseDouble(source.substring(start, position));
+            }
+            if (position < source.length()
+                    && (Character.isLetter(source.charAt(position)) || source.charAt(position) == '_')) {
+                throw Fallback.INSTANCE;
+            }
+            return new BigInteger(source.substring(start, position));
+        }
+
+        private void skipWhitespace() {
+            while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+                position++;
+            }
+        }
+
+        private boolean consume(char c) {
+            if (position < source.length() && source.charAt(position) == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) throws Fallback {
+            skipWhitespace();
+            if (!consume(c)) {
+                throw Fallback.INSTANCE;
+            }
+        }
+
+        private static List<@Nullable Object> evaluate(List<Expression> expressions, Scope scope) throws Fallback {
+            List<@Nullable Object> values = new ArrayList<>(expressions.size());
+            for (Expression expression : expressions) {
+                values.add(expression.evaluate(scope));
+            }
+            return values;
+        }
+    }
+
+    private static JsonElement parseJson(String payload) throws Fallback {
+        try (JsonReader reader = new JsonReader(new StringReader(payload))) {
+            // the reader is strict by default, like json.loads() apart from NaN and Infinity, which are left to Python
+            JsonElement element = JSON_ADAPTER.read(reader);
+            if (element == null || reader.peek() != JsonToken.END_DOCUMENT) {
+                throw Fallback.INSTANCE;
+            }
+            return element;
+        } catch (IOException | JsonParseException | IllegalStateException | NumberFormatException e) {
+            throw Fallback.INSTANCE;
+        }
+    }
+
+    private static @Nullable Object fromJson(JsonElement element) {
+        if (element instanceof JsonPrimitive primitive) {
+            if (primitive.isBoolean()) {
+                return primitive.getAsBoolean();
+            } else if (primitive.isString()) {
+                return primitive.getAsString();
+            }
+            String number = primitive.getAsString();
+            if (number.indexOf('.') >= 0 || number.indexOf('e') >= 0 || number.indexOf('E') >= 0) {
+                return Double.parseDouble(number);
+            }
+            return new BigInteger(number);
+        } else if (element.isJsonNull()) {
+            return null;
+        }
+        return element;
+    }
+
+    private static @Nullable Object toPython(Object value) throws Fallback {
+        if (value instanceof String || value instanceof Boolean || value instanceof BigInteger
+                || value instanceof Double) {
+            return value;
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+                || value instanceof Byte) {
+            return BigInteger.valueOf(((Number) value).longValue());
+        } else if (value instanceof Float f) {
+            return f.doubleValue();
+        }
+        throw Fallback.INSTANCE;
+    }
+
+    private static @Nullable Object getItem(@Nullable Object target, Object key) throws Fallback {
+        JsonElement item = null;
+        if (target instanceof JsonObject object && key instanceof String name) {
+            item = object.get(name);
+        } else if (target instanceof JsonArray array && key instanceof BigInteger index
+                && index.bitLength() < Integer.SIZE) {
+            int i = index.intValue();
+            if (i < array.size()) {
+                item = array.get(i);
+            }
+        }
+        if (item == null) {
+            // undefined, StrictUndefined raises an error
+            throw Fallback.INSTANCE;
+        }
+        return fromJson(item);
+    }
+
+    private static Double toFloat(@Nullable Object value, List<@Nullable Object> arguments) throws Fallback {
+        if (arguments.size() > 1) {
+            throw Fallback.INSTANCE;
+        }
+        return toFloat(value);
+    }
+
+    private static BigInteger toInt(@Nullable Object value, List<@Nullable Object> arguments) throws Fallback {
+        if (arguments.size() > 1) {
+            // a base is passed
+            throw Fallback.INSTANCE;
+        }
+        return toInt(value);
+    }
+
+    private static Double toFloat(@Nullable Object value) throws Fallback {
+        if (value instanceof Double d) {
+            return d;
+        } else if (value instanceof BigInteger i) {
+            double d = i.doubleValue();
+            if (Double.isInfinite(d)) {
+                // OverflowError
+                throw Fallback.INSTANCE;
+            }
+            return d;
+        } else if (value instanceof Boolean b) {
+            return b ? 1.0 : 0.0;
+        } else if (value instanceof String s) {
+            String number = stripPython(s);
+            if (PYTHON_FLOAT.matcher(number).matches()) {
+                return Double.parseDouble(number);
+            }
+        }
+        throw Fallback.INSTANCE;
+    }
+
+    private static BigInteger toInt(@Nullable Object value) throws Fallback {
+        if (value instanceof BigInteger i) {
+            return i;
+        } else if (value instanceof Boolean b) {
+            return b ? BigInteger.ONE : BigInteger.ZERO;
+        } else if (value instanceof String s && PYTHON_INT.matcher(stripPython(s)).matches()) {
+            return new BigInteger(stripPython(s));
+        }
+        // jinja2.filters.do_int converts anything else with int(float(value))
+        return truncate(toFloat(value));
+    }
+
+    private static BigInteger truncate(double value) throws Fallback {
+        if (!Double.isFinite(value)) {
+            throw Fallback.INSTANCE;
+        }
+        return new BigDecimal(value).toBigInteger();
+    }
+
+    private static Object round(@Nullable Object value, List<@Nullable Object> arguments) throws Fallback {
+        int precision = 0;
+        if (arguments.size() > 1) {
+            throw Fallback.INSTANCE;
+        } else if (arguments.size() == 1) {
+            if (!(arguments.get(0) instanceof BigInteger p) || p.signum() < 0
+                    || p.compareTo(BigInteger.valueOf(MAX_ROUND_PRECISION)) > 0) {
+                throw Fallback.INSTANCE;
+            }
+            precision = p.intValue();
+        }
+        double number = toFloat(value);
+        if (!Double.isFinite(number)) {
+            throw Fallback.INSTANCE;
+        }
+        // round() rounds the exact binary value half to even
+        double rounded = new BigDecimal(number).setScale(precision, RoundingMode.HALF_EVEN).doubleValue();
+        return precision == 0 ? truncate(rounded) : rounded;
+    }
+
+    private static @Nullable Object iif(@Nullable Object value, List<@Nullable Object> arguments) throws Fallback {
+        if (arguments.size() > 3) {
+            throw Fallback.INSTANCE;
+        }
+        if (value == null && arguments.size() == 3) {
+            return arguments.get(2);
+        }
+        if (isTrue(value)) {
+            return arguments.isEmpty() ? Boolean.TRUE : arguments.get(0);
+        }
+        return arguments.size() < 2 ? Boolean.FALSE : arguments.get(1);
+    }
+
+    private static boolean isTrue(@Nullable Object value) {
+        if (value == null) {
+            return false;
+        } else if (value instanceof Boolean b) {
+            return b;
+        } else if (value instanceof BigInteger i) {
+            return i.signum() != 0;
+        } else if (value instanceof Double d) {
+            return d != 0.0;
+        } else if (value instanceof String s) {
+            return !s.isEmpty();
+        } else if (value instanceof JsonObject object) {
+            return !object.isEmpty();
+        } else if (value instanceof JsonArray array) {
+            return !array.isEmpty();
+        }
+        return true;
+    }
+
+    private static boolean pythonEquals(@Nullable Object a, @Nullable Object b) throws Fallback {
+        if (a == null || b == null) {
+            return a == b;
+        } else if (a instanceof String || b instanceof String) {
+            return a.equals(b);
+        } else if (a instanceof JsonElement || b instanceof JsonElement) {
+            throw Fallback.INSTANCE;
+        }
+        // bool, int and float compare by their numeric value
+        if (a instanceof Double x && !Double.isFinite(x) || b instanceof Double y && !Double.isFinite(y)) {
+            return toFloat(a).doubleValue() == toFloat(b).doubleValue();
+        }
+        return toDecimal(a).compareTo(toDecimal(b)) == 0;
+    }
+
+    private static BigDecimal toDecimal(Object value) throws Fallback {
+        if (value instanceof Double d) {
+            return new BigDecimal(d);
+        } else if (value instanceof BigInteger i) {
+            return new BigDecimal(i);
+        } else if (value instanceof Boolean b) {
+            return b ? BigDecimal.ONE : BigDecimal.ZERO;
+        }
+        throw Fallback.INSTANCE;
+    }
+
+    private static String toPythonString(@Nullable Object value) throws Fallback {
+        if (value == null) {
+            return "None";
+        } else if (value instanceof Boolean b) {
+            return b ? "True" : "False";
+        } else if (value instanceof Double d) {
+            return toPythonString(d.doubleValue());
+        } else if (value instanceof String || value instanceof BigInteger) {
+            return value.toString();
+        }
+        // dicts and lists are left to Python
+        throw Fallback.INSTANCE;
+    }
+
+    /**
+     * Format a float like Python's <code>repr()</code>.
+     */
+    static String toPythonString(double value) {
+        if (Double.isNaN(value)) {
+            return "nan";
+        } else if (Double.isInfinite(value)) {
+            return value > 0 ? "inf" : "-inf";
+        } else if (value == 0.0) {
+            return Double.doubleToRawLongBits(value) < 0 ? "-0.0" : "0.0";
+        }
+        // Double.toString() returns the shortest decimal that uniquely distinguishes the value, as repr() does
+        BigDecimal decimal = new BigDecimal(Double.toString(Math.abs(value))).stripTrailingZeros();
+        String digits = decimal.unscaledValue().toString();
+        // the value is 0.<digits> * 10^exponent
+        int exponent = digits.length() - decimal.scale();
+        StringBuilder result = new StringBuilder(value < 0 ? "-" : "");
+        if (exponent > -4 && exponent <= 16) {
+            if (exponent <= 0) {
+                result.append("0.").append("0".repeat(-exponent)).append(digits);
+            } else if (exponent >= digits.length()) {
+                result.append(digits).append("0".repeat(exponent - digits.length())).append(".0");
+            } else {
+                result.append(digits, 0, exponent).append('.').append(digits, exponent, digits.length());
+            }
+        } else {
+            result.append(digits.charAt(0));
+            if (digits.length() > 1) {
+                result.append('.').append(digits, 1, digits.length());
+            }
+            int scientificExponent = exponent - 1;
+            result.append(scientificExponent < 0 ? "e-" : "e+");
+            String exponentDigits = Integer.toString(Math.abs(scientificExponent));
+            if (exponentDigits.length() < 2) {
+                result.append('0');
+            }
+            result.append(exponentDigits);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Remove leading and trailing whitespace like Python's <code>str.strip()</code>.
+     */
+    private static String stripPython(String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && isPythonWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && isPythonWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        return value.substring(start, end);
+    }
+
+    private static boolean isPythonWhitespace(char c) {
+        return Character.isWhitespace(c) || c == '\u0085' || c == '\u00A0' || c == '\u2007' || c == '\u202F';
+    }
+}
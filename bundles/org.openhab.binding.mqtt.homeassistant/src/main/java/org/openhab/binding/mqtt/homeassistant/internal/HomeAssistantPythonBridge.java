@@ -19,6 +19,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -28,109 +34,160 @@ import org.graalvm.polyglot.Value;
 import org.graalvm.python.embedding.GraalPyResources;
 import org.graalvm.python.embedding.VirtualFileSystem;
 import org.openhab.binding.mqtt.homeassistant.internal.exception.ConfigurationException;
+import org.openhab.core.common.ThreadPoolManager;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Centralizes all calls into python to ensure thread safety and a single cached context
  *
+ * Templates can also be rendered from their source in a small pool of additional contexts, so template evaluation of
+ * different things is not serialized on a single interpreter. The additional contexts are only created when templates
+ * are rendered concurrently.
+ *
  * @author Cody Cutrer - Initial contribution
  */
 @NonNullByDefault
 @Component(service = HomeAssistantPythonBridge.class)
 public class HomeAssistantPythonBridge {
     private static final String PYTHON = "python";
+    // each context loads the Home Assistant modules, which takes several seconds and a lot of memory
+    private static final int MAX_CONTEXTS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
     private final Logger logger = LoggerFactory.getLogger(HomeAssistantPythonBridge.class);
-    private final Context context;
-    private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth, renderCommandTemplateMeth,
-            renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth, renderValueTemplateWithVariablesMeth,
-            processDiscoveryConfigMeth, listMeth;
+    private final PythonContext context;
+    private final BlockingQueue<PythonContext> idleContexts = new LinkedBlockingQueue<>();
+    private final AtomicInteger contextCount = new AtomicInteger(1);
+    private final ExecutorService executor = ThreadPoolManager.getPool("mqtt-homeassistant");
+    private volatile boolean closed;
 
     @Activate
     public HomeAssistantPythonBridge() {
-        VirtualFileSystem vfs = VirtualFileSystem.newBuilder().resourceLoadingClass(HomeAssistantPythonBridge.class)
-                .build();
-
-        context = GraalPyResources.contextBuilder(vfs).logHandler(new LogHandler(logger))
-                .option("engine.WarnInterpreterOnly", "false").build();
-
-        Value bindings = context.getBindings(PYTHON);
-
-        context.eval(PYTHON,
-                """
-                        from homeassistant.helpers.template import Template
-                        from homeassistant.components.mqtt.models import MqttCommandTemplate, MqttValueTemplate
-                        from homeassistant.components.mqtt.discovery import process_discovery_config
-
-                        def new_raw_template(template):
-                            return Template(template)
-
-                        def new_command_template(template):
-                            return MqttCommandTemplate(template)
-
-                        def render_command_template(template, value):
-                            return template.render(value=value)
-
-                        def render_command_template_with_variables(template, value, variables):
-                            return template.render(value=value, variables=variables)
-
-                        def new_value_template(template):
-                            return MqttValueTemplate(template)
-
-                        def render_value_template(template, payload, default):
-                            return template.render_with_possible_json_value(payload=payload, default=default)
-
-                        def render_value_template_with_variables(template, payload, default, variables):
-                            return template.render_with_possible_json_value(payload=payload, default=default, variables=variables)
-                        """);
+        context = new PythonContext(logger);
+        idleContexts.add(context);
+    }
 
-        newRawTemplateMeth = bindings.getMember("new_raw_template");
-        newCommandTemplateMeth = bindings.getMember("new_command_template");
-        renderCommandTemplateMeth = bindings.getMember("render_command_template");
-        renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
-        newValueTemplateMeth = bindings.getMember("new_value_template");
-        renderValueTemplateMeth = bindings.getMember("render_value_template");
-        renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
-        processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
-        listMeth = bindings.getMember("list");
+    @Deactivate
+    public void deactivate() {
+        closed = true;
+        List<PythonContext> contexts = new ArrayList<>();
+        idleContexts.drainTo(contexts);
+        contexts.forEach(this::releaseContext);
     }
 
     public Value newRawTemplate(String template) {
-        return newRawTemplateMeth.execute(template);
+        return context.newRawTemplateMeth.execute(template);
     }
 
     public Value newCommandTemplate(Value template) {
-        return newCommandTemplateMeth.execute(template);
+        return context.newCommandTemplateMeth.execute(template);
     }
 
     public String renderCommandTemplate(Value template, Object value) {
-        return renderCommandTemplateMeth.execute(template, value).asString();
+        return context.renderCommandTemplateMeth.execute(template, value).asString();
     }
 
     public String renderCommandTemplate(Value template, Object value, Map<String, @Nullable Object> variables) {
-        return renderCommandTemplateWithVariablesMeth.execute(template, value, variables).asString();
+        return context.renderCommandTemplateWithVariablesMeth.execute(template, value, variables).asString();
     }
 
     public Value newValueTemplate(Value template) {
-        return newValueTemplateMeth.execute(template);
+        return context.newValueTemplateMeth.execute(template);
     }
 
     public String renderValueTemplate(Value template, Object payload, String defaultValue) {
-        return renderValueTemplateMeth.execute(template, payload, defaultValue).asString();
+        return context.renderValueTemplateMeth.execute(template, payload, defaultValue).asString();
     }
 
     public String renderValueTemplate(Value template, Object payload, String defaultValue,
             Map<String, @Nullable Object> variables) {
-        return renderValueTemplateWithVariablesMeth.execute(template, payload, defaultValue, variables).asString();
+        return context.renderValueTemplateWithVariablesMeth.execute(template, payload, defaultValue, variables)
+                .asString();
+    }
+
+    /**
+     * Render a command template in any of the pooled contexts.
+     *
+     * @param template the source of the template
+     * @param value the value
+     * @return the rendered template
+     */
+    public String renderCommandTemplate(String template, Object value) {
+        return withContext(context -> context.renderCommandTemplate(template, value));
+    }
+
+    /**
+     * Render a value template in any of the pooled contexts.
+     *
+     * @param template the source of the template
+     * @param payload the payload
+     * @param defaultValue the default value
+     * @return the rendered template
+     */
+    public String renderValueTemplate(String template, Object payload, String defaultValue) {
+        return withContext(context -> context.renderValueTemplate(template, payload, defaultValue));
+    }
+
+    /**
+     * Get the source of a template.
+     *
+     * @param template a template created by {@link #newRawTemplate} or read from a discovery config
+     * @return the source, or <code>null</code> if the value is no template
+     */
+    public @Nullable String getTemplateSource(Value template) {
+        Value source = template.hasMembers() ? template.getMember("template") : null;
+        return source != null && source.isString() ? source.asString() : null;
+    }
+
+    private <T> T withContext(Function<PythonContext, T> action) {
+        PythonContext context = idleContexts.poll();
+        if (context == null) {
+            if (!closed && contextCount.getAndIncrement() < MAX_CONTEXTS) {
+                executor.execute(this::addContext);
+            } else if (!closed) {
+                contextCount.decrementAndGet();
+            }
+            try {
+                context = idleContexts.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // calls into the shared context are serialized by the interpreter lock
+                return action.apply(this.context);
+            }
+        }
+        try {
+            return action.apply(context);
+        } finally {
+            releaseContext(context);
+        }
+    }
+
+    private void releaseContext(PythonContext context) {
+        if (closed && context != this.context) {
+            context.context.close();
+        } else {
+            // the shared context is kept, it may still be used by discovery
+            idleContexts.add(context);
+        }
+    }
+
+    private void addContext() {
+        try {
+            releaseContext(new PythonContext(logger));
+            logger.debug("Created an additional python context for rendering templates");
+        } catch (RuntimeException e) {
+            contextCount.decrementAndGet();
+            logger.warn("Failed to create an additional python context: {}", e.getMessage());
+        }
     }
 
     public Map<String, @Nullable Object> processDiscoveryConfig(String component, String payload) {
         try {
             @SuppressWarnings("unchecked")
             Map<String, @Nullable Object> config = (Map<String, @Nullable Object>) toJava(
-                    processDiscoveryConfigMeth.execute(component, payload));
+                    context.processDiscoveryConfigMeth.execute(component, payload));
             if (config == null) {
                 throw new ConfigurationException("Invalid configuration");
             }
@@ -171,7 +228,7 @@ public class HomeAssistantPythonBridge {
         // This is a bit of a pain, but Python sets don't act like Arrays, nor
         // can you use `as(List.class)` to have Graal convert them
         if (value.getMetaObject().getMetaSimpleName().equals("set")) {
-            Value pyList = listMeth.execute(value);
+            Value pyList = context.listMeth.execute(value);
             @SuppressWarnings("unchecked")
             List<@Nullable Object> list = (List<@Nullable Object>) Objects.requireNonNull(toJava(pyList));
             Set<@Nullable Object> set = new HashSet<@Nullable Object>(list);
@@ -185,4 +242,74 @@ public class HomeAssistantPythonBridge {
         Object r = value.as(Object.class);
         return r;
     }
+
+    private static class PythonContext {
+        private final Context context;
+        private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth, renderCommandTemplateMeth,
+                renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth, renderValueTemplateWithVariablesMeth,
+                processDiscoveryConfigMeth, listMeth;
+        // templates compiled in this context, by their source
+        private final Map<String, Value> commandTemplates = new ConcurrentHashMap<>();
+        private final Map<String, Value> valueTemplates = new ConcurrentHashMap<>();
+
+        private PythonContext(Logger logger) {
+            VirtualFileSystem vfs = VirtualFileSystem.newBuilder().resourceLoadingClass(HomeAssistantPythonBridge.class)
+                    .build();
+
+            context = GraalPyResources.contextBuilder(vfs).logHandler(new LogHandler(logger))
+                    .option("engine.WarnInterpreterOnly", "false").build();
+
+            Value bindings = context.getBindings(PYTHON);
+
+            context.eval(PYTHON,
+                    """
+                            from homeassistant.helpers.template import Template
+                            from homeassistant.components.mqtt.models import MqttCommandTemplate, MqttValueTemplate
+                            from homeassistant.components.mqtt.discovery import process_discovery_config
+
+                            def new_raw_template(template):
+                                return Template(template)
+
+                            def new_command_template(template):
+                                return MqttCommandTemplate(template)
+
+                            def render_command_template(template, value):
+                                return template.render(value=value)
+
+                            def render_command_template_with_variables(template, value, variables):
+                                return template.render(value=value, variables=variables)
+
+                            def new_value_template(template):
+                                return MqttValueTemplate(template)
+
+                            def render_value_template(template, payload, default):
+                                return template.render_with_possible_json_value(payload=payload, default=default)
+
+                            def render_value_template_with_variables(template, payload, default, variables):
+                                return template.render_with_possible_json_value(payload=payload, default=default, variables=variables)
+                            """);
+
+            newRawTemplateMeth = bindings.getMember("new_raw_template");
+            newCommandTemplateMeth = bindings.getMember("new_command_template");
+            renderCommandTemplateMeth = bindings.getMember("render_command_template");
+            renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
+            newValueTemplateMeth = bindings.getMember("new_value_template");
+            renderValueTemplateMeth = bindings.getMember("render_value_template");
+            renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
+            processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
+            listMeth = bindings.getMember("list");
+        }
+
+        private String renderCommandTemplate(String template, Object value) {
+            Value commandTemplate = commandTemplates.computeIfAbsent(template,
+                    source -> newCommandTemplateMeth.execute(newRawTemplateMeth.execute(source)));
+            return renderCommandTemplateMeth.execute(commandTemplate, value).asString();
+        }
+
+        private String renderValueTemplate(String template, Object payload, String defaultValue) {
+            Value valueTemplate = valueTemplates.computeIfAbsent(template,
+                    source -> newValueTemplateMeth.execute(newRawTemplateMeth.execute(source)));
+            return renderValueTemplateMeth.execute(valueTemplate, payload, defaultValue).asString();
+        }
+    }
 }
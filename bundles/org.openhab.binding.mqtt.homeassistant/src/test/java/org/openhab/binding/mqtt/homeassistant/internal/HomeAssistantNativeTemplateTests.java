@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.homeassistant.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link HomeAssistantNativeTemplate}, the expected results are the ones rendered by Home Assistant.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class HomeAssistantNativeTemplateTests {
+
+    @Test
+    public void testValueJsonLookup() {
+        assertThat(render("{{ value_json.state }}", "{\"state\": \"ON\"}"), is("ON"));
+        assertThat(render("{{ value_json.state }}", "{\"state\": \"  ON  \"}"), is("ON"));
+        assertThat(render("{{ value_json['update']['state'] }}", "{\"update\": {\"state\": \"idle\"}}"), is("idle"));
+        assertThat(render("{{ value_json.a.b }}", "{\"a\": {\"b\": 3}}"), is("3"));
+        assertThat(render("{{ value_json.a[1] }}", "{\"a\": [1, 2.5]}"), is("2.5"));
+        assertThat(render("{{ value_json.contact }}", "{\"contact\": false}"), is("False"));
+        assertThat(render("{{ value_json.val }}", "{\"val\": null}"), is("None"));
+        assertThat(render("{{ value }}", "  hello  "), is("hello"));
+    }
+
+    @Test
+    public void testFloatRepresentation() {
+        assertThat(render("{{ value_json.t }}", "{\"t\": 21.50}"), is("21.5"));
+        assertThat(render("{{ value_json.t }}", "{\"t\": 0.1}"), is("0.1"));
+        assertThat(render("{{ value_json.t }}", "{\"t\": 1e-5}"), is("1e-05"));
+        assertThat(render("{{ value_json.t }}", "{\"t\": 1e15}"), is("1000000000000000.0"));
+        assertThat(render("{{ value_json.t }}", "{\"t\": 1E16}"), is("1e+16"));
+        assertThat(render("{{ value_json.t }}", "{\"t\": -0.0}"), is("-0.0"));
+        assertThat(render("{{ value_json.t }}", "{\"t\": 123456789012345678}"), is("123456789012345678"));
+        assertThat(render("{{ value | float }}", "100"), is("100.0"));
+        assertThat(render("{{ value_json.t | float }}", "{\"t\": 1e400}"), is("inf"));
+    }
+
+    @Test
+    public void testFilters() {
+        assertThat(render("{{ value_json.a | float }}", "{\"a\": \"21.5\"}"), is("21.5"));
+        assertThat(render("{{ value_json.a | float }}", "{\"a\": true}"), is("1.0"));
+        assertThat(render("{{ value_json.a | int }}", "{\"a\": \"42.73\"}"), is("42"));
+        assertThat(render("{{ value_json.a | int }}", "{\"a\": -42.73}"), is("-42"));
+        assertThat(render("{{ value_json.a | round }}", "{\"a\": 2.5}"), is("2"));
+        assertThat(render("{{ value_json.a | round }}", "{\"a\": 3.5}"), is("4"));
+        assertThat(render("{{ value_json.a | round(2) }}", "{\"a\": 2.675}"), is("2.67"));
+        assertThat(render("{{ value_json.a | round(2) }}", "{\"a\": \"1.005\"}"), is("1.0"));
+        assertThat(render("{{ value_json.a | float | round(1) }}", "{\"a\": \"19.96\"}"), is("20.0"));
+    }
+
+    @Test
+    public void testComparisonAndIif() {
+        assertThat(render("{{ value_json.a == 'ON' }}", "{\"a\": \"ON\"}"), is("True"));
+        assertThat(render("{{ value_json.a != 'ON' }}", "{\"a\": \"ON\"}"), is("False"));
+        assertThat(render("{{ value_json.a == 1 }}", "{\"a\": 1.0}"), is("True"));
+        assertThat(render("{{ value_json.a == 1 }}", "{\"a\": true}"), is("True"));
+        assertThat(render("{{ iif(value_json.a == 'ON', 'on', 'off') }}", "{\"a\": \"ON\"}"), is("on"));
+        assertThat(render("{{ value_json.c | iif('closed', 'open') }}", "{\"c\": 0.0}"), is("open"));
+        assertThat(render("{{ value_json.c | iif('closed', 'open', 'unknown') }}", "{\"c\": null}"), is("unknown"));
+        assertThat(render("{{ iif(none, 'Yes', 'No', none) }}", ""), is("None"));
+    }
+
+    @Test
+    public void testCommandTemplate() {
+        HomeAssistantNativeTemplate template = HomeAssistantNativeTemplate.parse("{{ value | int }}", true);
+        assertThat(template, is(notNullValue()));
+        assertThat(Objects.requireNonNull(template).render(42), is("42"));
+        assertThat(HomeAssistantNativeTemplate.parse("{{ value_json.a }}", true), is(nullValue()));
+    }
+
+    @Test
+    public void testUnsupportedTemplates() {
+        assertThat(HomeAssistantNativeTemplate.parse("{{}}", false), is(nullValue()));
+        assertThat(HomeAssistantNativeTemplate.parse("{{ value_json.a }} C", false), is(nullValue()));
+        assertThat(HomeAssistantNativeTemplate.parse("{{ states('sensor.x') }}", false), is(nullValue()));
+        assertThat(HomeAssistantNativeTemplate.parse("{{ value_json.items }}", false), is(nullValue()));
+        assertThat(HomeAssistantNativeTemplate.parse("{{ 'a\\'b' }}", false), is(nullValue()));
+        assertThat(HomeAssistantNativeTemplate.parse("{%- if value %}1{% endif %}", false), is(nullValue()));
+    }
+
+    @Test
+    public void testFallback() {
+        assertThat(render("{{ value_json.missing }}", "{\"a\": 1}"), is(nullValue()));
+        assertThat(render("{{ value_json.a[5] }}", "{\"a\": [1]}"), is(nullValue()));
+        assertThat(render("{{ value_json.a }}", "{\"a\": [1]}"), is(nullValue()));
+        assertThat(render("{{ value_json.a }}", "not json"), is(nullValue()));
+        assertThat(render("{{ value_json.a }}", "{\"a\": 1} x"), is(nullValue()));
+        assertThat(render("{{ value_json }}", "NaN"), is(nullValue()));
+        assertThat(render("{{ value_json.a | float }}", "{\"a\": \"abc\"}"), is(nullValue()));
+        assertThat(render("{{ value | int(0, 16) }}", "ff"), is(nullValue()));
+    }
+
+    private @Nullable String render(String source, String payload) {
+        HomeAssistantNativeTemplate template = HomeAssistantNativeTemplate.parse(source, false);
+        assertThat(template, is(notNullValue()));
+        return Objects.requireNonNull(template).render(payload);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.snmp.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.snmp4j.PDU;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.VariableBinding;
+
+/**
+ * The {@link SnmpTableWalk} keeps track of a walk over one or more table columns.
+ *
+ * All columns are walked in parallel, i.e. each request contains the last received OID of every column that has not
+ * been finished yet. With GETBULK requests the agent returns up to <code>maxRepetitions</code> rows per column in a
+ * single response, the variable bindings of the columns are interleaved.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class SnmpTableWalk {
+    private final Map<OID, OID> positions = new LinkedHashMap<>();
+    private List<OID> requestedColumns = List.of();
+    private int maxRepetitions;
+
+    public SnmpTableWalk(Collection<OID> columns, int maxRepetitions) {
+        columns.forEach(column -> positions.put(column, column));
+        this.maxRepetitions = Math.max(1, maxRepetitions);
+    }
+
+    /**
+     * Add the variable bindings for the next request to a PDU
+     *
+     * @param pdu a GETNEXT or GETBULK PDU
+     */
+    public synchronized void fillRequest(PDU pdu) {
+        requestedColumns = List.copyOf(positions.keySet());
+        positions.values().forEach(position -> pdu.add(new VariableBinding(position)));
+        if (pdu.getType() == PDU.GETBULK) {
+            pdu.setNonRepeaters(0);
+            pdu.setMaxRepetitions(maxRepetitions);
+        }
+    }
+
+    /**
+     * Process the variable bindings of a response
+     *
+     * Columns are finished when the agent returns an OID outside the column, an exception (e.g. endOfMibView) or
+     * an OID that does not advance the walk.
+     *
+     * @param bindings the variable bindings of the response
+     * @return the variable bindings that belong to one of the walked columns
+     */
+    public synchronized List<VariableBinding> processResponse(List<? extends VariableBinding> bindings) {
+        List<VariableBinding> rows = new ArrayList<>();
+        int columnCount = requestedColumns.size();
+        if (columnCount == 0) {
+            return rows;
+        }
+        boolean[] advanced = new boolean[columnCount];
+        for (int i = 0; i < bindings.size(); i++) {
+            int columnIndex = i % columnCount;
+            OID column = requestedColumns.get(columnIndex);
+            OID position = positions.get(column);
+            if (position == null) {
+                // already finished in a previous repetition
+                continue;
+            }
+            VariableBinding binding = bindings.get(i);
+            OID oid = binding.getOid();
+            if (binding.isException() || oid.size() <= column.size() || !oid.startsWith(column)
+                    || oid.compareTo(position) <= 0) {
+                positions.remove(column);
+                continue;
+            }
+            positions.put(column, oid);
+            advanced[columnIndex] = true;
+            rows.add(binding);
+        }
+        for (int i = 0; i < columnCount; i++) {
+            // columns missing from a truncated response are requested again, but a column without progress would
+            // repeat the same request forever
+            if (!advanced[i] && (i < bindings.size() || bindings.isEmpty())) {
+                positions.remove(requestedColumns.get(i));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Reduce the number of rows per request after the agent reported that the response would be too big
+     *
+     * @return <code>false</code> if the number of rows can't be reduced any further
+     */
+    public synchronized boolean reduceRepetitions() {
+        if (maxRepetitions <= 1) {
+            return false;
+        }
+        maxRepetitions = maxRepetitions / 2;
+        return true;
+    }
+
+    public synchronized void finish() {
+        positions.clear();
+    }
+
+    public synchronized boolean isFinished() {
+        return positions.isEmpty();
+    }
+}
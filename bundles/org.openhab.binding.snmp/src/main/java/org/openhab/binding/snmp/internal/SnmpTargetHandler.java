@@ -17,6 +17,8 @@ import static org.openhab.binding.snmp.internal.SnmpBindingConstants.*;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
@@ -36,6 +38,7 @@ import org.openhab.binding.snmp.internal.types.SnmpChannelMode;
 import org.openhab.binding.snmp.internal.types.SnmpDatatype;
 import org.openhab.binding.snmp.internal.types.SnmpProtocolVersion;
 import org.openhab.binding.snmp.internal.types.SnmpSecurityModel;
+import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
@@ -46,6 +49,7 @@ import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseThingHandler;
+import org.openhab.core.thing.binding.builder.ChannelBuilder;
 import org.openhab.core.thing.util.ThingHandlerHelper;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
@@ -96,6 +100,8 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
     private final SnmpService snmpService;
     private @Nullable ScheduledFuture<?> refresh;
     private int timeoutCounter = 0;
+    private int maxVarBindings = 1;
+    private @Nullable SnmpTableWalk tableWalk;
 
     private @NonNullByDefault({}) AbstractTarget<UdpAddress> target;
     private @NonNullByDefault({}) String targetAddressString;
@@ -103,6 +109,7 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> readChannelSet;
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> writeChannelSet;
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> trapChannelSet;
+    private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> tableChannelSet;
 
     // SNMP v3
     private @Nullable UsmUser usmUser;
@@ -122,6 +129,10 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
 
         try {
             if (command instanceof RefreshType) {
+                if (tableChannelSet.stream().anyMatch(c -> channelUID.equals(c.channelUID))) {
+                    startTableWalk();
+                    return;
+                }
                 SnmpInternalChannelConfiguration channel = readChannelSet.stream()
                         .filter(c -> channelUID.equals(c.channelUID)).findFirst()
                         .orElseThrow(() -> new IllegalArgumentException("no readable channel found"));
@@ -234,6 +245,7 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             target.setAddress(null);
 
             timeoutCounter = 0;
+            maxVarBindings = Math.max(1, config.maxVarBindings);
         } catch (IllegalArgumentException e) {
             // some methods of SNMP4J throw an unchecked IllegalArgumentException if they receive invalid values
             String message = "Exception during initialization: " + e.getMessage();
@@ -279,7 +291,11 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         }
 
         PDU response = event.getResponse();
+        Object userObject = event.getUserObject();
         if (response == null) {
+            if (userObject instanceof SnmpTableWalk walk) {
+                walk.finish();
+            }
             Exception e = event.getError();
             if (e == null) { // no response, no error -> request timed out
                 timeoutCounter++;
@@ -298,6 +314,15 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         }
         logger.trace("{} received {}", thing.getUID(), response);
 
+        if (response.getErrorStatus() == PDU.tooBig) {
+            handleTooBig(event.getRequest(), userObject);
+            return;
+        }
+        if (userObject instanceof SnmpTableWalk walk) {
+            processTableWalkResponse(walk, response);
+            return;
+        }
+
         response.getVariableBindings().forEach(variable -> {
             if (variable != null) {
                 updateChannels(variable.getOid(), variable.getVariable(), readChannelSet);
@@ -419,6 +444,55 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 .collect(Collectors.toSet());
         this.trapChannelSet = channelConfigs.stream().filter(c -> c.mode == SnmpChannelMode.TRAP)
                 .collect(Collectors.toSet());
+        this.tableChannelSet = channelConfigs.stream().filter(c -> c.mode == SnmpChannelMode.TABLE)
+                .collect(Collectors.toSet());
+    }
+
+    private boolean isTableRow(SnmpInternalChannelConfiguration channelConfig) {
+        return tableChannelSet.stream().anyMatch(
+                c -> channelConfig.oid.size() > c.oid.size() && channelConfig.oid.startsWith(c.oid));
+    }
+
+    /**
+     * Add a channel for each table row that has no channel yet. The channels are created with the configuration of
+     * the table channel, the OID of the row and the mode <code>READ</code>.
+     *
+     * @param rows the variable bindings received for the table channels
+     */
+    private synchronized void addRowChannels(List<VariableBinding> rows) {
+        List<Channel> channels = new ArrayList<>();
+        for (VariableBinding row : rows) {
+            OID oid = row.getOid();
+            for (SnmpInternalChannelConfiguration tableChannelConfig : tableChannelSet) {
+                OID column = tableChannelConfig.oid;
+                if (oid.size() <= column.size() || !oid.startsWith(column)) {
+                    continue;
+                }
+                Channel tableChannel = thing.getChannel(tableChannelConfig.channelUID);
+                if (tableChannel == null) {
+                    continue;
+                }
+                String index = new OID(oid.getValue(), column.size(), oid.size() - column.size()).toDottedString();
+                ChannelUID channelUID = new ChannelUID(thing.getUID(),
+                        tableChannelConfig.channelUID.getId() + "_" + index.replace('.', '_'));
+                if (thing.getChannel(channelUID) != null
+                        || channels.stream().anyMatch(c -> channelUID.equals(c.getUID()))) {
+                    continue;
+                }
+                Configuration configuration = new Configuration(tableChannel.getConfiguration().getProperties());
+                configuration.put("oid", oid.toDottedString());
+                configuration.put("mode", SnmpChannelMode.READ.name());
+                String label = Objects.requireNonNullElse(tableChannel.getLabel(), tableChannel.getUID().getId());
+                channels.add(ChannelBuilder.create(channelUID, tableChannel.getAcceptedItemType())
+                        .withType(tableChannel.getChannelTypeUID()).withLabel(label + " " + index)
+                        .withConfiguration(configuration).build());
+            }
+        }
+        if (!channels.isEmpty()) {
+            logger.debug("{} adding {} channels for new table rows", thing.getUID(), channels.size());
+            updateThing(editThing().withChannels(channels).build());
+            generateChannelConfigs();
+        }
     }
 
     private void updateChannels(OID oid, Variable value, Set<SnmpInternalChannelConfiguration> channelConfigs) {
@@ -590,16 +664,98 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 return;
             }
         }
-        PDU pdu = getPDU();
-        pdu.setType(PDU.GET);
-        readChannelSet.stream().map(c -> new VariableBinding(c.oid)).forEach(pdu::add);
-        if (!pdu.getVariableBindings().isEmpty()) {
+        // rows of tables are read by the table walk
+        sendGet(readChannelSet.stream().filter(c -> !isTableRow(c)).map(c -> c.oid).distinct().toList());
+        startTableWalk();
+    }
+
+    /**
+     * Request the given OIDs, split into PDUs of at most <code>maxVarBindings</code> variable bindings. The PDUs are
+     * sent without waiting for the responses of the previous ones.
+     *
+     * @param oids the OIDs
+     */
+    private void sendGet(List<OID> oids) {
+        int chunkSize = maxVarBindings;
+        for (int i = 0; i < oids.size(); i += chunkSize) {
+            PDU pdu = getPDU();
+            pdu.setType(PDU.GET);
+            oids.subList(i, Math.min(i + chunkSize, oids.size())).forEach(oid -> pdu.add(new VariableBinding(oid)));
             try {
                 snmpService.send(pdu, target, null, this);
             } catch (IOException e) {
                 logger.info("Could not send PDU", e);
+                return;
+            }
+        }
+    }
+
+    private synchronized void startTableWalk() {
+        if (tableChannelSet.isEmpty()) {
+            return;
+        }
+        SnmpTableWalk walk = tableWalk;
+        if (walk != null && !walk.isFinished()) {
+            logger.debug("{} table walk still in progress, skipping", thing.getUID());
+            return;
+        }
+        // SNMP v1 does not support GETBULK, so only one row per column can be requested
+        int maxRepetitions = config.protocol.toInteger() == SnmpConstants.version1 ? 1 : config.maxRepetitions;
+        walk = new SnmpTableWalk(tableChannelSet.stream().map(c -> c.oid).distinct().toList(), maxRepetitions);
+        tableWalk = walk;
+        sendTableWalk(walk);
+    }
+
+    private void sendTableWalk(SnmpTableWalk walk) {
+        PDU pdu = getPDU();
+        pdu.setType(config.protocol.toInteger() == SnmpConstants.version1 ? PDU.GETNEXT : PDU.GETBULK);
+        walk.fillRequest(pdu);
+        try {
+            snmpService.send(pdu, target, walk, this);
+        } catch (IOException e) {
+            logger.info("Could not send PDU", e);
+            walk.finish();
+        }
+    }
+
+    private void processTableWalkResponse(SnmpTableWalk walk, PDU response) {
+        if (response.getErrorStatus() != PDU.noError) {
+            // SNMP v1 agents report the end of the MIB view as error
+            logger.debug("{} table walk ended with error {}", thing.getUID(), response.getErrorStatusText());
+            walk.finish();
+            return;
+        }
+        List<VariableBinding> rows = walk.processResponse(response.getVariableBindings());
+        addRowChannels(rows);
+        rows.forEach(row -> updateChannels(row.getOid(), row.getVariable(), readChannelSet));
+        if (!walk.isFinished()) {
+            sendTableWalk(walk);
+        }
+    }
+
+    private void handleTooBig(@Nullable PDU request, @Nullable Object userObject) {
+        if (userObject instanceof SnmpTableWalk walk) {
+            if (walk.reduceRepetitions()) {
+                sendTableWalk(walk);
+            } else {
+                logger.warn("{} response to table walk too big, ignoring tables", thing.getUID());
+                walk.finish();
             }
+            return;
+        }
+        if (request == null || request.getType() != PDU.GET) {
+            return;
+        }
+        int size = request.size();
+        if (size <= 1) {
+            logger.warn("{} response to request {} too big", thing.getUID(), request);
+            return;
         }
+        // remember the reduced size for the next refresh
+        maxVarBindings = Math.min(maxVarBindings, (size + 1) / 2);
+        logger.debug("{} response too big, reducing to {} variable bindings per request", thing.getUID(),
+                maxVarBindings);
+        sendGet(request.getVariableBindings().stream().map(VariableBinding::getOid).toList());
     }
 
     private PDU getPDU() {
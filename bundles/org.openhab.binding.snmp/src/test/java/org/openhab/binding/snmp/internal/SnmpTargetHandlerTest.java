@@ -18,16 +18,19 @@ import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.openhab.binding.snmp.internal.types.SnmpChannelMode;
 import org.openhab.binding.snmp.internal.types.SnmpDatatype;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.ThingStatus;
 import org.snmp4j.PDU;
 import org.snmp4j.Snmp;
@@ -166,6 +169,46 @@ public class SnmpTargetHandlerTest extends AbstractSnmpTargetHandlerTest {
         verifyStatus(ThingStatus.ONLINE);
     }
 
+    @Test
+    public void testTooBigRequestIsSplit() throws IOException {
+        setup(SnmpBindingConstants.CHANNEL_TYPE_UID_STRING, SnmpChannelMode.WRITE);
+        PDU request = new PDU(PDU.GET, List.of(new VariableBinding(new OID(TEST_OID)),
+                new VariableBinding(new OID("1.2.3.5")), new VariableBinding(new OID("1.2.3.6"))));
+        PDU responsePDU = new PDU(PDU.RESPONSE, request.getVariableBindings());
+        responsePDU.setErrorStatus(PDU.tooBig);
+
+        thingHandler.onResponse(new ResponseEvent("test", null, request, responsePDU, null));
+
+        ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
+        verify(snmpService, times(2)).send(pduCaptor.capture(), any(), eq(null), eq(thingHandler));
+        assertEquals(List.of(2, 1), pduCaptor.getAllValues().stream().map(PDU::size).toList());
+    }
+
+    @Test
+    public void testTableWalkAddsRowChannels() throws IOException {
+        setup(SnmpBindingConstants.CHANNEL_TYPE_UID_NUMBER, SnmpChannelMode.TABLE);
+
+        ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
+        ArgumentCaptor<Object> walkCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(snmpService, timeout(500)).send(pduCaptor.capture(), any(), walkCaptor.capture(), eq(thingHandler));
+        PDU request = pduCaptor.getValue();
+        assertEquals(PDU.GETNEXT, request.getType());
+        assertEquals(new OID(TEST_OID), request.get(0).getOid());
+
+        PDU responsePDU = new PDU(PDU.RESPONSE,
+                List.of(new VariableBinding(new OID(TEST_OID + ".7"), new UnsignedInteger32(5))));
+        thingHandler.onResponse(new ResponseEvent("test", null, request, responsePDU, walkCaptor.getValue()));
+
+        ChannelUID rowChannelUID = new ChannelUID(THING_UID, CHANNEL_UID.getId() + "_7");
+        assertNotNull(thingHandler.getThing().getChannel(rowChannelUID));
+        verify(thingHandlerCallback).stateUpdated(eq(rowChannelUID), eq(new DecimalType(5)));
+        verify(thingHandlerCallback, never()).stateUpdated(eq(CHANNEL_UID), any());
+
+        // the walk continues with the last received row
+        verify(snmpService, times(2)).send(pduCaptor.capture(), any(), eq(walkCaptor.getValue()), eq(thingHandler));
+        assertEquals(new OID(TEST_OID + ".7"), pduCaptor.getValue().get(0).getOid());
+    }
+
     static class SnmpMock extends Snmp {
         public int cancelCallCounter = 0;
 
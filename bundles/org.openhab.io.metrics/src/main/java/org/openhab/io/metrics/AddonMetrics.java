@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link AddonMetrics} is the base class of the services by which add-ons contribute metrics. It is registered as
+ * an {@link AddonMetrics} service, bound to the openHAB meter registry by the {@link MetricsRestController} and
+ * unbound again, with all its meters removed, when the service goes away.
+ * <p>
+ * The meters only read the statistics kept by the add-on, so the add-on itself does not depend on Micrometer. The
+ * metrics are named {@code openhab.addon.<type>.<metric>} and tagged with {@value #TAG_ADDON}, the add-on id.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public abstract class AddonMetrics implements MeterBinder {
+
+    public static final String TAG_ADDON = "addon";
+    public static final String TAG_THING = "thing";
+
+    private static final String PREFIX = "openhab.addon.";
+
+    private final String prefix;
+    private final String addonId;
+    private final List<Meter> meters = new ArrayList<>();
+    private @Nullable MeterRegistry meterRegistry;
+
+    /**
+     * @param type the type of the metrics, e.g. {@code persistence}, which is shared by similar add-ons
+     * @param addonId the id of the add-on
+     */
+    protected AddonMetrics(String type, String addonId) {
+        this.prefix = PREFIX + type + ".";
+        this.addonId = addonId;
+    }
+
+    @Override
+    public final synchronized void bindTo(MeterRegistry registry) {
+        unbind();
+        meterRegistry = registry;
+        bindMeters();
+    }
+
+    /**
+     * Remove all meters of the add-on from the registry.
+     */
+    public final synchronized void unbind() {
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            meters.forEach(registry::remove);
+        }
+        meters.clear();
+        meterRegistry = null;
+    }
+
+    /**
+     * Create the meters of the add-on with the factory methods, called whenever a registry is bound.
+     */
+    protected abstract void bindMeters();
+
+    /**
+     * Create a timer reading the number of events and their total time from the add-on statistics.
+     *
+     * @param metric the name of the metric within the type
+     * @param description the description of the metric
+     * @param statistics the statistics of the add-on
+     * @param count returns the number of timed events
+     * @param totalNanos returns the total time of all events in nanoseconds
+     * @param tags additional tags as key/value pairs
+     */
+    protected final synchronized <T> void timer(String metric, String description, T statistics,
+            ToLongFunction<T> count, ToDoubleFunction<T> totalNanos, String... tags) {
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            meters.add(FunctionTimer.builder(prefix + metric, statistics, count, totalNanos, TimeUnit.NANOSECONDS)
+                    .description(description).tags(tags(tags)).register(registry));
+        }
+    }
+
+    /**
+     * Create a counter reading a monotonically increasing count from the add-on statistics.
+     *
+     * @param metric the name of the metric within the type
+     * @param description the description of the metric
+     * @param statistics the statistics of the add-on
+     * @param count returns the current count
+     * @param tags additional tags as key/value pairs
+     */
+    protected final synchronized <T> void counter(String metric, String description, T statistics,
+            ToDoubleFunction<T> count, String... tags) {
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            meters.add(FunctionCounter.builder(prefix + metric, statistics, count).description(description)
+                    .tags(tags(tags)).register(registry));
+        }
+    }
+
+    /**
+     * Create a gauge reading a current value from the add-on statistics.
+     *
+     * @param metric the name of the metric within the type
+     * @param description the description of the metric
+     * @param baseUnit the unit of the value, or null if it is a plain number
+     * @param statistics the statistics of the add-on
+     * @param value returns the current value
+     * @param tags additional tags as key/value pairs
+     */
+    protected final synchronized <T> void gauge(String metric, String description, @Nullable String baseUnit,
+            T statistics, ToDoubleFunction<T> value, String... tags) {
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            meters.add(Gauge.builder(prefix + metric, statistics, value).description(description).baseUnit(baseUnit)
+                    .tags(tags(tags)).register(registry));
+        }
+    }
+
+    /**
+     * Remove the meters carrying all given tags, e.g. the meters of a thing which is disposed.
+     *
+     * @param tags the tags as key/value pairs
+     */
+    protected final synchronized void remove(String... tags) {
+        MeterRegistry registry = meterRegistry;
+        List<Tag> removedTags = Tags.of(tags).stream().toList();
+        for (Iterator<Meter> iterator = meters.iterator(); iterator.hasNext();) {
+            Meter meter = iterator.next();
+            if (meter.getId().getTags().containsAll(removedTags)) {
+                iterator.remove();
+                if (registry != null) {
+                    registry.remove(meter);
+                }
+            }
+        }
+    }
+
+    private Tags tags(String... tags) {
+        return Tags.of(TAG_ADDON, addonId).and(tags);
+    }
+}
@@ -15,6 +15,7 @@ package org.openhab.io.metrics;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import javax.annotation.security.RolesAllowed;
 import javax.ws.rs.GET;
@@ -35,6 +36,8 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.osgi.service.jaxrs.whiteboard.JaxrsWhiteboardConstants;
 import org.osgi.service.jaxrs.whiteboard.propertytypes.JSONRequired;
 import org.osgi.service.jaxrs.whiteboard.propertytypes.JaxrsApplicationSelect;
@@ -53,6 +56,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 
 /**
  * The {@link MetricsRestController} class implements the REST endpoints for all pull based monitoring systems.
+ * Add-ons can contribute their own metrics by registering an {@link AddonMetrics} service, which is bound to the
+ * openHAB meter registry and thereby exported to all monitoring systems.
  *
  * @author Robert Bach - Initial contribution
  */
@@ -72,6 +77,7 @@ public class MetricsRestController {
     private final PrometheusMeterRegistry prometheusMeterRegistry = new PrometheusMeterRegistry(
             PrometheusConfig.DEFAULT);
     private final Set<MetricsExporter> metricsExporters = new HashSet<>();
+    private final Set<AddonMetrics> addonMetrics = new CopyOnWriteArraySet<>();
     private @Nullable MetricsConfiguration config;
 
     @GET
@@ -93,9 +99,36 @@ public class MetricsRestController {
         meterRegistry.add(prometheusMeterRegistry);
         this.meterRegistry = meterRegistry;
         logger.debug("Core metrics registry retrieved and Prometheus registry added successfully.");
+        addonMetrics.forEach(metrics -> bindMeters(metrics, meterRegistry));
         updateMeterRegistry();
     }
 
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+    public void addAddonMetrics(AddonMetrics metrics) {
+        addonMetrics.add(metrics);
+        CompositeMeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry != null) {
+            bindMeters(metrics, meterRegistry);
+        }
+    }
+
+    public void removeAddonMetrics(AddonMetrics metrics) {
+        addonMetrics.remove(metrics);
+        metrics.unbind();
+        logger.debug("Add-on metrics of {} removed.", metrics.getClass().getName());
+    }
+
+    private void bindMeters(AddonMetrics metrics, CompositeMeterRegistry meterRegistry) {
+        try {
+            metrics.bindTo(meterRegistry);
+            logger.debug("Add-on metrics of {} registered.", metrics.getClass().getName());
+        } catch (RuntimeException e) {
+            metrics.unbind();
+            logger.warn("Failed to register the add-on metrics of {}: {}", metrics.getClass().getName(),
+                    e.getMessage());
+        }
+    }
+
     @Activate
     protected void activate(Map<@Nullable String, @Nullable Object> configuration) {
         logger.info("Metrics service activated, serving the following URL(s): /rest/metrics/prometheus");
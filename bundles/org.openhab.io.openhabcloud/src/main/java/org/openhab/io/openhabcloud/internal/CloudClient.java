@@ -18,7 +18,9 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -36,9 +38,9 @@ import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.util.BytesContentProvider;
 import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
-import org.eclipse.jetty.util.BufferUtil;
 import org.eclipse.jetty.util.URIUtil;
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -83,6 +85,19 @@ public class CloudClient {
 
     private static final long READ_TIMEOUT = 60_0000;
 
+    private static final long MIN_COMPRESSED_LENGTH = 1024;
+
+    /*
+     * Separates the content encoding appended to the entity tag of a compressed response
+     */
+    private static final String ETAG_ENCODING_SEPARATOR = "--";
+
+    /*
+     * Request headers carrying the credentials of the remote user, responses to requests with them are not cached
+     */
+    private static final List<String> CREDENTIAL_HEADERS = List.of(HttpHeader.AUTHORIZATION.asString(),
+            HttpHeader.COOKIE.asString(), "X-OPENHAB-TOKEN");
+
     /*
      * Logger for this class
      */
@@ -118,6 +133,11 @@ public class CloudClient {
      */
     private final Map<Integer, Request> runningRequests = new ConcurrentHashMap<>();
 
+    /*
+     * This cache holds the static assets of the local openHAB which were requested through the openHAB Cloud
+     */
+    private final ResponseCache responseCache = new ResponseCache();
+
     /*
      * This variable indicates if connection to the openHAB Cloud is currently in an established state
      */
@@ -140,6 +160,7 @@ public class CloudClient {
      */
     private CloudClientListener listener;
     private boolean remoteAccessEnabled;
+    private boolean compressionEnabled;
     private Set<String> exposedItems;
 
     /**
@@ -165,15 +186,17 @@ public class CloudClient {
      * @param secret openHAB's Secret to connect to the openHAB Cloud
      * @param remoteAccessEnabled Allow the openHAB Cloud to be used as a remote proxy
      * @param exposedItems Items that are made available to apps connected to the openHAB Cloud
+     * @param compressionEnabled Compress proxied responses when the remote client accepts it
      */
     public CloudClient(HttpClient httpClient, String uuid, String secret, String baseURL, String localBaseUrl,
-            boolean remoteAccessEnabled, Set<String> exposedItems) {
+            boolean remoteAccessEnabled, Set<String> exposedItems, boolean compressionEnabled) {
         this.uuid = uuid;
         this.secret = secret;
         this.baseURL = baseURL;
         this.localBaseUrl = localBaseUrl;
         this.remoteAccessEnabled = remoteAccessEnabled;
         this.exposedItems = exposedItems;
+        this.compressionEnabled = compressionEnabled;
         this.jettyClient = httpClient;
         reconnectBackoff.setMin(RECONNECT_MIN);
         reconnectBackoff.setMax(RECONNECT_MAX);
@@ -461,34 +484,72 @@ public class CloudClient {
                 request.content(new BytesContentProvider(requestBody.getBytes()));
             }
 
+            // Static assets are answered from the cache while they are fresh, and revalidated once they are stale
+            String cacheKey = getCacheKey(requestUri, requestHeadersJson);
+            boolean cacheable = method == HttpMethod.GET && isCacheable(requestPath, requestHeadersJson);
+            long requestTime = System.currentTimeMillis();
+            ResponseCache.Entry cachedResponse = cacheable ? responseCache.get(cacheKey) : null;
+            if (cachedResponse != null) {
+                String ifNoneMatch = getRequestHeader(requestHeadersJson, HttpHeader.IF_NONE_MATCH);
+                if (ifNoneMatch != null) {
+                    ifNoneMatch = decodeEtags(ifNoneMatch);
+                }
+                long ifModifiedSince = ResponseCache
+                        .parseDate(getRequestHeader(requestHeadersJson, HttpHeader.IF_MODIFIED_SINCE));
+                if (cachedResponse.isFresh(requestTime)) {
+                    logger.debug("Answering request {} from the response cache", requestId);
+                    sendCachedResponse(requestId, method, requestHeadersJson, cachedResponse,
+                            cachedResponse.isNotModified(ifNoneMatch, ifModifiedSince));
+                    return;
+                }
+                if (ifNoneMatch == null && ifModifiedSince < 0) {
+                    String etag = cachedResponse.etag;
+                    if (etag != null) {
+                        request.header(HttpHeader.IF_NONE_MATCH, etag);
+                    } else {
+                        request.header(HttpHeader.IF_MODIFIED_SINCE,
+                                cachedResponse.headers.get(HttpHeader.LAST_MODIFIED));
+                    }
+                } else {
+                    // the remote client revalidates its own copy, which may differ from the cached one
+                    cachedResponse = null;
+                }
+            }
+            ResponseCache.Entry revalidatedResponse = cachedResponse;
+            AtomicReference<ResponseCache.@Nullable Collector> collector = new AtomicReference<>();
+
+            ResponseContentStream contentStream = new ResponseContentStream(scheduler,
+                    jettyClient.getByteBufferPool(), frame -> sendResponseContent(requestId, frame));
             request.onResponseHeaders(response -> {
                 logger.debug("onHeaders {}", requestId);
-                JSONObject responseJson = new JSONObject();
-                try {
-                    responseJson.put("id", requestId);
-                    responseJson.put("headers", getJSONHeaders(response.getHeaders()));
-                    responseJson.put("responseStatusCode", response.getStatus());
-                    responseJson.put("responseStatusText", response.getReason());
-                    socket.emit("responseHeader", responseJson);
-                    logger.trace("Sent headers to request {}", requestId);
-                    logger.trace("{}", responseJson.toString());
-                } catch (JSONException e) {
-                    logger.debug("{}", e.getMessage());
+                if (revalidatedResponse != null && response.getStatus() == HttpStatus.NOT_MODIFIED_304) {
+                    logger.debug("Cached response to request {} is still valid", requestId);
+                    revalidatedResponse.revalidated(requestTime);
+                    sendResponseHeaders(requestId, HttpStatus.OK_200, HttpStatus.getMessage(HttpStatus.OK_200),
+                            getCachedHeaders(revalidatedResponse), method, requestHeadersJson, contentStream);
+                    contentStream.write(ByteBuffer.wrap(revalidatedResponse.body));
+                    return;
+                }
+                if (cacheable) {
+                    ResponseCache.Collector responseCollector = responseCache.newCollector(cacheKey,
+                            response.getStatus(), response.getHeaders(), requestTime);
+                    if (responseCollector == null && response.getStatus() != HttpStatus.NOT_MODIFIED_304) {
+                        responseCache.remove(cacheKey);
+                    }
+                    collector.set(responseCollector);
                 }
+                sendResponseHeaders(requestId, response.getStatus(), response.getReason(), response.getHeaders(),
+                        method, requestHeadersJson, contentStream);
             }).onResponseContent((theResponse, content) -> {
                 logger.debug("onResponseContent: {}, content size {}", requestId, String.valueOf(content.remaining()));
-                JSONObject responseJson = new JSONObject();
-                try {
-                    responseJson.put("id", requestId);
-                    responseJson.put("body", BufferUtil.toArray(content));
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("{}", StandardCharsets.UTF_8.decode(content).toString());
-                    }
-                    socket.emit("responseContentBinary", responseJson);
-                    logger.trace("Sent content to request {}", requestId);
-                } catch (JSONException e) {
-                    logger.debug("{}", e.getMessage());
+                if (logger.isTraceEnabled()) {
+                    logger.trace("{}", StandardCharsets.UTF_8.decode(content.duplicate()).toString());
+                }
+                ResponseCache.Collector responseCollector = collector.get();
+                if (responseCollector != null) {
+                    responseCollector.append(content);
                 }
+                contentStream.write(content);
             }).onRequestFailure((origRequest, failure) -> {
                 logger.debug("onRequestFailure: {},  {}", requestId, failure.getMessage());
                 JSONObject responseJson = new JSONObject();
@@ -503,6 +564,11 @@ public class CloudClient {
                 logger.debug("onComplete: {}", requestId);
                 // Remove this request from list of running requests
                 runningRequests.remove(requestId);
+                contentStream.close();
+                ResponseCache.Collector responseCollector = collector.get();
+                if (responseCollector != null && result != null && result.isSucceeded()) {
+                    responseCollector.complete();
+                }
                 if ((result != null && result.isFailed())
                         && (result.getResponse() != null && result.getResponse().getStatus() != HttpStatus.OK_200)) {
                     if (result.getFailure() != null) {
@@ -515,14 +581,7 @@ public class CloudClient {
                         logger.debug("Response Failure: {}", result.getResponseFailure().getMessage());
                     }
                 }
-                JSONObject responseJson = new JSONObject();
-                try {
-                    responseJson.put("id", requestId);
-                    socket.emit("responseFinished", responseJson);
-                    logger.debug("Finished responding to request {}", requestId);
-                } catch (JSONException e) {
-                    logger.debug("{}", e.getMessage());
-                }
+                sendResponseFinished(requestId);
             });
 
             // If successfully submitted request to http client, add it to the list of currently
@@ -542,6 +601,10 @@ public class CloudClient {
             try {
                 headerValue = requestHeadersJson.getString(headerName);
                 logger.debug("Jetty set header {} = {}", headerName, headerValue);
+                if (HttpHeader.IF_NONE_MATCH.is(headerName)) {
+                    // openHAB only knows the entity tags of its uncompressed responses
+                    headerValue = decodeEtags(headerValue);
+                }
                 if (!"Content-Length".equalsIgnoreCase(headerName)) {
                     request.header(headerName, headerValue);
                 }
@@ -551,6 +614,264 @@ public class CloudClient {
         }
     }
 
+    private void sendCachedResponse(int requestId, HttpMethod method, JSONObject requestHeadersJson,
+            ResponseCache.Entry cachedResponse, boolean notModified) {
+        ResponseContentStream contentStream = new ResponseContentStream(scheduler, jettyClient.getByteBufferPool(),
+                frame -> sendResponseContent(requestId, frame));
+        if (notModified) {
+            HttpFields headers = cachedResponse.getNotModifiedHeaders();
+            headers.putDateField(HttpHeader.DATE, System.currentTimeMillis());
+            sendResponseHeaders(requestId, HttpStatus.NOT_MODIFIED_304,
+                    HttpStatus.getMessage(HttpStatus.NOT_MODIFIED_304), headers, method, requestHeadersJson,
+                    contentStream);
+        } else {
+            sendResponseHeaders(requestId, HttpStatus.OK_200, HttpStatus.getMessage(HttpStatus.OK_200),
+                    getCachedHeaders(cachedResponse), method, requestHeadersJson, contentStream);
+            contentStream.write(ByteBuffer.wrap(cachedResponse.body));
+        }
+        contentStream.close();
+        sendResponseFinished(requestId);
+    }
+
+    private HttpFields getCachedHeaders(ResponseCache.Entry cachedResponse) {
+        HttpFields headers = new HttpFields(cachedResponse.headers);
+        headers.putDateField(HttpHeader.DATE, System.currentTimeMillis());
+        return headers;
+    }
+
+    private void sendResponseHeaders(int requestId, int status, @Nullable String reason, HttpFields headers,
+            HttpMethod method, JSONObject requestHeadersJson, ResponseContentStream contentStream) {
+        HttpFields responseHeaders = headers;
+        String contentEncoding = getContentEncoding(method, status, requestHeadersJson, headers);
+        if (contentEncoding != null) {
+            logger.trace("Compressing response to request {} with {}", requestId, contentEncoding);
+            responseHeaders = new HttpFields(headers);
+            responseHeaders.remove(HttpHeader.CONTENT_LENGTH);
+            responseHeaders.put(HttpHeader.CONTENT_ENCODING, contentEncoding);
+            responseHeaders.add(HttpHeader.VARY, HttpHeader.ACCEPT_ENCODING.asString());
+            encodeEtag(responseHeaders, contentEncoding);
+        } else if (status == HttpStatus.NOT_MODIFIED_304) {
+            String ifNoneMatch = getRequestHeader(requestHeadersJson, HttpHeader.IF_NONE_MATCH);
+            String etagEncoding = ifNoneMatch != null ? getEtagEncoding(ifNoneMatch) : null;
+            if (etagEncoding != null) {
+                // the remote client revalidated a compressed copy, so confirm the entity tag it knows
+                responseHeaders = new HttpFields(headers);
+                encodeEtag(responseHeaders, etagEncoding);
+            }
+        }
+        contentStream.start(contentEncoding);
+        JSONObject responseJson = new JSONObject();
+        try {
+            responseJson.put("id", requestId);
+            responseJson.put("headers", getJSONHeaders(responseHeaders));
+            responseJson.put("responseStatusCode", status);
+            responseJson.put("responseStatusText", reason);
+            socket.emit("responseHeader", responseJson);
+            logger.trace("Sent headers to request {}", requestId);
+            logger.trace("{}", responseJson.toString());
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
+        }
+    }
+
+    private void sendResponseContent(int requestId, byte[] frame) {
+        JSONObject responseJson = new JSONObject();
+        try {
+            responseJson.put("id", requestId);
+            responseJson.put("body", frame);
+            socket.emit("responseContentBinary", responseJson);
+            logger.trace("Sent {} bytes of content to request {}", frame.length, requestId);
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
+        }
+    }
+
+    private void sendResponseFinished(int requestId) {
+        JSONObject responseJson = new JSONObject();
+        try {
+            responseJson.put("id", requestId);
+            socket.emit("responseFinished", responseJson);
+            logger.debug("Finished responding to request {}", requestId);
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
+        }
+    }
+
+    private static @Nullable String getRequestHeader(JSONObject requestHeadersJson, HttpHeader header) {
+        return getRequestHeader(requestHeadersJson, header.asString());
+    }
+
+    private static @Nullable String getRequestHeader(JSONObject requestHeadersJson, String header) {
+        for (String headerName : requestHeadersJson.keySet()) {
+            if (header.equalsIgnoreCase(headerName)) {
+                return requestHeadersJson.optString(headerName);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether the response to a GET request may be shared with other remote users through the response
+     * cache. Only static assets requested without credentials are, as the responses of the REST API and to
+     * authenticated requests may depend on the user.
+     */
+    static boolean isCacheable(String requestPath, JSONObject requestHeadersJson) {
+        if ("/rest".equals(requestPath) || requestPath.startsWith("/rest/")) {
+            return false;
+        }
+        for (String header : CREDENTIAL_HEADERS) {
+            if (getRequestHeader(requestHeadersJson, header) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the key of the cached response to a request, which includes the request headers selecting between
+     * different representations of the same resource
+     */
+    static String getCacheKey(URI requestUri, JSONObject requestHeadersJson) {
+        String accept = getRequestHeader(requestHeadersJson, HttpHeader.ACCEPT);
+        String acceptLanguage = getRequestHeader(requestHeadersJson, HttpHeader.ACCEPT_LANGUAGE);
+        return requestUri + "\n" + (accept != null ? accept : "") + "\n"
+                + (acceptLanguage != null ? acceptLanguage : "");
+    }
+
+    /**
+     * Returns the content encoding to apply to a response before sending it to the openHAB Cloud, or null if it
+     * should be sent as is
+     */
+    private @Nullable String getContentEncoding(HttpMethod method, int status, JSONObject requestHeadersJson,
+            HttpFields headers) {
+        String contentType = headers.get(HttpHeader.CONTENT_TYPE);
+        if (!compressionEnabled || !hasContent(method, status) || headers.contains(HttpHeader.CONTENT_ENCODING)
+                || contentType == null || !isCompressible(contentType)) {
+            return null;
+        }
+        long contentLength = headers.getLongField(HttpHeader.CONTENT_LENGTH.asString());
+        if (contentLength >= 0 && contentLength < MIN_COMPRESSED_LENGTH) {
+            return null;
+        }
+        String acceptEncoding = getRequestHeader(requestHeadersJson, HttpHeader.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return null;
+        }
+        boolean deflateAccepted = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase();
+            if (parts.length > 1 && parts[1].trim().matches("q\\s*=\\s*0(\\.0*)?")) {
+                continue;
+            }
+            if (ResponseContentStream.GZIP.equals(name)) {
+                return ResponseContentStream.GZIP;
+            }
+            deflateAccepted |= ResponseContentStream.DEFLATE.equals(name);
+        }
+        return deflateAccepted ? ResponseContentStream.DEFLATE : null;
+    }
+
+    /**
+     * Returns whether a response carries content, a Content-Encoding header would be invalid for a response without it
+     */
+    private static boolean hasContent(HttpMethod method, int status) {
+        return method != HttpMethod.HEAD && status >= HttpStatus.OK_200 && status != HttpStatus.NO_CONTENT_204
+                && status != HttpStatus.RESET_CONTENT_205 && status != HttpStatus.NOT_MODIFIED_304;
+    }
+
+    /**
+     * Appends the content encoding to the entity tag of a response, so the compressed representation is not taken
+     * for the uncompressed one by caches, as its content differs
+     */
+    private static void encodeEtag(HttpFields headers, String contentEncoding) {
+        String etag = headers.get(HttpHeader.ETAG);
+        if (etag != null && etag.endsWith("\"")) {
+            headers.put(HttpHeader.ETAG,
+                    etag.substring(0, etag.length() - 1) + ETAG_ENCODING_SEPARATOR + contentEncoding + "\"");
+        }
+    }
+
+    /**
+     * Removes the content encodings appended by {@link #encodeEtag} from the entity tags of an If-None-Match header
+     */
+    static String decodeEtags(String ifNoneMatch) {
+        List<String> etags = parseEtags(ifNoneMatch);
+        for (int i = 0; i < etags.size(); i++) {
+            String etag = etags.get(i);
+            String contentEncoding = getContentEncoding(etag);
+            if (contentEncoding != null) {
+                etags.set(i, etag.substring(0,
+                        etag.length() - ETAG_ENCODING_SEPARATOR.length() - contentEncoding.length() - 1) + "\"");
+            }
+        }
+        return String.join(", ", etags);
+    }
+
+    /**
+     * Returns the content encoding appended by {@link #encodeEtag} to the first entity tag of an If-None-Match header
+     * carrying one
+     */
+    static @Nullable String getEtagEncoding(String ifNoneMatch) {
+        for (String etag : parseEtags(ifNoneMatch)) {
+            String contentEncoding = getContentEncoding(etag);
+            if (contentEncoding != null) {
+                return contentEncoding;
+            }
+        }
+        return null;
+    }
+
+    private static @Nullable String getContentEncoding(String etag) {
+        for (String contentEncoding : List.of(ResponseContentStream.GZIP, ResponseContentStream.DEFLATE)) {
+            if (etag.endsWith(ETAG_ENCODING_SEPARATOR + contentEncoding + "\"")) {
+                return contentEncoding;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Splits an If-None-Match header into its entity tags, each with its weak indicator and quotes. A quoted tag may
+     * contain commas, so the header is parsed tag by tag rather than split at the commas.
+     */
+    private static List<String> parseEtags(String ifNoneMatch) {
+        List<String> etags = new ArrayList<>();
+        int length = ifNoneMatch.length();
+        int index = 0;
+        while (index < length) {
+            char c = ifNoneMatch.charAt(index);
+            if (c == ',' || Character.isWhitespace(c)) {
+                index++;
+                continue;
+            }
+            int start = index;
+            if (ifNoneMatch.startsWith("W/", index)) {
+                index += 2;
+            }
+            if (index < length && ifNoneMatch.charAt(index) == '"') {
+                int end = ifNoneMatch.indexOf('"', index + 1);
+                index = end < 0 ? length : end + 1;
+            } else {
+                // "*" or an invalid tag, which is passed on as it is
+                int end = ifNoneMatch.indexOf(',', index);
+                index = end < 0 ? length : end;
+            }
+            etags.add(ifNoneMatch.substring(start, index).trim());
+        }
+        return etags;
+    }
+
+    private static boolean isCompressible(String contentType) {
+        String mimeType = contentType.split(";", 2)[0].trim().toLowerCase();
+        // event streams are left alone, compressing them would only add framing overhead to each event
+        if ("text/event-stream".equals(mimeType)) {
+            return false;
+        }
+        return mimeType.startsWith("text/") || mimeType.endsWith("json") || mimeType.endsWith("javascript")
+                || mimeType.endsWith("xml");
+    }
+
     private void handleCancelEvent(JSONObject data) {
         try {
             int requestId = data.getInt("id");
@@ -794,6 +1115,7 @@ public class CloudClient {
         logger.info("Shutting down openHAB Cloud service connection");
         reconnectFuture.get().ifPresent(future -> future.cancel(true));
         socket.disconnect();
+        responseCache.clear();
     }
 
     public void setListener(CloudClientListener listener) {
@@ -76,6 +76,7 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     private static final String CFG_EXPOSE = "expose";
     private static final String CFG_BASE_URL = "baseURL";
     private static final String CFG_MODE = "mode";
+    private static final String CFG_COMPRESSION = "compression";
     private static final String SECRET_FILE_NAME = "openhabcloud" + File.separator + "secret";
     private static final String DEFAULT_URL = "https://myopenhab.org/";
     private static final int DEFAULT_LOCAL_OPENHAB_MAX_CONCURRENT_REQUESTS = 200;
@@ -92,6 +93,7 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
     protected final EventPublisher eventPublisher;
 
     private boolean remoteAccessEnabled = true;
+    private boolean compressionEnabled = true;
     private Set<String> exposedItems = null;
     private int localPort;
 
@@ -278,6 +280,9 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
             cloudBaseUrl = DEFAULT_URL;
         }
 
+        Object compressionCfg = config.get(CFG_COMPRESSION);
+        compressionEnabled = compressionCfg == null || Boolean.parseBoolean(compressionCfg.toString());
+
         exposedItems = new HashSet<>();
         Object expCfg = config.get(CFG_EXPOSE);
         if (expCfg instanceof String value) {
@@ -314,7 +319,7 @@ public class CloudService implements ActionService, CloudClientListener, EventSu
 
         String localBaseUrl = "http://localhost:" + localPort;
         cloudClient = new CloudClient(httpClient, InstanceUUID.get(), getSecret(), cloudBaseUrl, localBaseUrl,
-                remoteAccessEnabled, exposedItems);
+                remoteAccessEnabled, exposedItems, compressionEnabled);
         cloudClient.connect();
         cloudClient.setListener(this);
         NotificationAction.cloudService = this;
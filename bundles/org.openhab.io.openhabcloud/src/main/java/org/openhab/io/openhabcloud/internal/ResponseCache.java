@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.DateParser;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+
+/**
+ * This class caches the cacheable GET responses of the local openHAB, so that requests for static assets (UI
+ * bundles, icons, fonts, ...) received from the openHAB Cloud can be answered without the local server, as long as
+ * the cached responses are fresh. Stale responses are revalidated with their ETag or Last-Modified date. The cache
+ * is bounded to {@link #MAX_SIZE} bytes of content, and evicts the least recently used responses first. Responses
+ * are keyed by the request URI together with its Accept and Accept-Language headers.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class ResponseCache {
+
+    static final long MAX_SIZE = 16 * 1024 * 1024;
+    static final int MAX_ENTRY_SIZE = 1024 * 1024;
+
+    private static final long MAX_HEURISTIC_FRESHNESS = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * A cached response.
+     */
+    static class Entry {
+        final HttpFields headers;
+        final byte[] body;
+        final @Nullable String etag;
+        final long lastModified;
+        private final long freshness;
+        private volatile long validatedTime;
+
+        private Entry(HttpFields headers, byte[] body, long freshness, long validatedTime) {
+            this.headers = headers;
+            this.body = body;
+            this.etag = headers.get(HttpHeader.ETAG);
+            this.lastModified = getDate(headers, HttpHeader.LAST_MODIFIED);
+            this.freshness = freshness;
+            this.validatedTime = validatedTime;
+        }
+
+        boolean isFresh(long now) {
+            return now - validatedTime < freshness;
+        }
+
+        /**
+         * Mark this entry as successfully revalidated by the local server.
+         */
+        void revalidated(long now) {
+            validatedTime = now;
+        }
+
+        /**
+         * Returns true if the client holding the given validators already has this response
+         *
+         * @param ifNoneMatch the If-None-Match header of the request, if any
+         * @param ifModifiedSince the If-Modified-Since date of the request, or -1
+         */
+        boolean isNotModified(@Nullable String ifNoneMatch, long ifModifiedSince) {
+            String etag = this.etag;
+            if (ifNoneMatch != null) {
+                if (etag == null) {
+                    return false;
+                }
+                for (String tag : ifNoneMatch.split(",")) {
+                    tag = tag.trim();
+                    if ("*".equals(tag) || weak(tag).equals(weak(etag))) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return ifModifiedSince >= 0 && lastModified >= 0 && lastModified <= ifModifiedSince;
+        }
+
+        /**
+         * Returns the headers of a 304 (Not Modified) response for this entry
+         */
+        HttpFields getNotModifiedHeaders() {
+            HttpFields notModified = new HttpFields();
+            for (HttpHeader header : List.of(HttpHeader.ETAG, HttpHeader.LAST_MODIFIED, HttpHeader.CACHE_CONTROL,
+                    HttpHeader.EXPIRES, HttpHeader.VARY)) {
+                String value = headers.get(header);
+                if (value != null) {
+                    notModified.put(header, value);
+                }
+            }
+            return notModified;
+        }
+
+        private static String weak(String etag) {
+            return etag.startsWith("W/") ? etag.substring(2) : etag;
+        }
+    }
+
+    /**
+     * Collects the body of a cacheable response while it is being proxied.
+     */
+    class Collector {
+        private final String key;
+        private final HttpFields headers;
+        private final long freshness;
+        private final long requestTime;
+        private byte[] body;
+        private int length;
+
+        private Collector(String key, HttpFields headers, long freshness, long requestTime, int expectedLength) {
+            this.key = key;
+            this.headers = headers;
+            this.freshness = freshness;
+            this.requestTime = requestTime;
+            this.body = new byte[expectedLength];
+        }
+
+        /**
+         * Append a content chunk, without consuming it.
+         */
+        void append(ByteBuffer content) {
+            if (length < 0) {
+                return;
+            }
+            int chunkLength = content.remaining();
+            if (length + chunkLength > MAX_ENTRY_SIZE) {
+                // too large to be cached
+                length = -1;
+                body = new byte[0];
+                return;
+            }
+            if (length + chunkLength > body.length) {
+                body = Arrays.copyOf(body, Math.max(length + chunkLength, Math.min(body.length * 2, MAX_ENTRY_SIZE)));
+            }
+            content.duplicate().get(body, length, chunkLength);
+            length += chunkLength;
+        }
+
+        /**
+         * Add the collected response to the cache.
+         */
+        void complete() {
+            if (length >= 0) {
+                put(key, new Entry(headers, length == body.length ? body : Arrays.copyOf(body, length), freshness,
+                        requestTime));
+            }
+        }
+    }
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    synchronized @Nullable Entry get(String key) {
+        return entries.get(key);
+    }
+
+    synchronized void remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            size -= entry.body.length;
+        }
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns a collector for the given response, or null if the response can not be cached
+     *
+     * @param key the cache key of the request
+     * @param status the status code of the response
+     * @param headers the headers of the response
+     * @param requestTime the time the request was sent, in milliseconds
+     */
+    @Nullable
+    Collector newCollector(String key, int status, HttpFields headers, long requestTime) {
+        if (status != HttpStatus.OK_200 || headers.contains(HttpHeader.SET_COOKIE)
+                || headers.contains(HttpHeader.CONTENT_ENCODING)
+                || !(headers.contains(HttpHeader.ETAG) || headers.contains(HttpHeader.LAST_MODIFIED))) {
+            return null;
+        }
+        for (String vary : headers.getCSV(HttpHeader.VARY, false)) {
+            if (!HttpHeader.ACCEPT_ENCODING.is(vary)) {
+                return null;
+            }
+        }
+        long freshness = getFreshness(headers);
+        if (freshness < 0) {
+            return null;
+        }
+        long contentLength = headers.getLongField(HttpHeader.CONTENT_LENGTH.asString());
+        if (contentLength > MAX_ENTRY_SIZE) {
+            return null;
+        }
+        return new Collector(key, new HttpFields(headers), freshness, requestTime,
+                contentLength >= 0 ? (int) contentLength : 8 * 1024);
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        remove(key);
+        entries.put(key, entry);
+        size += entry.body.length;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (size > MAX_SIZE && iterator.hasNext()) {
+            size -= iterator.next().body.length;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Returns the value of a date header in milliseconds, or -1 if it is missing or invalid
+     */
+    static long getDate(HttpFields headers, HttpHeader header) {
+        return parseDate(headers.get(header));
+    }
+
+    /**
+     * Returns the value of an HTTP date in milliseconds, or -1 if it is missing or invalid
+     */
+    static long parseDate(@Nullable String value) {
+        // unlike HttpFields.getDateField(), this does not fail on invalid dates such as "Expires: 0"
+        return value == null ? -1 : DateParser.parseDate(value);
+    }
+
+    /**
+     * Returns how long a response stays fresh in milliseconds, or -1 if it must not be stored
+     */
+    private static long getFreshness(HttpFields headers) {
+        long maxAge = -1;
+        long sharedMaxAge = -1;
+        for (String directive : headers.getCSV(HttpHeader.CACHE_CONTROL, false)) {
+            String[] parts = directive.split("=", 2);
+            String name = parts[0].trim().toLowerCase();
+            switch (name) {
+                case "no-store":
+                case "private":
+                    return -1;
+                case "no-cache":
+                    return 0;
+                case "max-age":
+                case "s-maxage":
+                    try {
+                        long seconds = parts.length > 1 ? Long.parseLong(parts[1].trim().replace("\"", "")) : 0;
+                        if ("max-age".equals(name)) {
+                            maxAge = seconds;
+                        } else {
+                            sharedMaxAge = seconds;
+                        }
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (sharedMaxAge >= 0) {
+            return TimeUnit.SECONDS.toMillis(sharedMaxAge);
+        }
+        if (maxAge >= 0) {
+            return TimeUnit.SECONDS.toMillis(maxAge);
+        }
+        long date = getDate(headers, HttpHeader.DATE);
+        long expires = getDate(headers, HttpHeader.EXPIRES);
+        if (date >= 0 && expires >= 0) {
+            return Math.max(0, expires - date);
+        }
+        long lastModified = getDate(headers, HttpHeader.LAST_MODIFIED);
+        if (date >= 0 && lastModified >= 0) {
+            // heuristic freshness as suggested by RFC 9111: a fraction of the time since the last modification
+            return Math.min(Math.max(0, date - lastModified) / 10, MAX_HEURISTIC_FRESHNESS);
+        }
+        return 0;
+    }
+}
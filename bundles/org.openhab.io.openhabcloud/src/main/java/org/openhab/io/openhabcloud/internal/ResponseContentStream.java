@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.io.ByteBufferPool;
+
+/**
+ * This class streams the body of a proxied response back to the openHAB Cloud. The content chunks received from
+ * Jetty are coalesced in a pooled buffer and sent as frames of up to {@link #FRAME_SIZE} bytes, optionally
+ * compressed with gzip or deflate. Content that stays in the buffer for longer than {@link #LINGER_MILLIS} is
+ * sent anyway, so that streamed responses are not delayed.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class ResponseContentStream {
+
+    /**
+     * Content sink, called with each frame to send to the openHAB Cloud.
+     */
+    @FunctionalInterface
+    interface FrameSender {
+        void send(byte[] frame);
+    }
+
+    static final String GZIP = "gzip";
+    static final String DEFLATE = "deflate";
+
+    static final int FRAME_SIZE = 64 * 1024;
+    static final long LINGER_MILLIS = 20;
+
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+    private final ScheduledExecutorService scheduler;
+    private final ByteBufferPool bufferPool;
+    private final FrameSender sender;
+
+    private @Nullable ByteBuffer buffer;
+    private @Nullable Deflater deflater;
+    private @Nullable CRC32 crc;
+    private @Nullable ScheduledFuture<?> lingerFuture;
+    private boolean closed;
+
+    ResponseContentStream(ScheduledExecutorService scheduler, ByteBufferPool bufferPool, FrameSender sender) {
+        this.scheduler = scheduler;
+        this.bufferPool = bufferPool;
+        this.sender = sender;
+    }
+
+    /**
+     * Prepare the stream for the response content.
+     *
+     * @param encoding the content encoding to apply, either {@link #GZIP}, {@link #DEFLATE} or null to send the
+     *            content as received.
+     */
+    synchronized void start(@Nullable String encoding) {
+        if (closed || buffer != null) {
+            return;
+        }
+        ByteBuffer buffer = bufferPool.acquire(FRAME_SIZE, false);
+        buffer.clear();
+        this.buffer = buffer;
+        if (GZIP.equals(encoding)) {
+            deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            crc = new CRC32();
+            buffer.put(GZIP_HEADER);
+        } else if (DEFLATE.equals(encoding)) {
+            deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, false);
+        }
+    }
+
+    /**
+     * Append a content chunk to the stream. The chunk is fully consumed before this method returns.
+     */
+    synchronized void write(ByteBuffer content) {
+        ByteBuffer buffer = this.buffer;
+        if (closed || buffer == null) {
+            return;
+        }
+        Deflater deflater = this.deflater;
+        if (deflater == null) {
+            while (content.hasRemaining()) {
+                int length = Math.min(content.remaining(), buffer.remaining());
+                ByteBuffer slice = content.slice();
+                slice.limit(length);
+                buffer.put(slice);
+                content.position(content.position() + length);
+                if (!buffer.hasRemaining()) {
+                    sendFrame(buffer);
+                }
+            }
+        } else {
+            CRC32 crc = this.crc;
+            if (crc != null) {
+                crc.update(content.duplicate());
+            }
+            deflater.setInput(content);
+            while (!deflater.needsInput()) {
+                deflater.deflate(buffer, Deflater.NO_FLUSH);
+                if (!buffer.hasRemaining()) {
+                    sendFrame(buffer);
+                }
+            }
+        }
+        if (buffer.position() > 0 && lingerFuture == null) {
+            lingerFuture = scheduler.schedule(this::flush, LINGER_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Send the content received so far.
+     */
+    synchronized void flush() {
+        lingerFuture = null;
+        ByteBuffer buffer = this.buffer;
+        if (closed || buffer == null) {
+            return;
+        }
+        Deflater deflater = this.deflater;
+        if (deflater != null) {
+            // a sync flush only completes when it leaves free space in the output buffer
+            while (true) {
+                deflater.deflate(buffer, Deflater.SYNC_FLUSH);
+                if (buffer.hasRemaining()) {
+                    break;
+                }
+                sendFrame(buffer);
+            }
+        }
+        if (buffer.position() > 0) {
+            sendFrame(buffer);
+        }
+    }
+
+    /**
+     * Send the remaining content and release the resources of the stream.
+     */
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+        ByteBuffer buffer = this.buffer;
+        if (buffer != null) {
+            Deflater deflater = this.deflater;
+            if (deflater != null) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    deflater.deflate(buffer);
+                    if (!buffer.hasRemaining()) {
+                        sendFrame(buffer);
+                    }
+                }
+                CRC32 crc = this.crc;
+                if (crc != null) {
+                    if (buffer.remaining() < 8) {
+                        sendFrame(buffer);
+                    }
+                    putIntLE(buffer, (int) crc.getValue());
+                    putIntLE(buffer, (int) deflater.getBytesRead());
+                }
+            }
+            if (buffer.position() > 0) {
+                sendFrame(buffer);
+            }
+        }
+        release();
+    }
+
+    /**
+     * Release the resources of the stream, discarding the content that was not sent yet.
+     */
+    synchronized void release() {
+        closed = true;
+        ScheduledFuture<?> lingerFuture = this.lingerFuture;
+        if (lingerFuture != null) {
+            lingerFuture.cancel(false);
+            this.lingerFuture = null;
+        }
+        Deflater deflater = this.deflater;
+        if (deflater != null) {
+            deflater.end();
+            this.deflater = null;
+        }
+        ByteBuffer buffer = this.buffer;
+        if (buffer != null) {
+            bufferPool.release(buffer);
+            this.buffer = null;
+        }
+    }
+
+    private void sendFrame(ByteBuffer buffer) {
+        // the frame is handed over to the socket.io client, so it cannot be backed by the pooled buffer
+        buffer.flip();
+        byte[] frame = new byte[buffer.remaining()];
+        buffer.get(frame);
+        buffer.clear();
+        sender.send(frame);
+    }
+
+    private static void putIntLE(ByteBuffer buffer, int value) {
+        buffer.put((byte) value);
+        buffer.put((byte) (value >> 8));
+        buffer.put((byte) (value >> 16));
+        buffer.put((byte) (value >> 24));
+    }
+}
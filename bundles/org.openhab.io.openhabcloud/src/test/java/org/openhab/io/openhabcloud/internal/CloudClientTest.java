@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the request and response handling helpers of the {@link CloudClient}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class CloudClientTest {
+
+    @Test
+    void contentEncodingsAreRemovedFromEntityTags() {
+        assertEquals("\"abc\"", CloudClient.decodeEtags("\"abc--gzip\""));
+        assertEquals("W/\"abc\", \"def\", \"ghi\"",
+                CloudClient.decodeEtags("W/\"abc--gzip\", \"def--deflate\",\"ghi\""));
+        assertEquals("*", CloudClient.decodeEtags("*"));
+    }
+
+    @Test
+    void onlyTheEndOfEachEntityTagIsDecoded() {
+        // an entity tag may contain commas and the separator, only an encoding at its end was appended
+        assertEquals("\"a--gzip-b\", \"c,d\"", CloudClient.decodeEtags("\"a--gzip-b\", \"c,d--gzip\""));
+        assertEquals("\"a--gzipped\"", CloudClient.decodeEtags("\"a--gzipped\""));
+        assertEquals("\"unterminated--gzip", CloudClient.decodeEtags("\"unterminated--gzip"));
+    }
+
+    @Test
+    void encodingOfTheEntityTagsIsFound() {
+        assertEquals(ResponseContentStream.GZIP, CloudClient.getEtagEncoding("\"abc\", W/\"def--gzip\""));
+        assertEquals(ResponseContentStream.DEFLATE, CloudClient.getEtagEncoding("\"abc--deflate\""));
+        assertNull(CloudClient.getEtagEncoding("\"abc\", \"gzip\""));
+        assertNull(CloudClient.getEtagEncoding("*"));
+    }
+
+    @Test
+    void staticAssetsAreCacheable() {
+        assertTrue(CloudClient.isCacheable("/", new JSONObject()));
+        assertTrue(CloudClient.isCacheable("/icon/light", new JSONObject(Map.of("Accept", "image/png"))));
+        assertTrue(CloudClient.isCacheable("/restricted.js", new JSONObject()));
+    }
+
+    @Test
+    void restApiIsNotCacheable() {
+        assertFalse(CloudClient.isCacheable("/rest", new JSONObject()));
+        assertFalse(CloudClient.isCacheable("/rest/items", new JSONObject()));
+    }
+
+    @Test
+    void requestsWithCredentialsAreNotCacheable() {
+        assertFalse(CloudClient.isCacheable("/icon/light", new JSONObject(Map.of("X-OPENHAB-TOKEN", "oh.token"))));
+        assertFalse(CloudClient.isCacheable("/icon/light", new JSONObject(Map.of("x-openhab-token", "oh.token"))));
+        assertFalse(CloudClient.isCacheable("/icon/light", new JSONObject(Map.of("Cookie", "session=1"))));
+        assertFalse(CloudClient.isCacheable("/icon/light", new JSONObject(Map.of("authorization", "Basic dXNlcg=="))));
+    }
+
+    @Test
+    void cacheKeysIncludeTheSelectingRequestHeaders() {
+        URI uri = URI.create("/icon/light?state=ON");
+        String key = CloudClient.getCacheKey(uri, new JSONObject(Map.of("Accept", "image/png")));
+
+        assertEquals(key, CloudClient.getCacheKey(uri, new JSONObject(Map.of("accept", "image/png"))));
+        assertEquals(key, CloudClient.getCacheKey(uri,
+                new JSONObject(Map.of("Accept", "image/png", "User-Agent", "test", "If-None-Match", "\"a\""))));
+        assertNotEquals(key, CloudClient.getCacheKey(uri, new JSONObject(Map.of("Accept", "image/svg+xml"))));
+        assertNotEquals(key, CloudClient.getCacheKey(uri,
+                new JSONObject(Map.of("Accept", "image/png", "Accept-Language", "de"))));
+        assertNotEquals(key, CloudClient.getCacheKey(URI.create("/icon/light?state=OFF"),
+                new JSONObject(Map.of("Accept", "image/png"))));
+    }
+}
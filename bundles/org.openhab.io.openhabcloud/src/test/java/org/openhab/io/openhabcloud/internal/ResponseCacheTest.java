@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the freshness, revalidation and eviction of the {@link ResponseCache}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ResponseCacheTest {
+
+    // HTTP dates have a resolution of one second
+    private static final long NOW = TimeUnit.DAYS.toMillis(20000);
+
+    private final ResponseCache cache = new ResponseCache();
+
+    @Test
+    void sharedMaxAgeTakesPrecedenceOverMaxAge() {
+        ResponseCache.Entry entry = store("/a", headers("\"a\"", "max-age=10, s-maxage=60"), 1);
+
+        assertTrue(entry.isFresh(NOW + TimeUnit.SECONDS.toMillis(59)));
+        assertFalse(entry.isFresh(NOW + TimeUnit.SECONDS.toMillis(60)));
+    }
+
+    @Test
+    void maxAgeTakesPrecedenceOverExpires() {
+        HttpFields headers = headers("\"a\"", "max-age=10");
+        headers.putDateField(HttpHeader.DATE, NOW);
+        headers.putDateField(HttpHeader.EXPIRES, NOW + TimeUnit.HOURS.toMillis(1));
+        ResponseCache.Entry entry = store("/a", headers, 1);
+
+        assertTrue(entry.isFresh(NOW + TimeUnit.SECONDS.toMillis(9)));
+        assertFalse(entry.isFresh(NOW + TimeUnit.SECONDS.toMillis(10)));
+    }
+
+    @Test
+    void expiresIsRelativeToTheDateOfTheResponse() {
+        HttpFields headers = headers("\"a\"", null);
+        // the clock of the local server does not matter, only the difference between both dates
+        headers.putDateField(HttpHeader.DATE, NOW - TimeUnit.HOURS.toMillis(1));
+        headers.putDateField(HttpHeader.EXPIRES, NOW - TimeUnit.HOURS.toMillis(1) + TimeUnit.MINUTES.toMillis(2));
+        ResponseCache.Entry entry = store("/a", headers, 1);
+
+        assertTrue(entry.isFresh(NOW + TimeUnit.SECONDS.toMillis(119)));
+        assertFalse(entry.isFresh(NOW + TimeUnit.SECONDS.toMillis(120)));
+    }
+
+    @Test
+    void invalidExpiresIsStale() {
+        HttpFields headers = headers("\"a\"", null);
+        headers.putDateField(HttpHeader.DATE, NOW);
+        headers.put(HttpHeader.EXPIRES, "0");
+        ResponseCache.Entry entry = store("/a", headers, 1);
+
+        assertFalse(entry.isFresh(NOW));
+    }
+
+    @Test
+    void heuristicFreshnessIsATenthOfTheAgeOfTheResponse() {
+        HttpFields headers = headers("\"a\"", null);
+        headers.putDateField(HttpHeader.DATE, NOW);
+        headers.putDateField(HttpHeader.LAST_MODIFIED, NOW - TimeUnit.MINUTES.toMillis(10));
+        ResponseCache.Entry entry = store("/a", headers, 1);
+
+        assertTrue(entry.isFresh(NOW + TimeUnit.SECONDS.toMillis(59)));
+        assertFalse(entry.isFresh(NOW + TimeUnit.SECONDS.toMillis(60)));
+    }
+
+    @Test
+    void heuristicFreshnessIsLimited() {
+        HttpFields headers = headers("\"a\"", null);
+        headers.putDateField(HttpHeader.DATE, NOW);
+        headers.putDateField(HttpHeader.LAST_MODIFIED, NOW - TimeUnit.DAYS.toMillis(365));
+        ResponseCache.Entry entry = store("/a", headers, 1);
+
+        assertTrue(entry.isFresh(NOW + TimeUnit.MINUTES.toMillis(5) - 1));
+        assertFalse(entry.isFresh(NOW + TimeUnit.MINUTES.toMillis(5)));
+    }
+
+    @Test
+    void revalidatedEntriesAreFreshAgain() {
+        ResponseCache.Entry entry = store("/a", headers("\"a\"", "max-age=10"), 1);
+        long later = NOW + TimeUnit.MINUTES.toMillis(1);
+        assertFalse(entry.isFresh(later));
+
+        entry.revalidated(later);
+
+        assertTrue(entry.isFresh(later + TimeUnit.SECONDS.toMillis(9)));
+    }
+
+    @Test
+    void uncacheableResponsesAreNotCollected() {
+        assertNull(cache.newCollector("/a", HttpStatus.OK_200, headers("\"a\"", "no-store"), NOW));
+        assertNull(cache.newCollector("/a", HttpStatus.OK_200, headers("\"a\"", "private, max-age=60"), NOW));
+        assertNull(cache.newCollector("/a", HttpStatus.NOT_FOUND_404, headers("\"a\"", "max-age=60"), NOW));
+        assertNull(cache.newCollector("/a", HttpStatus.OK_200, headers(null, "max-age=60"), NOW));
+
+        HttpFields cookie = headers("\"a\"", "max-age=60");
+        cookie.put(HttpHeader.SET_COOKIE, "session=1");
+        assertNull(cache.newCollector("/a", HttpStatus.OK_200, cookie, NOW));
+
+        HttpFields vary = headers("\"a\"", "max-age=60");
+        vary.put(HttpHeader.VARY, "Accept-Encoding, Authorization");
+        assertNull(cache.newCollector("/a", HttpStatus.OK_200, vary, NOW));
+    }
+
+    @Test
+    void matchingWeakAndStrongEntityTagsAreNotModified() {
+        ResponseCache.Entry strong = store("/a", headers("\"a\"", "max-age=60"), 1);
+        ResponseCache.Entry weak = store("/b", headers("W/\"b\"", "max-age=60"), 1);
+
+        assertTrue(strong.isNotModified("\"a\"", -1));
+        assertTrue(strong.isNotModified("W/\"a\"", -1));
+        assertTrue(strong.isNotModified("\"x\", \"a\"", -1));
+        assertTrue(strong.isNotModified("*", -1));
+        assertTrue(weak.isNotModified("\"b\"", -1));
+        assertTrue(weak.isNotModified("W/\"b\"", -1));
+        assertFalse(strong.isNotModified("\"b\"", -1));
+        assertFalse(weak.isNotModified("W/\"a\"", -1));
+    }
+
+    @Test
+    void entityTagsTakePrecedenceOverModificationDates() {
+        HttpFields headers = headers("\"a\"", "max-age=60");
+        headers.putDateField(HttpHeader.LAST_MODIFIED, NOW - TimeUnit.HOURS.toMillis(1));
+        ResponseCache.Entry entry = store("/a", headers, 1);
+
+        assertTrue(entry.isNotModified(null, NOW));
+        assertFalse(entry.isNotModified(null, NOW - TimeUnit.HOURS.toMillis(2)));
+        assertFalse(entry.isNotModified("\"b\"", NOW));
+    }
+
+    @Test
+    void notModifiedResponsesCarryTheValidators() {
+        HttpFields headers = headers("\"a\"", "max-age=60");
+        headers.put(HttpHeader.CONTENT_TYPE, "text/plain");
+        ResponseCache.Entry entry = store("/a", headers, 1);
+
+        HttpFields notModified = entry.getNotModifiedHeaders();
+
+        assertEquals("\"a\"", notModified.get(HttpHeader.ETAG));
+        assertEquals("max-age=60", notModified.get(HttpHeader.CACHE_CONTROL));
+        assertNull(notModified.get(HttpHeader.CONTENT_TYPE));
+    }
+
+    @Test
+    void tooLargeResponsesAreNotStored() {
+        ResponseCache.Collector collector = collector("/a", headers("\"a\"", "max-age=60"));
+        collector.append(ByteBuffer.allocate(ResponseCache.MAX_ENTRY_SIZE));
+        collector.append(ByteBuffer.allocate(1));
+        collector.complete();
+
+        assertNull(cache.get("/a"));
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesAreEvicted() {
+        int entries = (int) (ResponseCache.MAX_SIZE / ResponseCache.MAX_ENTRY_SIZE);
+        for (int i = 0; i < entries; i++) {
+            store("/" + i, headers("\"" + i + "\"", "max-age=60"), ResponseCache.MAX_ENTRY_SIZE);
+        }
+        // the first entry becomes the most recently used one
+        assertNotNull(cache.get("/0"));
+
+        store("/new", headers("\"new\"", "max-age=60"), ResponseCache.MAX_ENTRY_SIZE);
+
+        assertNotNull(cache.get("/0"));
+        assertNull(cache.get("/1"));
+        assertNotNull(cache.get("/2"));
+        assertNotNull(cache.get("/new"));
+    }
+
+    @Test
+    void replacedEntriesDoNotCountTwice() {
+        int entries = (int) (ResponseCache.MAX_SIZE / ResponseCache.MAX_ENTRY_SIZE);
+        for (int i = 0; i < entries; i++) {
+            store("/" + i, headers("\"" + i + "\"", "max-age=60"), ResponseCache.MAX_ENTRY_SIZE);
+        }
+
+        ResponseCache.Entry replaced = store("/1", headers("\"replaced\"", "max-age=60"),
+                ResponseCache.MAX_ENTRY_SIZE);
+
+        assertSame(replaced, cache.get("/1"));
+        for (int i = 0; i < entries; i++) {
+            assertNotNull(cache.get("/" + i));
+        }
+    }
+
+    private HttpFields headers(@Nullable String etag, @Nullable String cacheControl) {
+        HttpFields headers = new HttpFields();
+        if (etag != null) {
+            headers.put(HttpHeader.ETAG, etag);
+        }
+        if (cacheControl != null) {
+            headers.put(HttpHeader.CACHE_CONTROL, cacheControl);
+        }
+        return headers;
+    }
+
+    private ResponseCache.Collector collector(String key, HttpFields headers) {
+        ResponseCache.Collector collector = cache.newCollector(key, HttpStatus.OK_200, headers, NOW);
+        assertNotNull(collector);
+        return collector;
+    }
+
+    private ResponseCache.Entry store(String key, HttpFields headers, int length) {
+        ResponseCache.Collector collector = collector(key, headers);
+        collector.append(ByteBuffer.allocate(length));
+        collector.complete();
+        ResponseCache.Entry entry = cache.get(key);
+        assertNotNull(entry);
+        assertEquals(length, entry.body.length);
+        return entry;
+    }
+}
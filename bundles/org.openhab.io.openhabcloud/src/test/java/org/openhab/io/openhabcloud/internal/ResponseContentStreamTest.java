@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.io.ArrayByteBufferPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the compression and framing of the {@link ResponseContentStream}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ResponseContentStreamTest {
+
+    // chunk sizes around the frame size, the content exceeds several frames
+    private static final List<Integer> CHUNK_SIZES = List.of(1, 1000, ResponseContentStream.FRAME_SIZE - 1,
+            ResponseContentStream.FRAME_SIZE, ResponseContentStream.FRAME_SIZE + 1, 100_000);
+
+    private final BlockingQueue<byte[]> frames = new LinkedBlockingQueue<>();
+    // the linger task is only run by the test of the linger flush
+    private final ScheduledExecutorService noScheduler = mock(ScheduledExecutorService.class);
+    private @Nullable ScheduledExecutorService scheduler;
+
+    @AfterEach
+    public void tearDown() {
+        ScheduledExecutorService scheduler = this.scheduler;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void uncompressedContentIsSentInFrames() {
+        byte[] content = content(3 * ResponseContentStream.FRAME_SIZE + 5, false);
+        send(null, content, ResponseContentStream.FRAME_SIZE + 1);
+
+        for (byte[] frame : frames) {
+            assertTrue(frame.length <= ResponseContentStream.FRAME_SIZE);
+        }
+        assertArrayEquals(content, received());
+    }
+
+    @Test
+    void gzipContentIsDecompressed() throws IOException {
+        for (boolean compressible : List.of(true, false)) {
+            for (int chunkSize : CHUNK_SIZES) {
+                byte[] content = content(3 * ResponseContentStream.FRAME_SIZE + 5, compressible);
+                send(ResponseContentStream.GZIP, content, chunkSize);
+
+                byte[] gzip = received();
+                assertArrayEquals(content, inflate(new GZIPInputStream(new ByteArrayInputStream(gzip))));
+                assertGzipTrailer(content, gzip);
+            }
+        }
+    }
+
+    @Test
+    void deflateContentIsDecompressed() throws IOException {
+        for (boolean compressible : List.of(true, false)) {
+            for (int chunkSize : CHUNK_SIZES) {
+                byte[] content = content(3 * ResponseContentStream.FRAME_SIZE + 5, compressible);
+                send(ResponseContentStream.DEFLATE, content, chunkSize);
+
+                assertArrayEquals(content, inflate(new InflaterInputStream(new ByteArrayInputStream(received()))));
+            }
+        }
+    }
+
+    @Test
+    void gzipTrailerIsSentInTheNextFrameIfTheBufferIsFull() throws IOException {
+        // incompressible content grows with its size, so one of the sizes leaves less than 8 bytes for the trailer
+        boolean trailerFrameSeen = false;
+        for (int size = ResponseContentStream.FRAME_SIZE - 200; size < ResponseContentStream.FRAME_SIZE; size++) {
+            byte[] content = content(size, false);
+            send(ResponseContentStream.GZIP, content, size);
+
+            List<byte[]> sentFrames = List.copyOf(frames);
+            byte[] gzip = received();
+            assertArrayEquals(content, inflate(new GZIPInputStream(new ByteArrayInputStream(gzip))));
+            assertGzipTrailer(content, gzip);
+            if (sentFrames.size() > 1 && sentFrames.get(sentFrames.size() - 1).length <= 8) {
+                trailerFrameSeen = true;
+            }
+        }
+        assertTrue(trailerFrameSeen);
+    }
+
+    @Test
+    void lingeringContentIsFlushed() throws Exception {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        this.scheduler = scheduler;
+        ResponseContentStream stream = new ResponseContentStream(scheduler, new ArrayByteBufferPool(), frames::add);
+        stream.start(ResponseContentStream.GZIP);
+        byte[] first = content(1000, true);
+        stream.write(ByteBuffer.wrap(first));
+
+        // the sync flush makes the content written so far decompressible before the stream is closed
+        byte[] frame = frames.poll(5, TimeUnit.SECONDS);
+        assertNotNull(frame);
+        Inflater inflater = new Inflater(true);
+        inflater.setInput(frame, 10, frame.length - 10);
+        byte[] inflated = new byte[first.length];
+        assertEquals(first.length, inflater.inflate(inflated));
+        assertArrayEquals(first, inflated);
+        inflater.end();
+
+        byte[] second = content(2000, true);
+        stream.write(ByteBuffer.wrap(second));
+        stream.close();
+
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        gzip.write(frame);
+        frames.forEach(gzip::writeBytes);
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        content.write(first);
+        content.write(second);
+        assertArrayEquals(content.toByteArray(),
+                inflate(new GZIPInputStream(new ByteArrayInputStream(gzip.toByteArray()))));
+        assertGzipTrailer(content.toByteArray(), gzip.toByteArray());
+    }
+
+    private void send(@Nullable String encoding, byte[] content, int chunkSize) {
+        frames.clear();
+        ResponseContentStream stream = new ResponseContentStream(noScheduler, new ArrayByteBufferPool(), frames::add);
+        stream.start(encoding);
+        for (int offset = 0; offset < content.length; offset += chunkSize) {
+            stream.write(ByteBuffer.wrap(content, offset, Math.min(chunkSize, content.length - offset)));
+        }
+        stream.close();
+    }
+
+    private byte[] received() {
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        frames.forEach(received::writeBytes);
+        frames.clear();
+        return received.toByteArray();
+    }
+
+    private static byte[] content(int size, boolean compressible) {
+        byte[] content = new byte[size];
+        Random random = new Random(size);
+        if (compressible) {
+            for (int i = 0; i < size; i++) {
+                content[i] = (byte) ('a' + random.nextInt(4));
+            }
+        } else {
+            random.nextBytes(content);
+        }
+        return content;
+    }
+
+    private static byte[] inflate(InputStream stream) throws IOException {
+        try (stream) {
+            return stream.readAllBytes();
+        }
+    }
+
+    private static void assertGzipTrailer(byte[] content, byte[] gzip) {
+        assertEquals(0x1f, gzip[0] & 0xff);
+        assertEquals(0x8b, gzip[1] & 0xff);
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        ByteBuffer trailer = ByteBuffer.wrap(gzip, gzip.length - 8, 8).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals((int) crc.getValue(), trailer.getInt());
+        assertEquals(content.length, trailer.getInt());
+    }
+}
@@ -14,6 +14,8 @@ package org.openhab.persistence.influxdb;
 
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -29,10 +31,12 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
@@ -56,6 +60,7 @@ import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
+import org.openhab.persistence.influxdb.internal.InfluxPointSpool;
 import org.openhab.persistence.influxdb.internal.influx1.InfluxDB1RepositoryImpl;
 import org.openhab.persistence.influxdb.internal.influx2.InfluxDB2RepositoryImpl;
 import org.osgi.framework.Constants;
@@ -88,8 +93,8 @@ import org.slf4j.LoggerFactory;
  *         branch from Dominik Vorreiter
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class,
-        QueryablePersistenceService.class }, configurationPid = "org.openhab.influxdb", //
+@Component(service = { PersistenceService.class, QueryablePersistenceService.class,
+        InfluxDBPersistenceService.class }, configurationPid = "org.openhab.influxdb", //
         property = Constants.SERVICE_PID + "=org.openhab.influxdb")
 @ConfigurableService(category = "persistence", label = "InfluxDB Persistence Service", description_uri = InfluxDBPersistenceService.CONFIG_URI)
 public class InfluxDBPersistenceService implements ModifiablePersistenceService {
@@ -98,6 +103,8 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     private final Logger logger = LoggerFactory.getLogger(InfluxDBPersistenceService.class);
 
     private static final int COMMIT_INTERVAL = 3; // in s
+    private static final int REPLAY_CHUNK_SIZE = 5000;
+    private static final int MAX_REPLAY_CHUNKS_PER_COMMIT = 10;
     protected static final String CONFIG_URI = "persistence:influxdb";
 
     // External dependencies
@@ -111,6 +118,13 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     // storage
     private final ScheduledFuture<?> storeJob;
     private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
+    private final @Nullable InfluxPointSpool spool;
+
+    // read by the InfluxDBMetrics
+    private final LongAdder storeCount = new LongAdder();
+    private final LongAdder storeNanos = new LongAdder();
+    private final LongAdder queryCount = new LongAdder();
+    private final LongAdder queryNanos = new LongAdder();
 
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
@@ -124,6 +138,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         this.configuration = new InfluxDBConfiguration(config);
         if (configuration.isValid()) {
             this.influxDBRepository = createInfluxDBRepository();
+            this.spool = configuration.isSpoolEnabled() ? openSpool() : null;
             this.influxDBRepository.connect();
             this.storeJob = ThreadPoolManager.getScheduledPool("org.openhab.influxdb")
                     .scheduleWithFixedDelay(this::commit, COMMIT_INTERVAL, COMMIT_INTERVAL, TimeUnit.SECONDS);
@@ -144,6 +159,20 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         };
     }
 
+    private @Nullable InfluxPointSpool openSpool() {
+        Path directory = Path.of(OpenHAB.getUserDataFolder(), "persistence", "influxdb");
+        InfluxPointSpool spool = new InfluxPointSpool(directory, configuration.getSpoolMaxSize() * 1024L * 1024L,
+                InfluxPointSpool.DEFAULT_SEGMENT_SIZE, configuration.getSpoolOverflowPolicy());
+        try {
+            spool.open();
+            return spool;
+        } catch (IOException e) {
+            logger.warn("Failed to open spool in {}, failed writes will be kept in memory: {}", directory,
+                    e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Disconnect from database when service is deactivated
      */
@@ -154,7 +183,16 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         storeJob.cancel(false);
         commit(); // ensure we at least tried to store the data;
 
-        if (!pointsQueue.isEmpty()) {
+        InfluxPointSpool spool = this.spool;
+        if (spool != null) {
+            List<InfluxPoint> points = new ArrayList<>();
+            pointsQueue.drainTo(points);
+            spool.append(points);
+            if (!spool.isEmpty()) {
+                logger.info("InfluxDB keeps {} bytes of points spooled for the next start.", spool.size());
+            }
+            spool.close();
+        } else if (!pointsQueue.isEmpty()) {
             logger.warn("InfluxDB failed to finally store {} points.", pointsQueue.size());
         }
 
@@ -162,6 +200,36 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         logger.info("InfluxDB persistence service stopped.");
     }
 
+    public long getStoreCount() {
+        return storeCount.sum();
+    }
+
+    public long getStoreNanos() {
+        return storeNanos.sum();
+    }
+
+    public long getQueryCount() {
+        return queryCount.sum();
+    }
+
+    public long getQueryNanos() {
+        return queryNanos.sum();
+    }
+
+    /**
+     * @return the number of points waiting to be written
+     */
+    public int getQueueSize() {
+        return pointsQueue.size();
+    }
+
+    /**
+     * @return the spool the points are written to while InfluxDB is down, or null if spooling is disabled
+     */
+    public @Nullable InfluxPointSpool getSpool() {
+        return spool;
+    }
+
     @Override
     public String getId() {
         return SERVICE_NAME;
@@ -249,8 +317,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                     itemName, filter.getOrdering().toString(), filter.getState(), filter.getOperator(),
                     filter.getBeginDate(), filter.getEndDate(), filter.getPageSize(), filter.getPageNumber());
 
+            long start = System.nanoTime();
             List<InfluxDBRepository.InfluxRow> results = influxDBRepository.query(filter,
                     configuration.getRetentionPolicy(), alias);
+            record(queryCount, queryNanos, start);
             return results.stream().map(r -> mapRowToHistoricItem(r, itemName)).collect(Collectors.toList());
         } else {
             logger.debug("Query for persisted data ignored, InfluxDB is not connected");
@@ -284,10 +354,18 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     }
 
     private void commit() {
-        if (!pointsQueue.isEmpty() && checkConnection()) {
+        InfluxPointSpool spool = this.spool;
+        if (spool != null) {
+            try {
+                commitWithSpool(spool);
+            } catch (RuntimeException e) {
+                // an exception would cancel the scheduled commit job
+                logger.warn("Failed to commit spooled points, will retry later: {}", e.getMessage(), e);
+            }
+        } else if (!pointsQueue.isEmpty() && checkConnection()) {
             List<InfluxPoint> points = new ArrayList<>();
             pointsQueue.drainTo(points);
-            if (!influxDBRepository.write(points)) {
+            if (!write(points)) {
                 logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
                 pointsQueue.addAll(points);
                 influxDBRepository.disconnect();
@@ -297,6 +375,65 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         }
     }
 
+    private boolean write(List<InfluxPoint> points) {
+        long start = System.nanoTime();
+        boolean written = influxDBRepository.write(points);
+        record(storeCount, storeNanos, start);
+        return written;
+    }
+
+    private static void record(LongAdder count, LongAdder nanos, long startNanos) {
+        count.increment();
+        nanos.add(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Write queued points when a spool is configured. Spooled points are replayed first, so new points are only
+     * written directly when the spool is empty. Points that cannot be written are appended to the spool.
+     */
+    private void commitWithSpool(InfluxPointSpool spool) {
+        List<InfluxPoint> points = new ArrayList<>();
+        pointsQueue.drainTo(points);
+        if (points.isEmpty() && spool.isEmpty()) {
+            return;
+        }
+        if (checkConnection() && replaySpool(spool)) {
+            if (points.isEmpty() || write(points)) {
+                logger.trace("Wrote {} elements to database", points.size());
+                return;
+            }
+            logger.warn("Spooling {} elements, failed to write batch.", points.size());
+            influxDBRepository.disconnect();
+        }
+        if (!points.isEmpty()) {
+            int dropped = spool.append(points);
+            if (dropped > 0) {
+                logger.warn("Spool is full, dropped {} of {} points.", dropped, points.size());
+            } else {
+                logger.debug("Spooled {} points, {} bytes waiting for replay.", points.size(), spool.size());
+            }
+        }
+    }
+
+    /**
+     * Replay a limited number of chunks from the spool, so a large backlog does not block new points for too long.
+     *
+     * @return <code>true</code> if the spool has been replayed completely
+     */
+    private boolean replaySpool(InfluxPointSpool spool) {
+        for (int i = 0; i < MAX_REPLAY_CHUNKS_PER_COMMIT && !spool.isEmpty(); i++) {
+            List<InfluxPoint> points = spool.peek(REPLAY_CHUNK_SIZE);
+            if (!points.isEmpty() && !write(points)) {
+                logger.warn("Failed to replay {} spooled points, will retry later.", points.size());
+                influxDBRepository.disconnect();
+                return false;
+            }
+            spool.remove();
+            logger.debug("Replayed {} spooled points.", points.size());
+        }
+        return spool.isEmpty();
+    }
+
     /**
      * Convert incoming data to an {@link InfluxPoint} for further processing. This is needed because storage is
      * asynchronous and the item data may have changed.
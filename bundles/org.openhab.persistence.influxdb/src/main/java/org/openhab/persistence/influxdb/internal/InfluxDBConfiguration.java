@@ -39,6 +39,9 @@ public class InfluxDBConfiguration {
     public static final String ADD_CATEGORY_TAG_PARAM = "addCategoryTag";
     public static final String ADD_LABEL_TAG_PARAM = "addLabelTag";
     public static final String ADD_TYPE_TAG_PARAM = "addTypeTag";
+    public static final String SPOOL_ENABLED_PARAM = "spoolEnabled";
+    public static final String SPOOL_MAX_SIZE_PARAM = "spoolMaxSize";
+    public static final String SPOOL_OVERFLOW_POLICY_PARAM = "spoolOverflowPolicy";
     private final Logger logger = LoggerFactory.getLogger(InfluxDBConfiguration.class);
     private final String url;
     private final String user;
@@ -51,6 +54,9 @@ public class InfluxDBConfiguration {
     private final boolean addCategoryTag;
     private final boolean addTypeTag;
     private final boolean addLabelTag;
+    private final boolean spoolEnabled;
+    private final int spoolMaxSize;
+    private final InfluxPointSpool.OverflowPolicy spoolOverflowPolicy;
 
     public InfluxDBConfiguration(Map<String, Object> config) {
         url = ConfigParser.valueAsOrElse(config.get(URL_PARAM), String.class, "http://127.0.0.1:8086");
@@ -64,6 +70,19 @@ public class InfluxDBConfiguration {
         addCategoryTag = ConfigParser.valueAsOrElse(config.get(ADD_CATEGORY_TAG_PARAM), Boolean.class, false);
         addLabelTag = ConfigParser.valueAsOrElse(config.get(ADD_LABEL_TAG_PARAM), Boolean.class, false);
         addTypeTag = ConfigParser.valueAsOrElse(config.get(ADD_TYPE_TAG_PARAM), Boolean.class, false);
+        spoolEnabled = ConfigParser.valueAsOrElse(config.get(SPOOL_ENABLED_PARAM), Boolean.class, false);
+        spoolMaxSize = Math.max(1, ConfigParser.valueAsOrElse(config.get(SPOOL_MAX_SIZE_PARAM), Integer.class, 100));
+        spoolOverflowPolicy = parseOverflowPolicy(
+                ConfigParser.valueAsOrElse(config.get(SPOOL_OVERFLOW_POLICY_PARAM), String.class, "DROP_OLDEST"));
+    }
+
+    private InfluxPointSpool.OverflowPolicy parseOverflowPolicy(String value) {
+        try {
+            return InfluxPointSpool.OverflowPolicy.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid spool overflow policy {}, using DROP_OLDEST", value);
+            return InfluxPointSpool.OverflowPolicy.DROP_OLDEST;
+        }
     }
 
     private InfluxDBVersion parseInfluxVersion(@Nullable String value) {
@@ -154,12 +173,28 @@ public class InfluxDBConfiguration {
         return version;
     }
 
+    public boolean isSpoolEnabled() {
+        return spoolEnabled;
+    }
+
+    /**
+     * @return the maximum size of the spool in MB
+     */
+    public int getSpoolMaxSize() {
+        return spoolMaxSize;
+    }
+
+    public InfluxPointSpool.OverflowPolicy getSpoolOverflowPolicy() {
+        return spoolOverflowPolicy;
+    }
+
     @Override
     public String toString() {
         return "InfluxDBConfiguration{url='" + url + "', user='" + user + "', password='" + password.length()
                 + " chars', token='" + token.length() + " chars', databaseName='" + databaseName
                 + "', retentionPolicy='" + retentionPolicy + "', version=" + version + ", replaceUnderscore="
                 + replaceUnderscore + ", addCategoryTag=" + addCategoryTag + ", addTypeTag=" + addTypeTag
-                + ", addLabelTag=" + addLabelTag + '}';
+                + ", addLabelTag=" + addLabelTag + ", spoolEnabled=" + spoolEnabled + ", spoolMaxSize=" + spoolMaxSize
+                + ", spoolOverflowPolicy=" + spoolOverflowPolicy + '}';
     }
 }
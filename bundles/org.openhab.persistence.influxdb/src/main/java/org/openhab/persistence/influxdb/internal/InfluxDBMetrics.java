@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.io.metrics.AddonMetrics;
+import org.openhab.persistence.influxdb.InfluxDBPersistenceService;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link InfluxDBMetrics} provides the write and query times, the write queue and the spool of the
+ * {@link InfluxDBPersistenceService} to the metrics service. It is only activated when the metrics service is
+ * installed.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = AddonMetrics.class)
+public class InfluxDBMetrics extends AddonMetrics {
+
+    private final InfluxDBPersistenceService service;
+
+    @Activate
+    public InfluxDBMetrics(@Reference InfluxDBPersistenceService service) {
+        super("persistence", InfluxDBPersistenceService.SERVICE_NAME);
+        this.service = service;
+    }
+
+    @Override
+    protected void bindMeters() {
+        timer("store", "Time to write points to the database", service, InfluxDBPersistenceService::getStoreCount,
+                InfluxDBPersistenceService::getStoreNanos);
+        timer("query", "Time to query points from the database", service, InfluxDBPersistenceService::getQueryCount,
+                InfluxDBPersistenceService::getQueryNanos);
+        gauge("queue", "Number of points waiting to be written", null, service,
+                InfluxDBPersistenceService::getQueueSize);
+        InfluxPointSpool spool = service.getSpool();
+        if (spool != null) {
+            gauge("spool", "Size of the points spooled for replay", "bytes", spool, InfluxPointSpool::size);
+        }
+    }
+}
@@ -0,0 +1,622 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Durable on-disk buffer for {@link InfluxPoint}s that could not be written to the database.
+ * <p>
+ * Points are appended to memory-mapped segment files of fixed size. Each segment starts with a small header holding
+ * the read and write position, so points survive a restart. Before replay, the records of each segment are sorted by
+ * time into a new file, which atomically replaces the segment, and the segments are merged, so points are replayed in
+ * time order across the whole spool. Fully replayed segments are deleted. A segment with a corrupt record is
+ * truncated in front of that record. When the configured size is exceeded, the {@link OverflowPolicy} decides
+ * whether the oldest segment or the new points are dropped.
+ * <p>
+ * The spool is not meant for concurrent producers and consumers, all methods are synchronized.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxPointSpool {
+    public static final int DEFAULT_SEGMENT_SIZE = 4 * 1024 * 1024;
+
+    private static final String SEGMENT_SUFFIX = ".spool";
+    private static final String SORTED_SUFFIX = ".sorted";
+    private static final int MAGIC = 0x4F484931; // "OHI1"
+    private static final int HEADER_SIZE = 12; // magic, write position, read position
+    private static final int WRITE_POSITION_OFFSET = 4;
+    private static final int READ_POSITION_OFFSET = 8;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_BIG_DECIMAL = 2;
+    private static final byte TYPE_INTEGER = 3;
+    private static final byte TYPE_LONG = 4;
+    private static final byte TYPE_DOUBLE = 5;
+    private static final byte TYPE_BOOLEAN = 6;
+
+    public enum OverflowPolicy {
+        DROP_OLDEST,
+        DROP_NEWEST
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxPointSpool.class);
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final OverflowPolicy overflowPolicy;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+
+    private long nextSegmentId = 0;
+    private final Map<Segment, Integer> pendingReadPositions = new IdentityHashMap<>();
+    private long droppedPoints = 0;
+
+    /**
+     * @param directory the directory holding the segment files
+     * @param maxSize the maximum size of all segments in bytes
+     * @param segmentSize the size of a single segment file in bytes
+     * @param overflowPolicy what to drop when the spool is full
+     */
+    public InfluxPointSpool(Path directory, long maxSize, int segmentSize, OverflowPolicy overflowPolicy) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = (int) Math.max(2, maxSize / segmentSize);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Open the spool and map all segments left over from a previous run.
+     *
+     * @throws IOException if the spool directory or one of the segments cannot be accessed
+     */
+    public synchronized void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.toList();
+        }
+        for (Path file : files) {
+            if (file.getFileName().toString().endsWith(SORTED_SUFFIX)) {
+                // left over by an interrupted sort, the segment itself is still complete
+                Files.deleteIfExists(file);
+            }
+        }
+        files = files.stream().filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                .sorted(Comparator.comparingLong(InfluxPointSpool::segmentId)).toList();
+        for (Path file : files) {
+            long id = segmentId(file);
+            if (id < 0) {
+                continue;
+            }
+            Segment segment = Segment.map(file, segmentSize);
+            if (!segment.isValid()) {
+                logger.warn("Ignoring corrupt spool segment {}", file);
+                segment.close();
+                Files.deleteIfExists(file);
+                continue;
+            }
+            segments.addLast(segment);
+            nextSegmentId = Math.max(nextSegmentId, id + 1);
+        }
+        if (!segments.isEmpty()) {
+            logger.info("Found {} spooled InfluxDB segment(s) with {} bytes to replay.", segments.size(), size());
+        }
+    }
+
+    /**
+     * Append points to the spool.
+     *
+     * @param points the points to append
+     * @return the number of points which have been dropped
+     */
+    public synchronized int append(List<InfluxPoint> points) {
+        int dropped = 0;
+        for (InfluxPoint point : points) {
+            byte[] record;
+            try {
+                record = serialize(point);
+            } catch (IOException | IllegalArgumentException e) {
+                logger.warn("Could not spool {}, discarding this datapoint: {}", point, e.getMessage());
+                dropped++;
+                continue;
+            }
+            if (record.length + Integer.BYTES > segmentSize - HEADER_SIZE) {
+                logger.warn("Point {} is too large to be spooled, discarding this datapoint", point);
+                dropped++;
+                continue;
+            }
+            try {
+                Segment segment = writableSegment(record.length);
+                if (segment == null) {
+                    dropped++;
+                    continue;
+                }
+                segment.append(record);
+            } catch (IOException e) {
+                logger.warn("Failed to spool point: {}", e.getMessage());
+                dropped++;
+            }
+        }
+        Segment tail = segments.peekLast();
+        if (tail != null) {
+            tail.force();
+        }
+        droppedPoints += dropped;
+        return dropped;
+    }
+
+    /**
+     * Read the oldest spooled points without removing them. Call {@link #remove()} once the points have been written.
+     *
+     * @param maxPoints the maximum number of points to return
+     * @return the points, sorted by time
+     */
+    public synchronized List<InfluxPoint> peek(int maxPoints) {
+        List<InfluxPoint> points = new ArrayList<>();
+        pendingReadPositions.clear();
+        deleteConsumed();
+        // merge the sorted segments, only the next record of each segment is looked at
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>(
+                Comparator.comparingLong((Cursor c) -> c.time).thenComparingInt(c -> c.order));
+        int order = 0;
+        List<Segment> sortedSegments = new ArrayList<>(segments.size());
+        for (Segment segment : segments) {
+            try {
+                sortedSegments.add(sort(segment));
+            } catch (IOException e) {
+                logger.warn("Failed to map spool segment {}, discarding its points: {}", segment.file,
+                        e.getMessage());
+            }
+        }
+        segments.clear();
+        segments.addAll(sortedSegments);
+        for (Segment segment : segments) {
+            if (!segment.isConsumed()) {
+                cursors.add(new Cursor(segment, order++));
+            }
+        }
+        while (points.size() < maxPoints) {
+            Cursor cursor = cursors.poll();
+            if (cursor == null) {
+                break;
+            }
+            byte[] record = cursor.segment.read(cursor.position);
+            cursor.position += Integer.BYTES + record.length;
+            pendingReadPositions.put(cursor.segment, cursor.position);
+            try {
+                points.add(deserialize(record));
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Skipping unreadable spooled point: {}", e.getMessage());
+            }
+            if (cursor.position < cursor.segment.writePosition()) {
+                cursor.time = cursor.segment.time(cursor.position);
+                cursors.add(cursor);
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Remove the points returned by the last call to {@link #peek(int)}.
+     */
+    public synchronized void remove() {
+        pendingReadPositions.forEach(Segment::setReadPosition);
+        pendingReadPositions.clear();
+        deleteConsumed();
+    }
+
+    public synchronized boolean isEmpty() {
+        return segments.stream().allMatch(Segment::isConsumed);
+    }
+
+    /**
+     * @return the number of spooled bytes not yet replayed
+     */
+    public synchronized long size() {
+        return segments.stream().mapToLong(s -> s.writePosition() - s.readPosition()).sum();
+    }
+
+    public synchronized long getDroppedPoints() {
+        return droppedPoints;
+    }
+
+    public synchronized void close() {
+        segments.forEach(Segment::close);
+        segments.clear();
+    }
+
+    private @Nullable Segment writableSegment(int recordLength) throws IOException {
+        Segment tail = segments.peekLast();
+        if (tail != null && tail.remaining() >= recordLength + Integer.BYTES) {
+            return tail;
+        }
+        if (tail != null) {
+            tail.force();
+        }
+        if (segments.size() >= maxSegments) {
+            if (overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+                return null;
+            }
+            logger.warn("InfluxDB spool is full, dropping oldest {} bytes of spooled points.",
+                    segments.getFirst().writePosition() - segments.getFirst().readPosition());
+            deleteHead();
+        }
+        Path file = directory.resolve(String.format("%016d%s", nextSegmentId++, SEGMENT_SUFFIX));
+        Segment segment = Segment.map(file, segmentSize);
+        segment.reset();
+        segments.addLast(segment);
+        return segment;
+    }
+
+    private void deleteHead() {
+        Segment head = segments.pollFirst();
+        if (head != null) {
+            delete(head);
+        }
+        pendingReadPositions.clear();
+    }
+
+    /**
+     * Delete all fully replayed segments. The last segment is kept and reused from the beginning.
+     */
+    private void deleteConsumed() {
+        Segment tail = segments.peekLast();
+        Iterator<Segment> iterator = segments.iterator();
+        while (iterator.hasNext()) {
+            Segment segment = iterator.next();
+            if (!segment.isConsumed()) {
+                continue;
+            }
+            if (segment == tail) {
+                segment.reset();
+            } else {
+                iterator.remove();
+                delete(segment);
+            }
+        }
+    }
+
+    private void delete(Segment segment) {
+        segment.close();
+        try {
+            Files.deleteIfExists(segment.file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete spool segment {}: {}", segment.file, e.getMessage());
+        }
+    }
+
+    /**
+     * Sort the unread records of a segment by time. Only segments with records appended since the last sort are
+     * sorted, so each segment is usually sorted once, when it is replayed for the first time. A corrupt record
+     * length would make all following records unreachable, so the segment is truncated in front of it.
+     * <p>
+     * The sorted records are written to a new file, which then replaces the segment file. A crash while sorting
+     * leaves either the unsorted or the sorted segment behind, never a partially rewritten one.
+     *
+     * @return the sorted segment, which replaces the given segment if its records had to be reordered
+     * @throws IOException if the segment had to be closed and cannot be mapped again
+     */
+    private Segment sort(Segment segment) throws IOException {
+        int from = segment.readPosition();
+        int to = segment.writePosition();
+        if (segment.sortedPosition >= to) {
+            return segment;
+        }
+        List<byte[]> records = new ArrayList<>();
+        boolean sorted = true;
+        long lastTime = Long.MIN_VALUE;
+        int position = from;
+        while (position < to) {
+            int length = segment.recordLength(position, to);
+            if (length < 0) {
+                logger.warn("Spool segment {} is corrupt at position {}, discarding the remaining {} bytes.",
+                        segment.file, position, to - position);
+                segment.setWritePosition(position);
+                to = position;
+                break;
+            }
+            byte[] record = segment.read(position);
+            long time = time(ByteBuffer.wrap(record), 0, length);
+            sorted &= time >= lastTime;
+            lastTime = time;
+            records.add(record);
+            position += Integer.BYTES + length;
+        }
+        if (sorted) {
+            segment.sortedPosition = to;
+            return segment;
+        }
+        // List.sort() is stable, so points with the same time stamp keep their order
+        records.sort(Comparator.comparingLong(record -> time(ByteBuffer.wrap(record), 0, record.length)));
+        Path sortedFile = segment.file.resolveSibling(segment.file.getFileName() + SORTED_SUFFIX);
+        boolean closed = false;
+        try {
+            Segment sortedSegment = Segment.map(sortedFile, segmentSize);
+            try {
+                sortedSegment.reset();
+                records.forEach(sortedSegment::append);
+            } finally {
+                sortedSegment.close();
+            }
+            segment.close();
+            closed = true;
+            Files.move(sortedFile, segment.file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Failed to sort spool segment {}, replaying its points unsorted: {}", segment.file,
+                    e.getMessage());
+            try {
+                Files.deleteIfExists(sortedFile);
+            } catch (IOException e1) {
+                logger.debug("Failed to delete {}: {}", sortedFile, e1.getMessage());
+            }
+        }
+        if (!closed) {
+            segment.sortedPosition = to;
+            return segment;
+        }
+        Segment replaced = Segment.map(segment.file, segmentSize);
+        replaced.sortedPosition = replaced.writePosition();
+        return replaced;
+    }
+
+    /**
+     * Read the time stamp of a serialized point without deserializing it.
+     *
+     * @return the time stamp in milliseconds, or {@link Long#MIN_VALUE} if the record is too short
+     */
+    private static long time(ByteBuffer buffer, int offset, int length) {
+        if (length < Short.BYTES) {
+            return Long.MIN_VALUE;
+        }
+        // the measurement name is written first, as an UTF string with a two byte length
+        int timeOffset = Short.BYTES + Short.toUnsignedInt(buffer.getShort(offset));
+        return timeOffset + Long.BYTES <= length ? buffer.getLong(offset + timeOffset) : Long.MIN_VALUE;
+    }
+
+    private static long segmentId(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    static byte[] serialize(InfluxPoint point) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(point.getMeasurementName());
+            out.writeLong(point.getTime().toEpochMilli());
+            Object value = point.getValue();
+            if (value == null) {
+                out.writeByte(TYPE_NULL);
+            } else if (value instanceof String string) {
+                out.writeByte(TYPE_STRING);
+                // strings may exceed the 64k limit of writeUTF, e.g. for images
+                byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(utf8.length);
+                out.write(utf8);
+            } else if (value instanceof BigDecimal bigDecimal) {
+                out.writeByte(TYPE_BIG_DECIMAL);
+                out.writeUTF(bigDecimal.toString());
+            } else if (value instanceof Integer integer) {
+                out.writeByte(TYPE_INTEGER);
+                out.writeInt(integer);
+            } else if (value instanceof Long longValue) {
+                out.writeByte(TYPE_LONG);
+                out.writeLong(longValue);
+            } else if (value instanceof Number number) {
+                out.writeByte(TYPE_DOUBLE);
+                out.writeDouble(number.doubleValue());
+            } else if (value instanceof Boolean bool) {
+                out.writeByte(TYPE_BOOLEAN);
+                out.writeBoolean(bool);
+            } else {
+                throw new IllegalArgumentException("Unsupported value type " + value.getClass().getName());
+            }
+            Map<String, String> tags = point.getTags();
+            out.writeShort(tags.size());
+            for (Map.Entry<String, String> tag : tags.entrySet()) {
+                out.writeUTF(tag.getKey());
+                out.writeUTF(tag.getValue());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    static InfluxPoint deserialize(byte[] record) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            InfluxPoint.Builder builder = InfluxPoint.newBuilder(in.readUTF())
+                    .withTime(Instant.ofEpochMilli(in.readLong()));
+            byte type = in.readByte();
+            switch (type) {
+                case TYPE_NULL -> {
+                    // no value to restore
+                }
+                case TYPE_STRING -> {
+                    byte[] utf8 = new byte[in.readInt()];
+                    in.readFully(utf8);
+                    builder.withValue(new String(utf8, StandardCharsets.UTF_8));
+                }
+                case TYPE_BIG_DECIMAL -> builder.withValue(new BigDecimal(in.readUTF()));
+                case TYPE_INTEGER -> builder.withValue(in.readInt());
+                case TYPE_LONG -> builder.withValue(in.readLong());
+                case TYPE_DOUBLE -> builder.withValue(in.readDouble());
+                case TYPE_BOOLEAN -> builder.withValue(in.readBoolean());
+                default -> throw new IOException("Unknown value type " + type);
+            }
+            int tagCount = in.readUnsignedShort();
+            for (int i = 0; i < tagCount; i++) {
+                builder.withTag(in.readUTF(), in.readUTF());
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * Read position in a segment while merging the segments.
+     */
+    private static class Cursor {
+        private final Segment segment;
+        private final int order;
+        private int position;
+        private long time;
+
+        Cursor(Segment segment, int order) {
+            this.segment = segment;
+            this.order = order;
+            this.position = segment.readPosition();
+            this.time = segment.time(position);
+        }
+    }
+
+    /**
+     * A single memory-mapped segment file. Records are stored as length-prefixed byte arrays.
+     */
+    private static class Segment {
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        // records up to this position have been sorted, not persisted, so segments are sorted again after a restart
+        private int sortedPosition;
+
+        private Segment(Path file, FileChannel channel, MappedByteBuffer buffer) {
+            this.file = file;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment map(Path file, int size) throws IOException {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            try {
+                return new Segment(file, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        boolean isValid() {
+            int writePosition = writePosition();
+            int readPosition = readPosition();
+            return buffer.getInt(0) == MAGIC && writePosition >= HEADER_SIZE && writePosition <= buffer.capacity()
+                    && readPosition >= HEADER_SIZE && readPosition <= writePosition;
+        }
+
+        void reset() {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(WRITE_POSITION_OFFSET, HEADER_SIZE);
+            buffer.putInt(READ_POSITION_OFFSET, HEADER_SIZE);
+            sortedPosition = 0;
+        }
+
+        int writePosition() {
+            return buffer.getInt(WRITE_POSITION_OFFSET);
+        }
+
+        int readPosition() {
+            return buffer.getInt(READ_POSITION_OFFSET);
+        }
+
+        void setReadPosition(int position) {
+            buffer.putInt(READ_POSITION_OFFSET, position);
+        }
+
+        void setWritePosition(int position) {
+            buffer.putInt(WRITE_POSITION_OFFSET, position);
+        }
+
+        int remaining() {
+            return buffer.capacity() - writePosition();
+        }
+
+        boolean isConsumed() {
+            return readPosition() >= writePosition();
+        }
+
+        void append(byte[] record) {
+            int position = writePosition();
+            buffer.putInt(position, record.length);
+            buffer.put(position + Integer.BYTES, record);
+            // publish the record only after it has been written completely
+            buffer.putInt(WRITE_POSITION_OFFSET, position + Integer.BYTES + record.length);
+        }
+
+        byte[] read(int position) {
+            byte[] record = new byte[buffer.getInt(position)];
+            buffer.get(position + Integer.BYTES, record);
+            return record;
+        }
+
+        /**
+         * @return the length of the record at the given position, or -1 if it does not end before the limit
+         */
+        int recordLength(int position, int limit) {
+            if (position < HEADER_SIZE || position + Integer.BYTES > limit) {
+                return -1;
+            }
+            int length = buffer.getInt(position);
+            return length >= 0 && length <= limit - position - Integer.BYTES ? length : -1;
+        }
+
+        long time(int position) {
+            return InfluxPointSpool.time(buffer, position + Integer.BYTES, buffer.getInt(position));
+        }
+
+        void force() {
+            buffer.force();
+        }
+
+        void close() {
+            buffer.force();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // ignore, the mapping stays valid until it is garbage collected
+            }
+        }
+    }
+}
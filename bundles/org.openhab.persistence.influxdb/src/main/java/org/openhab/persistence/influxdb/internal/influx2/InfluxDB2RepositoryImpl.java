@@ -44,6 +44,7 @@ import com.influxdb.client.InfluxDBClientFactory;
 import com.influxdb.client.InfluxDBClientOptions;
 import com.influxdb.client.QueryApi;
 import com.influxdb.client.WriteApi;
+import com.influxdb.client.WriteApiBlocking;
 import com.influxdb.client.domain.Ready;
 import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
@@ -65,6 +66,7 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
     private @Nullable InfluxDBClient client;
     private @Nullable QueryApi queryAPI;
     private @Nullable WriteApi writeAPI;
+    private @Nullable WriteApiBlocking writeApiBlocking;
     private @Nullable DeleteApi deleteAPI;
 
     public InfluxDB2RepositoryImpl(InfluxDBConfiguration configuration,
@@ -96,7 +98,14 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
         this.client = createdClient;
 
         queryAPI = createdClient.getQueryApi();
-        writeAPI = createdClient.makeWriteApi();
+        if (configuration.isSpoolEnabled()) {
+            // the spool needs to know if a write failed, which the batching write API only reports asynchronously
+            writeApiBlocking = createdClient.getWriteApiBlocking();
+            writeAPI = null;
+        } else {
+            writeAPI = createdClient.makeWriteApi();
+            writeApiBlocking = null;
+        }
         deleteAPI = createdClient.getDeleteApi();
 
         logger.debug("Successfully connected to InfluxDB. Instance pingable={}", createdClient.ping());
@@ -142,13 +151,18 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
     @Override
     public boolean write(List<InfluxPoint> influxPoints) {
         final WriteApi currentWriteAPI = writeAPI;
-        if (currentWriteAPI == null) {
+        final WriteApiBlocking currentWriteApiBlocking = writeApiBlocking;
+        if (currentWriteAPI == null && currentWriteApiBlocking == null) {
             return false;
         }
         try {
             List<Point> clientPoints = influxPoints.stream().map(this::convertPointToClientFormat)
                     .filter(Optional::isPresent).map(Optional::get).toList();
-            currentWriteAPI.writePoints(clientPoints);
+            if (currentWriteApiBlocking != null) {
+                currentWriteApiBlocking.writePoints(clientPoints);
+            } else if (currentWriteAPI != null) {
+                currentWriteAPI.writePoints(clientPoints);
+            }
         } catch (InfluxException | InfluxDBIOException e) {
             logger.debug("Writing to database failed", e);
             return false;
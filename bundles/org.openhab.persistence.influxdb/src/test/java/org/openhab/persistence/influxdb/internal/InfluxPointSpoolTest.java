@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxPointSpoolTest {
+    private static final int SEGMENT_SIZE = 1000;
+
+    @TempDir
+    @NonNullByDefault({})
+    Path spoolDirectory;
+
+    @Test
+    public void spooledPointsAreReplayedAfterReopen() throws IOException {
+        InfluxPointSpool spool = createSpool(10 * SEGMENT_SIZE, InfluxPointSpool.OverflowPolicy.DROP_OLDEST);
+        spool.append(List.of(point(2, new BigDecimal("1.5")), point(1, "text"), point(3, 42L)));
+        spool.close();
+
+        spool = createSpool(10 * SEGMENT_SIZE, InfluxPointSpool.OverflowPolicy.DROP_OLDEST);
+        List<InfluxPoint> points = spool.peek(10);
+        assertThat(points.stream().map(InfluxPoint::getValue).toList(),
+                equalTo(List.<Object> of("text", new BigDecimal("1.5"), 42L)));
+        assertThat(points.get(0).getTags().get("item"), is("item"));
+
+        spool.remove();
+        assertThat(spool.isEmpty(), is(true));
+        spool.close();
+    }
+
+    @Test
+    public void pointsAreKeptUntilRemoved() throws IOException {
+        InfluxPointSpool spool = createSpool(10 * SEGMENT_SIZE, InfluxPointSpool.OverflowPolicy.DROP_OLDEST);
+        spool.append(List.of(point(1, 1), point(2, 2)));
+
+        assertThat(spool.peek(1).size(), is(1));
+        // without remove() the same point is returned again
+        assertThat(spool.peek(1).get(0).getValue(), is(1));
+        spool.remove();
+        assertThat(spool.peek(10).get(0).getValue(), is(2));
+        spool.close();
+    }
+
+    @Test
+    public void dropOldestKeepsNewestPoints() throws IOException {
+        InfluxPointSpool spool = createSpool(2 * SEGMENT_SIZE, InfluxPointSpool.OverflowPolicy.DROP_OLDEST);
+        List<InfluxPoint> points = createPoints(200);
+        assertThat(spool.append(points), is(0));
+
+        List<InfluxPoint> replayed = replayAll(spool);
+        assertThat(replayed.get(replayed.size() - 1).getValue(), equalTo(199));
+        assertThat(replayed.size() < points.size(), is(true));
+        spool.close();
+    }
+
+    @Test
+    public void dropNewestKeepsOldestPoints() throws IOException {
+        InfluxPointSpool spool = createSpool(2 * SEGMENT_SIZE, InfluxPointSpool.OverflowPolicy.DROP_NEWEST);
+        List<InfluxPoint> points = createPoints(200);
+        int dropped = spool.append(points);
+
+        List<InfluxPoint> replayed = replayAll(spool);
+        assertThat(replayed.get(0).getValue(), equalTo(0));
+        assertThat(replayed.size(), is(points.size() - dropped));
+        spool.close();
+    }
+
+    @Test
+    public void pointsAreReplayedInTimeOrderAcrossSegments() throws IOException {
+        InfluxPointSpool spool = createSpool(10 * SEGMENT_SIZE, InfluxPointSpool.OverflowPolicy.DROP_OLDEST);
+        List<InfluxPoint> points = createPoints(100);
+        Collections.reverse(points);
+        // each append fills more than one segment
+        spool.append(points.subList(50, 100));
+        spool.append(points.subList(0, 50));
+
+        List<InfluxPoint> replayed = replayAll(spool);
+        assertThat(replayed.stream().map(InfluxPoint::getValue).toList(),
+                equalTo(createPoints(100).stream().map(InfluxPoint::getValue).toList()));
+        spool.close();
+    }
+
+    @Test
+    public void sortedSegmentReplacesTheSegmentFile() throws IOException {
+        InfluxPointSpool spool = createSpool(10 * SEGMENT_SIZE, InfluxPointSpool.OverflowPolicy.DROP_OLDEST);
+        spool.append(List.of(point(1, 1), point(3, 3), point(2, 2)));
+        assertThat(spool.peek(1).get(0).getValue(), is(1));
+        spool.remove();
+        // points appended after sorting go to the replaced segment
+        spool.append(List.of(point(0, 0)));
+        spool.close();
+
+        try (Stream<Path> files = Files.list(spoolDirectory)) {
+            assertThat(files.map(file -> file.getFileName().toString()).toList(),
+                    equalTo(List.of("0000000000000000.spool")));
+        }
+        spool = createSpool(10 * SEGMENT_SIZE, InfluxPointSpool.OverflowPolicy.DROP_OLDEST);
+        assertThat(spool.peek(10).stream().map(InfluxPoint::getValue).toList(), equalTo(List.<Object> of(0, 2, 3)));
+        spool.close();
+    }
+
+    @Test
+    public void interruptedSortKeepsTheSegment() throws IOException {
+        InfluxPointSpool spool = createSpool(10 * SEGMENT_SIZE, InfluxPointSpool.OverflowPolicy.DROP_OLDEST);
+        spool.append(List.of(point(2, 2), point(1, 1)));
+        spool.close();
+        Files.write(spoolDirectory.resolve("0000000000000000.spool.sorted"), new byte[SEGMENT_SIZE]);
+
+        spool = createSpool(10 * SEGMENT_SIZE, InfluxPointSpool.OverflowPolicy.DROP_OLDEST);
+        assertThat(Files.exists(spoolDirectory.resolve("0000000000000000.spool.sorted")), is(false));
+        assertThat(spool.peek(10).stream().map(InfluxPoint::getValue).toList(), equalTo(List.<Object> of(1, 2)));
+        spool.close();
+    }
+
+    @Test
+    public void corruptRecordTruncatesSegment() throws IOException {
+        InfluxPointSpool spool = createSpool(10 * SEGMENT_SIZE, InfluxPointSpool.OverflowPolicy.DROP_OLDEST);
+        spool.append(List.of(point(1, 1), point(2, 2), point(3, 3)));
+        spool.close();
+
+        Path segment;
+        try (Stream<Path> files = Files.list(spoolDirectory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // the first record starts after the 12 byte header with its length
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(length, 12);
+            int secondRecord = 12 + Integer.BYTES + length.flip().getInt();
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, Integer.MAX_VALUE), secondRecord);
+        }
+
+        spool = createSpool(10 * SEGMENT_SIZE, InfluxPointSpool.OverflowPolicy.DROP_OLDEST);
+        assertThat(spool.peek(10).stream().map(InfluxPoint::getValue).toList(), equalTo(List.<Object> of(1)));
+        spool.remove();
+        assertThat(spool.isEmpty(), is(true));
+
+        // the truncated segment is still usable
+        spool.append(List.of(point(4, 4)));
+        assertThat(spool.peek(10).get(0).getValue(), is(4));
+        spool.close();
+    }
+
+    private InfluxPointSpool createSpool(long maxSize, InfluxPointSpool.OverflowPolicy policy) throws IOException {
+        InfluxPointSpool spool = new InfluxPointSpool(spoolDirectory, maxSize, SEGMENT_SIZE, policy);
+        spool.open();
+        return spool;
+    }
+
+    private List<InfluxPoint> replayAll(InfluxPointSpool spool) {
+        List<InfluxPoint> replayed = new ArrayList<>();
+        while (!spool.isEmpty()) {
+            replayed.addAll(spool.peek(7));
+            spool.remove();
+        }
+        return replayed;
+    }
+
+    private List<InfluxPoint> createPoints(int count) {
+        List<InfluxPoint> points = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            points.add(point(i, i));
+        }
+        return points;
+    }
+
+    private InfluxPoint point(long time, Object value) {
+        return InfluxPoint.newBuilder("measurement").withTime(Instant.ofEpochMilli(time)).withValue(value)
+                .withTag("item", "item").build();
+    }
+}
@@ -12,16 +12,15 @@
  */
 package org.openhab.persistence.inmemory.internal;
 
-import java.time.Instant;
 import java.time.ZonedDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -66,11 +65,13 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     protected static final String CONFIG_URI = "persistence:inmemory";
     private final String MAX_ENTRIES_CONFIG = "maxEntries";
     private final long MAX_ENTRIES_DEFAULT = 512;
+    private final String COMPACT_NUMBERS_CONFIG = "compactNumbers";
 
     private final Logger logger = LoggerFactory.getLogger(InMemoryPersistenceService.class);
 
     private final Map<String, PersistItem> persistMap = new ConcurrentHashMap<>();
     private long maxEntries = MAX_ENTRIES_DEFAULT;
+    private boolean compactNumbers = false;
 
     @Activate
     public void activate(Map<String, Object> config) {
@@ -81,14 +82,14 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     @Modified
     public void modified(Map<String, Object> config) {
         maxEntries = ConfigParser.valueAsOrElse(config.get(MAX_ENTRIES_CONFIG), Long.class, MAX_ENTRIES_DEFAULT);
+        // only applies to items persisted for the first time, existing datapoints are not converted
+        compactNumbers = ConfigParser.valueAsOrElse(config.get(COMPACT_NUMBERS_CONFIG), Boolean.class, false);
 
         persistMap.values().forEach(persistItem -> {
-            Lock lock = persistItem.lock();
+            Lock lock = persistItem.lock;
             lock.lock();
             try {
-                while (persistItem.database().size() > maxEntries) {
-                    persistItem.database().pollFirst();
-                }
+                persistItem.storage.trim(maxEntries);
             } finally {
                 lock.unlock();
             }
@@ -148,11 +149,10 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return false;
         }
 
-        Lock lock = persistItem.lock();
+        Lock lock = persistItem.lock;
         lock.lock();
         try {
-            List<PersistEntry> toRemove = persistItem.database().stream().filter(e -> applies(e, filter)).toList();
-            toRemove.forEach(persistItem.database()::remove);
+            persistItem.storage.remove(filter.getBeginDate(), filter.getEndDate(), e -> applies(e, filter));
         } finally {
             lock.unlock();
         }
@@ -171,19 +171,18 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return List.of();
         }
 
-        Lock lock = persistItem.lock();
-        lock.lock();
-
-        Comparator<PersistEntry> comparator = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING
-                ? Comparator.comparing(PersistEntry::timestamp)
-                : Comparator.comparing(PersistEntry::timestamp).reversed();
-
-        try {
-            return persistItem.database().stream().filter(e -> applies(e, filter)).sorted(comparator)
-                    .map(e -> toHistoricItem(itemName, e)).toList();
-        } finally {
-            lock.unlock();
+        // entries are returned in ascending order, the storage takes care of concurrent modifications
+        List<PersistEntry> entries = persistItem.storage.query(filter.getBeginDate(), filter.getEndDate());
+        List<HistoricItem> result = new ArrayList<>(entries.size());
+        for (PersistEntry entry : entries) {
+            if (applies(entry, filter)) {
+                result.add(toHistoricItem(itemName, entry));
+            }
+        }
+        if (filter.getOrdering() != FilterCriteria.Ordering.ASCENDING) {
+            Collections.reverse(result);
         }
+        return result;
     }
 
     @Override
@@ -193,13 +192,14 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     }
 
     private PersistenceItemInfo toItemInfo(Map.Entry<String, PersistItem> itemEntry) {
-        Lock lock = itemEntry.getValue().lock();
+        Lock lock = itemEntry.getValue().lock;
         lock.lock();
         try {
             String name = itemEntry.getKey();
-            Integer count = itemEntry.getValue().database().size();
-            Instant earliest = itemEntry.getValue().database().first().timestamp().toInstant();
-            Instant latest = itemEntry.getValue().database.last().timestamp.toInstant();
+            PersistStorage storage = itemEntry.getValue().storage;
+            Integer count = storage.size();
+            ZonedDateTime earliest = storage.earliest();
+            ZonedDateTime latest = storage.latest();
             return new PersistenceItemInfo() {
 
                 @Override
@@ -214,12 +214,12 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
 
                 @Override
                 public @Nullable Date getEarliest() {
-                    return Date.from(earliest);
+                    return earliest != null ? Date.from(earliest.toInstant()) : null;
                 }
 
                 @Override
                 public @Nullable Date getLatest() {
-                    return Date.from(latest);
+                    return latest != null ? Date.from(latest.toInstant()) : null;
                 }
             };
         } finally {
@@ -251,23 +251,32 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return;
         }
 
-        PersistItem persistItem = Objects.requireNonNull(persistMap.computeIfAbsent(itemName,
-                k -> new PersistItem(new TreeSet<>(Comparator.comparing(PersistEntry::timestamp)),
-                        new ReentrantLock())));
+        PersistItem persistItem = Objects
+                .requireNonNull(persistMap.computeIfAbsent(itemName, k -> new PersistItem(createStorage(state))));
 
-        Lock lock = persistItem.lock();
+        Lock lock = persistItem.lock;
         lock.lock();
         try {
-            persistItem.database().add(new PersistEntry(timestamp, state));
-
-            while (persistItem.database.size() > maxEntries) {
-                persistItem.database().pollFirst();
+            PersistStorage storage = persistItem.storage;
+            if (!storage.add(timestamp, state) && storage instanceof NumericPersistStorage numericStorage) {
+                // the state does not fit into the numeric storage (e.g. different unit), keep all states as objects
+                logger.debug("Item '{}' received a non-matching state {}, switching to object storage", itemName,
+                        state);
+                storage = new ObjectPersistStorage(numericStorage.entries());
+                storage.add(timestamp, state);
+                persistItem.storage = storage;
             }
+            storage.trim(maxEntries);
         } finally {
             lock.unlock();
         }
     }
 
+    private PersistStorage createStorage(State state) {
+        PersistStorage storage = compactNumbers ? NumericPersistStorage.forState(state) : null;
+        return storage != null ? storage : new ObjectPersistStorage();
+    }
+
     @SuppressWarnings("unchecked")
     private boolean applies(PersistEntry entry, FilterCriteria filter) {
         ZonedDateTime beginDate = filter.getBeginDate();
@@ -294,7 +303,8 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return !entry.state().equals(refState);
         }
 
-        if (entry.state() instanceof Comparable comparableState && entry.state.getClass().equals(refState.getClass())) {
+        if (entry.state() instanceof Comparable comparableState
+                && entry.state().getClass().equals(refState.getClass())) {
             if (operator == FilterCriteria.Operator.GT) {
                 return comparableState.compareTo(refState) > 0;
             }
@@ -313,9 +323,15 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         return true;
     }
 
-    private record PersistEntry(ZonedDateTime timestamp, State state) {
-    }
+    /**
+     * Writes to the storage are serialized by the lock, queries are handled by the storage itself.
+     */
+    private static class PersistItem {
+        private final Lock lock = new ReentrantLock();
+        private volatile PersistStorage storage;
 
-    private record PersistItem(TreeSet<PersistEntry> database, Lock lock) {
+        private PersistItem(PersistStorage storage) {
+            this.storage = storage;
+        }
     }
 }
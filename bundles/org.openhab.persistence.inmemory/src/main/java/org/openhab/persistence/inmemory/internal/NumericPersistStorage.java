@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link NumericPersistStorage} keeps numeric states in two parallel ring buffers holding the epoch milliseconds
+ * and the values as primitives, so no objects are allocated per stored state.
+ * <p>
+ * All states must be of the same type (and unit for {@link QuantityType}) as the first state. Timestamps are kept
+ * with millisecond precision and returned in the system time zone, values as <code>double</code>. This is lossy, so
+ * the storage is only used when enabled with the <code>compactNumbers</code> option. Range queries use a binary search
+ * on the timestamps.
+ * <p>
+ * Modifications must be done by a single thread at a time. Queries use optimistic reads and usually do not block.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class NumericPersistStorage implements PersistStorage {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private enum Type {
+        DECIMAL,
+        PERCENT,
+        QUANTITY
+    }
+
+    private final StampedLock lock = new StampedLock();
+    private final Type type;
+    private final @Nullable Unit<?> unit;
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    // capacity is always a power of two, so the physical index is (head + i) & (capacity - 1)
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private double[] values = new double[INITIAL_CAPACITY];
+    private int head = 0;
+    private int size = 0;
+
+    private NumericPersistStorage(Type type, @Nullable Unit<?> unit) {
+        this.type = type;
+        this.unit = unit;
+    }
+
+    /**
+     * Create a storage for states like the given one.
+     *
+     * @return the storage or <code>null</code> if the state is not numeric
+     */
+    static @Nullable NumericPersistStorage forState(State state) {
+        if (state.getClass() == DecimalType.class) {
+            return new NumericPersistStorage(Type.DECIMAL, null);
+        } else if (state.getClass() == PercentType.class) {
+            return new NumericPersistStorage(Type.PERCENT, null);
+        } else if (state instanceof QuantityType<?> quantity && state.getClass() == QuantityType.class) {
+            return new NumericPersistStorage(Type.QUANTITY, quantity.getUnit());
+        }
+        return null;
+    }
+
+    private boolean accepts(State state) {
+        return switch (type) {
+            case DECIMAL -> state.getClass() == DecimalType.class;
+            case PERCENT -> state.getClass() == PercentType.class;
+            case QUANTITY -> state instanceof QuantityType<?> quantity && state.getClass() == QuantityType.class
+                    && quantity.getUnit().equals(unit);
+        };
+    }
+
+    private State toState(double value) {
+        Unit<?> unit = this.unit;
+        if (type == Type.QUANTITY && unit != null) {
+            return new QuantityType<>(BigDecimal.valueOf(value), unit);
+        }
+        return type == Type.PERCENT ? new PercentType(BigDecimal.valueOf(value))
+                : new DecimalType(BigDecimal.valueOf(value));
+    }
+
+    /**
+     * @return all entries as objects, e.g. to move them to another storage
+     */
+    List<PersistEntry> entries() {
+        return query(null, null);
+    }
+
+    @Override
+    public boolean add(ZonedDateTime timestamp, State state) {
+        if (!accepts(state)) {
+            return false;
+        }
+        long time = timestamp.toInstant().toEpochMilli();
+        // all accepted states are DecimalType, PercentType or QuantityType
+        double value = ((Number) state).doubleValue();
+        long stamp = lock.writeLock();
+        try {
+            int position = lowerBound(timestamps, head, size, time);
+            if (position < size && timestamps[index(position)] == time) {
+                // keep the existing value, like for all other states
+                return true;
+            }
+            if (size == timestamps.length) {
+                grow();
+            }
+            int mask = timestamps.length - 1;
+            if (position < size / 2) {
+                // shift the older entries one position to the front
+                head = (head - 1) & mask;
+                for (int i = 0; i < position; i++) {
+                    move(i + 1, i);
+                }
+            } else {
+                // shift the newer entries one position to the back, this is a no-op for appends
+                for (int i = size; i > position; i--) {
+                    move(i - 1, i);
+                }
+            }
+            timestamps[index(position)] = time;
+            values[index(position)] = value;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return true;
+    }
+
+    @Override
+    public void trim(long maxEntries) {
+        if (size <= maxEntries) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            int remove = (int) (size - maxEntries);
+            head = (head + remove) & (timestamps.length - 1);
+            size -= remove;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public List<PersistEntry> query(@Nullable ZonedDateTime begin, @Nullable ZonedDateTime end) {
+        long beginTime = begin != null ? begin.toInstant().toEpochMilli() : Long.MIN_VALUE;
+        long endTime = end != null ? end.toInstant().toEpochMilli() : Long.MAX_VALUE;
+
+        long stamp = lock.tryOptimisticRead();
+        Snapshot snapshot = null;
+        if (stamp != 0) {
+            try {
+                snapshot = snapshot(beginTime, endTime);
+            } catch (RuntimeException e) {
+                // inconsistent state read during a concurrent modification, retry below
+                snapshot = null;
+            }
+        }
+        if (snapshot == null || !lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                snapshot = snapshot(beginTime, endTime);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        List<PersistEntry> entries = new ArrayList<>(snapshot.timestamps.length);
+        for (int i = 0; i < snapshot.timestamps.length; i++) {
+            entries.add(new PersistEntry(ZonedDateTime.ofInstant(Instant.ofEpochMilli(snapshot.timestamps[i]), zoneId),
+                    toState(snapshot.values[i])));
+        }
+        return entries;
+    }
+
+    private Snapshot snapshot(long beginTime, long endTime) {
+        long[] timestamps = this.timestamps;
+        double[] values = this.values;
+        int head = this.head;
+        int size = this.size;
+
+        int from = lowerBound(timestamps, head, size, beginTime);
+        int to = endTime == Long.MAX_VALUE ? size : lowerBound(timestamps, head, size, endTime + 1);
+        int count = Math.max(0, to - from);
+        long[] resultTimestamps = new long[count];
+        double[] resultValues = new double[count];
+        int mask = timestamps.length - 1;
+        for (int i = 0; i < count; i++) {
+            int index = (head + from + i) & mask;
+            resultTimestamps[i] = timestamps[index];
+            resultValues[i] = values[index];
+        }
+        return new Snapshot(resultTimestamps, resultValues);
+    }
+
+    @Override
+    public void remove(@Nullable ZonedDateTime begin, @Nullable ZonedDateTime end, Predicate<PersistEntry> filter) {
+        long beginTime = begin != null ? begin.toInstant().toEpochMilli() : Long.MIN_VALUE;
+        long endTime = end != null ? end.toInstant().toEpochMilli() : Long.MAX_VALUE;
+        long stamp = lock.writeLock();
+        try {
+            int from = lowerBound(timestamps, head, size, beginTime);
+            int to = endTime == Long.MAX_VALUE ? size : lowerBound(timestamps, head, size, endTime + 1);
+            int target = from;
+            for (int i = from; i < to; i++) {
+                PersistEntry entry = new PersistEntry(
+                        ZonedDateTime.ofInstant(Instant.ofEpochMilli(timestamps[index(i)]), zoneId),
+                        toState(values[index(i)]));
+                if (!filter.test(entry)) {
+                    move(i, target++);
+                }
+            }
+            // close the gap left by the removed entries
+            for (int i = to; i < size; i++) {
+                move(i, target++);
+            }
+            size = target;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public @Nullable ZonedDateTime earliest() {
+        return timestampAt(0);
+    }
+
+    @Override
+    public @Nullable ZonedDateTime latest() {
+        return timestampAt(-1);
+    }
+
+    private @Nullable ZonedDateTime timestampAt(int position) {
+        long stamp = lock.readLock();
+        try {
+            if (size == 0) {
+                return null;
+            }
+            long time = timestamps[index(position < 0 ? size + position : position)];
+            return ZonedDateTime.ofInstant(Instant.ofEpochMilli(time), zoneId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private int index(int position) {
+        return (head + position) & (timestamps.length - 1);
+    }
+
+    private void move(int from, int to) {
+        int fromIndex = index(from);
+        int toIndex = index(to);
+        timestamps[toIndex] = timestamps[fromIndex];
+        values[toIndex] = values[fromIndex];
+    }
+
+    private void grow() {
+        int capacity = timestamps.length << 1;
+        long[] newTimestamps = new long[capacity];
+        double[] newValues = new double[capacity];
+        for (int i = 0; i < size; i++) {
+            newTimestamps[i] = timestamps[index(i)];
+            newValues[i] = values[index(i)];
+        }
+        timestamps = newTimestamps;
+        values = newValues;
+        head = 0;
+    }
+
+    /**
+     * @return the first logical position with a timestamp not before <code>time</code>
+     */
+    private static int lowerBound(long[] timestamps, int head, int size, long time) {
+        int mask = timestamps.length - 1;
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[(head + mid) & mask] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private record Snapshot(long[] timestamps, double[] values) {
+    }
+}
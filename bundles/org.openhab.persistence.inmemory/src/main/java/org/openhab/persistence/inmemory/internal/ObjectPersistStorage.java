@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * The {@link ObjectPersistStorage} keeps {@link PersistEntry} objects in a sorted set and can hold any state.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class ObjectPersistStorage implements PersistStorage {
+    private final TreeSet<PersistEntry> database = new TreeSet<>(Comparator.comparing(PersistEntry::timestamp));
+    private final Lock lock = new ReentrantLock();
+
+    ObjectPersistStorage() {
+    }
+
+    ObjectPersistStorage(List<PersistEntry> entries) {
+        database.addAll(entries);
+    }
+
+    @Override
+    public boolean add(ZonedDateTime timestamp, State state) {
+        lock.lock();
+        try {
+            database.add(new PersistEntry(timestamp, state));
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    @Override
+    public void trim(long maxEntries) {
+        lock.lock();
+        try {
+            while (database.size() > maxEntries) {
+                database.pollFirst();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<PersistEntry> query(@Nullable ZonedDateTime begin, @Nullable ZonedDateTime end) {
+        lock.lock();
+        try {
+            return List.copyOf(subSet(begin, end));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(@Nullable ZonedDateTime begin, @Nullable ZonedDateTime end, Predicate<PersistEntry> filter) {
+        lock.lock();
+        try {
+            subSet(begin, end).removeIf(filter);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private NavigableSet<PersistEntry> subSet(@Nullable ZonedDateTime begin, @Nullable ZonedDateTime end) {
+        NavigableSet<PersistEntry> result = database;
+        if (begin != null) {
+            result = result.tailSet(new PersistEntry(begin, UnDefType.NULL), true);
+        }
+        if (end != null) {
+            result = result.headSet(new PersistEntry(end, UnDefType.NULL), true);
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return database.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @Nullable ZonedDateTime earliest() {
+        lock.lock();
+        try {
+            return database.isEmpty() ? null : database.first().timestamp();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @Nullable ZonedDateTime latest() {
+        lock.lock();
+        try {
+            return database.isEmpty() ? null : database.last().timestamp();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link PersistStorage} holds the persisted states of a single item, ordered by timestamp.
+ * <p>
+ * Modifying methods are only called by one thread at a time, queries may be executed concurrently.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+interface PersistStorage {
+
+    /**
+     * Add a state. If there is already a state with the same timestamp, the existing state is kept.
+     *
+     * @return <code>false</code> if the state can't be held by this storage, <code>true</code> otherwise
+     */
+    boolean add(ZonedDateTime timestamp, State state);
+
+    /**
+     * Remove the oldest entries until at most <code>maxEntries</code> are left.
+     */
+    void trim(long maxEntries);
+
+    /**
+     * @return all entries between <code>begin</code> and <code>end</code> (both inclusive), in ascending order
+     */
+    List<PersistEntry> query(@Nullable ZonedDateTime begin, @Nullable ZonedDateTime end);
+
+    /**
+     * Remove all entries between <code>begin</code> and <code>end</code> (both inclusive) matching the filter.
+     */
+    void remove(@Nullable ZonedDateTime begin, @Nullable ZonedDateTime end, Predicate<PersistEntry> filter);
+
+    int size();
+
+    @Nullable
+    ZonedDateTime earliest();
+
+    @Nullable
+    ZonedDateTime latest();
+}
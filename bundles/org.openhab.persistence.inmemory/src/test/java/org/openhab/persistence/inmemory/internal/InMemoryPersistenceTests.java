@@ -16,11 +16,13 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.Mockito.when;
 
+import java.math.BigDecimal;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -35,7 +37,9 @@ import org.openhab.core.items.GenericItem;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
@@ -275,4 +279,68 @@ public class InMemoryPersistenceTests {
 
         // begin date is before first date is already covered by case #1
     }
+
+    @Test
+    public void numericStatesAreQueriedByRangeInOrder() {
+        service.modified(Map.of("compactNumbers", true));
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        // store out of order to check sorted insertion
+        for (int i = 99; i >= 0; i--) {
+            service.store(item, start.plusMinutes(i), new DecimalType(i));
+        }
+
+        filterCriteria.setBeginDate(start.plusMinutes(10));
+        filterCriteria.setEndDate(start.plusMinutes(12));
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+
+        assertThat(resultSet, contains(10, 11, 12));
+    }
+
+    @Test
+    public void numericStatesRespectMaxEntries() {
+        service.modified(Map.of("maxEntries", 10L, "compactNumbers", true));
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 100; i++) {
+            service.store(item, start.plusMinutes(i), new DecimalType(i));
+        }
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+
+        assertThat(resultSet, contains(90, 91, 92, 93, 94, 95, 96, 97, 98, 99));
+    }
+
+    @Test
+    public void numericStatesKeepPrecisionByDefault() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 123456789, ZoneId.of("UTC"));
+        State precise = new DecimalType(new BigDecimal("0.12345678901234567890123"));
+        service.store(item, start, precise);
+        service.store(item, start.plusNanos(1000), new DecimalType(2));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<HistoricItem> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(resultSet::add);
+
+        assertThat(resultSet.size(), is(2));
+        assertThat(resultSet.get(0).getState(), is(precise));
+        assertThat(resultSet.get(0).getTimestamp(), is(start));
+    }
+
+    @Test
+    public void mixedStatesAreKept() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        State quantity = new QuantityType<>(21.5, SIUnits.CELSIUS);
+        service.store(item, start, quantity);
+        service.store(item, start.plusHours(1), new StringType("text"));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<State> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState()));
+
+        assertThat(resultSet, contains(quantity, new StringType("text")));
+    }
 }
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.persistence.jdbc.internal.dto.PendingItemValue;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
+import org.openhab.persistence.jdbc.internal.utils.MovingAverage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Write-behind queue for the JDBC persistence service. Item states are collected in a bounded queue and written
+ * in batches, either periodically or as soon as a full batch is available.
+ * <p>
+ * All flushes are executed on the given scheduler, which must be single-threaded, so batches are written in order.
+ * If the database is not available, a batch is put back into the queue and retried with the next flush. Values
+ * rejected by the database itself (e.g. because of an SQL error) are not retried, as they would fail again.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcBatchWriter {
+
+    private static final int FINAL_FLUSH_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Writes a batch of values to the database.
+     */
+    @FunctionalInterface
+    public interface BatchConsumer {
+        /**
+         * @param values the values to store
+         * @return the number of values which were rejected by the database, these are not retried
+         * @throws JdbcException if the database is not available, the batch is queued again
+         */
+        int store(List<PendingItemValue> values) throws JdbcException;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcBatchWriter.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final BatchConsumer consumer;
+    private final BlockingQueue<PendingItemValue> queue;
+    private final int maxBatchSize;
+    private final long flushInterval;
+
+    private final AtomicBoolean flushPending = new AtomicBoolean();
+    private final AtomicBoolean overflowReported = new AtomicBoolean();
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    private final AtomicLong storedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final MovingAverage flushTimeAverage = new MovingAverage(50);
+    private long lastFlushTime = 0;
+    private long maxFlushTime = 0;
+    private int lastBatchSize = 0;
+
+    /**
+     * @param scheduler single-threaded scheduler used for flushing
+     * @param consumer writes the batches to the database
+     * @param queueSize maximum number of values waiting to be written
+     * @param maxBatchSize maximum number of values written in one batch
+     * @param flushInterval maximum time in milliseconds a value waits in the queue
+     */
+    public JdbcBatchWriter(ScheduledExecutorService scheduler, BatchConsumer consumer, int queueSize,
+            int maxBatchSize, long flushInterval) {
+        this.scheduler = scheduler;
+        this.consumer = consumer;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.maxBatchSize = maxBatchSize;
+        this.flushInterval = flushInterval;
+    }
+
+    public void start() {
+        flushJob = scheduler.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops periodic flushing and writes all values still in the queue.
+     */
+    public void stop() {
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        try {
+            scheduler.submit(this::flush).get(FINAL_FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            logger.warn("JDBC::stop: Failed to write {} queued values", queue.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Adds a value to the write queue. If the queue is full, the value is dropped.
+     *
+     * @param value the value to store
+     */
+    public void enqueue(PendingItemValue value) {
+        if (!queue.offer(value)) {
+            droppedCount.incrementAndGet();
+            if (overflowReported.compareAndSet(false, true)) {
+                logger.warn("JDBC::enqueue: Write queue is full ({} values), dropping state '{}' for item '{}'",
+                        queue.size(), value.state(), value.item().getName());
+            }
+            return;
+        }
+        if (queue.size() >= maxBatchSize && flushPending.compareAndSet(false, true)) {
+            scheduler.execute(this::flush);
+        }
+    }
+
+    private void flush() {
+        flushPending.set(false);
+        // Only write what is queued now, so a continuous stream of updates cannot keep the flush running forever
+        int remaining = queue.size();
+        List<PendingItemValue> batch = new ArrayList<>(Math.min(remaining, maxBatchSize));
+        while (remaining > 0) {
+            batch.clear();
+            queue.drainTo(batch, maxBatchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            remaining -= batch.size();
+            long timerStart = System.currentTimeMillis();
+            int failed;
+            try {
+                failed = consumer.store(batch);
+            } catch (JdbcException e) {
+                int requeued = requeue(batch);
+                logger.warn("JDBC::flush: Unable to store {} values, {} of them are kept for the next flush: {}",
+                        batch.size(), requeued, e.getMessage());
+                // wait for the next flush instead of retrying the remaining batches against an unavailable database
+                break;
+            } catch (RuntimeException e) {
+                logger.warn("JDBC::flush: Unexpected error while storing {} values", batch.size(), e);
+                failed = batch.size();
+            }
+            recordFlush(batch.size(), failed, System.currentTimeMillis() - timerStart);
+        }
+        overflowReported.set(false);
+    }
+
+    private int requeue(List<PendingItemValue> batch) {
+        int requeued = 0;
+        for (PendingItemValue value : batch) {
+            if (queue.offer(value)) {
+                requeued++;
+            } else {
+                droppedCount.incrementAndGet();
+            }
+        }
+        retriedCount.addAndGet(requeued);
+        return requeued;
+    }
+
+    private synchronized void recordFlush(int batchSize, int failed, long flushTime) {
+        storedCount.addAndGet(batchSize - failed);
+        failedCount.addAndGet(failed);
+        lastBatchSize = batchSize;
+        lastFlushTime = flushTime;
+        maxFlushTime = Math.max(maxFlushTime, flushTime);
+        flushTimeAverage.add(flushTime);
+        logger.debug("JDBC::flush: Stored {} of {} values in {} ms, {} values queued", batchSize - failed, batchSize,
+                flushTime, queue.size());
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public int getQueueCapacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    public long getStoredCount() {
+        return storedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getRetriedCount() {
+        return retriedCount.get();
+    }
+
+    public synchronized int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    public synchronized long getLastFlushTime() {
+        return lastFlushTime;
+    }
+
+    public synchronized long getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    public synchronized double getAverageFlushTime() {
+        return flushTimeAverage.getAverageDouble();
+    }
+}
@@ -66,6 +66,13 @@ public class JdbcConfiguration {
 
     private int errReconnectThreshold = 0;
 
+    private boolean batchWrites = false;
+    private int batchFlushInterval = 1000;
+    private int batchMaxSize = 500;
+    private int batchQueueSize = 10000;
+
+    private int queryFetchSize = 1000;
+
     public int timerCount = 0;
     public int time1000Statements = 0;
     public long timer1000 = 0;
@@ -191,6 +198,36 @@ public class JdbcConfiguration {
             logger.debug("JDBC::updateConfig: rebuildTableNames={}", rebuildTableNames);
         }
 
+        String bw = (String) configuration.get("batchWrites");
+        if (bw != null && !bw.isBlank()) {
+            batchWrites = Boolean.parseBoolean(bw);
+            logger.debug("JDBC::updateConfig: batchWrites={}", batchWrites);
+        }
+
+        String bi = (String) configuration.get("batchFlushInterval");
+        if (bi != null && !bi.isBlank() && isNumericPattern.matcher(bi).matches()) {
+            batchFlushInterval = Math.max(Integer.parseInt(bi), 10);
+            logger.debug("JDBC::updateConfig: batchFlushInterval={}", batchFlushInterval);
+        }
+
+        String bm = (String) configuration.get("batchMaxSize");
+        if (bm != null && !bm.isBlank() && isNumericPattern.matcher(bm).matches()) {
+            batchMaxSize = Math.min(Math.max(Integer.parseInt(bm), 1), 10000);
+            logger.debug("JDBC::updateConfig: batchMaxSize={}", batchMaxSize);
+        }
+
+        String bq = (String) configuration.get("batchQueueSize");
+        if (bq != null && !bq.isBlank() && isNumericPattern.matcher(bq).matches()) {
+            batchQueueSize = Math.max(Integer.parseInt(bq), 1);
+            logger.debug("JDBC::updateConfig: batchQueueSize={}", batchQueueSize);
+        }
+
+        String qf = (String) configuration.get("queryFetchSize");
+        if (qf != null && !qf.isBlank() && isNumericPattern.matcher(qf).matches()) {
+            queryFetchSize = Math.max(Integer.parseInt(qf), 1);
+            logger.debug("JDBC::updateConfig: queryFetchSize={}", queryFetchSize);
+        }
+
         // undocumented
         String ac = (String) configuration.get("maximumPoolSize");
         if (ac != null && !ac.isBlank()) {
@@ -375,6 +412,26 @@ public class JdbcConfiguration {
         return errReconnectThreshold;
     }
 
+    public boolean getBatchWrites() {
+        return batchWrites;
+    }
+
+    public int getBatchFlushInterval() {
+        return batchFlushInterval;
+    }
+
+    public int getBatchMaxSize() {
+        return batchMaxSize;
+    }
+
+    public int getBatchQueueSize() {
+        return batchQueueSize;
+    }
+
+    public int getQueryFetchSize() {
+        return queryFetchSize;
+    }
+
     public boolean getRebuildTableNames() {
         return rebuildTableNames;
     }
@@ -16,6 +16,7 @@ import java.sql.SQLInvalidAuthorizationSpecException;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -36,6 +37,7 @@ import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceItemInfo;
+import org.openhab.persistence.jdbc.internal.dto.PendingItemValue;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.slf4j.Logger;
@@ -226,6 +228,41 @@ public class JdbcMapper {
         errCnt = 0;
     }
 
+    /**
+     * Stores a batch of queued values, using one statement per item table.
+     *
+     * @param values the values to store
+     * @return the number of values which could not be stored
+     * @throws JdbcException if the service is not initialized
+     */
+    protected int storeItemValues(List<PendingItemValue> values) throws JdbcException {
+        logger.debug("JDBC::storeItemValues: {} values", values.size());
+        long timerStart = System.currentTimeMillis();
+        // Group per table, keeping only the latest value per time stamp since a multi-row upsert must not hit the
+        // same primary key twice
+        Map<String, Map<Long, PendingItemValue>> valuesByTable = new LinkedHashMap<>();
+        for (PendingItemValue value : values) {
+            String tableName = getTable(value.item(), value.alias());
+            valuesByTable.computeIfAbsent(tableName, t -> new LinkedHashMap<>())
+                    .put(value.date().toInstant().toEpochMilli(), value);
+        }
+        int failed = 0;
+        for (Map.Entry<String, Map<Long, PendingItemValue>> entry : valuesByTable.entrySet()) {
+            try {
+                conf.getDBDAO().doStoreItemValues(entry.getKey(), new ArrayList<>(entry.getValue().values()));
+            } catch (JdbcSQLException e) {
+                logger.warn("JDBC::storeItemValues: Unable to store {} values in table '{}'", entry.getValue().size(),
+                        entry.getKey(), e);
+                failed += entry.getValue().size();
+            }
+        }
+        logTime("storeItemValues", timerStart, System.currentTimeMillis());
+        if (failed == 0) {
+            errCnt = 0;
+        }
+        return failed;
+    }
+
     public long getRowCount(String tableName) throws JdbcSQLException {
         return conf.getDBDAO().doGetRowCount(tableName);
     }
@@ -237,7 +274,7 @@ public class JdbcMapper {
                 true, numberDecimalcount, table, item, item.getName());
         long timerStart = System.currentTimeMillis();
         List<HistoricItem> result = conf.getDBDAO().doGetHistItemFilterQuery(item, filter, numberDecimalcount, table,
-                item.getName(), timeZoneProvider.getTimeZone());
+                item.getName(), timeZoneProvider.getTimeZone(), conf.getQueryFetchSize());
         logTime("getHistItemFilterQuery", timerStart, System.currentTimeMillis());
         errCnt = 0;
         return result;
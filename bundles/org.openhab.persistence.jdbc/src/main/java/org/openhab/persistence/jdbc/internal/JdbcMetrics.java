@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.io.metrics.AddonMetrics;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link JdbcMetrics} provides the store and query times and the write queue of the
+ * {@link JdbcPersistenceService} to the metrics service. It is only activated when the metrics service is installed.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = AddonMetrics.class)
+public class JdbcMetrics extends AddonMetrics {
+
+    // distinguishes single states stored directly from batches of queued states
+    private static final String TAG_MODE = "mode";
+
+    private final JdbcPersistenceService service;
+
+    @Activate
+    public JdbcMetrics(@Reference JdbcPersistenceService service) {
+        super("persistence", JdbcPersistenceServiceConstants.SERVICE_ID);
+        this.service = service;
+    }
+
+    @Override
+    protected void bindMeters() {
+        timer("store", "Time to write states to the database", service, JdbcPersistenceService::getSingleStoreCount,
+                JdbcPersistenceService::getSingleStoreNanos, TAG_MODE, "single");
+        timer("store", "Time to write states to the database", service, JdbcPersistenceService::getBatchStoreCount,
+                JdbcPersistenceService::getBatchStoreNanos, TAG_MODE, "batch");
+        timer("query", "Time to query states from the database", service, JdbcPersistenceService::getQueryCount,
+                JdbcPersistenceService::getQueryNanos);
+        gauge("queue", "Number of states waiting to be written", null, service,
+                JdbcPersistenceService::getQueueSize);
+    }
+}
@@ -23,6 +23,8 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -46,6 +48,7 @@ import org.openhab.core.types.UnDefType;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
+import org.openhab.persistence.jdbc.internal.dto.PendingItemValue;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.osgi.framework.BundleContext;
@@ -64,8 +67,8 @@ import org.slf4j.LoggerFactory;
  * @author Kai Kreuzer - Migration to 3.x
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class,
-        QueryablePersistenceService.class }, configurationPid = "org.openhab.jdbc", //
+@Component(service = { PersistenceService.class, QueryablePersistenceService.class,
+        JdbcPersistenceService.class }, configurationPid = "org.openhab.jdbc", //
         property = Constants.SERVICE_PID + "=org.openhab.jdbc")
 @ConfigurableService(category = "persistence", label = "JDBC Persistence Service", description_uri = JdbcPersistenceServiceConstants.CONFIG_URI)
 public class JdbcPersistenceService extends JdbcMapper implements ModifiablePersistenceService {
@@ -76,6 +79,15 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
+    private volatile @Nullable JdbcBatchWriter batchWriter;
+
+    // read by the JdbcMetrics
+    private final LongAdder singleStoreCount = new LongAdder();
+    private final LongAdder singleStoreNanos = new LongAdder();
+    private final LongAdder batchStoreCount = new LongAdder();
+    private final LongAdder batchStoreNanos = new LongAdder();
+    private final LongAdder queryCount = new LongAdder();
+    private final LongAdder queryNanos = new LongAdder();
 
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
@@ -121,9 +133,44 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
         // closeConnection();
+        stopBatchWriter();
         initialized = false;
     }
 
+    int getQueueSize() {
+        JdbcBatchWriter batchWriter = this.batchWriter;
+        return batchWriter != null ? batchWriter.getQueueSize() : 0;
+    }
+
+    long getSingleStoreCount() {
+        return singleStoreCount.sum();
+    }
+
+    long getSingleStoreNanos() {
+        return singleStoreNanos.sum();
+    }
+
+    long getBatchStoreCount() {
+        return batchStoreCount.sum();
+    }
+
+    long getBatchStoreNanos() {
+        return batchStoreNanos.sum();
+    }
+
+    long getQueryCount() {
+        return queryCount.sum();
+    }
+
+    long getQueryNanos() {
+        return queryNanos.sum();
+    }
+
+    private static void record(LongAdder count, LongAdder nanos, long startNanos) {
+        count.increment();
+        nanos.add(System.nanoTime() - startNanos);
+    }
+
     @Override
     public String getId() {
         logger.debug("JDBC::getName: returning name 'jdbc' for queryable persistence service.");
@@ -137,22 +184,37 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     @Override
     public void store(Item item) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        scheduleStore(item, null, item.getState(), null);
     }
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        scheduleStore(item, null, item.getState(), alias);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state) {
-        scheduler.execute(() -> internalStore(item, date, state, null));
+        scheduleStore(item, date, state, null);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, date, state, alias));
+        scheduleStore(item, date, state, alias);
+    }
+
+    private void scheduleStore(Item item, @Nullable ZonedDateTime date, State state, @Nullable String alias) {
+        JdbcBatchWriter batchWriter = this.batchWriter;
+        if (batchWriter == null) {
+            scheduler.execute(() -> internalStore(item, date, state, alias));
+            return;
+        }
+        // Do not store undefined/uninitialized data
+        if (state instanceof UnDefType) {
+            logger.debug("JDBC::store: ignore Item '{}' because it is UnDefType", item.getName());
+            return;
+        }
+        // The time stamp has to be taken now, the database would otherwise use the time of the batch write
+        batchWriter.enqueue(new PendingItemValue(item, state, date != null ? date : ZonedDateTime.now(), alias));
     }
 
     private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state,
@@ -169,17 +231,33 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             return;
         }
         try {
-            long timerStart = System.currentTimeMillis();
+            long timerStart = System.nanoTime();
             storeItemValue(item, state, date, alias);
+            record(singleStoreCount, singleStoreNanos, timerStart);
             if (logger.isDebugEnabled()) {
                 logger.debug("JDBC: Stored item '{}' as '{}' in SQL database at {} in {} ms.", item.getName(), state,
-                        new Date(), System.currentTimeMillis() - timerStart);
+                        new Date(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - timerStart));
             }
         } catch (JdbcException e) {
             logger.warn("JDBC::store: Unable to store item", e);
         }
     }
 
+    private synchronized int internalStore(List<PendingItemValue> values) throws JdbcException {
+        if (!checkDBAccessability()) {
+            throw new JdbcException(String.format("No connection to database, error count:%d errReconnectThreshold:%d",
+                    errCnt, conf.getErrReconnectThreshold()));
+        }
+        long timerStart = System.nanoTime();
+        int failed = storeItemValues(values);
+        record(batchStoreCount, batchStoreNanos, timerStart);
+        if (logger.isDebugEnabled()) {
+            logger.debug("JDBC: Stored {} of {} queued states in SQL database at {} in {} ms.", values.size() - failed,
+                    values.size(), new Date(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - timerStart));
+        }
+        return failed;
+    }
+
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
         return getItems();
@@ -251,11 +329,12 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         }
 
         try {
-            long timerStart = System.currentTimeMillis();
+            long timerStart = System.nanoTime();
             List<HistoricItem> items = getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
+            record(queryCount, queryNanos, timerStart);
             if (logger.isDebugEnabled()) {
                 logger.debug("JDBC: Query for item '{}' returned {} rows in {} ms", itemName, items.size(),
-                        System.currentTimeMillis() - timerStart);
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - timerStart));
             }
             // Success
             errCnt = 0;
@@ -269,6 +348,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     private void updateConfig(Map<Object, Object> configuration) {
         logger.debug("JDBC::updateConfig");
 
+        stopBatchWriter();
         conf = new JdbcConfiguration(configuration);
         if (conf.valid && checkDBAccessability()) {
             namingStrategy = new NamingStrategy(conf);
@@ -284,9 +364,33 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             initialized = false;
         }
 
+        if (conf.valid && conf.getBatchWrites()) {
+            JdbcBatchWriter batchWriter = new JdbcBatchWriter(scheduler, this::internalStore,
+                    conf.getBatchQueueSize(), conf.getBatchMaxSize(), conf.getBatchFlushInterval());
+            batchWriter.start();
+            this.batchWriter = batchWriter;
+            logger.debug("JDBC::updateConfig: batch writes enabled, flushing every {} ms or {} values",
+                    conf.getBatchFlushInterval(), conf.getBatchMaxSize());
+        }
+
         logger.debug("JDBC::updateConfig: configuration complete for service={}.", getId());
     }
 
+    private void stopBatchWriter() {
+        JdbcBatchWriter batchWriter = this.batchWriter;
+        if (batchWriter != null) {
+            this.batchWriter = null;
+            batchWriter.stop();
+        }
+    }
+
+    /**
+     * Get the write queue, if batch writes are enabled.
+     */
+    public @Nullable JdbcBatchWriter getBatchWriter() {
+        return batchWriter;
+    }
+
     @Override
     public List<PersistenceStrategy> getDefaultStrategies() {
         return List.of(PersistenceStrategy.Globals.CHANGE);
@@ -32,6 +32,7 @@ import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.PersistenceServiceRegistry;
 import org.openhab.persistence.jdbc.internal.ItemTableCheckEntry;
 import org.openhab.persistence.jdbc.internal.ItemTableCheckEntryStatus;
+import org.openhab.persistence.jdbc.internal.JdbcBatchWriter;
 import org.openhab.persistence.jdbc.internal.JdbcPersistenceService;
 import org.openhab.persistence.jdbc.internal.JdbcPersistenceServiceConstants;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
@@ -51,6 +52,7 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
     private static final String CMD_SCHEMA = "schema";
     private static final String CMD_TABLES = "tables";
     private static final String CMD_RELOAD = "reload";
+    private static final String CMD_QUEUE = "queue";
     private static final String SUBCMD_SCHEMA_CHECK = "check";
     private static final String SUBCMD_SCHEMA_FIX = "fix";
     private static final String SUBCMD_TABLES_LIST = "list";
@@ -58,7 +60,7 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
     private static final String PARAMETER_ALL = "all";
     private static final String PARAMETER_FORCE = "force";
     private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
-            List.of(CMD_SCHEMA, CMD_TABLES, CMD_RELOAD), false);
+            List.of(CMD_SCHEMA, CMD_TABLES, CMD_RELOAD, CMD_QUEUE), false);
     private static final StringsCompleter SUBCMD_SCHEMA_COMPLETER = new StringsCompleter(
             List.of(SUBCMD_SCHEMA_CHECK, SUBCMD_SCHEMA_FIX), false);
     private static final StringsCompleter SUBCMD_TABLES_COMPLETER = new StringsCompleter(
@@ -135,6 +137,9 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         } else if (args.length == 1 && CMD_RELOAD.equalsIgnoreCase(args[0])) {
             reload(persistenceService, console);
             return true;
+        } else if (args.length == 1 && CMD_QUEUE.equalsIgnoreCase(args[0])) {
+            showQueue(persistenceService, console);
+            return true;
         }
         return false;
     }
@@ -252,6 +257,23 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         console.println("Item index reloaded.");
     }
 
+    private void showQueue(JdbcPersistenceService persistenceService, Console console) {
+        JdbcBatchWriter batchWriter = persistenceService.getBatchWriter();
+        if (batchWriter == null) {
+            console.println("Batch writes are disabled.");
+            return;
+        }
+        console.println("Queued values:      " + batchWriter.getQueueSize() + "/" + batchWriter.getQueueCapacity());
+        console.println("Stored values:      " + batchWriter.getStoredCount());
+        console.println("Failed values:      " + batchWriter.getFailedCount());
+        console.println("Retried values:     " + batchWriter.getRetriedCount());
+        console.println("Dropped values:     " + batchWriter.getDroppedCount());
+        console.println("Last batch size:    " + batchWriter.getLastBatchSize());
+        console.println("Last flush time:    " + batchWriter.getLastFlushTime() + " ms");
+        console.println("Average flush time: " + batchWriter.getAverageFlushTime() + " ms");
+        console.println("Max flush time:     " + batchWriter.getMaxFlushTime() + " ms");
+    }
+
     @Override
     public List<String> getUsages() {
         return Arrays.asList(buildCommandUsage(CMD_SCHEMA + " " + SUBCMD_SCHEMA_CHECK, "check schema integrity"),
@@ -261,7 +283,8 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
                 buildCommandUsage(
                         CMD_TABLES + " " + SUBCMD_TABLES_CLEAN + " [<itemName>]" + " [" + PARAMETER_FORCE + "]",
                         "clean inconsistent items (remove from index and drop tables)"),
-                buildCommandUsage(CMD_RELOAD, "reload item index/schema"));
+                buildCommandUsage(CMD_RELOAD, "reload item index/schema"),
+                buildCommandUsage(CMD_QUEUE, "show write queue statistics"));
     }
 
     @Override
@@ -13,18 +13,23 @@
 package org.openhab.persistence.jdbc.internal.db;
 
 import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
-import java.util.stream.Collectors;
+import java.util.StringJoiner;
 
 import javax.measure.Quantity;
 import javax.measure.Unit;
@@ -60,12 +65,15 @@ import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.PendingItemValue;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.openhab.persistence.jdbc.internal.utils.DbMetaData;
 import org.openhab.persistence.jdbc.internal.utils.StringUtilsExt;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zaxxer.hikari.HikariDataSource;
+
 /**
  * Default Database Configuration class.
  *
@@ -96,6 +104,9 @@ public class JdbcBaseDAO {
     protected String sqlCreateItemTable = "CREATE TABLE IF NOT EXISTS #tableName# (time #tablePrimaryKey# NOT NULL, value #dbType#, PRIMARY KEY(time))";
     protected String sqlAlterTableColumn = "ALTER TABLE #tableName# MODIFY COLUMN #columnName# #columnType#";
     protected String sqlInsertItemValue = "INSERT INTO #tableName# (time, value) VALUES( #tablePrimaryValue#, ? ) ON DUPLICATE KEY UPDATE VALUE= ?";
+    // Multi-row insert for batched writes, only set by DAOs supporting it. Each row binds (time, value).
+    protected @Nullable String sqlInsertItemValues = null;
+    protected String sqlInsertItemValuesRow = "( ?, ? )";
     protected String sqlGetRowCount = "SELECT COUNT(*) FROM #tableName#";
 
     /********
@@ -459,26 +470,88 @@ public class JdbcBaseDAO {
         }
     }
 
-    public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
-            String table, String name, ZoneId timeZone) throws JdbcSQLException {
-        String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
-        logger.debug("JDBC::doGetHistItemFilterQuery sql={}", sql);
-        List<Object[]> m;
+    /**
+     * Stores several values of one item table. If the database supports multi-row inserts, all values are written
+     * with a single statement, otherwise each value is stored with its own statement.
+     *
+     * @param tableName the item table to write to
+     * @param values the values to store, at most one per time stamp
+     * @throws JdbcSQLException on SQL errors
+     */
+    public void doStoreItemValues(String tableName, List<PendingItemValue> values) throws JdbcSQLException {
+        if (values.isEmpty()) {
+            return;
+        }
+        List<Object> params = new ArrayList<>(values.size() * 2);
+        String dbType = "";
+        for (PendingItemValue value : values) {
+            ItemVO storedVO = storeItemValueProvider(value.item(), value.state(), new ItemVO(tableName, null));
+            dbType = storedVO.getDbType();
+            params.add(new java.sql.Timestamp(value.date().toInstant().toEpochMilli()));
+            params.add(storedVO.getValue());
+        }
+        String sql = storeItemValuesProvider(tableName, dbType, values.size());
+        if (sql == null) {
+            for (PendingItemValue value : values) {
+                doStoreItemValue(value.item(), value.state(), new ItemVO(tableName, null), value.date());
+            }
+            return;
+        }
+        logger.debug("JDBC::doStoreItemValues sql={} rows={}", sql, values.size());
         try {
-            m = Yank.queryObjectArrays(sql, null);
+            Yank.execute(sql, params.toArray());
         } catch (YankSQLException e) {
             throw new JdbcSQLException(e);
         }
-        if (m == null) {
-            logger.debug("JDBC::doGetHistItemFilterQuery Query failed. Returning an empty list.");
-            return List.of();
+    }
+
+    /**
+     * Query the values of an item. Rows are fetched from the database in chunks of <code>fetchSize</code> rows, so
+     * the driver does not hold the complete raw result in memory besides the returned items.
+     */
+    public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
+            String table, String name, ZoneId timeZone, int fetchSize) throws JdbcSQLException {
+        HikariDataSource dataSource = Yank.getDefaultConnectionPool();
+        try (Connection connection = dataSource.getConnection()) {
+            return getHistItemFilterQuery(connection, item, filter, numberDecimalcount, table, name, timeZone,
+                    fetchSize);
+        } catch (SQLException e) {
+            throw new JdbcSQLException(e);
         }
+    }
+
+    List<HistoricItem> getHistItemFilterQuery(Connection connection, Item item, FilterCriteria filter,
+            int numberDecimalcount, String table, String name, ZoneId timeZone, int fetchSize) throws SQLException {
+        String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
+        logger.debug("JDBC::doGetHistItemFilterQuery sql={} fetchSize={}", sql, fetchSize);
         // we already retrieve the unit here once as it is a very costly operation
         String itemName = item.getName();
         Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
-        return m.stream()
-                .map(o -> new JdbcHistoricItem(itemName, objectAsState(item, unit, o[1]), objectAsInstant(o[0])))
-                .collect(Collectors.<HistoricItem> toList());
+        List<HistoricItem> items = new ArrayList<>();
+        boolean transaction = isFetchSizeLimitedToTransactions() && connection.getAutoCommit();
+        if (transaction) {
+            connection.setAutoCommit(false);
+        }
+        try (Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(queryFetchSize(fetchSize));
+            try (ResultSet resultSet = statement.executeQuery(sql)) {
+                while (resultSet.next()) {
+                    Object time = resultSet.getObject(1);
+                    Object value = resultSet.getObject(2);
+                    if (time != null && value != null) {
+                        items.add(new JdbcHistoricItem(itemName, objectAsState(item, unit, value),
+                                objectAsInstant(time)));
+                    }
+                }
+            }
+        } finally {
+            if (transaction) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        }
+        return items;
     }
 
     public void doDeleteItemValues(FilterCriteria filter, String table, ZoneId timeZone) throws JdbcSQLException {
@@ -531,6 +604,24 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    /**
+     * Returns the multi-row insert statement for the given number of rows, or <code>null</code> if the database
+     * does not support multi-row inserts. In that case the rows are stored one by one.
+     */
+    protected @Nullable String storeItemValuesProvider(String tableName, String dbType, int rowCount) {
+        String sqlInsertItemValues = this.sqlInsertItemValues;
+        if (sqlInsertItemValues == null) {
+            return null;
+        }
+        StringJoiner valueRows = new StringJoiner(", ");
+        for (int i = 0; i < rowCount; i++) {
+            valueRows.add(sqlInsertItemValuesRow);
+        }
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValues,
+                new String[] { "#tableName#", "#valueRows#", "#dbType#" },
+                new String[] { formattedIdentifier(tableName), valueRows.toString(), dbType });
+    }
+
     protected String histItemFilterDeleteProvider(FilterCriteria filter, String table, ZoneId timeZone) {
         logger.debug("JDBC::histItemFilterDeleteProvider filter = {}, table = {}", filter, table);
 
@@ -711,6 +802,21 @@ public class JdbcBaseDAO {
         }
     }
 
+    /**
+     * Fetch size to set on query statements. Override if the driver needs a special value.
+     */
+    protected int queryFetchSize(int fetchSize) {
+        return fetchSize;
+    }
+
+    /**
+     * Whether the driver ignores the fetch size in auto-commit mode and reads the complete result at once. Queries
+     * are run in a transaction for such drivers.
+     */
+    protected boolean isFetchSizeLimitedToTransactions() {
+        return false;
+    }
+
     protected Instant objectAsInstant(Object o) {
         return switch (o) {
             case Long l -> Instant.ofEpochMilli(l.longValue());
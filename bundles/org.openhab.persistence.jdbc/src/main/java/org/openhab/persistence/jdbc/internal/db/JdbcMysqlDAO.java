@@ -53,6 +53,13 @@ public class JdbcMysqlDAO extends JdbcBaseDAO {
 
     private void initSqlQueries() {
         logger.debug("JDBC::initSqlQueries: '{}'", this.getClass().getSimpleName());
+        sqlInsertItemValues = "INSERT INTO #tableName# (time, value) VALUES #valueRows# ON DUPLICATE KEY UPDATE VALUE=VALUES(VALUE)";
+    }
+
+    @Override
+    protected int queryFetchSize(int fetchSize) {
+        // Connector/J only streams result sets row by row for this special fetch size, otherwise it reads all rows
+        return Integer.MIN_VALUE;
     }
 
     /**
@@ -95,6 +95,11 @@ public class JdbcPostgresqlDAO extends JdbcBaseDAO {
                     INSERT INTO #tableName# (TIME, VALUE) VALUES( #tablePrimaryValue#, CAST( ? as #dbType#) )\
                      ON CONFLICT (TIME) DO UPDATE SET VALUE=EXCLUDED.VALUE\
                     """;
+            sqlInsertItemValues = """
+                    INSERT INTO #tableName# (TIME, VALUE) VALUES #valueRows#\
+                     ON CONFLICT (TIME) DO UPDATE SET VALUE=EXCLUDED.VALUE\
+                    """;
+            sqlInsertItemValuesRow = "( ?, CAST( ? as #dbType#) )";
         }
     }
 
@@ -292,6 +297,12 @@ public class JdbcPostgresqlDAO extends JdbcBaseDAO {
         return "\"" + identifier + "\"";
     }
 
+    @Override
+    protected boolean isFetchSizeLimitedToTransactions() {
+        // the driver only reads the result with a cursor outside of auto-commit mode
+        return true;
+    }
+
     /******************************
      * public Getters and Setters *
      ******************************/
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.persistence.jdbc.internal.dto.PendingItemValue;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
+
+/**
+ * Tests the {@link JdbcBatchWriter}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcBatchWriterTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final NumberItem item = new NumberItem("Test");
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void batchIsRetriedWhenDatabaseIsUnavailable() {
+        AtomicInteger attempts = new AtomicInteger();
+        List<PendingItemValue> stored = new CopyOnWriteArrayList<>();
+        JdbcBatchWriter writer = new JdbcBatchWriter(scheduler, values -> {
+            if (attempts.getAndIncrement() == 0) {
+                throw new JdbcException("database not available");
+            }
+            stored.addAll(values);
+            return 0;
+        }, 10, 2, 60000);
+
+        PendingItemValue first = value(1);
+        PendingItemValue second = value(2);
+        // a full batch is flushed right away, but fails
+        writer.enqueue(first);
+        writer.enqueue(second);
+        // the final flush is executed after the failed one
+        writer.stop();
+
+        assertThat(attempts.get(), is(2));
+        assertThat(stored, is(List.of(first, second)));
+        assertThat(writer.getRetriedCount(), is(2L));
+        assertThat(writer.getStoredCount(), is(2L));
+        assertThat(writer.getDroppedCount(), is(0L));
+    }
+
+    @Test
+    void rejectedValuesAreNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        JdbcBatchWriter writer = new JdbcBatchWriter(scheduler, values -> {
+            attempts.incrementAndGet();
+            return values.size();
+        }, 10, 2, 60000);
+
+        writer.enqueue(value(1));
+        writer.enqueue(value(2));
+        writer.stop();
+
+        assertThat(attempts.get(), is(1));
+        assertThat(writer.getFailedCount(), is(2L));
+        assertThat(writer.getRetriedCount(), is(0L));
+        assertThat(writer.getQueueSize(), is(0));
+    }
+
+    private PendingItemValue value(int value) {
+        return new PendingItemValue(item, new DecimalType(value), ZonedDateTime.now().plusSeconds(value), null);
+    }
+}
@@ -13,16 +13,23 @@
 package org.openhab.persistence.jdbc.internal.db;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -65,6 +72,7 @@ import org.openhab.core.library.types.StringType;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
 
 /**
@@ -247,6 +255,65 @@ public class JdbcBaseDAOTest {
                         + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate())) + "'"));
     }
 
+    @Test
+    void testStoreItemValuesProviderReturnsNullWithoutMultiRowInsert() {
+        assertThat(jdbcBaseDAO.storeItemValuesProvider(DB_TABLE_NAME, "DOUBLE", 2), is(nullValue()));
+    }
+
+    @Test
+    void testStoreItemValuesProviderReturnsMultiRowInsertQuery() {
+        JdbcBaseDAO jdbcMysqlDAO = new JdbcMysqlDAO();
+
+        String sql = jdbcMysqlDAO.storeItemValuesProvider(DB_TABLE_NAME, "DOUBLE", 3);
+        assertThat(sql, is("INSERT INTO " + DB_TABLE_NAME
+                + " (time, value) VALUES ( ?, ? ), ( ?, ? ), ( ?, ? ) ON DUPLICATE KEY UPDATE VALUE=VALUES(VALUE)"));
+    }
+
+    @Test
+    void testGetHistItemFilterQueryReturnsConvertedValuesInOrder() throws SQLException {
+        try (Connection connection = createTestTable("fetchtest")) {
+            filter.setOrdering(Ordering.ASCENDING);
+
+            // a fetch size smaller than the result makes the driver read the rows in several chunks
+            List<HistoricItem> items = jdbcBaseDAO.getHistItemFilterQuery(connection, new NumberItem("Test"), filter,
+                    -1, DB_TABLE_NAME, "TEST", UTC_ZONE_ID, 2);
+
+            assertThat(items.stream().map(HistoricItem::getState).toList(), is(List.of(new DecimalType(1.5),
+                    new DecimalType(2.5), new DecimalType(3.5), new DecimalType(4.5))));
+            assertThat(items.get(0).getName(), is("Test"));
+            assertThat(items.get(0).getInstant(), is(Timestamp.valueOf("2022-01-10 15:01:44").toInstant()));
+            assertThat(connection.getAutoCommit(), is(true));
+        }
+    }
+
+    @Test
+    void testGetHistItemFilterQueryRestoresAutoCommitForDriversNeedingATransaction() throws SQLException {
+        JdbcBaseDAO transactionalDAO = new JdbcBaseDAO() {
+            @Override
+            protected boolean isFetchSizeLimitedToTransactions() {
+                return true;
+            }
+        };
+        try (Connection connection = createTestTable("transactiontest")) {
+            List<HistoricItem> items = transactionalDAO.getHistItemFilterQuery(connection, new NumberItem("Test"),
+                    filter, -1, DB_TABLE_NAME, "TEST", UTC_ZONE_ID, 2);
+
+            assertThat(items.size(), is(4));
+            assertThat(connection.getAutoCommit(), is(true));
+        }
+    }
+
+    private Connection createTestTable(String database) throws SQLException {
+        Connection connection = DriverManager.getConnection("jdbc:h2:mem:" + database);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + DB_TABLE_NAME + " (time TIMESTAMP NOT NULL, value DOUBLE)");
+            statement.execute("INSERT INTO " + DB_TABLE_NAME + " VALUES ('2022-01-10 15:01:44', 1.5), "
+                    + "('2022-01-10 15:01:46', NULL), ('2022-01-10 15:01:45', 2.5), "
+                    + "('2022-01-10 15:01:47', 3.5), ('2022-01-10 15:01:48', 4.5)");
+        }
+        return connection;
+    }
+
     private ZonedDateTime parseDateTimeString(String dts) {
         return ZonedDateTime.of(LocalDateTime.parse(dts, DATE_PARSER), UTC_ZONE_ID);
     }
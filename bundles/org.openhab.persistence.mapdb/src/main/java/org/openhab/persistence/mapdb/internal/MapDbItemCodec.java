@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.TypeParser;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * Compact binary encoding of a {@link MapDbItem}.
+ * <p>
+ * The item name is not part of the encoding, as it is already the key in the map. States are tagged by their class,
+ * the most common state types have a dedicated encoding, all other types are stored by class name and their full
+ * string representation, like the {@link StateTypeAdapter} does.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+final class MapDbItemCodec {
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte TAG_NONE = 0;
+    private static final byte TAG_NULL = 1;
+    private static final byte TAG_UNDEF = 2;
+    private static final byte TAG_ON = 3;
+    private static final byte TAG_OFF = 4;
+    private static final byte TAG_OPEN = 5;
+    private static final byte TAG_CLOSED = 6;
+    private static final byte TAG_DECIMAL = 7;
+    private static final byte TAG_PERCENT = 8;
+    private static final byte TAG_QUANTITY = 9;
+    private static final byte TAG_STRING = 10;
+    private static final byte TAG_OTHER = 127;
+
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private MapDbItemCodec() {
+        // prevent instantiation
+    }
+
+    static byte[] encode(MapDbItem item) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(item.getTimestampDate().getTime());
+            Date lastStateChange = item.getLastStateChangeDate();
+            out.writeLong(lastStateChange != null ? lastStateChange.getTime() : NO_TIMESTAMP);
+            writeState(out, item.getState());
+            writeState(out, item.getLastState());
+        }
+        return bytes.toByteArray();
+    }
+
+    static MapDbItem decode(String name, byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported format version " + version);
+            }
+            MapDbItem item = new MapDbItem();
+            item.setName(name);
+            item.setTimestamp(new Date(in.readLong()));
+            long lastStateChange = in.readLong();
+            item.setLastStateChange(lastStateChange != NO_TIMESTAMP ? new Date(lastStateChange) : null);
+            State state = readState(in);
+            if (state == null) {
+                throw new IOException("State is missing");
+            }
+            item.setState(state);
+            item.setLastState(readState(in));
+            return item;
+        }
+    }
+
+    private static void writeState(DataOutputStream out, @Nullable State state) throws IOException {
+        if (state == null) {
+            out.writeByte(TAG_NONE);
+        } else if (state == UnDefType.NULL) {
+            out.writeByte(TAG_NULL);
+        } else if (state == UnDefType.UNDEF) {
+            out.writeByte(TAG_UNDEF);
+        } else if (state == OnOffType.ON) {
+            out.writeByte(TAG_ON);
+        } else if (state == OnOffType.OFF) {
+            out.writeByte(TAG_OFF);
+        } else if (state == OpenClosedType.OPEN) {
+            out.writeByte(TAG_OPEN);
+        } else if (state == OpenClosedType.CLOSED) {
+            out.writeByte(TAG_CLOSED);
+        } else if (state.getClass() == PercentType.class) {
+            out.writeByte(TAG_PERCENT);
+            writeBigDecimal(out, ((PercentType) state).toBigDecimal());
+        } else if (state.getClass() == DecimalType.class) {
+            out.writeByte(TAG_DECIMAL);
+            writeBigDecimal(out, ((DecimalType) state).toBigDecimal());
+        } else if (state.getClass() == QuantityType.class) {
+            out.writeByte(TAG_QUANTITY);
+            writeString(out, state.toFullString());
+        } else if (state.getClass() == StringType.class) {
+            out.writeByte(TAG_STRING);
+            writeString(out, state.toFullString());
+        } else {
+            out.writeByte(TAG_OTHER);
+            out.writeUTF(state.getClass().getName());
+            writeString(out, state.toFullString());
+        }
+    }
+
+    private static @Nullable State readState(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case TAG_NONE -> null;
+            case TAG_NULL -> UnDefType.NULL;
+            case TAG_UNDEF -> UnDefType.UNDEF;
+            case TAG_ON -> OnOffType.ON;
+            case TAG_OFF -> OnOffType.OFF;
+            case TAG_OPEN -> OpenClosedType.OPEN;
+            case TAG_CLOSED -> OpenClosedType.CLOSED;
+            case TAG_PERCENT -> new PercentType(readBigDecimal(in));
+            case TAG_DECIMAL -> new DecimalType(readBigDecimal(in));
+            case TAG_QUANTITY -> new QuantityType<>(readString(in));
+            case TAG_STRING -> new StringType(readString(in));
+            case TAG_OTHER -> readOtherState(in);
+            default -> throw new IOException("Unknown state tag " + tag);
+        };
+    }
+
+    private static State readOtherState(DataInputStream in) throws IOException {
+        String className = in.readUTF();
+        String value = readString(in);
+        try {
+            @SuppressWarnings("unchecked")
+            Class<? extends State> stateClass = (Class<? extends State>) Class.forName(className);
+            State state = TypeParser.parseState(List.of(stateClass), value);
+            if (state == null) {
+                throw new IOException("Cannot parse '" + value + "' as " + className);
+            }
+            return state;
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Unknown state type " + className, e);
+        }
+    }
+
+    private static void writeBigDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeInt(value.scale());
+        out.writeShort(unscaled.length);
+        out.write(unscaled);
+    }
+
+    private static BigDecimal readBigDecimal(DataInputStream in) throws IOException {
+        int scale = in.readInt();
+        byte[] unscaled = new byte[in.readUnsignedShort()];
+        in.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        // writeUTF is limited to 64k, which is not enough for e.g. large string items
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] utf8 = new byte[in.readInt()];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import java.util.Date;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.persistence.PersistenceItemInfo;
+
+/**
+ * Lightweight {@link PersistenceItemInfo} for an item in the MapDB, which always holds exactly one value per item.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+record MapDbItemInfo(String name) implements PersistenceItemInfo {
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public @Nullable Integer getCount() {
+        return Integer.valueOf(1);
+    }
+
+    @Override
+    public @Nullable Date getEarliest() {
+        return null;
+    }
+
+    @Override
+    public @Nullable Date getLatest() {
+        return null;
+    }
+}
@@ -25,9 +25,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -35,6 +36,8 @@ import org.mapdb.DB;
 import org.mapdb.DBMaker;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.persistence.FilterCriteria;
@@ -50,6 +53,7 @@ import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,8 +68,10 @@ import com.google.gson.GsonBuilder;
  * @author Martin Kühl - Port to 3.x
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class, QueryablePersistenceService.class }, property = Constants.SERVICE_PID
-        + "=org.openhab.mapdb")
+@Component(service = { PersistenceService.class,
+        QueryablePersistenceService.class }, configurationPid = "org.openhab.mapdb", //
+        property = Constants.SERVICE_PID + "=org.openhab.mapdb")
+@ConfigurableService(category = "persistence", label = "MapDB Persistence Service", description_uri = MapDbPersistenceService.CONFIG_URI)
 public class MapDbPersistenceService implements QueryablePersistenceService {
 
     private static final String SERVICE_ID = "mapdb";
@@ -73,24 +79,44 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
     private static final Path DB_DIR = new File(OpenHAB.getUserDataFolder(), "persistence").toPath().resolve("mapdb");
     private static final Path BACKUP_DIR = DB_DIR.resolve("backup");
     private static final String DB_FILE_NAME = "storage.mapdb";
+    private static final String LEGACY_MAP_NAME = "itemStore";
+    private static final String MAP_NAME = "items";
+
+    protected static final String CONFIG_URI = "persistence:mapdb";
+    private static final String COMMIT_INTERVAL_CONFIG = "commitInterval";
+    private static final String COMMIT_MAX_UPDATES_CONFIG = "commitMaxUpdates";
+    private static final long COMMIT_INTERVAL_DEFAULT = 0;
+    private static final int COMMIT_MAX_UPDATES_DEFAULT = 100;
 
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
-    private final ExecutorService threadPool = ThreadPoolManager.getPool(getClass().getSimpleName());
+    private final ScheduledExecutorService threadPool = ThreadPoolManager
+            .getScheduledPool(getClass().getSimpleName());
 
     /**
      * holds the local instance of the MapDB database
      */
 
     private @NonNullByDefault({}) DB db;
-    private @NonNullByDefault({}) Map<String, String> map;
+    private @NonNullByDefault({}) Map<String, byte[]> map;
 
+    /**
+     * only needed to migrate databases written in the former JSON format
+     */
     private transient Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
             .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
 
+    // group commit
+    private final Object commitLock = new Object();
+    private long commitInterval = COMMIT_INTERVAL_DEFAULT;
+    private int commitMaxUpdates = COMMIT_MAX_UPDATES_DEFAULT;
+    private int uncommittedUpdates = 0;
+    private @Nullable ScheduledFuture<?> commitJob;
+
     @Activate
-    public void activate() {
+    public void activate(Map<String, Object> config) {
         logger.debug("MapDB persistence service is being activated");
+        modified(config);
 
         try {
             Files.createDirectories(DB_DIR);
@@ -103,7 +129,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         File dbFile = DB_DIR.resolve(DB_FILE_NAME).toFile();
         try {
             db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-            map = db.createTreeMap("itemStore").makeOrGet();
+            map = openMap();
         } catch (RuntimeException re) {
             Throwable cause = re.getCause();
             if (cause instanceof ClassNotFoundException cnf) {
@@ -135,7 +161,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
                 }
 
                 db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-                map = db.createTreeMap("itemStore").makeOrGet();
+                map = openMap();
             } else {
                 logger.warn("Failed to create or open the MapDB: {}", re.getMessage());
                 logger.warn("MapDB persistence service activation has failed.");
@@ -144,14 +170,52 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         logger.debug("MapDB persistence service is now activated");
     }
 
+    @Modified
+    public void modified(Map<String, Object> config) {
+        synchronized (commitLock) {
+            commitInterval = Math.max(0, ConfigParser.valueAsOrElse(config.get(COMMIT_INTERVAL_CONFIG), Long.class,
+                    COMMIT_INTERVAL_DEFAULT));
+            commitMaxUpdates = Math.max(1, ConfigParser.valueAsOrElse(config.get(COMMIT_MAX_UPDATES_CONFIG),
+                    Integer.class, COMMIT_MAX_UPDATES_DEFAULT));
+        }
+        if (db != null) {
+            // apply the new settings to updates that are already pending
+            commit();
+        }
+    }
+
     @Deactivate
     public void deactivate() {
         logger.debug("MapDB persistence service deactivated");
         if (db != null) {
+            commit();
             db.close();
         }
     }
 
+    private Map<String, byte[]> openMap() {
+        Map<String, byte[]> map = db.createTreeMap(MAP_NAME).makeOrGet();
+        if (db.exists(LEGACY_MAP_NAME)) {
+            Map<String, String> legacyMap = db.getTreeMap(LEGACY_MAP_NAME);
+            int migrated = 0;
+            for (Map.Entry<String, String> entry : legacyMap.entrySet()) {
+                Optional<MapDbItem> item = deserializeJson(entry.getValue());
+                if (item.isPresent()) {
+                    try {
+                        map.put(entry.getKey(), MapDbItemCodec.encode(item.get()));
+                        migrated++;
+                    } catch (IOException e) {
+                        logger.warn("Failed to migrate '{}': {}", entry.getKey(), e.getMessage());
+                    }
+                }
+            }
+            db.delete(LEGACY_MAP_NAME);
+            db.commit();
+            logger.info("Migrated {} of {} items in MapDB to the binary storage format", migrated, legacyMap.size());
+        }
+        return map;
+    }
+
     @Override
     public String getId() {
         return SERVICE_ID;
@@ -164,7 +228,8 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        return map.values().stream().map(this::deserialize).flatMap(MapDbPersistenceService::streamOptional)
+        // every item has exactly one value, so the keys are all that is needed
+        return map.keySet().stream().map(MapDbItemInfo::new)
                 .collect(Collectors.<PersistenceItemInfo> toUnmodifiableSet());
     }
 
@@ -193,30 +258,36 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         ZonedDateTime lastStateChange = item.getLastStateChange();
         mItem.setLastStateChange(lastStateChange != null ? Date.from(lastStateChange.toInstant()) : null);
         threadPool.submit(() -> {
-            String json = serialize(mItem);
-            map.put(localAlias, json);
-            db.commit();
-            logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
+            try {
+                map.put(localAlias, MapDbItemCodec.encode(mItem));
+            } catch (IOException e) {
+                logger.warn("Failed to serialize '{}' with state '{}': {}", localAlias, state, e.getMessage());
+                return;
+            }
+            commitOrSchedule();
+            logger.debug("Stored '{}' with state '{}' in MapDB database", localAlias, state);
         });
     }
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
-        String json = map.get(filter.getItemName());
-        if (json == null) {
+        String itemName = filter.getItemName();
+        byte[] data = itemName != null ? map.get(itemName) : null;
+        if (itemName == null || data == null) {
             return List.of();
         }
-        Optional<MapDbItem> item = deserialize(json);
+        Optional<MapDbItem> item = deserialize(itemName, data);
         return item.isPresent() ? List.of(item.get()) : List.of();
     }
 
     @Override
     public @Nullable PersistedItem persistedItem(String itemName, @Nullable String alias) {
-        String json = map.get(alias != null ? alias : itemName);
-        if (json == null) {
+        String key = alias != null ? alias : itemName;
+        byte[] data = map.get(key);
+        if (data == null) {
             return null;
         }
-        Optional<MapDbItem> item = deserialize(json);
+        Optional<MapDbItem> item = deserialize(key, data);
         MapDbItem dbItem = item.orElse(null);
         if (dbItem != null) {
             dbItem.setName(itemName);
@@ -224,12 +295,51 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         return dbItem;
     }
 
-    private String serialize(MapDbItem item) {
-        return mapper.toJson(item);
+    /**
+     * Commit immediately or, if group commit is configured, once the commit interval has elapsed or enough updates
+     * are pending. This reduces the number of disk syncs when many items are updated at once.
+     */
+    private void commitOrSchedule() {
+        synchronized (commitLock) {
+            uncommittedUpdates++;
+            if (commitInterval <= 0 || uncommittedUpdates >= commitMaxUpdates) {
+                commit();
+            } else if (commitJob == null) {
+                commitJob = threadPool.schedule(this::commit, commitInterval, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void commit() {
+        synchronized (commitLock) {
+            ScheduledFuture<?> commitJob = this.commitJob;
+            if (commitJob != null) {
+                commitJob.cancel(false);
+                this.commitJob = null;
+            }
+            if (uncommittedUpdates > 0) {
+                db.commit();
+                logger.trace("Committed {} updates to MapDB database", uncommittedUpdates);
+                uncommittedUpdates = 0;
+            }
+        }
+    }
+
+    private Optional<MapDbItem> deserialize(String name, byte[] data) {
+        try {
+            MapDbItem item = MapDbItemCodec.decode(name, data);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Deserialized '{}' with state '{}'", name, item.getState());
+            }
+            return Optional.of(item);
+        } catch (IOException e) {
+            logger.warn("Failed to deserialize '{}': {}", name, e.getMessage());
+            return Optional.empty();
+        }
     }
 
     @SuppressWarnings("null")
-    private Optional<MapDbItem> deserialize(String json) {
+    private Optional<MapDbItem> deserializeJson(String json) {
         MapDbItem item = mapper.fromJson(json, MapDbItem.class);
         if (item == null || !item.isValid()) {
             logger.warn("Deserialized invalid item: {}", item);
@@ -241,10 +351,6 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         return Optional.of(item);
     }
 
-    private static <T> Stream<T> streamOptional(Optional<T> opt) {
-        return opt.isPresent() ? Stream.of(opt.get()) : Stream.empty();
-    }
-
     @Override
     public List<PersistenceStrategy> getDefaultStrategies() {
         return List.of(PersistenceStrategy.Globals.RESTORE, PersistenceStrategy.Globals.CHANGE);
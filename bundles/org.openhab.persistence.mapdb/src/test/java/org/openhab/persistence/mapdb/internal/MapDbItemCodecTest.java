@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemCodecTest {
+
+    @ParameterizedTest
+    @MethodSource
+    public void encodeDecodeRoundtripShouldRecreateTheState(State state) throws IOException {
+        MapDbItem item = new MapDbItem();
+        item.setName("test");
+        item.setState(state);
+        item.setLastState(OnOffType.ON);
+        item.setTimestamp(new Date(1700000000123L));
+        item.setLastStateChange(new Date(1600000000456L));
+
+        MapDbItem actual = MapDbItemCodec.decode("test", MapDbItemCodec.encode(item));
+
+        assertThat(actual.getName(), is("test"));
+        assertThat(actual.getState(), is(equalTo(state)));
+        assertThat(actual.getLastState(), is(OnOffType.ON));
+        assertThat(actual.getTimestamp(), is(item.getTimestamp()));
+        assertThat(actual.getLastStateChange(), is(item.getLastStateChange()));
+    }
+
+    public static Stream<State> encodeDecodeRoundtripShouldRecreateTheState() {
+        return Stream.of(UnDefType.NULL, UnDefType.UNDEF, OnOffType.OFF, OpenClosedType.OPEN, OpenClosedType.CLOSED,
+                new DecimalType(new BigDecimal("-1.123")), new DecimalType(new BigDecimal("1E+30")),
+                PercentType.valueOf("99.999"), new QuantityType<>(new BigDecimal("21.23"), SIUnits.CELSIUS),
+                StringType.valueOf(""), StringType.valueOf("a b c @@@ ä"), HSBType.fromRGB(11, 22, 33),
+                new DateTimeType("2024-01-02T03:04:05.678Z"));
+    }
+
+    @Test
+    public void missingOptionalValuesShouldBeDecodedAsNull() throws IOException {
+        MapDbItem item = new MapDbItem();
+        item.setState(new DecimalType(5));
+
+        MapDbItem actual = MapDbItemCodec.decode("test", MapDbItemCodec.encode(item));
+
+        assertThat(actual.getLastState(), is(nullValue()));
+        assertThat(actual.getLastStateChange(), is(nullValue()));
+    }
+}
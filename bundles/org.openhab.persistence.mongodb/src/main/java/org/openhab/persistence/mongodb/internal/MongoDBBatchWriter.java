@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mongodb.internal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bson.BSONException;
+import org.bson.Document;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+
+/**
+ * Inserts the documents of the MongoDB persistence service in bulk. Documents are queued and sent as unordered
+ * <code>insertMany</code> commands, one per collection and at most <code>maxBatchSize</code> documents each, every
+ * flush interval or as soon as a full batch is waiting. Flushes run on a thread owned by the writer.
+ * <p>
+ * The server reports errors of an unordered bulk insert per document and still inserts the other documents, so
+ * documents it rejects are counted as failed and dropped. If the server cannot be reached, the documents are kept and
+ * sent again with the next flush. Their ids are assigned before the first attempt, so a document which already made
+ * it into the collection during an interrupted attempt is rejected as duplicate key and counted as stored.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class MongoDBBatchWriter {
+
+    private static final int FINAL_FLUSH_TIMEOUT_SECONDS = 30;
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
+    /**
+     * A document waiting to be inserted.
+     *
+     * @param collectionName the name of the collection to insert the document into
+     * @param document the document
+     */
+    public record PendingDocument(String collectionName, Document document) {
+    }
+
+    /**
+     * Provides the collections the documents are inserted into.
+     */
+    @FunctionalInterface
+    public interface CollectionProvider {
+        /**
+         * @param collectionName the name of the collection
+         * @return the collection, or <code>null</code> if the server cannot be reached
+         */
+        @Nullable
+        MongoCollection<Document> getCollection(String collectionName);
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(MongoDBBatchWriter.class);
+
+    private final CollectionProvider collectionProvider;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+    private final long flushInterval;
+
+    private final Queue<PendingDocument> queue = new ConcurrentLinkedQueue<>();
+    // documents which could not be sent yet, grouped by collection, only accessed by the flush thread
+    private final Map<String, List<Document>> unsent = new LinkedHashMap<>();
+    // queued and unsent documents, limited to the queue capacity
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicBoolean overflowReported = new AtomicBoolean();
+    private volatile @Nullable ScheduledExecutorService scheduler;
+
+    private final AtomicLong storedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong insertCount = new AtomicLong();
+    private final AtomicLong totalInsertTime = new AtomicLong();
+    private final AtomicLong maxInsertTime = new AtomicLong();
+    private volatile long lastInsertTime;
+    private volatile int lastBatchSize;
+
+    /**
+     * @param collectionProvider provides the collections, connecting to the server if needed
+     * @param queueCapacity maximum number of documents waiting to be inserted
+     * @param maxBatchSize maximum number of documents sent with one insert command
+     * @param flushInterval maximum time in milliseconds a document waits in the queue
+     */
+    public MongoDBBatchWriter(CollectionProvider collectionProvider, int queueCapacity, int maxBatchSize,
+            long flushInterval) {
+        this.collectionProvider = collectionProvider;
+        this.queueCapacity = queueCapacity;
+        this.maxBatchSize = maxBatchSize;
+        this.flushInterval = flushInterval;
+    }
+
+    public void start() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                new NamedThreadFactory("mongodb"));
+        scheduler.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Stops the flush thread after a last attempt to insert all pending documents. Documents which still cannot be
+     * inserted are dropped.
+     */
+    public void stop() {
+        ScheduledExecutorService scheduler = this.scheduler;
+        if (scheduler == null) {
+            return;
+        }
+        this.scheduler = null;
+        try {
+            scheduler.submit(this::flush).get(FINAL_FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            logger.warn("Failed to insert the pending documents into MongoDB: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler.shutdownNow();
+        int lost = pendingCount.getAndSet(0);
+        if (lost > 0) {
+            logger.warn("Dropped {} documents which could not be inserted into MongoDB", lost);
+            droppedCount.addAndGet(lost);
+        }
+    }
+
+    /**
+     * Adds a document to the queue. If the queue is full, the document is dropped.
+     *
+     * @param document the document to insert
+     */
+    public void enqueue(PendingDocument document) {
+        if (pendingCount.incrementAndGet() > queueCapacity) {
+            pendingCount.decrementAndGet();
+            droppedCount.incrementAndGet();
+            if (overflowReported.compareAndSet(false, true)) {
+                logger.warn("MongoDB write queue is full ({} documents), dropping document for item '{}'",
+                        queueCapacity, document.document().get(MongoDBFields.FIELD_ITEM));
+            }
+            return;
+        }
+        queue.add(document);
+        ScheduledExecutorService scheduler = this.scheduler;
+        if (scheduler != null && queue.size() >= maxBatchSize && flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::flush);
+        }
+    }
+
+    private void flush() {
+        flushRequested.set(false);
+        PendingDocument pending;
+        while ((pending = queue.poll()) != null) {
+            unsent.computeIfAbsent(pending.collectionName(), k -> new ArrayList<>()).add(pending.document());
+        }
+
+        Iterator<Map.Entry<String, List<Document>>> iterator = unsent.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, List<Document>> entry = iterator.next();
+            MongoCollection<Document> collection = collectionProvider.getCollection(entry.getKey());
+            if (collection == null || !insertAll(collection, entry.getKey(), entry.getValue())) {
+                int kept = unsent.values().stream().mapToInt(List::size).sum();
+                logger.debug("Keeping {} documents to insert them into MongoDB with the next flush", kept);
+                retriedCount.addAndGet(kept);
+                return;
+            }
+            iterator.remove();
+        }
+        overflowReported.set(false);
+    }
+
+    /**
+     * Inserts the documents into a collection, removing them from the given list.
+     *
+     * @return <code>false</code> if the server could not be reached and the remaining documents shall be sent again
+     */
+    private boolean insertAll(MongoCollection<Document> collection, String collectionName, List<Document> documents) {
+        while (!documents.isEmpty()) {
+            List<Document> batch = documents.subList(0, Math.min(documents.size(), maxBatchSize));
+            int size = batch.size();
+            long timerStart = System.currentTimeMillis();
+            int rejected = 0;
+            try {
+                collection.insertMany(batch, new InsertManyOptions().ordered(false));
+            } catch (MongoBulkWriteException e) {
+                for (BulkWriteError error : e.getWriteErrors()) {
+                    if (error.getCode() != DUPLICATE_KEY_ERROR) {
+                        rejected++;
+                    }
+                }
+                if (rejected > 0) {
+                    logger.warn("MongoDB rejected {} of {} documents for collection '{}': {}", rejected, size,
+                            collectionName, e.getWriteErrors().get(0).getMessage());
+                }
+            } catch (BSONException e) {
+                // a document cannot be encoded, e.g. because it exceeds the maximum size, sending it again won't help
+                logger.warn("Failed to encode {} documents for MongoDB collection '{}': {}", size, collectionName,
+                        e.getMessage());
+                rejected = size;
+            } catch (MongoException e) {
+                logger.warn("Failed to insert {} documents into MongoDB collection '{}': {}", documents.size(),
+                        collectionName, e.getMessage());
+                return false;
+            }
+            recordInsert(size, rejected, System.currentTimeMillis() - timerStart);
+            batch.clear();
+            pendingCount.addAndGet(-size);
+        }
+        return true;
+    }
+
+    private void recordInsert(int batchSize, int rejected, long insertTime) {
+        storedCount.addAndGet(batchSize - rejected);
+        failedCount.addAndGet(rejected);
+        insertCount.incrementAndGet();
+        totalInsertTime.addAndGet(insertTime);
+        maxInsertTime.accumulateAndGet(insertTime, Math::max);
+        lastInsertTime = insertTime;
+        lastBatchSize = batchSize;
+        logger.debug("MongoDB inserted {} of {} documents in {} ms", batchSize - rejected, batchSize, insertTime);
+    }
+
+    /**
+     * @return the number of documents waiting to be inserted, including those kept after a failed attempt
+     */
+    public int getQueueSize() {
+        return pendingCount.get();
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getStoredCount() {
+        return storedCount.get();
+    }
+
+    /**
+     * @return the number of documents rejected by the server
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * @return the number of times documents were kept for another attempt because the server could not be reached
+     */
+    public long getRetriedCount() {
+        return retriedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getInsertCount() {
+        return insertCount.get();
+    }
+
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    public long getLastInsertTime() {
+        return lastInsertTime;
+    }
+
+    public long getMaxInsertTime() {
+        return maxInsertTime.get();
+    }
+
+    public double getAverageInsertTime() {
+        long inserts = insertCount.get();
+        return inserts == 0 ? 0 : (double) totalInsertTime.get() / inserts;
+    }
+}
@@ -78,6 +78,13 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
     private boolean initialized = false;
 
+    private boolean batchWrites = false;
+    private int batchFlushInterval = 1000;
+    private int batchMaxSize = 500;
+    private int batchQueueSize = 10000;
+
+    private @Nullable MongoDBBatchWriter batchWriter;
+
     protected final ItemRegistry itemRegistry;
 
     private @Nullable MongoClient cl;
@@ -113,19 +120,60 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         collection = dbCollection == null ? "" : dbCollection;
         collectionPerItem = dbCollection == null || dbCollection.isBlank();
 
+        batchWrites = Boolean.parseBoolean(String.valueOf(config.getOrDefault("batchWrites", "false")).trim());
+        batchFlushInterval = Math.max(parseInt(config, "batchFlushInterval", batchFlushInterval), 10);
+        batchMaxSize = Math.max(parseInt(config, "batchMaxSize", batchMaxSize), 1);
+        batchQueueSize = Math.max(parseInt(config, "batchQueueSize", batchQueueSize), 1);
+
         if (!tryConnectToDatabase()) {
             logger.warn("Failed to connect to MongoDB server. Trying to reconnect later.");
         }
 
+        if (batchWrites) {
+            logger.debug("MongoDB batch writes enabled: flushInterval={} ms, maxSize={}, queueSize={}",
+                    batchFlushInterval, batchMaxSize, batchQueueSize);
+            MongoDBBatchWriter batchWriter = new MongoDBBatchWriter(this::getBatchCollection, batchQueueSize,
+                    batchMaxSize, batchFlushInterval);
+            batchWriter.start();
+            this.batchWriter = batchWriter;
+        }
+
         initialized = true;
     }
 
+    private int parseInt(Map<String, Object> config, String key, int defaultValue) {
+        Object value = config.get(key);
+        if (value == null || value.toString().isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.toString().trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value '{}' for mongodb:{}, using default {}", value, key, defaultValue);
+            return defaultValue;
+        }
+    }
+
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("MongoDB persistence bundle stopping. Disconnecting from database.");
+        MongoDBBatchWriter batchWriter = this.batchWriter;
+        if (batchWriter != null) {
+            batchWriter.stop();
+            this.batchWriter = null;
+        }
         disconnectFromDatabase();
     }
 
+    /**
+     * Get the batch writer, if batch writes are enabled.
+     *
+     * @return the batch writer or null
+     */
+    public @Nullable MongoDBBatchWriter getBatchWriter() {
+        return batchWriter;
+    }
+
     @Override
     public String getId() {
         return "mongodb";
@@ -351,6 +399,18 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
+        String realItemName = item.getName();
+        String name = (alias != null) ? alias : realItemName;
+        String collectionName = collectionPerItem ? name : this.collection;
+
+        MongoDBBatchWriter batchWriter = this.batchWriter;
+        if (batchWriter != null) {
+            // the connection is checked once per batch
+            batchWriter.enqueue(new MongoDBBatchWriter.PendingDocument(collectionName,
+                    createDocument(item, date, state, name)));
+            return;
+        }
+
         // Connect to mongodb server if we're not already connected
         // If we can't connect, log.
         if (!tryConnectToDatabase()) {
@@ -360,10 +420,6 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        String realItemName = item.getName();
-        String name = (alias != null) ? alias : realItemName;
-        String collectionName = collectionPerItem ? name : this.collection;
-
         @Nullable
         MongoCollection<Document> collection = connectToCollection(collectionName);
 
@@ -372,24 +428,42 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        Object value = MongoDBTypeConversions.convertValue(state);
+        Document obj = createDocument(item, date, state, name);
+        try {
+            collection.insertOne(obj);
+        } catch (org.bson.BsonMaximumSizeExceededException e) {
+            logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.", name);
+            throw e;
+        }
+        logger.debug("MongoDB save {}={}", name, obj.get(MongoDBFields.FIELD_VALUE));
+    }
 
+    private Document createDocument(Item item, Date date, State state, String name) {
         Document obj = new Document();
         obj.put(MongoDBFields.FIELD_ID, new ObjectId());
         obj.put(MongoDBFields.FIELD_ITEM, name);
-        obj.put(MongoDBFields.FIELD_REALNAME, realItemName);
+        obj.put(MongoDBFields.FIELD_REALNAME, item.getName());
         obj.put(MongoDBFields.FIELD_TIMESTAMP, date);
-        obj.put(MongoDBFields.FIELD_VALUE, value);
+        obj.put(MongoDBFields.FIELD_VALUE, MongoDBTypeConversions.convertValue(state));
         if (item instanceof NumberItem && state instanceof QuantityType<?>) {
             obj.put(MongoDBFields.FIELD_UNIT, ((QuantityType<?>) state).getUnit().toString());
         }
-        try {
-            collection.insertOne(obj);
-        } catch (org.bson.BsonMaximumSizeExceededException e) {
-            logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.", name);
-            throw e;
+        return obj;
+    }
+
+    /**
+     * Get a collection for the batch writer, connecting to the database if needed. The connection is checked once per
+     * collection and flush instead of once per document.
+     *
+     * @return the collection, or null if the database cannot be reached
+     */
+    private @Nullable MongoCollection<Document> getBatchCollection(String collectionName) {
+        if (!tryConnectToDatabase()) {
+            logger.warn("mongodb: No connection to database. Keeping queued documents for collection '{}'.",
+                    collectionName);
+            return null;
         }
-        logger.debug("MongoDB save {}={}", name, value);
+        return connectToCollection(collectionName);
     }
 
     @Nullable
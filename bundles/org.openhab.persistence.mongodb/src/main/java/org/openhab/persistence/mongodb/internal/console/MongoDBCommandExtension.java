@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mongodb.internal.console;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.core.persistence.PersistenceService;
+import org.openhab.core.persistence.PersistenceServiceRegistry;
+import org.openhab.persistence.mongodb.internal.MongoDBBatchWriter;
+import org.openhab.persistence.mongodb.internal.MongoDBPersistenceService;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link MongoDBCommandExtension} is responsible for handling console commands
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class MongoDBCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
+
+    private static final String CMD_QUEUE = "queue";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_QUEUE), false);
+
+    private final PersistenceServiceRegistry persistenceServiceRegistry;
+
+    @Activate
+    public MongoDBCommandExtension(final @Reference PersistenceServiceRegistry persistenceServiceRegistry) {
+        super("mongodb", "Interact with the MongoDB persistence service.");
+        this.persistenceServiceRegistry = persistenceServiceRegistry;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length != 1 || !CMD_QUEUE.equalsIgnoreCase(args[0])) {
+            printUsage(console);
+            return;
+        }
+        MongoDBPersistenceService persistenceService = getPersistenceService();
+        if (persistenceService == null) {
+            return;
+        }
+        showQueue(persistenceService, console);
+    }
+
+    private @Nullable MongoDBPersistenceService getPersistenceService() {
+        for (PersistenceService persistenceService : persistenceServiceRegistry.getAll()) {
+            if (persistenceService instanceof MongoDBPersistenceService service) {
+                return service;
+            }
+        }
+        return null;
+    }
+
+    private void showQueue(MongoDBPersistenceService persistenceService, Console console) {
+        MongoDBBatchWriter batchWriter = persistenceService.getBatchWriter();
+        if (batchWriter == null) {
+            console.println("Batch writes are disabled.");
+            return;
+        }
+        console.println("Pending documents:   " + batchWriter.getQueueSize() + "/" + batchWriter.getQueueCapacity());
+        console.println("Stored documents:    " + batchWriter.getStoredCount());
+        console.println("Rejected documents:  " + batchWriter.getFailedCount());
+        console.println("Retried documents:   " + batchWriter.getRetriedCount());
+        console.println("Dropped documents:   " + batchWriter.getDroppedCount());
+        console.println("Insert commands:     " + batchWriter.getInsertCount());
+        console.println("Last batch size:     " + batchWriter.getLastBatchSize());
+        console.println("Last insert time:    " + batchWriter.getLastInsertTime() + " ms");
+        console.println("Average insert time: " + batchWriter.getAverageInsertTime() + " ms");
+        console.println("Max insert time:     " + batchWriter.getMaxInsertTime() + " ms");
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(CMD_QUEUE, "show write queue statistics"));
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return this;
+    }
+
+    @Override
+    public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
+        if (cursorArgumentIndex <= 0) {
+            return CMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        }
+        return false;
+    }
+}
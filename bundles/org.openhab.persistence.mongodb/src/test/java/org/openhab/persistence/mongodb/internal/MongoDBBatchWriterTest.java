@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mongodb.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+/**
+ * Tests the {@link MongoDBBatchWriter} against an in-memory MongoDB server.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class MongoDBBatchWriterTest {
+
+    private static final String COLLECTION_NAME = "testCollection";
+
+    private @NonNullByDefault({}) MongoServer server;
+    private @NonNullByDefault({}) MongoClient client;
+    private @NonNullByDefault({}) MongoCollection<Document> collection;
+
+    @BeforeEach
+    public void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        InetSocketAddress address = server.bind();
+        client = MongoClients.create(String.format("mongodb://%s:%s", address.getHostName(), address.getPort()));
+        collection = client.getDatabase("test").getCollection(COLLECTION_NAME);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        client.close();
+        server.shutdownNow();
+    }
+
+    @Test
+    public void documentsAreKeptWhileTheServerCannotBeReached() {
+        AtomicInteger attempts = new AtomicInteger();
+        MongoDBBatchWriter writer = new MongoDBBatchWriter(
+                name -> attempts.getAndIncrement() == 0 ? null : collection, 10, 2, 60000);
+        writer.start();
+
+        // a full batch is flushed right away, but the server is not available
+        writer.enqueue(document("TestItem1"));
+        writer.enqueue(document("TestItem2"));
+        // the final flush is executed after the failed one
+        writer.stop();
+
+        assertEquals(2, collection.countDocuments());
+        assertEquals(2, attempts.get());
+        assertEquals(2, writer.getStoredCount());
+        assertEquals(2, writer.getRetriedCount());
+        assertEquals(0, writer.getDroppedCount());
+        assertEquals(0, writer.getQueueSize());
+    }
+
+    @Test
+    public void documentsInsertedByAnInterruptedAttemptAreCountedAsStored() {
+        Document inserted = new Document(MongoDBFields.FIELD_ID, new ObjectId()).append(MongoDBFields.FIELD_ITEM,
+                "TestItem1");
+        collection.insertOne(inserted);
+        MongoDBBatchWriter writer = new MongoDBBatchWriter(name -> collection, 10, 10, 60000);
+        writer.start();
+
+        writer.enqueue(new MongoDBBatchWriter.PendingDocument(COLLECTION_NAME, inserted));
+        writer.enqueue(document("TestItem2"));
+        writer.stop();
+
+        assertEquals(2, collection.countDocuments());
+        assertEquals(2, writer.getStoredCount());
+        assertEquals(0, writer.getFailedCount());
+    }
+
+    @Test
+    public void documentsAreDroppedWhenTheQueueIsFull() {
+        MongoDBBatchWriter writer = new MongoDBBatchWriter(name -> null, 2, 10, 60000);
+        writer.start();
+
+        writer.enqueue(document("TestItem1"));
+        writer.enqueue(document("TestItem2"));
+        writer.enqueue(document("TestItem3"));
+        assertEquals(2, writer.getQueueSize());
+        writer.stop();
+
+        assertEquals(3, writer.getDroppedCount());
+        assertEquals(0, writer.getStoredCount());
+    }
+
+    private MongoDBBatchWriter.PendingDocument document(String itemName) {
+        return new MongoDBBatchWriter.PendingDocument(COLLECTION_NAME,
+                new Document(MongoDBFields.FIELD_ID, new ObjectId()).append(MongoDBFields.FIELD_ITEM, itemName));
+    }
+}
@@ -219,6 +219,48 @@ public class MongoDBPersistenceServiceTest {
         }
     }
 
+    /**
+     * Tests the store method of MongoDBPersistenceService with batch writes enabled.
+     *
+     * This test checks if queued documents are inserted into the MongoDB database when the service is deactivated.
+     * It uses different database backends provided by the provideDatabaseBackends method.
+     *
+     * @param dbContainer The container running the MongoDB instance.
+     */
+    @ParameterizedTest
+    @MethodSource("org.openhab.persistence.mongodb.internal.DataCreationHelper#provideDatabaseBackends")
+    public void testStoreBatched(DatabaseTestContainer dbContainer) {
+        try {
+            // Preparation
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testCollection", dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            MongoDatabase database = setupResult.database;
+
+            setupResult.config.put("batchWrites", "true");
+            setupResult.config.put("batchFlushInterval", "60000");
+            service.activate(setupResult.bundleContext, setupResult.config);
+
+            // Execution
+            for (int i = 0; i < 3; i++) {
+                service.store(DataCreationHelper.createNumberItem("TestItem" + i, 10.1), null);
+            }
+            MongoDBBatchWriter batchWriter = service.getBatchWriter();
+            assertNotNull(batchWriter);
+            assertEquals(3, batchWriter.getQueueSize());
+            service.deactivate(1);
+
+            // Verification
+            MongoCollection<Document> collection = database.getCollection("testCollection");
+            List<Document> documents = collection.find().into(new ArrayList<>());
+
+            assertEquals(3, documents.size());
+            assertEquals(3, batchWriter.getStoredCount());
+            VerificationHelper.verifyDocument(documents.get(0), "TestItem0", 10.1);
+        } finally {
+            dbContainer.stop();
+        }
+    }
+
     /**
      * Tests the store method of MongoDBPersistenceService with a StringItem.
      *
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdDbPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the most recently used RRD files open, so they are not opened and closed again on every access.
+ * <p>
+ * The cache holds an additional reference to each database in the {@link RrdDbPool}. Callers still request and close
+ * databases through the pool, which is cheap as long as the file is held open by this cache. When a database is
+ * evicted, the file is closed as soon as no caller uses it anymore.
+ * <p>
+ * The cache also provides striped locks, so updates of the same file are serialized without blocking other files.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jDatabaseCache {
+
+    private static final int LOCK_STRIPES = 64;
+
+    // the default capacity of the pool, it is raised when more files are kept open
+    private static final int MIN_POOL_CAPACITY = 200;
+    // files opened in addition to the cached ones, e.g. by queries or the chart servlet
+    private static final int POOL_CAPACITY_RESERVE = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(RRD4jDatabaseCache.class);
+
+    private final RrdDbPool pool;
+    private final Lock[] locks = new Lock[LOCK_STRIPES];
+    private final Map<String, RrdDb> databases = new LinkedHashMap<>(16, 0.75f, true);
+    private int maxOpenDatabases;
+
+    public RRD4jDatabaseCache(RrdDbPool pool, int maxOpenDatabases) {
+        this.pool = pool;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        setMaxOpenDatabases(maxOpenDatabases);
+    }
+
+    /**
+     * Get the lock guarding updates of the database with the given name.
+     *
+     * @param name the name of the database
+     * @return the lock, which may be shared with other databases
+     */
+    public Lock getLock(String name) {
+        return locks[Math.floorMod(name.hashCode(), LOCK_STRIPES)];
+    }
+
+    /**
+     * Set the maximum number of databases kept open. Surplus databases are closed immediately.
+     *
+     * @param maxOpenDatabases the maximum number of open databases, 0 disables the cache
+     */
+    public void setMaxOpenDatabases(int maxOpenDatabases) {
+        List<RrdDb> evicted = new ArrayList<>();
+        synchronized (this) {
+            this.maxOpenDatabases = Math.max(maxOpenDatabases, 0);
+            pool.setCapacity(Math.max(MIN_POOL_CAPACITY, this.maxOpenDatabases + POOL_CAPACITY_RESERVE));
+            evictExcess(evicted);
+        }
+        closeAll(evicted);
+    }
+
+    /**
+     * Marks the database at the given path as used, so it is kept open. The database must exist.
+     *
+     * @param path the path of the database file
+     */
+    public void retain(Path path) {
+        String key = path.toString();
+        synchronized (this) {
+            if (maxOpenDatabases == 0 || databases.get(key) != null) {
+                return;
+            }
+        }
+
+        RrdDb db;
+        try {
+            db = RrdDb.getBuilder().setPool(pool).setPath(key).build();
+        } catch (IOException e) {
+            logger.debug("Could not keep rrd4j database '{}' open: {}", key, e.getMessage());
+            return;
+        }
+
+        List<RrdDb> evicted = new ArrayList<>();
+        synchronized (this) {
+            if (databases.putIfAbsent(key, db) != null) {
+                // retained concurrently by another thread
+                evicted.add(db);
+            }
+            evictExcess(evicted);
+        }
+        closeAll(evicted);
+    }
+
+    /**
+     * Removes the database at the given path from the cache, e.g. before the file is deleted.
+     *
+     * @param path the path of the database file
+     */
+    public void release(Path path) {
+        RrdDb db;
+        synchronized (this) {
+            db = databases.remove(path.toString());
+        }
+        if (db != null) {
+            closeAll(List.of(db));
+        }
+    }
+
+    /**
+     * Closes all cached databases.
+     */
+    public void clear() {
+        List<RrdDb> evicted;
+        synchronized (this) {
+            evicted = new ArrayList<>(databases.values());
+            databases.clear();
+        }
+        closeAll(evicted);
+    }
+
+    public synchronized int size() {
+        return databases.size();
+    }
+
+    private void evictExcess(List<RrdDb> evicted) {
+        Iterator<RrdDb> iterator = databases.values().iterator();
+        while (databases.size() > maxOpenDatabases && iterator.hasNext()) {
+            evicted.add(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    private void closeAll(List<RrdDb> evicted) {
+        for (RrdDb db : evicted) {
+            try {
+                db.close();
+            } catch (IOException e) {
+                logger.debug("Error closing rrd4j database: {}", e.getMessage());
+            }
+        }
+    }
+}
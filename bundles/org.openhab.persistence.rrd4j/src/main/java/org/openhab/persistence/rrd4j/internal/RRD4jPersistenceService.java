@@ -25,15 +25,14 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 import java.util.function.DoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -108,17 +107,12 @@ import org.slf4j.LoggerFactory;
                 + "=org.openhab.rrd4j")
 public class RRD4jPersistenceService implements QueryablePersistenceService {
 
-    private record Key(long timestamp, String name) implements Comparable<Key> {
-        @Override
-        public int compareTo(Key other) {
-            int c = Long.compare(timestamp, other.timestamp);
-
-            return (c == 0) ? Objects.compare(name, other.name, String::compareTo) : c;
-        }
-    }
-
     public static final String SERVICE_ID = "rrd4j";
 
+    private static final String CONFIG_MAX_OPEN_DATABASES = "maxOpenDatabases";
+    private static final String CONFIG_COALESCE_UPDATES = "coalesceUpdates";
+    private static final int DEFAULT_MAX_OPEN_DATABASES = 1000;
+
     private static final String DEFAULT_OTHER = "default_other";
     private static final String DEFAULT_NUMERIC = "default_numeric";
     private static final String DEFAULT_QUANTIFIABLE = "default_quantifiable";
@@ -131,7 +125,8 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private final Map<String, RrdDefConfig> rrdDefs = new ConcurrentHashMap<>();
 
-    private final ConcurrentSkipListMap<Key, Double> storageMap = new ConcurrentSkipListMap<>(Key::compareTo);
+    private final RRD4jUpdateCoalescer coalescer = new RRD4jUpdateCoalescer();
+    private boolean coalesceUpdates = true;
 
     private static final String DATASOURCE_STATE = "state";
 
@@ -139,6 +134,9 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private static final RrdDbPool DATABASE_POOL = new RrdDbPool();
 
+    private final RRD4jDatabaseCache databaseCache = new RRD4jDatabaseCache(DATABASE_POOL,
+            DEFAULT_MAX_OPEN_DATABASES);
+
     private final Logger logger = LoggerFactory.getLogger(RRD4jPersistenceService.class);
     private final ItemRegistry itemRegistry;
     private boolean active = false;
@@ -166,6 +164,17 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         // clean existing definitions
         rrdDefs.clear();
 
+        Object maxOpenDatabases = config.get(CONFIG_MAX_OPEN_DATABASES);
+        try {
+            databaseCache.setMaxOpenDatabases(maxOpenDatabases == null ? DEFAULT_MAX_OPEN_DATABASES
+                    : Integer.parseInt(maxOpenDatabases.toString().trim()));
+        } catch (NumberFormatException e) {
+            logger.warn("Ignoring illegal configuration: {} = {}", CONFIG_MAX_OPEN_DATABASES, maxOpenDatabases);
+            databaseCache.setMaxOpenDatabases(DEFAULT_MAX_OPEN_DATABASES);
+        }
+        Object coalesceUpdates = config.get(CONFIG_COALESCE_UPDATES);
+        this.coalesceUpdates = coalesceUpdates == null || Boolean.parseBoolean(coalesceUpdates.toString().trim());
+
         // add default configurations
 
         RrdDefConfig defaultNumeric = new RrdDefConfig(DEFAULT_NUMERIC);
@@ -214,8 +223,9 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         while (keys.hasNext()) {
             String key = keys.next();
 
-            if ("service.pid".equals(key) || "component.name".equals(key)) {
-                // ignore service.pid and name
+            if ("service.pid".equals(key) || "component.name".equals(key) || CONFIG_MAX_OPEN_DATABASES.equals(key)
+                    || CONFIG_COALESCE_UPDATES.equals(key)) {
+                // ignore service.pid and name and the already processed service settings
                 continue;
             }
 
@@ -276,6 +286,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
         // make sure we really store everything
         doStore(true);
+        databaseCache.clear();
     }
 
     @Override
@@ -333,41 +344,54 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
 
         long now = System.currentTimeMillis() / 1000;
-        Double oldValue = storageMap.put(new Key(now, name), value);
-        if (oldValue != null && !oldValue.equals(value)) {
-            logger.debug(
-                    "Discarding value {} for item {} with timestamp {} because a new value ({}) arrived with the same timestamp.",
-                    oldValue, item.getName(), now, value);
+        if (coalescer.add(name, now, value)) {
+            logger.trace("Merged value {} for item {} with timestamp {} with previous values of the same step", value,
+                    item.getName(), now);
         }
     }
 
     private void doStore(boolean force) {
         long now = System.currentTimeMillis() / 1000;
-        while (!storageMap.isEmpty()) {
-            Key key = storageMap.firstKey();
-            if (now > key.timestamp || force) {
-                // no new elements can be added for this timestamp because we are already past that time or the service
-                // requires forced storing
-                Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
-            } else {
-                return;
-            }
-        }
+        // no new samples can be added for steps that have already passed, unless the service requires forced storing
+        coalescer.drain(now, force).forEach(this::writePointsToDatabase);
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
-        RrdDb db = null;
+    private void writePointsToDatabase(String name, List<RRD4jUpdateCoalescer.Update> updates) {
+        Lock lock = databaseCache.getLock(name);
+        lock.lock();
         try {
-            db = getDB(name, true);
-        } catch (Exception e) {
-            logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
-        }
-        if (db == null) {
-            return;
+            RrdDb db = null;
+            try {
+                db = getDB(name, true);
+            } catch (Exception e) {
+                logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
+            }
+            if (db == null) {
+                return;
+            }
+
+            ConsolFun function = getConsolidationFunction(db);
+            if (coalesceUpdates) {
+                try {
+                    coalescer.setStep(name, db.getHeader().getStep(), function);
+                } catch (IOException e) {
+                    logger.debug("Error reading step of rrd4j database '{}': {}", name, e.getMessage());
+                }
+            }
+            for (RRD4jUpdateCoalescer.Update update : updates) {
+                writePointToDatabase(db, function, name, update.value(), update.timestamp());
+            }
+            try {
+                db.close();
+            } catch (IOException e) {
+                logger.debug("Error closing rrd4j database: {}", e.getMessage());
+            }
+        } finally {
+            lock.unlock();
         }
+    }
 
-        ConsolFun function = getConsolidationFunction(db);
+    private void writePointToDatabase(RrdDb db, ConsolFun function, String name, double value, long timestamp) {
         if (function != ConsolFun.AVERAGE) {
             try {
                 // we store the last value again, so that the value change
@@ -401,11 +425,6 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         } catch (Exception e) {
             logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
         }
-        try {
-            db.close();
-        } catch (IOException e) {
-            logger.debug("Error closing rrd4j database: {}", e.getMessage());
-        }
     }
 
     @Override
@@ -700,9 +719,12 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return Set.of();
     }
 
-    protected synchronized @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
+    protected @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
         RrdDb db = null;
         Path path = getDatabasePath(alias);
+        // guard against concurrent creation of the same file
+        Lock lock = databaseCache.getLock(alias);
+        lock.lock();
         try {
             Builder builder = RrdDb.getBuilder();
             builder.setPool(DATABASE_POOL);
@@ -731,10 +753,24 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         } catch (RejectedExecutionException e) {
             // this happens if the system is shut down
             logger.debug("Could not create rrd4j database file '{}': {}", path, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+        if (db != null) {
+            databaseCache.retain(path);
         }
         return db;
     }
 
+    /**
+     * Closes the database with the given name if it is kept open, e.g. before the file is deleted.
+     *
+     * @param name the name of the database
+     */
+    public void releaseDB(String name) {
+        databaseCache.release(getDatabasePath(name));
+    }
+
     private @Nullable RrdDefConfig getRrdDefConfig(String itemName) {
         RrdDefConfig useRdc = null;
         for (Map.Entry<String, RrdDefConfig> e : rrdDefs.entrySet()) {
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.rrd4j.ConsolFun;
+
+/**
+ * Collects the samples to be written to the RRD files. The first sample of an item within a RRD step is written
+ * straight away, all further samples of the same step are merged into a single update once the step has passed, so
+ * every step causes at most two writes per file.
+ * <p>
+ * Samples are merged according to the consolidation function of the database, e.g. to their maximum for
+ * <code>MAX</code> or to their time-weighted mean for <code>AVERAGE</code>. Samples of databases using
+ * <code>TOTAL</code> are not merged, as the sum of a step is built by rrd4j itself. As long as the step of a database
+ * is unknown, a step of one second and the last value are assumed.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jUpdateCoalescer {
+
+    /**
+     * A (merged) sample to be written to the database.
+     *
+     * @param timestamp the timestamp in seconds
+     * @param value the value
+     */
+    public record Update(long timestamp, double value) {
+    }
+
+    private record StepInfo(long step, ConsolFun function) {
+    }
+
+    private static class Bucket {
+        final ConsolFun function;
+        List<Update> samples = new ArrayList<>(1);
+        long timestamp;
+        double value;
+        int count;
+        boolean flushed;
+        // rrd4j applies the value of an update to the time since the previous update
+        long previousTimestamp;
+        double weightedSum;
+        long duration;
+
+        /**
+         * @param function the consolidation function of the database
+         * @param previousTimestamp the timestamp of the last update written to the database, or -1 if unknown
+         */
+        Bucket(ConsolFun function, long previousTimestamp) {
+            this.function = function;
+            this.previousTimestamp = previousTimestamp;
+        }
+
+        void add(long timestamp, double value) {
+            long weight = previousTimestamp < 0 ? 0 : Math.max(timestamp - previousTimestamp, 0);
+            weightedSum += value * weight;
+            duration += weight;
+            previousTimestamp = Math.max(previousTimestamp, timestamp);
+            if (function == ConsolFun.TOTAL) {
+                samples.add(new Update(timestamp, value));
+            } else if (count == 0) {
+                this.value = value;
+            } else {
+                this.value = switch (function) {
+                    case FIRST -> this.value;
+                    case MAX -> Math.max(this.value, value);
+                    case MIN -> Math.min(this.value, value);
+                    default -> value;
+                };
+            }
+            this.timestamp = Math.max(this.timestamp, timestamp);
+            count++;
+        }
+
+        boolean isMerged() {
+            return count > 1 && function != ConsolFun.TOTAL;
+        }
+
+        List<Update> toUpdates() {
+            return switch (function) {
+                case TOTAL -> samples;
+                // samples sharing the timestamp of the previous update have no weight
+                case AVERAGE -> List.of(new Update(timestamp, duration > 0 ? weightedSum / duration : value));
+                default -> List.of(new Update(timestamp, value));
+            };
+        }
+
+        /**
+         * Remove the samples written before the step has passed, further samples are merged until it has.
+         */
+        List<Update> flush() {
+            List<Update> updates = toUpdates();
+            samples = new ArrayList<>(1);
+            count = 0;
+            weightedSum = 0;
+            duration = 0;
+            flushed = true;
+            return updates;
+        }
+    }
+
+    private static final StepInfo DEFAULT_STEP = new StepInfo(1, ConsolFun.LAST);
+
+    private final Map<String, StepInfo> steps = new ConcurrentHashMap<>();
+    // buckets per item, keyed by the end of the step they belong to
+    private final Map<String, NavigableMap<Long, Bucket>> pending = new HashMap<>();
+    // timestamp of the last update per item returned by drain
+    private final Map<String, Long> lastTimestamps = new HashMap<>();
+
+    /**
+     * Set the step of a database, used to merge further samples.
+     *
+     * @param name the name of the database
+     * @param step the step in seconds
+     * @param function the consolidation function of the database, used to merge the samples of a step
+     */
+    public void setStep(String name, long step, ConsolFun function) {
+        steps.put(name, new StepInfo(Math.max(step, 1), function));
+    }
+
+    /**
+     * Add a sample.
+     *
+     * @param name the name of the database
+     * @param timestamp the timestamp in seconds
+     * @param value the value
+     * @return <code>true</code> if the sample was merged with a previous sample of the same step
+     */
+    public synchronized boolean add(String name, long timestamp, double value) {
+        StepInfo stepInfo = steps.getOrDefault(name, DEFAULT_STEP);
+        long lastTimestamp = lastTimestamps.getOrDefault(name, -1L);
+        // rrd4j only accepts updates after the last one
+        long sampleTimestamp = Math.max(timestamp, lastTimestamp + 1);
+        // a RRD step covers the interval (end - step, end]
+        long end = (Math.floorDiv(sampleTimestamp - 1, stepInfo.step()) + 1) * stepInfo.step();
+        NavigableMap<Long, Bucket> buckets = pending.computeIfAbsent(name, k -> new TreeMap<>());
+        Bucket bucket = buckets.get(end);
+        if (bucket == null) {
+            // the previous update is the last one of a step that has passed but was not drained yet, if any
+            Map.Entry<Long, Bucket> previous = buckets.lowerEntry(end);
+            long previousTimestamp = previous == null ? lastTimestamp
+                    : Math.max(lastTimestamp, previous.getValue().timestamp);
+            bucket = new Bucket(stepInfo.function(), previousTimestamp);
+            buckets.put(end, bucket);
+        }
+        bucket.add(sampleTimestamp, value);
+        return bucket.isMerged();
+    }
+
+    /**
+     * Remove all merged samples of steps that have passed, and the first samples of the current steps.
+     *
+     * @param now the current time in seconds
+     * @param force <code>true</code> to remove all samples, including the merged samples of the current step
+     * @return the updates per database name, ordered by timestamp
+     */
+    public synchronized Map<String, List<Update>> drain(long now, boolean force) {
+        Map<String, List<Update>> updates = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, NavigableMap<Long, Bucket>>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, NavigableMap<Long, Bucket>> entry = iterator.next();
+            NavigableMap<Long, Bucket> buckets = entry.getValue();
+            List<Update> itemUpdates = new ArrayList<>();
+            Iterator<Map.Entry<Long, Bucket>> bucketIterator = buckets.entrySet().iterator();
+            while (bucketIterator.hasNext()) {
+                Map.Entry<Long, Bucket> bucketEntry = bucketIterator.next();
+                Bucket bucket = bucketEntry.getValue();
+                // no new samples can be added to a step once we are past its end
+                if (force || bucketEntry.getKey() < now) {
+                    if (bucket.count > 0) {
+                        itemUpdates.addAll(bucket.toUpdates());
+                    }
+                    bucketIterator.remove();
+                } else if (!bucket.flushed && bucket.count > 0) {
+                    itemUpdates.addAll(bucket.flush());
+                }
+            }
+            if (buckets.isEmpty()) {
+                iterator.remove();
+            }
+            if (!itemUpdates.isEmpty()) {
+                lastTimestamps.put(entry.getKey(), itemUpdates.get(itemUpdates.size() - 1).timestamp());
+                updates.put(entry.getKey(), itemUpdates);
+            }
+        }
+        return updates;
+    }
+
+    public synchronized boolean isEmpty() {
+        return pending.isEmpty();
+    }
+}
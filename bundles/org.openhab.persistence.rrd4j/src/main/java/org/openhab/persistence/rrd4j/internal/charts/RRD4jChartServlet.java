@@ -17,12 +17,15 @@ import static java.util.Map.entry;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.zip.CRC32;
 
 import javax.imageio.ImageIO;
 import javax.servlet.Servlet;
@@ -30,6 +33,8 @@ import javax.servlet.ServletConfig;
 import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -68,6 +73,8 @@ import org.slf4j.LoggerFactory;
  * <li>items: A comma separated list of item names to display
  * <li>groups: A comma separated list of group names, whose members should be displayed
  * </ul>
+ * Rendered charts are cached until the next step of the underlying RRD files, as the chart cannot change before. The
+ * responses carry an ETag and a Last-Modified header, so clients can revalidate them cheaply.
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Chris Jackson - a few improvements
@@ -105,6 +112,41 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             entry("Y", Duration.ofDays(365))//
     );
 
+    private static final int MAX_CACHED_CHARTS = 64;
+
+    /**
+     * A rendered chart.
+     *
+     * @param png the PNG encoded image
+     * @param etag the entity tag derived from the image content
+     * @param lastModified the time the chart was rendered in milliseconds, truncated to seconds
+     * @param expires the time the chart becomes invalid in milliseconds
+     */
+    private record CachedChart(byte[] png, String etag, long lastModified, long expires) {
+        boolean isValid(long now) {
+            return now < expires;
+        }
+    }
+
+    /**
+     * A rendered graph.
+     *
+     * @param image the image
+     * @param step the smallest step of the included databases in seconds, or 0 if unknown
+     */
+    private record Graph(BufferedImage image, long step) {
+    }
+
+    // least recently used charts are evicted first, access must be synchronized on the map
+    private final Map<String, CachedChart> chartCache = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, CachedChart> eldest) {
+            return size() > MAX_CACHED_CHARTS;
+        }
+    };
+
     private final HttpService httpService;
     private final ItemUIRegistry itemUIRegistry;
     private final TimeZoneProvider timeZoneProvider;
@@ -133,6 +175,9 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     @Deactivate
     protected void deactivate() {
         httpService.unregister(SERVLET_NAME);
+        synchronized (chartCache) {
+            chartCache.clear();
+        }
     }
 
     @Override
@@ -143,23 +188,85 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
         int height = parseInt(req.getParameter("h"), DEFAULT_HEIGHT);
         String periodParam = req.getParameter("period");
         Duration period = periodParam == null ? DEFAULT_PERIOD : PERIODS.getOrDefault(periodParam, DEFAULT_PERIOD);
+        String items = req.getParameter("items");
+        String groups = req.getParameter("groups");
+
+        String cacheKey = String.join("|", String.valueOf(items), String.valueOf(groups), period.toString(),
+                Integer.toString(width), Integer.toString(height));
+        long now = System.currentTimeMillis();
+        CachedChart chart;
+        synchronized (chartCache) {
+            chart = chartCache.get(cacheKey);
+        }
+        if (chart == null || !chart.isValid(now)) {
+            // Create the start and stop time
+            ZonedDateTime timeEnd = ZonedDateTime.now(timeZoneProvider.getTimeZone());
+            ZonedDateTime timeBegin = timeEnd.minus(period);
+
+            try {
+                chart = renderChart(timeBegin, timeEnd, height, width, items, groups);
+            } catch (ItemNotFoundException e) {
+                logger.debug("Item not found error while generating chart", e);
+                throw new ServletException("Item not found error while generating chart: " + e.getMessage());
+            } catch (IllegalArgumentException e) {
+                logger.debug("Illegal argument in chart", e);
+                throw new ServletException("Illegal argument in chart: " + e.getMessage());
+            }
+            cacheChart(cacheKey, chart, now);
+        }
 
-        // Create the start and stop time
-        ZonedDateTime timeEnd = ZonedDateTime.now(timeZoneProvider.getTimeZone());
-        ZonedDateTime timeBegin = timeEnd.minus(period);
+        if (req instanceof HttpServletRequest httpReq && res instanceof HttpServletResponse httpRes) {
+            httpRes.setHeader("ETag", chart.etag());
+            httpRes.setDateHeader("Last-Modified", chart.lastModified());
+            httpRes.setHeader("Cache-Control", "max-age=" + Math.max((chart.expires() - now) / 1000, 0));
+            if (isNotModified(httpReq, chart)) {
+                httpRes.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+        // Set the content type to that provided by the chart provider
+        res.setContentType("image/" + getChartType());
+        res.setContentLength(chart.png().length);
+        res.getOutputStream().write(chart.png());
+    }
 
+    private boolean isNotModified(HttpServletRequest req, CachedChart chart) {
+        String ifNoneMatch = req.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            // If-None-Match takes precedence over If-Modified-Since
+            return "*".equals(ifNoneMatch.trim()) || ifNoneMatch.contains(chart.etag());
+        }
         try {
-            BufferedImage chart = createChart(null, null, timeBegin, timeEnd, height, width, req.getParameter("items"),
-                    req.getParameter("groups"), null, null, null);
-            // Set the content type to that provided by the chart provider
-            res.setContentType("image/" + getChartType());
-            ImageIO.write(chart, getChartType().toString(), res.getOutputStream());
-        } catch (ItemNotFoundException e) {
-            logger.debug("Item not found error while generating chart", e);
-            throw new ServletException("Item not found error while generating chart: " + e.getMessage());
+            long ifModifiedSince = req.getDateHeader("If-Modified-Since");
+            return ifModifiedSince != -1 && ifModifiedSince >= chart.lastModified();
         } catch (IllegalArgumentException e) {
-            logger.debug("Illegal argument in chart", e);
-            throw new ServletException("Illegal argument in chart: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private CachedChart renderChart(ZonedDateTime timeBegin, ZonedDateTime timeEnd, int height, int width,
+            @Nullable String items, @Nullable String groups) throws ItemNotFoundException, IOException {
+        Graph graph = createGraph(timeBegin, timeEnd, height, width, items, groups);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(graph.image(), getChartType().toString(), out);
+        byte[] png = out.toByteArray();
+
+        CRC32 crc = new CRC32();
+        crc.update(png);
+        String etag = "\"" + Long.toHexString(crc.getValue()) + "\"";
+        long renderTime = System.currentTimeMillis();
+        // new values can only appear once the current step of the databases has passed
+        long step = graph.step();
+        long expires = step > 0 ? (renderTime / 1000 / step + 1) * step * 1000 : renderTime;
+        return new CachedChart(png, etag, renderTime / 1000 * 1000, expires);
+    }
+
+    private void cacheChart(String cacheKey, CachedChart chart, long now) {
+        if (!chart.isValid(now)) {
+            return;
+        }
+        synchronized (chartCache) {
+            chartCache.put(cacheKey, chart);
         }
     }
 
@@ -183,12 +290,14 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
      * @param graphDef the graph definition to fill
      * @param item the item to add a line for
      * @param counter defines the number of the datasource and is used to determine the line color
+     * @return the step of the database in seconds, or 0 if it is unknown
      */
-    protected void addLine(RrdGraphDef graphDef, Item item, @Nullable String alias, int counter) {
+    protected long addLine(RrdGraphDef graphDef, Item item, @Nullable String alias, int counter) {
         Color color = LINECOLORS[counter % LINECOLORS.length];
         String label = itemUIRegistry.getLabel(item.getName());
         String rrdName = RRD4jPersistenceService.getDatabasePath(alias != null ? alias : item.getName()).toString();
         ConsolFun consolFun;
+        long step;
         if (label != null && label.contains("[") && label.contains("]")) {
             label = label.substring(0, label.indexOf('['));
         }
@@ -199,9 +308,11 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
 
             RrdDb db = builder.build();
             consolFun = db.getRrdDef().getArcDefs()[0].getConsolFun();
+            step = db.getHeader().getStep();
             db.close();
         } catch (IOException e) {
             consolFun = ConsolFun.MAX;
+            step = 0;
         }
         if (item instanceof NumberItem) {
             // we only draw a line
@@ -215,6 +326,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             graphDef.area(Integer.toString(counter), areaColor);
             graphDef.line(Integer.toString(counter), color, label, 2);
         }
+        return step;
     }
 
     @Override
@@ -248,6 +360,11 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             ZonedDateTime endTime, int height, int width, @Nullable String items, @Nullable String groups,
             @Nullable Integer dpi, @Nullable String interpolation, @Nullable Boolean legend)
             throws ItemNotFoundException {
+        return createGraph(startTime, endTime, height, width, items, groups).image();
+    }
+
+    private Graph createGraph(ZonedDateTime startTime, ZonedDateTime endTime, int height, int width,
+            @Nullable String items, @Nullable String groups) throws ItemNotFoundException {
         RrdGraphDef graphDef = new RrdGraphDef(startTime.toEpochSecond(), endTime.toEpochSecond());
         graphDef.setWidth(width);
         graphDef.setHeight(height);
@@ -261,6 +378,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
                 .get(RRD4jPersistenceService.SERVICE_ID);
 
         int seriesCounter = 0;
+        long step = 0;
 
         // Loop through all the items
         if (items != null) {
@@ -268,7 +386,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             for (String itemName : itemNames) {
                 String alias = config != null ? config.getAliases().get(itemName) : null;
                 Item item = itemUIRegistry.getItem(itemName);
-                addLine(graphDef, item, alias, seriesCounter++);
+                step = minStep(step, addLine(graphDef, item, alias, seriesCounter++));
             }
         }
 
@@ -280,7 +398,7 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
                 if (item instanceof GroupItem groupItem) {
                     for (Item member : groupItem.getMembers()) {
                         String alias = config != null ? config.getAliases().get(member.getName()) : null;
-                        addLine(graphDef, member, alias, seriesCounter++);
+                        step = minStep(step, addLine(graphDef, member, alias, seriesCounter++));
                     }
                 } else {
                     throw new ItemNotFoundException("Item '" + item.getName() + "' defined in groups is not a group.");
@@ -294,12 +412,19 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
             BufferedImage bi = new BufferedImage(graph.getRrdGraphInfo().getWidth(),
                     graph.getRrdGraphInfo().getHeight(), BufferedImage.TYPE_INT_RGB);
             graph.render(bi.getGraphics());
-            return bi;
+            return new Graph(bi, step);
         } catch (IOException e) {
             throw new UncheckedIOException("Error generating RrdGraph", e);
         }
     }
 
+    private static long minStep(long step, long databaseStep) {
+        if (step == 0) {
+            return databaseStep;
+        }
+        return databaseStep == 0 ? step : Math.min(step, databaseStep);
+    }
+
     @Override
     public ImageType getChartType() {
         return ImageType.png;
@@ -141,7 +141,11 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
                 if (checkOnly) {
                     console.println("  - " + filename + ": no item found");
                     nb++;
-                } else if (path.toFile().delete()) {
+                    continue;
+                }
+                // make sure the file is not kept open
+                persistenceService.releaseDB(name);
+                if (path.toFile().delete()) {
                     console.println("  - " + filename + ": file deleted");
                     nb++;
                 } else {
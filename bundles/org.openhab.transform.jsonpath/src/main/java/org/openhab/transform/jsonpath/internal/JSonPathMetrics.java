@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jsonpath.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.io.metrics.AddonMetrics;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link JSonPathMetrics} provides the execution time of the transformations to the metrics service. It is only
+ * activated when the metrics service is installed.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = AddonMetrics.class)
+public class JSonPathMetrics extends AddonMetrics {
+
+    private final JSonPathTransformationService service;
+
+    @Activate
+    public JSonPathMetrics(@Reference JSonPathTransformationService service) {
+        super("transformation", "jsonpath");
+        this.service = service;
+    }
+
+    @Override
+    protected void bindMeters() {
+        timer("execution", "Time to execute a transformation", service,
+                JSonPathTransformationService::getExecutionCount, JSonPathTransformationService::getExecutionNanos);
+    }
+}
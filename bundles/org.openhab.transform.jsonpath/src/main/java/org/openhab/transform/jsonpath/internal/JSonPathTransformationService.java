@@ -12,7 +12,11 @@
  */
 package org.openhab.transform.jsonpath.internal;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -36,11 +40,26 @@ import com.jayway.jsonpath.PathNotFoundException;
  * @author Sebastian Janzen - Initial contribution
  */
 @NonNullByDefault
-@Component(property = { "openhab.transform=JSONPATH" })
+@Component(service = { TransformationService.class,
+        JSonPathTransformationService.class }, property = { "openhab.transform=JSONPATH" })
 public class JSonPathTransformationService implements TransformationService {
 
+    // number of parsed documents kept, one per payload being transformed by several channels at the same time
+    private static final int DOCUMENT_CACHE_SIZE = 8;
+    private static final long DOCUMENT_CACHE_MAX_AGE_MS = 2000;
+    private static final int MAX_CACHED_PATHS = 256;
+
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
 
+    private final JsonDocumentCache documentCache = new JsonDocumentCache(DOCUMENT_CACHE_SIZE,
+            DOCUMENT_CACHE_MAX_AGE_MS);
+    // the most recently used compiled paths, there is usually one path per channel or item
+    private final Map<String, JsonPath> compiledPaths = Collections.synchronizedMap(new LRUMap<>(MAX_CACHED_PATHS));
+
+    // read by the JSonPathMetrics
+    private final LongAdder executionCount = new LongAdder();
+    private final LongAdder executionNanos = new LongAdder();
+
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
      *
@@ -61,8 +80,9 @@ public class JSonPathTransformationService implements TransformationService {
             // return null if source is empty/blank, JSONPath will throw an IAE on empty input strings
             return null;
         }
+        long start = System.nanoTime();
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
+            Object transformationResult = compile(jsonPathExpression).read(documentCache.getDocument(source));
             logger.debug("transformation resulted in '{}'", transformationResult);
             if (transformationResult == null) {
                 return null;
@@ -75,9 +95,29 @@ public class JSonPathTransformationService implements TransformationService {
             throw new TransformationException("Invalid path '" + jsonPathExpression + "' in '" + source + "'");
         } catch (InvalidPathException | InvalidJsonException e) {
             throw new TransformationException("An error occurred while transforming JSON expression.", e);
+        } finally {
+            executionCount.increment();
+            executionNanos.add(System.nanoTime() - start);
         }
     }
 
+    long getExecutionCount() {
+        return executionCount.sum();
+    }
+
+    long getExecutionNanos() {
+        return executionNanos.sum();
+    }
+
+    private JsonPath compile(String jsonPathExpression) {
+        JsonPath jsonPath = compiledPaths.get(jsonPathExpression);
+        if (jsonPath == null) {
+            jsonPath = JsonPath.compile(jsonPathExpression);
+            compiledPaths.put(jsonPathExpression, jsonPath);
+        }
+        return jsonPath;
+    }
+
     private String flattenList(List<?> list) {
         if (list.size() == 1) {
             return list.get(0).toString();
@@ -102,4 +142,20 @@ public class JSonPathTransformationService implements TransformationService {
     private String createStringList(List<?> list) {
         return list.stream().map(n -> "\"" + n + "\"").collect(Collectors.joining(", ", "[", "]"));
     }
+
+    private static class LRUMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        public LRUMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(@Nullable Entry<K, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jsonpath.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.InvalidJsonException;
+
+/**
+ * Keeps the most recently parsed JSON documents, so a payload which is transformed by several channels is only
+ * parsed once.
+ * <p>
+ * The cache is a small ring of entries. A lookup prefers an entry for the very same source instance, but comparing
+ * an equal source is still much cheaper than parsing it. Entries expire after a short time and are removed by the
+ * next lookup, so a large document is not kept in memory after the payload has been processed.
+ * <p>
+ * The parsed documents are shared between callers and must only be read.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class JsonDocumentCache {
+
+    private record Entry(String source, Object document, long created) {
+    }
+
+    private final Configuration configuration = Configuration.defaultConfiguration();
+    private final @Nullable Entry[] entries;
+    private final long maxAgeNanos;
+    private int next;
+
+    /**
+     * @param size the maximum number of documents kept
+     * @param maxAgeMillis the maximum time in milliseconds a document is reused
+     */
+    JsonDocumentCache(int size, long maxAgeMillis) {
+        this.entries = new Entry[Math.max(size, 1)];
+        this.maxAgeNanos = maxAgeMillis * 1_000_000L;
+    }
+
+    /**
+     * Get the parsed document for the given source, parsing it if it is not cached.
+     *
+     * @param source the JSON string
+     * @return the parsed document
+     * @throws InvalidJsonException if the source is not valid JSON
+     */
+    Object getDocument(String source) {
+        long now = System.nanoTime();
+        Object document = lookup(source, now);
+        if (document == null) {
+            // parse outside the lock, concurrent parses of the same source are harmless
+            document = configuration.jsonProvider().parse(source);
+            store(new Entry(source, document, now));
+        }
+        return document;
+    }
+
+    private synchronized @Nullable Object lookup(String source, long now) {
+        Object document = null;
+        int hash = source.hashCode();
+        for (int i = 0; i < entries.length; i++) {
+            Entry entry = entries[i];
+            if (entry == null) {
+                continue;
+            }
+            if (now - entry.created() >= maxAgeNanos) {
+                entries[i] = null;
+            } else if (entry.source() == source) {
+                document = entry.document();
+            } else if (document == null && entry.source().hashCode() == hash && entry.source().equals(source)) {
+                document = entry.document();
+            }
+        }
+        return document;
+    }
+
+    private synchronized void store(Entry entry) {
+        entries[next] = entry;
+        next = (next + 1) % entries.length;
+    }
+}
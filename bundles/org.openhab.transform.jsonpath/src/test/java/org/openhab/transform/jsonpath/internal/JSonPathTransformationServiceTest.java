@@ -59,6 +59,21 @@ public class JSonPathTransformationServiceTest {
         assertEquals("2", transformedResponse);
     }
 
+    @Test
+    public void testSameSourceWithSeveralPaths() throws TransformationException {
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("alice", processor.transform("$[1].name", JSON_ARRAY));
+        // an equal source in a different instance
+        assertEquals("1", processor.transform("$[0].id", new String(JSON_ARRAY)));
+    }
+
+    @Test
+    public void testSamePathWithChangedSource() throws TransformationException {
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("carol", processor.transform("$[0].name", JSON_ARRAY.replace("bob", "carol")));
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+    }
+
     @Test
     public void testInvalidPathThrowsException() {
         assertThrows(TransformationException.class, () -> processor.transform("$$", JSON_ARRAY));
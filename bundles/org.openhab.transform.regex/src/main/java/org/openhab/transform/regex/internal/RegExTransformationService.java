@@ -12,6 +12,7 @@
  */
 package org.openhab.transform.regex.internal;
 
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -33,15 +34,38 @@ import org.slf4j.LoggerFactory;
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
 @NonNullByDefault
-@Component(property = { "openhab.transform=REGEX" })
+@Component(service = { TransformationService.class,
+        RegExTransformationService.class }, property = { "openhab.transform=REGEX" })
 public class RegExTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(RegExTransformationService.class);
 
     private static final Pattern SUBSTR_PATTERN = Pattern.compile("^s/(.*?[^\\\\])/(.*?[^\\\\])/(.*)$");
 
+    // read by the RegExMetrics
+    private final LongAdder executionCount = new LongAdder();
+    private final LongAdder executionNanos = new LongAdder();
+
     @Override
     public @Nullable String transform(String regExpression, String source) throws TransformationException {
+        long start = System.nanoTime();
+        try {
+            return transformRegEx(regExpression, source);
+        } finally {
+            executionCount.increment();
+            executionNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    long getExecutionCount() {
+        return executionCount.sum();
+    }
+
+    long getExecutionNanos() {
+        return executionNanos.sum();
+    }
+
+    private @Nullable String transformRegEx(String regExpression, String source) throws TransformationException {
         if (regExpression == null || source == null) {
             throw new TransformationException("the given parameters 'regex' and 'source' must not be null");
         }
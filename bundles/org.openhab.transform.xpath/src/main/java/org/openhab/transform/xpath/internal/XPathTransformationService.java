@@ -13,12 +13,18 @@
 package org.openhab.transform.xpath.internal;
 
 import java.io.StringReader;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.xpath.XPath;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -34,6 +40,9 @@ import org.xml.sax.InputSource;
 /**
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XPath Expressions.
+ * <p>
+ * Neither {@link DocumentBuilder} nor {@link XPathExpression} are thread-safe, so both are kept in pools: parsers are
+ * shared by all expressions, compiled expressions are pooled per expression string.
  *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
@@ -41,8 +50,21 @@ import org.xml.sax.InputSource;
 @Component(property = { "openhab.transform=XPATH" })
 public class XPathTransformationService implements TransformationService {
 
+    private static final int MAX_POOLED_PARSERS = 8;
+    private static final int MAX_POOLED_EXPRESSIONS = 4;
+    private static final int MAX_CACHED_EXPRESSIONS = 256;
+
     private final Logger logger = LoggerFactory.getLogger(XPathTransformationService.class);
 
+    private final BlockingQueue<DocumentBuilder> parserPool = new ArrayBlockingQueue<>(MAX_POOLED_PARSERS);
+    // pools of the most recently used expressions, there is usually one expression per channel or item
+    private final Map<String, BlockingQueue<XPathExpression>> expressionPools = Collections
+            .synchronizedMap(new LRUMap<>(MAX_CACHED_EXPRESSIONS));
+
+    // factories are not thread-safe, access is guarded by this
+    private @Nullable DocumentBuilderFactory domFactory;
+    private @Nullable XPathFactory xpathFactory;
+
     @Override
     public @Nullable String transform(String xpathExpression, String source) throws TransformationException {
         if (xpathExpression == null || source == null) {
@@ -54,7 +76,52 @@ public class XPathTransformationService implements TransformationService {
         StringReader stringReader = null;
 
         try {
-            DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
+            DocumentBuilder builder = borrowParser();
+            Document doc;
+            try {
+                stringReader = new StringReader(source);
+                InputSource inputSource = new InputSource(stringReader);
+                inputSource.setEncoding("UTF-8");
+
+                doc = builder.parse(inputSource);
+            } finally {
+                returnParser(builder);
+            }
+
+            XPathExpression expr = borrowExpression(xpathExpression);
+            String transformationResult;
+            try {
+                transformationResult = (String) expr.evaluate(doc, XPathConstants.STRING);
+            } finally {
+                returnExpression(xpathExpression, expr);
+            }
+
+            logger.debug("transformation resulted in '{}'", transformationResult);
+
+            return transformationResult;
+        } catch (Exception e) {
+            throw new TransformationException("transformation throws exceptions", e);
+        } finally {
+            if (stringReader != null) {
+                stringReader.close();
+            }
+        }
+    }
+
+    private DocumentBuilder borrowParser() throws ParserConfigurationException {
+        DocumentBuilder builder = parserPool.poll();
+        return builder != null ? builder : createParser();
+    }
+
+    private void returnParser(DocumentBuilder builder) {
+        builder.reset();
+        parserPool.offer(builder);
+    }
+
+    private synchronized DocumentBuilder createParser() throws ParserConfigurationException {
+        DocumentBuilderFactory domFactory = this.domFactory;
+        if (domFactory == null) {
+            domFactory = DocumentBuilderFactory.newInstance();
             // see https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html
             domFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
             domFactory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
@@ -63,28 +130,48 @@ public class XPathTransformationService implements TransformationService {
             domFactory.setExpandEntityReferences(false);
             domFactory.setNamespaceAware(true);
             domFactory.setValidating(false);
-            DocumentBuilder builder = domFactory.newDocumentBuilder();
+            this.domFactory = domFactory;
+        }
+        return domFactory.newDocumentBuilder();
+    }
 
-            stringReader = new StringReader(source);
-            InputSource inputSource = new InputSource(stringReader);
-            inputSource.setEncoding("UTF-8");
+    private XPathExpression borrowExpression(String xpathExpression) throws XPathExpressionException {
+        BlockingQueue<XPathExpression> pool = expressionPools.get(xpathExpression);
+        XPathExpression expr = pool != null ? pool.poll() : null;
+        return expr != null ? expr : compileExpression(xpathExpression);
+    }
 
-            Document doc = builder.parse(inputSource);
+    private void returnExpression(String xpathExpression, XPathExpression expr) {
+        BlockingQueue<XPathExpression> pool = expressionPools.get(xpathExpression);
+        if (pool == null) {
+            pool = expressionPools.computeIfAbsent(xpathExpression,
+                    k -> new ArrayBlockingQueue<>(MAX_POOLED_EXPRESSIONS));
+        }
+        pool.offer(expr);
+    }
 
-            XPath xpath = XPathFactory.newInstance().newXPath();
-            XPathExpression expr = xpath.compile(xpathExpression);
+    private synchronized XPathExpression compileExpression(String xpathExpression) throws XPathExpressionException {
+        XPathFactory xpathFactory = this.xpathFactory;
+        if (xpathFactory == null) {
+            xpathFactory = XPathFactory.newInstance();
+            this.xpathFactory = xpathFactory;
+        }
+        return xpathFactory.newXPath().compile(xpathExpression);
+    }
 
-            String transformationResult = (String) expr.evaluate(doc, XPathConstants.STRING);
+    private static class LRUMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
 
-            logger.debug("transformation resulted in '{}'", transformationResult);
+        private final int maxEntries;
 
-            return transformationResult;
-        } catch (Exception e) {
-            throw new TransformationException("transformation throws exceptions", e);
-        } finally {
-            if (stringReader != null) {
-                stringReader.close();
-            }
+        public LRUMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(@Nullable Entry<K, V> eldest) {
+            return size() > maxEntries;
         }
     }
 }
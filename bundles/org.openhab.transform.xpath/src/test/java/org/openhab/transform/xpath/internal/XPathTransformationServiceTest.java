@@ -38,4 +38,12 @@ public class XPathTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testTransformWithCachedExpression() throws TransformationException {
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+        assertEquals("12", processor.transform("//current_conditions/temp_c/@data",
+                source.replace("<temp_c data=\"8\"/>", "<temp_c data=\"12\"/>")));
+        assertEquals("8", processor.transform("//current_conditions/temp_c/@data", source));
+    }
 }
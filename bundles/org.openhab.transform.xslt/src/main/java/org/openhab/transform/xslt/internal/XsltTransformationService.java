@@ -15,9 +15,11 @@ package org.openhab.transform.xslt.internal;
 import java.io.File;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import javax.xml.transform.Source;
-import javax.xml.transform.Transformer;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
@@ -34,6 +36,8 @@ import org.slf4j.LoggerFactory;
 /**
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XSLT.
+ * <p>
+ * Compiled stylesheets are cached and only compiled again when the file has been modified.
  *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
@@ -41,8 +45,13 @@ import org.slf4j.LoggerFactory;
 @Component(property = { "openhab.transform=XSLT" })
 public class XsltTransformationService implements TransformationService {
 
+    private record CachedTemplates(long lastModified, long length, Templates templates) {
+    }
+
     private final Logger logger = LoggerFactory.getLogger(XsltTransformationService.class);
 
+    private final Map<String, CachedTemplates> templatesCache = new ConcurrentHashMap<>();
+
     /**
      * Transforms the input <code>source</code> by XSLT.
      *
@@ -60,12 +69,12 @@ public class XsltTransformationService implements TransformationService {
             throw new TransformationException("the given parameters 'filename' and 'source' must not be null");
         }
 
-        Source xsl = null;
+        File xsl;
 
         try {
             String path = OpenHAB.getConfigFolder() + File.separator + TransformationService.TRANSFORM_FOLDER_NAME
                     + File.separator + filename;
-            xsl = new StreamSource(new File(path));
+            xsl = new File(path);
         } catch (Exception e) {
             String message = "opening file '" + filename + "' throws exception";
 
@@ -78,11 +87,8 @@ public class XsltTransformationService implements TransformationService {
         StringReader xml = new StringReader(source);
         StringWriter out = new StringWriter();
 
-        Transformer transformer;
-
         try {
-            transformer = TransformerFactory.newInstance().newTransformer(xsl);
-            transformer.transform(new StreamSource(xml), new StreamResult(out));
+            getTemplates(xsl).newTransformer().transform(new StreamSource(xml), new StreamResult(out));
         } catch (Exception e) {
             logger.error("transformation throws exception", e);
             throw new TransformationException("transformation throws exception", e);
@@ -92,4 +98,28 @@ public class XsltTransformationService implements TransformationService {
 
         return out.toString();
     }
+
+    /**
+     * Get the compiled stylesheet. {@link Templates} are thread-safe, so they can be shared by all transformations.
+     */
+    private Templates getTemplates(File xsl) throws TransformerConfigurationException {
+        String key = xsl.getAbsolutePath();
+        long lastModified = xsl.lastModified();
+        long length = xsl.length();
+        CachedTemplates cached = templatesCache.get(key);
+        if (cached != null && cached.lastModified() == lastModified && cached.length() == length) {
+            return cached.templates();
+        }
+
+        logger.debug("compiling stylesheet '{}'", xsl);
+        // TransformerFactory is not thread-safe, compiling is rare enough to use a new instance
+        Templates templates = TransformerFactory.newInstance().newTemplates(new StreamSource(xsl));
+        if (lastModified != 0) {
+            templatesCache.put(key, new CachedTemplates(lastModified, length, templates));
+        } else {
+            // the file does not exist (anymore)
+            templatesCache.remove(key);
+        }
+        return templates;
+    }
 }
@@ -19,6 +19,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,4 +56,26 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testModifiedStylesheetIsCompiledAgain() throws TransformationException, IOException {
+        Path xsl = transformHttpPath.resolve("constant.xsl");
+        Files.writeString(xsl, constantStylesheet("first"));
+        assertEquals("first", processor.transform("http/constant.xsl", source));
+
+        Files.writeString(xsl, constantStylesheet("second"));
+        // make sure the modification is detected even on file systems with a coarse time resolution
+        Files.setLastModifiedTime(xsl,
+                FileTime.fromMillis(Files.getLastModifiedTime(xsl).toMillis() + TimeUnit.SECONDS.toMillis(2)));
+        assertEquals("second", processor.transform("http/constant.xsl", source));
+    }
+
+    private String constantStylesheet(String output) {
+        return """
+                <xsl:stylesheet version="1.0" xmlns:xsl="http://www.w3.org/1999/XSL/Transform">
+                <xsl:output method="text"/>
+                <xsl:template match="/">%s</xsl:template>
+                </xsl:stylesheet>
+                """.formatted(output);
+    }
 }
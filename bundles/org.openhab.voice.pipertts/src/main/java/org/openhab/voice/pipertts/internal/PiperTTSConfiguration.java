@@ -25,4 +25,8 @@ public class PiperTTSConfiguration {
      * Keep last voice model used loaded in memory.
      */
     boolean preloadModel;
+    /**
+     * Split the text into sentences and stream the audio of each one as soon as it is generated.
+     */
+    boolean sentenceStreaming;
 }
@@ -24,10 +24,13 @@ import java.io.InputStream;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.text.BreakIterator;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
@@ -38,6 +41,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.jar.JarEntry;
 import java.util.stream.Collectors;
@@ -102,6 +106,8 @@ public class PiperTTSService extends AbstractCachedTTSService {
     private @Nullable VoiceModel preloadedModel;
     private @Nullable PiperJNI piper;
     private @Nullable Future<?> activateTask;
+    // voice model held by the sentence streaming task running on the current thread
+    private final ThreadLocal<@Nullable VoiceModel> streamingModel = new ThreadLocal<>();
     static {
         System.setProperty("io.github.givimad.piperjni.libdir", LIB_FOLDER.toAbsolutePath().toString());
     }
@@ -331,64 +337,144 @@ public class PiperTTSService extends AbstractCachedTTSService {
                 null));
     }
 
+    @Override
+    public AudioStream synthesize(String text, Voice voice, AudioFormat requestedFormat) throws TTSException {
+        if (config.sentenceStreaming) {
+            List<String> sentences = splitSentences(text, voice.getLocale());
+            if (sentences.size() > 1) {
+                return synthesizeSentences(sentences, getPiperVoice(voice), requestedFormat);
+            }
+        }
+        return super.synthesize(text, voice, requestedFormat);
+    }
+
     @Override
     public AudioStream synthesizeForCache(String text, Voice voice, AudioFormat audioFormat) throws TTSException {
+        PiperTTSVoice ttsVoice = getPiperVoice(voice);
+        VoiceModel voiceModel = streamingModel.get();
+        short[] buffer;
+        if (voiceModel != null && voiceModel.ttsVoice.getUID().equals(ttsVoice.getUID())) {
+            buffer = textToAudio(voiceModel, text);
+        } else {
+            voiceModel = acquireModel(ttsVoice);
+            try {
+                buffer = textToAudio(voiceModel, text);
+            } finally {
+                releaseModel(voiceModel);
+            }
+        }
+        return getAudioStream(buffer, voiceModel.sampleRate, audioFormat);
+    }
+
+    private PiperTTSVoice getPiperVoice(Voice voice) throws TTSException {
         if (!ready) {
             throw new TTSException("Add-on is not loaded");
         }
         if (!(voice instanceof PiperTTSVoice ttsVoice)) {
             throw new TTSException("No piper voice provided");
         }
-        VoiceModel voiceModel = null;
-        boolean usingPreloadedModel = false;
-        short[] buffer;
-        final VoiceModel preloadedModel = this.preloadedModel;
+        return ttsVoice;
+    }
+
+    private List<String> splitSentences(String text, Locale locale) {
+        List<String> sentences = new ArrayList<>();
+        BreakIterator iterator = BreakIterator.getSentenceInstance(locale);
+        iterator.setText(text);
+        int start = iterator.first();
+        for (int end = iterator.next(); end != BreakIterator.DONE; start = end, end = iterator.next()) {
+            String sentence = text.substring(start, end).trim();
+            if (!sentence.isEmpty()) {
+                sentences.add(sentence);
+            }
+        }
+        return sentences;
+    }
+
+    /**
+     * Synthesizes the sentences one after the other on the add-on executor. The returned stream is fed with the audio
+     * of each sentence as soon as it is available, and each sentence goes through the TTS cache.
+     */
+    private AudioStream synthesizeSentences(List<String> sentences, PiperTTSVoice ttsVoice, AudioFormat audioFormat)
+            throws TTSException {
+        SentenceAudioStream audioStream = new SentenceAudioStream(audioFormat);
+        VoiceModel voiceModel = acquireModel(ttsVoice);
         try {
-            try {
-                if (preloadedModel != null && preloadedModel.ttsVoice.getUID().equals(ttsVoice.getUID())) {
-                    logger.debug("Using preloaded voice model");
-                    preloadedModel.consumers.incrementAndGet();
-                    voiceModel = preloadedModel;
-                    usingPreloadedModel = true;
-                } else {
-                    unloadModel();
-                    logger.debug("Loading voice model...");
-                    voiceModel = loadModel(ttsVoice);
-                    synchronized (modelLock) {
-                        usingPreloadedModel = voiceModel.equals(this.preloadedModel);
-                    }
+            executor.submit(() -> writeSentences(sentences, ttsVoice, audioFormat, voiceModel, audioStream));
+        } catch (RejectedExecutionException e) {
+            releaseModel(voiceModel);
+            throw new TTSException("Unable to schedule the sentence generation: " + e.getMessage());
+        }
+        return audioStream;
+    }
+
+    private void writeSentences(List<String> sentences, PiperTTSVoice ttsVoice, AudioFormat audioFormat,
+            VoiceModel voiceModel, SentenceAudioStream audioStream) {
+        streamingModel.set(voiceModel);
+        try {
+            for (String sentence : sentences) {
+                if (audioStream.isClosed()) {
+                    logger.debug("Audio stream closed, skipping remaining sentences");
+                    break;
+                }
+                try (AudioStream sentenceStream = super.synthesize(sentence, ttsVoice, audioFormat)) {
+                    audioStream.write(getWavData(sentenceStream.readAllBytes()));
                 }
-            } catch (IOException e) {
-                throw new TTSException("Unable to load voice model: " + e.getMessage());
             }
-            try {
-                logger.debug("Generating audio for: '{}'", text);
-                buffer = getPiper().textToAudio(voiceModel.piperVoice, text);
-                logger.debug("Generated {} samples of audio", buffer.length);
-            } catch (IOException e) {
-                throw new TTSException("Voice generation failed: " + e.getMessage());
+            audioStream.finish();
+        } catch (Exception e) {
+            // any failure must end the stream, its reader is waiting for the next sentence
+            logger.warn("Sentence generation failed: {}", e.getMessage());
+            audioStream.fail(e instanceof IOException ioException ? ioException : new IOException(e));
+        } finally {
+            streamingModel.remove();
+            releaseModel(voiceModel);
+        }
+    }
+
+    private VoiceModel acquireModel(PiperTTSVoice ttsVoice) throws TTSException {
+        final VoiceModel preloadedModel = this.preloadedModel;
+        try {
+            if (preloadedModel != null && preloadedModel.ttsVoice.getUID().equals(ttsVoice.getUID())) {
+                logger.debug("Using preloaded voice model");
+                preloadedModel.consumers.incrementAndGet();
+                return preloadedModel;
             }
+            unloadModel();
+            logger.debug("Loading voice model...");
+            return loadModel(ttsVoice);
+        } catch (IOException e) {
+            throw new TTSException("Unable to load voice model: " + e.getMessage());
         } catch (PiperJNI.NotInitialized | LibraryNotLoaded e) {
             throw new TTSException("Piper not initialized, try restarting the add-on.");
         } catch (RuntimeException e) {
-            logger.warn("RuntimeException running text to audio: {}", e.getMessage());
+            logger.warn("RuntimeException loading voice model: {}", e.getMessage());
             throw new TTSException("There was an error running Piper");
-        } finally {
-            if (voiceModel != null) {
-                if (!usingPreloadedModel
-                        || voiceModel.consumers.decrementAndGet() == 0 && !voiceModel.equals(this.preloadedModel)) {
-                    logger.debug("Unloading voice model");
-                    voiceModel.close();
-                } else {
-                    logger.debug("Skipping voice model unload");
-                }
-            }
         }
+    }
+
+    private void releaseModel(VoiceModel voiceModel) {
+        // models that are not preloaded have a single consumer
+        if (voiceModel.consumers.decrementAndGet() == 0 && !voiceModel.equals(this.preloadedModel)) {
+            logger.debug("Unloading voice model");
+            voiceModel.close();
+        } else {
+            logger.debug("Skipping voice model unload");
+        }
+    }
+
+    private short[] textToAudio(VoiceModel voiceModel, String text) throws TTSException {
         try {
-            logger.debug("Return re-encoded audio stream");
-            return getAudioStream(buffer, voiceModel.sampleRate, audioFormat);
+            logger.debug("Generating audio for: '{}'", text);
+            short[] buffer = getPiper().textToAudio(voiceModel.piperVoice, text);
+            logger.debug("Generated {} samples of audio", buffer.length);
+            return buffer;
         } catch (IOException e) {
-            throw new TTSException("Error while creating audio stream: " + e.getMessage());
+            throw new TTSException("Voice generation failed: " + e.getMessage());
+        } catch (PiperJNI.NotInitialized | LibraryNotLoaded e) {
+            throw new TTSException("Piper not initialized, try restarting the add-on.");
+        } catch (RuntimeException e) {
+            logger.warn("RuntimeException running text to audio: {}", e.getMessage());
+            throw new TTSException("There was an error running Piper");
         }
     }
 
@@ -432,6 +518,16 @@ public class PiperTTSService extends AbstractCachedTTSService {
     }
 
     private ByteArrayAudioStream getAudioStream(short[] samples, long sampleRate, AudioFormat targetFormat)
+            throws TTSException {
+        try {
+            logger.debug("Return re-encoded audio stream");
+            return encodeAudioStream(samples, sampleRate, targetFormat);
+        } catch (IOException e) {
+            throw new TTSException("Error while creating audio stream: " + e.getMessage());
+        }
+    }
+
+    private ByteArrayAudioStream encodeAudioStream(short[] samples, long sampleRate, AudioFormat targetFormat)
             throws IOException {
         // Convert the i16 samples returned by piper to a byte buffer
         ByteBuffer byteBuffer;
@@ -477,6 +573,22 @@ public class PiperTTSService extends AbstractCachedTTSService {
         return new ByteArrayAudioStream(outputStream.toByteArray(), audioFormat);
     }
 
+    private byte[] getWavData(byte[] wav) throws IOException {
+        // skip the RIFF header and every chunk until the data one
+        ByteBuffer buffer = ByteBuffer.wrap(wav).order(ByteOrder.LITTLE_ENDIAN);
+        int offset = 12;
+        while (offset + 8 <= wav.length) {
+            String chunkId = new String(wav, offset, 4, StandardCharsets.US_ASCII);
+            int chunkSize = buffer.getInt(offset + 4);
+            offset += 8;
+            if ("data".equals(chunkId)) {
+                return Arrays.copyOfRange(wav, offset, Math.min(wav.length, offset + chunkSize));
+            }
+            offset += chunkSize + (chunkSize & 1);
+        }
+        throw new IOException("Missing WAV data chunk");
+    }
+
     private record PiperTTSVoice(String voiceId, String voiceName, String languageFamily, String languageRegion,
             Path voiceModelPath, Path voiceModelConfigPath, Optional<Long> speakerId) implements Voice {
         @Override
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.pipertts.internal;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.AudioStream;
+
+/**
+ * The {@link SentenceAudioStream} class is a WAV audio stream that is fed with the audio of each sentence while it is
+ * generated, so playback can start before the whole text has been synthesized.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class SentenceAudioStream extends AudioStream {
+    private static final byte[] END = new byte[0];
+    // the length of the audio is unknown when the header is sent
+    private static final int UNKNOWN_LENGTH = 0xFFFFFFFF;
+    private final AudioFormat audioFormat;
+    private final BlockingQueue<byte[]> chunks = new LinkedBlockingQueue<>();
+    private byte[] chunk;
+    private int position;
+    private volatile boolean closed;
+    private volatile @Nullable IOException failure;
+
+    SentenceAudioStream(AudioFormat audioFormat) {
+        this.audioFormat = audioFormat;
+        this.chunk = getWavHeader(audioFormat);
+    }
+
+    /**
+     * Appends the PCM data of a sentence.
+     *
+     * @param data audio data in the stream format.
+     */
+    void write(byte[] data) {
+        if (!closed && data.length > 0) {
+            chunks.add(data);
+        }
+    }
+
+    /**
+     * Signals that all sentences have been written.
+     */
+    void finish() {
+        chunks.add(END);
+    }
+
+    /**
+     * Signals that the synthesis failed, the reader gets the exception after the audio written so far.
+     *
+     * @param e the failure.
+     */
+    void fail(IOException e) {
+        failure = e;
+        chunks.add(END);
+    }
+
+    /**
+     * @return true if the reader closed the stream, the remaining sentences do not need to be generated.
+     */
+    boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public AudioFormat getFormat() {
+        return audioFormat;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte @Nullable [] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, Objects.requireNonNull(b).length);
+        if (len == 0) {
+            return 0;
+        }
+        while (position == chunk.length) {
+            if (chunk == END) {
+                IOException failure = this.failure;
+                if (failure != null && !closed) {
+                    throw failure;
+                }
+                return -1;
+            }
+            try {
+                chunk = chunks.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted waiting for audio");
+            }
+            position = 0;
+        }
+        int n = Math.min(len, chunk.length - position);
+        System.arraycopy(chunk, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return chunk.length - position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        chunks.clear();
+        chunks.add(END);
+        super.close();
+    }
+
+    private static byte[] getWavHeader(AudioFormat audioFormat) {
+        int channels = Objects.requireNonNull(audioFormat.getChannels());
+        int bitDepth = Objects.requireNonNull(audioFormat.getBitDepth());
+        int sampleRate = Objects.requireNonNull(audioFormat.getFrequency()).intValue();
+        int blockAlign = channels * bitDepth / 8;
+        ByteBuffer header = ByteBuffer.allocate(44).order(ByteOrder.LITTLE_ENDIAN);
+        header.put("RIFF".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(UNKNOWN_LENGTH);
+        header.put("WAVEfmt ".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(16);
+        header.putShort((short) 1); // PCM
+        header.putShort((short) channels);
+        header.putInt(sampleRate);
+        header.putInt(sampleRate * blockAlign);
+        header.putShort((short) blockAlign);
+        header.putShort((short) bitDepth);
+        header.put("data".getBytes(StandardCharsets.US_ASCII));
+        header.putInt(UNKNOWN_LENGTH);
+        return header.array();
+    }
+}
@@ -34,6 +34,10 @@ public class WhisperSTTConfiguration {
      * Keep model loaded.
      */
     public boolean preloadModel;
+    /**
+     * Number of transcriptions that can run in parallel when the model is preloaded.
+     */
+    public int parallelTranscriptions = 1;
     /**
      * Defines the audio step.
      */
@@ -70,6 +74,10 @@ public class WhisperSTTConfiguration {
      * Remove silence frames.
      */
     public boolean removeSilence = true;
+    /**
+     * Start the transcription when the silence begins, before it is confirmed.
+     */
+    public boolean earlyTranscription;
     /**
      * Number of threads used by whisper. (0 to use host max threads)
      */
@@ -31,6 +31,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -67,6 +69,7 @@ import org.openhab.core.voice.SpeechRecognitionErrorEvent;
 import org.openhab.core.voice.SpeechRecognitionEvent;
 import org.openhab.voice.whisperstt.internal.WhisperSTTConfiguration.Mode;
 import org.openhab.voice.whisperstt.internal.utils.VAD;
+import org.openhab.voice.whisperstt.internal.utils.WhisperStatePool;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -103,6 +106,7 @@ public class WhisperSTTService implements STTService {
     private final LocaleService localeService;
     private WhisperSTTConfiguration config = new WhisperSTTConfiguration();
     private @Nullable WhisperContext context;
+    private @Nullable WhisperStatePool statePool;
     private @Nullable WhisperGrammar grammar;
     private @Nullable WhisperJNI whisper;
     private boolean isWhisperLibAlreadyLoaded = false;
@@ -347,6 +351,10 @@ public class WhisperSTTService implements STTService {
             logger.debug("Init OpenVINO device");
             whisper.initOpenVINO(context, config.openvinoDevice);
         }
+        if (config.preloadModel) {
+            logger.debug("Creating whisper states...");
+            this.statePool = new WhisperStatePool(whisper, context, Math.max(1, config.parallelTranscriptions));
+        }
         return context;
     }
 
@@ -357,6 +365,11 @@ public class WhisperSTTService implements STTService {
     }
 
     private void unloadContext() throws IOException {
+        var statePool = this.statePool;
+        if (statePool != null) {
+            statePool.close();
+            this.statePool = null;
+        }
         var context = this.context;
         if (context != null) {
             logger.debug("Unloading model");
@@ -387,6 +400,8 @@ public class WhisperSTTService implements STTService {
             boolean voiceDetected = false;
             String transcription = "";
             VAD.@Nullable VADResult firstConsecutiveSilenceVADResult = null;
+            Future<@Nullable String> earlyTranscription = null;
+            int earlyTranscriptionOffset = 0;
             try {
                 try (audioStream; //
                         vad) {
@@ -429,10 +444,26 @@ public class WhisperSTTService implements STTService {
                                 logger.debug("VAD: voice detected");
                                 silenceSamplesCounter = 0;
                                 firstConsecutiveSilenceVADResult = null;
+                                if (earlyTranscription != null) {
+                                    logger.debug("voice resumed, discarding early transcription");
+                                    earlyTranscription.cancel(false);
+                                    earlyTranscription = null;
+                                }
                                 continue;
                             } else {
                                 if (firstConsecutiveSilenceVADResult == null) {
                                     firstConsecutiveSilenceVADResult = lastVADResult;
+                                    if (voiceDetected && isEarlyTranscriptionEnabled()) {
+                                        // the end silence removal will cut the audio here if the silence goes on
+                                        int expectedOffset = audioSamplesOffset
+                                                - (nSamplesStep - lastVADResult.voiceSamplesInHead());
+                                        if (expectedOffset >= nSamplesMin) {
+                                            earlyTranscription = startEarlyTranscription(
+                                                    toFloatSamples(audioSamples, expectedOffset),
+                                                    locale.getLanguage());
+                                            earlyTranscriptionOffset = expectedOffset;
+                                        }
+                                    }
                                 }
                                 silenceSamplesCounter += nSamplesStep;
                                 int maxSilenceSamples = voiceDetected ? nMaxSilenceSamples : nInitSilenceSamples;
@@ -503,10 +534,21 @@ public class WhisperSTTService implements STTService {
                             }
                         }
                         // run whisper, either locally or by remote API
-                        String tempTranscription = (switch (config.mode) {
-                            case LOCAL -> recognizeLocal(audioSamplesOffset, audioSamples, locale.getLanguage());
-                            case API -> recognizeAPI(audioSamplesOffset, audioSamples, locale.getLanguage());
-                        });
+                        String tempTranscription;
+                        if (earlyTranscription != null && earlyTranscriptionOffset == audioSamplesOffset) {
+                            logger.debug("using early transcription");
+                            tempTranscription = awaitTranscription(earlyTranscription);
+                        } else {
+                            if (earlyTranscription != null) {
+                                earlyTranscription.cancel(false);
+                            }
+                            tempTranscription = (switch (config.mode) {
+                                case LOCAL -> recognizeLocal(toFloatSamples(audioSamples, audioSamplesOffset),
+                                        locale.getLanguage());
+                                case API -> recognizeAPI(audioSamplesOffset, audioSamples, locale.getLanguage());
+                            });
+                        }
+                        earlyTranscription = null;
 
                         if (tempTranscription != null && !tempTranscription.isBlank()) {
                             if (config.createWAVRecord) {
@@ -546,65 +588,138 @@ public class WhisperSTTService implements STTService {
             } catch (UnsatisfiedLinkError e) {
                 logger.warn("Missing native dependency: {}", e.getMessage());
                 emitSpeechRecognitionError(sttListener);
+            } finally {
+                if (earlyTranscription != null) {
+                    earlyTranscription.cancel(false);
+                }
             }
         });
     }
 
+    private boolean isEarlyTranscriptionEnabled() {
+        return config.earlyTranscription && config.mode == Mode.LOCAL && config.preloadModel && config.removeSilence
+                && config.parallelTranscriptions > 1;
+    }
+
+    /**
+     * Starts a transcription which may be discarded if the speaker continues. Cancelling it does not stop the native
+     * decode, so it only runs with a spare whisper state and never delays the regular transcriptions.
+     *
+     * @return the running transcription, or null if no spare state is available
+     */
+    private @Nullable Future<@Nullable String> startEarlyTranscription(float[] audioSamples, String language) {
+        WhisperStatePool statePool = this.statePool;
+        WhisperState state = statePool != null ? statePool.tryAcquireSpare() : null;
+        if (statePool == null || state == null) {
+            logger.debug("no spare whisper state, skipping early transcription");
+            return null;
+        }
+        logger.debug("starting early transcription");
+        try {
+            return executor.submit(() -> {
+                try {
+                    return transcribe(getWhisper(), getContext(), state, audioSamples, language);
+                } catch (IOException e) {
+                    throw new STTException("Cannot use whisper locally", e);
+                } finally {
+                    statePool.release(state);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            statePool.release(state);
+            return null;
+        }
+    }
+
+    private @Nullable String awaitTranscription(Future<@Nullable String> transcription) throws STTException {
+        try {
+            return transcription.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof STTException sttException) {
+                throw sttException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new STTException("Early transcription failed", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new STTException("Interrupted waiting for the early transcription", e);
+        }
+    }
+
+    private float[] toFloatSamples(short[] audioSamples, int nSamples) {
+        // convert to local whisper format (float)
+        float[] floatArray = new float[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            floatArray[i] = Float.min(1f, Float.max((float) audioSamples[i] / ((float) Short.MAX_VALUE), -1f));
+        }
+        return floatArray;
+    }
+
     @Nullable
-    private String recognizeLocal(int audioSamplesOffset, short[] audioSamples, String language) throws STTException {
+    private String recognizeLocal(float[] audioSamples, String language) throws STTException {
         logger.debug("running whisper with {} seconds of audio...",
-                Math.round((((float) audioSamplesOffset) / (float) WHISPER_SAMPLE_RATE) * 100f) / 100f);
+                Math.round((((float) audioSamples.length) / (float) WHISPER_SAMPLE_RATE) * 100f) / 100f);
         var releaseContext = !config.preloadModel;
 
         WhisperJNI whisper = null;
         WhisperContext ctx = null;
+        WhisperStatePool statePool = null;
         WhisperState state = null;
         try {
             whisper = getWhisper();
             ctx = getContext();
-            logger.debug("Creating whisper state...");
-            state = whisper.initState(ctx);
-            logger.debug("Whisper state created");
-            WhisperFullParams params = getWhisperFullParams(ctx, language);
-
-            // convert to local whisper format (float)
-            float[] floatArray = new float[audioSamples.length];
-            for (int i = 0; i < audioSamples.length; i++) {
-                floatArray[i] = Float.min(1f, Float.max((float) audioSamples[i] / ((float) Short.MAX_VALUE), -1f));
-            }
-
-            long execStartTime = System.currentTimeMillis();
-            var result = whisper.fullWithState(ctx, state, params, floatArray, audioSamplesOffset);
-            logger.debug("whisper ended in {}ms with result code {}", System.currentTimeMillis() - execStartTime,
-                    result);
-            // process result
-            if (result != 0) {
-                throw new STTException("Cannot use whisper locally, result code: " + result);
-            }
-            int nSegments = whisper.fullNSegmentsFromState(state);
-            logger.debug("Available transcription segments {}", nSegments);
-            if (nSegments == 1) {
-                return whisper.fullGetSegmentTextFromState(state, 0);
-            } else if (nSegments == 0 && config.singleUtteranceMode) {
-                logger.debug("Single utterance mode and no results, ending transcription");
-                return null;
+            statePool = releaseContext ? null : this.statePool;
+            if (statePool != null) {
+                state = statePool.acquire();
             } else {
-                // non reachable
-                logger.warn("Whisper should be configured in single segment mode {}", nSegments);
-                return null;
+                logger.debug("Creating whisper state...");
+                state = whisper.initState(ctx);
+                logger.debug("Whisper state created");
             }
+            return transcribe(whisper, ctx, state, audioSamples, language);
         } catch (IOException e) {
-            if (state != null) {
-                state.close();
-            }
             throw new STTException("Cannot use whisper locally", e);
         } finally {
+            if (state != null) {
+                if (statePool != null) {
+                    statePool.release(state);
+                } else {
+                    state.close();
+                }
+            }
             if (releaseContext && ctx != null) {
                 ctx.close();
             }
         }
     }
 
+    private @Nullable String transcribe(WhisperJNI whisper, WhisperContext ctx, WhisperState state,
+            float[] audioSamples, String language) throws IOException, STTException {
+        WhisperFullParams params = getWhisperFullParams(ctx, language);
+
+        long execStartTime = System.currentTimeMillis();
+        var result = whisper.fullWithState(ctx, state, params, audioSamples, audioSamples.length);
+        logger.debug("whisper ended in {}ms with result code {}", System.currentTimeMillis() - execStartTime, result);
+        // process result
+        if (result != 0) {
+            throw new STTException("Cannot use whisper locally, result code: " + result);
+        }
+        int nSegments = whisper.fullNSegmentsFromState(state);
+        logger.debug("Available transcription segments {}", nSegments);
+        if (nSegments == 1) {
+            return whisper.fullGetSegmentTextFromState(state, 0);
+        } else if (nSegments == 0 && config.singleUtteranceMode) {
+            logger.debug("Single utterance mode and no results, ending transcription");
+            return null;
+        } else {
+            // non reachable
+            logger.warn("Whisper should be configured in single segment mode {}", nSegments);
+            return null;
+        }
+    }
+
     private String recognizeAPI(int audioSamplesOffset, short[] audioStream, String language) throws STTException {
         // convert to byte array, Each short has 2 bytes
         int size = audioSamplesOffset * 2;
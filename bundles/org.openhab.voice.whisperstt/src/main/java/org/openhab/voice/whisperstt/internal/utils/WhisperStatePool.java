@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.whisperstt.internal.utils;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Queue;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.givimad.whisperjni.WhisperContext;
+import io.github.givimad.whisperjni.WhisperJNI;
+import io.github.givimad.whisperjni.WhisperState;
+
+/**
+ * The {@link WhisperStatePool} class keeps a fixed number of whisper states initialized for a context, so several
+ * transcriptions can run in parallel without allocating a new state each time. Transcriptions beyond that number
+ * get a temporary state, which is closed when it is released.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class WhisperStatePool implements AutoCloseable {
+    private final Logger logger = LoggerFactory.getLogger(WhisperStatePool.class);
+    private final WhisperJNI whisper;
+    private final WhisperContext context;
+    private final Queue<WhisperState> idleStates = new ArrayDeque<>();
+    private final Set<WhisperState> temporaryStates = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean closed;
+
+    /**
+     * @param whisper whisper library instance.
+     * @param context loaded whisper context.
+     * @param size number of states to initialize.
+     * @throws IOException if a state can not be initialized.
+     */
+    public WhisperStatePool(WhisperJNI whisper, WhisperContext context, int size) throws IOException {
+        this.whisper = whisper;
+        this.context = context;
+        try {
+            for (int i = 0; i < size; i++) {
+                idleStates.add(whisper.initState(context));
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+        logger.debug("{} whisper states created", size);
+    }
+
+    /**
+     * Takes an idle state, or creates a temporary state if all of them are in use.
+     *
+     * @return the state.
+     * @throws IOException if a temporary state can not be initialized.
+     */
+    public WhisperState acquire() throws IOException {
+        synchronized (this) {
+            WhisperState state = idleStates.poll();
+            if (state != null) {
+                return state;
+            }
+        }
+        logger.debug("All whisper states are in use, creating a temporary state");
+        WhisperState state = whisper.initState(context);
+        synchronized (this) {
+            temporaryStates.add(state);
+        }
+        return state;
+    }
+
+    /**
+     * Takes an idle state without waiting, but only if another state stays idle. Used for transcriptions which may be
+     * abandoned while still running, so they cannot make the regular transcriptions wait.
+     *
+     * @return the state or null if there is no spare state.
+     */
+    public synchronized @Nullable WhisperState tryAcquireSpare() {
+        return idleStates.size() > 1 ? idleStates.poll() : null;
+    }
+
+    /**
+     * Returns a state taken by {@link #acquire} or {@link #tryAcquireSpare}. The state is closed if it is a temporary
+     * state or if the pool has been closed meanwhile.
+     *
+     * @param state the state to return.
+     */
+    public void release(WhisperState state) {
+        synchronized (this) {
+            if (!temporaryStates.remove(state) && !closed) {
+                idleStates.add(state);
+                return;
+            }
+        }
+        state.close();
+    }
+
+    /**
+     * Closes the idle states, states in use are closed once they are released.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        WhisperState state;
+        while ((state = idleStates.poll()) != null) {
+            state.close();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.whisperstt.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.givimad.whisperjni.WhisperContext;
+import io.github.givimad.whisperjni.WhisperJNI;
+import io.github.givimad.whisperjni.WhisperState;
+
+/**
+ * Tests the {@link WhisperStatePool}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class WhisperStatePoolTest {
+
+    private final WhisperJNI whisper = mock(WhisperJNI.class);
+    private final WhisperContext context = mock(WhisperContext.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final List<WhisperState> createdStates = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        when(whisper.initState(context)).thenAnswer(invocation -> {
+            WhisperState state = mock(WhisperState.class);
+            createdStates.add(state);
+            return state;
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentRecognitionsBeyondThePoolSizeGetATemporaryState() throws Exception {
+        WhisperStatePool pool = new WhisperStatePool(whisper, context, 1);
+        CountDownLatch bothAcquired = new CountDownLatch(2);
+        CompletableFuture<Void> transcriptionsDone = new CompletableFuture<>();
+
+        Future<WhisperState> first = executor.submit(() -> recognize(pool, bothAcquired, transcriptionsDone));
+        Future<WhisperState> second = executor.submit(() -> recognize(pool, bothAcquired, transcriptionsDone));
+
+        // neither recognition waits for the state of the other one
+        assertTrue(bothAcquired.await(5, TimeUnit.SECONDS));
+        transcriptionsDone.complete(null);
+        assertNotSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+
+        // the temporary state is closed, the pooled state is kept for the next recognition
+        assertEquals(2, createdStates.size());
+        WhisperState pooledState = createdStates.get(0);
+        verify(pooledState, never()).close();
+        verify(createdStates.get(1)).close();
+        assertSame(pooledState, pool.acquire());
+        pool.close();
+    }
+
+    @Test
+    void releasedStatesAreClosedWhenThePoolIsClosed() throws Exception {
+        WhisperStatePool pool = new WhisperStatePool(whisper, context, 1);
+        WhisperState state = pool.acquire();
+        pool.close();
+        verify(state, never()).close();
+
+        pool.release(state);
+        verify(state).close();
+    }
+
+    private WhisperState recognize(WhisperStatePool pool, CountDownLatch bothAcquired,
+            CompletableFuture<Void> transcriptionsDone) throws Exception {
+        WhisperState state = pool.acquire();
+        try {
+            bothAcquired.countDown();
+            transcriptionsDone.get(5, TimeUnit.SECONDS);
+            return state;
+        } finally {
+            pool.release(state);
+        }
+    }
+}